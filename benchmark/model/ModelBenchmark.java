@@ -0,0 +1,268 @@
+package model;
+
+import java.util.concurrent.TimeUnit;
+
+import model.shapes.Orientation;
+import model.shapes.Shape;
+import model.shapes.ShapeFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Moves, rotations and gravity steps of <code>Model</code>, for each
+ * shape class of <code>ShapeFactory.STANDARD</code> over four wells:
+ * <ul>
+ * <li><code>empty</code>: a new well.</li>
+ * <li><code>midGame</code> and <code>nearTop</code>: wells recorded from
+ * a <code>RandomPolicy</code> game with a fixed seed, when its stack
+ * first reaches <code>MID_GAME_HEIGHT</code> and
+ * <code>NEAR_TOP_HEIGHT</code> levels.</li>
+ * <li><code>multiClear</code>: every floor spanned by the shape in its
+ * tallest orientation, resting on the well floor, is complete except for
+ * the cells of the shape, so locking it clears all of them.</li>
+ * </ul>
+ * Each operation starts with the shape in its resting position, at its
+ * spawn column and landing level, where collision tests meet the stack.
+ * Moves and rotations only change the shape, which is put back in place
+ * before each call. <code>incrementLevel</code> and
+ * <code>incrementLevel2</code> lock the shape, so the well is restored
+ * with <code>copyFrom</code> before each call; the <code>copyFrom</code>
+ * benchmark gives that cost alone. <code>verifyFloor</code> is private
+ * and runs inside the lock: its cost is the difference between
+ * <code>incrementLevel</code> on <code>multiClear</code> and on the wells
+ * where no floor is completed. Run with <code>-prof gc</code> (as the
+ * <code>benchmark</code> Ant target does) for the bytes allocated per
+ * operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+
+    public static final long SEED = 20131113L;
+    public static final int MID_GAME_HEIGHT = 4;
+    public static final int NEAR_TOP_HEIGHT = 6;
+
+    @Param({"empty", "midGame", "nearTop", "multiClear"})
+    public String well;
+
+    @Param({"TetrisL", "TetrisBox", "TetrisT", "TetrisBar"})
+    public String shapeClass;
+
+    private Model recorded;
+    private Model model;
+    private Shape shape;
+    private int desfX;
+    private int desfY;
+    private int level;
+    private int orientation;
+
+    @Setup
+    public void setup() {
+        shape = createShape(shapeClass);
+        if (well.equals("empty")) {
+            recorded = new Model();
+        } else if (well.equals("midGame")) {
+            recorded = record(MID_GAME_HEIGHT);
+        } else if (well.equals("nearTop")) {
+            recorded = record(NEAR_TOP_HEIGHT);
+        } else if (well.equals("multiClear")) {
+            recorded = createMultiClear(shape);
+        } else {
+            throw new IllegalArgumentException("Unknown well " + well);
+        }
+        model = new Model(recorded);
+        if (!well.equals("multiClear")) {
+            shape.setLevel(model.computeLandingLevel(shape));
+        }
+        if (!model.canPlace(shape)) {
+            throw new IllegalStateException("Shape " + shapeClass
+                    + " does not fit in well " + well);
+        }
+        desfX = shape.getDesfX();
+        desfY = shape.getDesfY();
+        level = shape.getLevel();
+        orientation = shape.getOrientationIndex();
+    }
+
+    private static Shape createShape(String name) {
+        ShapeFactory factory = ShapeFactory.STANDARD;
+        for (int type = 0; type < factory.getTypes(); ++type) {
+            Shape shape = factory.createShape(type);
+            if (shape.getClass().getSimpleName().equals(name)) {
+                return shape;
+            }
+        }
+        throw new IllegalArgumentException("Unknown shape class " + name);
+    }
+
+    /**
+     * @return a copy of the well of a seeded <code>RandomPolicy</code>
+     * game when its stack first reaches <code>stackHeight</code> levels
+     * over the floor, or when the game ends
+     */
+    static Model record(int stackHeight) {
+        GameEngine engine = new GameEngine(SEED);
+        Policy policy = new RandomPolicy(SEED);
+        Model model = engine.getModel();
+        while (!engine.isGameOver() && getStackHeight(model) < stackHeight) {
+            policy.play(engine);
+            engine.step();
+        }
+        return new Model(model);
+    }
+
+    private static int getStackHeight(Model model) {
+        int stack = 0;
+        for (int i = 1; i < model.getWidth() - 1; ++i) {
+            for (int j = 1; j < model.getDepth() - 1; ++j) {
+                stack = Math.max(stack, model.getColumnHeight(i, j));
+            }
+        }
+        return stack;
+    }
+
+    /**
+     * Turns <code>shape</code> to its tallest orientation, rests it on the
+     * well floor and builds a well whose floors under it are full except
+     * for the shape cells.
+     */
+    static Model createMultiClear(Shape shape) {
+        Model model = new Model();
+        int tallest = 0;
+        for (int o = 1; o < shape.getOrientations().size(); ++o) {
+            if (shape.getOrientations().get(o).getSizeZ()
+                    > shape.getOrientations().get(tallest).getSizeZ()) {
+                tallest = o;
+            }
+        }
+        shape.setOrientationIndex(tallest);
+        Orientation o = shape.getOrientation();
+        shape.setLevel(model.getHeight() - 1 - o.getSizeZ());
+
+        boolean[][][] matrix = model.getMatrix();
+        boolean[][][] cells = new boolean[model.getWidth()][model.getDepth()][model.getHeight()];
+        boolean[][][] shapeMatrix = o.getMatrix();
+        for (int i = 0; i < model.getWidth(); ++i) {
+            for (int j = 0; j < model.getDepth(); ++j) {
+                for (int k = 0; k < model.getHeight(); ++k) {
+                    int si = i - shape.getDesfX();
+                    int sj = j - shape.getDesfY();
+                    int sk = k - shape.getLevel();
+                    boolean inShape = si >= 0 && si < o.getSizeX()
+                            && sj >= 0 && sj < o.getSizeY()
+                            && sk >= 0 && sk < o.getSizeZ()
+                            && shapeMatrix[si][sj][sk];
+                    cells[i][j][k] = matrix[i][j][k]
+                            || (sk >= 0 && sk < o.getSizeZ() && !inShape);
+                }
+            }
+        }
+        model.setMatrix(cells);
+        return model;
+    }
+
+    private void place() {
+        shape.setDesfX(desfX);
+        shape.setDesfY(desfY);
+        shape.setLevel(level);
+        shape.setOrientationIndex(orientation);
+    }
+
+    @Benchmark
+    public Shape incrementDesfX() {
+        place();
+        model.incrementDesfX(shape);
+        return shape;
+    }
+
+    @Benchmark
+    public Shape decrementDesfX() {
+        place();
+        model.decrementDesfX(shape);
+        return shape;
+    }
+
+    @Benchmark
+    public Shape incrementDesfY() {
+        place();
+        model.incrementDesfY(shape);
+        return shape;
+    }
+
+    @Benchmark
+    public Shape decrementDesfY() {
+        place();
+        model.decrementDesfY(shape);
+        return shape;
+    }
+
+    @Benchmark
+    public boolean rotateYes() {
+        place();
+        return model.rotateYes(shape);
+    }
+
+    @Benchmark
+    public boolean rotateYesReverse() {
+        place();
+        return model.rotateYesReverse(shape);
+    }
+
+    @Benchmark
+    public boolean rotateNo() {
+        place();
+        return model.rotateNo(shape);
+    }
+
+    @Benchmark
+    public boolean rotateNoReverse() {
+        place();
+        return model.rotateNoReverse(shape);
+    }
+
+    @Benchmark
+    public boolean rotateMaybe() {
+        place();
+        return model.rotateMaybe(shape);
+    }
+
+    @Benchmark
+    public boolean rotateMaybeReverse() {
+        place();
+        return model.rotateMaybeReverse(shape);
+    }
+
+    @Benchmark
+    public Model copyFrom() {
+        model.copyFrom(recorded);
+        return model;
+    }
+
+    @Benchmark
+    public boolean incrementLevel() {
+        model.copyFrom(recorded);
+        place();
+        return model.incrementLevel(shape);
+    }
+
+    @Benchmark
+    public boolean incrementLevel2() {
+        model.copyFrom(recorded);
+        place();
+        return model.incrementLevel2(shape);
+    }
+}
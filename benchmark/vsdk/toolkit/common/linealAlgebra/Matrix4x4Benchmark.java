@@ -0,0 +1,137 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.common.linealAlgebra;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+Products and inversions of `Matrix4x4` rigid transformations. Each
+operation is measured over arrays of `count` matrices, so scores and
+allocations are per array: small counts keep all matrices in cache, big
+ones measure memory traffic too.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Matrix4x4Benchmark
+{
+    @Param({"1", "64", "4096"})
+    public int count;
+
+    private Matrix4x4 a[];
+    private Matrix4x4 b[];
+    private Matrix4x4 c[];
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(20261018L);
+        Matrix4x4 T = new Matrix4x4();
+        int i;
+
+        a = new Matrix4x4[count];
+        b = new Matrix4x4[count];
+        c = new Matrix4x4[count];
+        for ( i = 0; i < count; i++ ) {
+            a[i] = randomTransformation(random, T);
+            b[i] = randomTransformation(random, T);
+            c[i] = new Matrix4x4();
+        }
+    }
+
+    private static Matrix4x4 randomTransformation(Random random, Matrix4x4 T)
+    {
+        Matrix4x4 R = new Matrix4x4();
+
+        R.eulerAnglesRotation(random.nextDouble() * 2 * Math.PI,
+                              random.nextDouble() * Math.PI - Math.PI/2,
+                              random.nextDouble() * 2 * Math.PI);
+        T.translation(random.nextGaussian(), random.nextGaussian(),
+                      random.nextGaussian());
+        Matrix4x4.multiplyInto(R, T, R);
+        return R;
+    }
+
+    @Benchmark
+    public void multiply(Blackhole blackhole)
+    {
+        int i;
+
+        for ( i = 0; i < count; i++ ) {
+            blackhole.consume(a[i].multiply(b[i]));
+        }
+    }
+
+    @Benchmark
+    public Matrix4x4[] multiplyInto()
+    {
+        int i;
+
+        for ( i = 0; i < count; i++ ) {
+            Matrix4x4.multiplyInto(c[i], a[i], b[i]);
+        }
+        return c;
+    }
+
+    /**
+    Inversions are done in place over the same matrices on each call, which
+    alternate between the original matrices and their inverses.
+    */
+    @Benchmark
+    public Matrix4x4[] invert()
+    {
+        int i;
+
+        for ( i = 0; i < count; i++ ) {
+            a[i].invert();
+        }
+        return a;
+    }
+
+    @Benchmark
+    public Matrix4x4[] invertAffine()
+    {
+        int i;
+
+        for ( i = 0; i < count; i++ ) {
+            a[i].invertAffine();
+        }
+        return a;
+    }
+
+    @Benchmark
+    public Matrix4x4[] invertRigid()
+    {
+        int i;
+
+        for ( i = 0; i < count; i++ ) {
+            a[i].invertRigid();
+        }
+        return a;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,148 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.common.linealAlgebra;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+`Vector3D` operations over arrays of `size` vectors, comparing the methods
+returning new vectors with the ones storing into an existing vector, and
+point transformation of `Vector3D` arrays with `Vector3DArray`. Scores and
+allocations are per array.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Vector3DBenchmark
+{
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    private Vector3D a[];
+    private Vector3D b[];
+    private Vector3D out[];
+    private Vector3DArray points;
+    private Vector3DArray transformedPoints;
+    private Matrix4x4 M;
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(20261018L);
+        int i;
+
+        a = new Vector3D[size];
+        b = new Vector3D[size];
+        out = new Vector3D[size];
+        points = new Vector3DArray(size);
+        transformedPoints = new Vector3DArray(size);
+        for ( i = 0; i < size; i++ ) {
+            a[i] = new Vector3D(random.nextGaussian(), random.nextGaussian(),
+                                random.nextGaussian());
+            b[i] = new Vector3D(random.nextGaussian(), random.nextGaussian(),
+                                random.nextGaussian());
+            out[i] = new Vector3D();
+            points.add(a[i]);
+        }
+        M = new Matrix4x4();
+        M.eulerAnglesRotation(0.3, 0.2, 0.1);
+    }
+
+    @Benchmark
+    public void add(Blackhole blackhole)
+    {
+        int i;
+
+        for ( i = 0; i < size; i++ ) {
+            blackhole.consume(a[i].add(b[i]));
+        }
+    }
+
+    @Benchmark
+    public Vector3D[] addInPlace()
+    {
+        int i;
+
+        for ( i = 0; i < size; i++ ) {
+            out[i].add(a[i], b[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public void crossProduct(Blackhole blackhole)
+    {
+        int i;
+
+        for ( i = 0; i < size; i++ ) {
+            blackhole.consume(a[i].crossProduct(b[i]));
+        }
+    }
+
+    @Benchmark
+    public double dotProduct()
+    {
+        double sum = 0;
+        int i;
+
+        for ( i = 0; i < size; i++ ) {
+            sum += a[i].dotProduct(b[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Vector3D[] normalize()
+    {
+        int i;
+
+        for ( i = 0; i < size; i++ ) {
+            out[i].clone(a[i]);
+            out[i].normalize();
+        }
+        return out;
+    }
+
+    @Benchmark
+    public Vector3D[] transformPoints()
+    {
+        int i;
+
+        for ( i = 0; i < size; i++ ) {
+            out[i].multiply(M, a[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public Vector3DArray transformPointsArray()
+    {
+        points.transformPoints(M, transformedPoints);
+        return transformedPoints;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
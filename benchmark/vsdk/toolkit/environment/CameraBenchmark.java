@@ -0,0 +1,100 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.environment;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import vsdk.toolkit.common.Ray;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+
+/**
+Generation of the projector rays of a whole `size` x `size` viewport with
+each `Camera.generateRay` variant and with `generateRays`. Scores and
+allocations are per image.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CameraBenchmark
+{
+    @Param({"64", "512"})
+    public int size;
+
+    /// `Camera.PROJECTION_MODE_PERSPECTIVE` or `PROJECTION_MODE_ORTHOGONAL`
+    @Param({"5", "4"})
+    public int projectionMode;
+
+    private Camera camera;
+    private Ray ray;
+    private double origins[];
+    private double directions[];
+
+    @Setup
+    public void setup()
+    {
+        camera = new Camera();
+        camera.setPosition(new Vector3D(3.17, -6.62, -3.45));
+        camera.setFocusedPositionMaintainingOrthogonality(new Vector3D(0, 0, 0));
+        camera.setProjectionMode(projectionMode);
+        camera.updateViewportResize(size, size);
+        ray = new Ray();
+        origins = new double[3*size*size];
+        directions = new double[3*size*size];
+    }
+
+    @Benchmark
+    public void generateRay(Blackhole blackhole)
+    {
+        int x, y;
+
+        for ( y = 0; y < size; y++ ) {
+            for ( x = 0; x < size; x++ ) {
+                blackhole.consume(camera.generateRay(x, y));
+            }
+        }
+    }
+
+    @Benchmark
+    public void generateRayInPlace(Blackhole blackhole)
+    {
+        int x, y;
+
+        for ( y = 0; y < size; y++ ) {
+            for ( x = 0; x < size; x++ ) {
+                camera.generateRay(x, y, ray);
+                blackhole.consume(ray.direction.x);
+            }
+        }
+    }
+
+    @Benchmark
+    public double[] generateRays()
+    {
+        camera.generateRays(0, 0, size, size, origins, directions);
+        return directions;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
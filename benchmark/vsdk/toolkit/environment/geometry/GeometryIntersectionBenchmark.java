@@ -0,0 +1,100 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.environment.geometry;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import vsdk.toolkit.common.Ray;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+
+/**
+`doIntersection` of `Box`, `Sphere` and `Cone` geometries of unit size,
+over `rays` rays from random points at distance 5 of the origin, aimed at
+random points of a cube of side 2 around the origin, so a part of the rays
+miss the geometry as in a real scene. Scores and allocations are per set
+of rays.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryIntersectionBenchmark
+{
+    @Param({"box", "sphere", "cone"})
+    public String geometry;
+
+    @Param({"256", "65536"})
+    public int rays;
+
+    private Geometry target;
+    private Ray ray[];
+
+    @Setup
+    public void setup()
+    {
+        Random random = new Random(20261018L);
+        Vector3D origin, direction;
+        int i;
+
+        if ( geometry.equals("box") ) {
+            target = new Box(1, 1, 1);
+        }
+        else if ( geometry.equals("sphere") ) {
+            target = new Sphere(0.5);
+        }
+        else {
+            target = new Cone(0.5, 0.25, 1);
+        }
+
+        ray = new Ray[rays];
+        for ( i = 0; i < rays; i++ ) {
+            origin = new Vector3D(random.nextGaussian(), random.nextGaussian(),
+                                  random.nextGaussian());
+            origin.normalize();
+            origin = origin.multiply(5);
+            direction = new Vector3D(2*random.nextDouble() - 1,
+                                     2*random.nextDouble() - 1,
+                                     2*random.nextDouble() - 1);
+            direction = direction.substract(origin);
+            direction.normalize();
+            ray[i] = new Ray(origin, direction);
+        }
+    }
+
+    @Benchmark
+    public int doIntersection()
+    {
+        int hits = 0;
+        int i;
+
+        for ( i = 0; i < rays; i++ ) {
+            if ( target.doIntersection(ray[i]) ) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,117 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.io.image;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import vsdk.toolkit.media.RGBImage;
+
+/**
+Decoding of an uncompressed true color `size` x `size` targa file of
+`depth` bits per pixel, and its conversion to an `RGBImage`. The file is
+written once in the temporary directory, so after the first read it comes
+from the operating system cache and the scores measure decoding rather
+than disk access.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargaImageBenchmark
+{
+    @Param({"256", "1024"})
+    public int size;
+
+    @Param({"24", "32"})
+    public int depth;
+
+    private File file;
+    private RGBImage image;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        DataOutputStream out;
+        int bytesPerPixel = depth / 8;
+        int x, y, i;
+
+        file = File.createTempFile("TargaImageBenchmark", ".tga");
+        out = new DataOutputStream(new BufferedOutputStream(
+            new FileOutputStream(file)));
+
+        // Header: no id, no color map, uncompressed true color image,
+        // 16 bit fields in little endian order
+        out.writeByte(0);
+        out.writeByte(0);
+        out.writeByte(2);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeByte(0);
+        out.writeShort(0);
+        out.writeShort(0);
+        out.writeShort(Short.reverseBytes((short)size));
+        out.writeShort(Short.reverseBytes((short)size));
+        out.writeByte(depth);
+        out.writeByte(0);
+
+        for ( y = 0; y < size; y++ ) {
+            for ( x = 0; x < size; x++ ) {
+                for ( i = 0; i < bytesPerPixel; i++ ) {
+                    out.writeByte(x + y + i);
+                }
+            }
+        }
+        out.close();
+
+        image = new RGBImage();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        file.delete();
+    }
+
+    @Benchmark
+    public TargaImage decode() throws ImageNotRecognizedException
+    {
+        return new TargaImage(file);
+    }
+
+    @Benchmark
+    public RGBImage decodeToRgb() throws ImageNotRecognizedException
+    {
+        TargaImage targa = new TargaImage(file);
+
+        targa.exportRGB(image);
+        return image;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
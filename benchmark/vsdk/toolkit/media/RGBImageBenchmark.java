@@ -0,0 +1,110 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.media;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+Per pixel access to a `size` x `size` `RGBImage`, writing or reading every
+pixel in row order. Scores and allocations are per image.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RGBImageBenchmark
+{
+    @Param({"256", "1024"})
+    public int size;
+
+    private RGBImage image;
+    private RGBPixel pixel;
+
+    @Setup
+    public void setup()
+    {
+        image = new RGBImage();
+        image.init(size, size);
+        image.createTestPattern();
+        pixel = new RGBPixel();
+    }
+
+    @Benchmark
+    public RGBImage putPixel()
+    {
+        int x, y;
+
+        for ( y = 0; y < size; y++ ) {
+            for ( x = 0; x < size; x++ ) {
+                image.putPixel(x, y, (byte)x, (byte)y, (byte)(x+y));
+            }
+        }
+        return image;
+    }
+
+    @Benchmark
+    public RGBImage putPixelRgb()
+    {
+        int x, y;
+
+        for ( y = 0; y < size; y++ ) {
+            for ( x = 0; x < size; x++ ) {
+                pixel.r = (byte)x;
+                pixel.g = (byte)y;
+                pixel.b = (byte)(x+y);
+                image.putPixelRgb(x, y, pixel);
+            }
+        }
+        return image;
+    }
+
+    @Benchmark
+    public void getPixelRgb(Blackhole blackhole)
+    {
+        int x, y;
+
+        for ( y = 0; y < size; y++ ) {
+            for ( x = 0; x < size; x++ ) {
+                blackhole.consume(image.getPixelRgb(x, y));
+            }
+        }
+    }
+
+    @Benchmark
+    public int getPixelRgbInPlace()
+    {
+        int x, y;
+        int sum = 0;
+
+        for ( y = 0; y < size; y++ ) {
+            for ( x = 0; x < size; x++ ) {
+                image.getPixelRgb(x, y, pixel);
+                sum += pixel.r + pixel.g + pixel.b;
+            }
+        }
+        return sum;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,84 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import vsdk.toolkit.environment.geometry.Polygon2D;
+import vsdk.toolkit.media.RGBImage;
+import vsdk.toolkit.media.RGBPixel;
+
+/**
+`Rasterizer2D.fillPolygon` of a star shaped polygon with `vertices`
+vertices, centered in a `size` x `size` image and covering most of it.
+The number of vertices changes the cost of the brute force scan line
+intersections, and the image size the number of scan lines and pixels.
+*/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Rasterizer2DBenchmark
+{
+    @Param({"256", "1024"})
+    public int size;
+
+    @Param({"4", "16", "64"})
+    public int vertices;
+
+    private RGBImage image;
+    private Polygon2D polygon;
+    private RGBPixel color;
+
+    @Setup
+    public void setup()
+    {
+        double angle, radius;
+        int i;
+
+        image = new RGBImage();
+        image.init(size, size);
+
+        polygon = new Polygon2D();
+        for ( i = 0; i < vertices; i++ ) {
+            angle = 2 * Math.PI * i / vertices;
+            radius = ((i % 2) == 0) ? 0.45*size : 0.25*size;
+            polygon.addVertex(size/2 + radius*Math.cos(angle),
+                              size/2 + radius*Math.sin(angle));
+        }
+
+        color = new RGBPixel();
+        color.r = (byte)255;
+        color.g = (byte)128;
+        color.b = 0;
+    }
+
+    @Benchmark
+    public RGBImage fillPolygon()
+    {
+        Rasterizer2D.fillPolygon(image, polygon, color);
+        return image;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -1,13 +1,12 @@
 //===========================================================================
 
 // Basic Java classes
+import java.util.concurrent.atomic.AtomicLong;
 
 // Awt / swing classes
 import java.applet.Applet;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
-import java.awt.event.ActionEvent;
-import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.awt.event.MouseEvent;
@@ -17,7 +16,6 @@ import java.awt.event.MouseWheelEvent;
 import java.awt.event.MouseWheelListener;
 
 import javax.swing.JFrame;
-import javax.swing.Timer;
 
 // JOGL classes
 import javax.media.opengl.GL2;
@@ -25,8 +23,11 @@ import javax.media.opengl.awt.GLCanvas;
 import javax.media.opengl.GLAutoDrawable;
 import javax.media.opengl.GLEventListener;
 
-import model.Model;
-import model.shapes.Shape;
+import model.GameEngine;
+import model.GameLoop;
+import model.GameSnapshot;
+import model.ai.AutoPlayer;
+import model.ai.WeightedHeuristic;
 import model.shapes.TetrisBar;
 import model.shapes.TetrisBox;
 import model.shapes.TetrisL;
@@ -34,19 +35,13 @@ import model.shapes.TetrisT;
 
 // VitralSDK classes
 import view.render.ModelRenderer;
-import view.render.TetrisShapeRenderer;
-import view.render.WallRenderer;
+import view.render.SceneRenderer;
 import vsdk.toolkit.environment.Camera;              // Model elements
-import vsdk.toolkit.environment.Light;
-import vsdk.toolkit.environment.Material;
-import vsdk.toolkit.common.ColorRgb;
 import vsdk.toolkit.common.RendererConfiguration;
+import vsdk.toolkit.common.Ray;
 import vsdk.toolkit.common.linealAlgebra.Vector3D;
 
-import vsdk.toolkit.render.jogl.JoglCameraRenderer;  // View elements
-import vsdk.toolkit.render.jogl.JoglLightRenderer;
-import vsdk.toolkit.render.jogl.JoglMaterialRenderer;
-import vsdk.toolkit.render.jogl.JoglRenderer;
+import vsdk.toolkit.render.jogl.JoglRenderer;        // View elements
 import vsdk.toolkit.gui.CameraController;            // Controller elements
 import vsdk.toolkit.gui.CameraControllerAquynza;
 
@@ -68,20 +63,26 @@ public class Tetris3d implements
 {
 
 //= PROGRAM PART 1/5: ATTRIBUTES ============================================
-	public static boolean band = false;
     private boolean appletMode;
     private Camera camera;
     private RendererConfiguration qualitySpec;
     private CameraController cameraController;
     private GLCanvas canvas;
     
-    private Light light,light2;
-    private Material testMaterial;
     private int numPoints;
     
-    private Shape shape = new TetrisT();
-    private Model model = new Model();
-    private Timer timer; 
+    private static final long TICK_NANOS = 2000000000L;
+    private GameLoop loop = new GameLoop(new GameEngine(System.nanoTime()), TICK_NANOS);
+    private boolean showShapeBounds = false;
+    private SceneRenderer sceneRenderer = new SceneRenderer();
+    private AutoPlayer autoPlayer = new AutoPlayer(new WeightedHeuristic());
+    private boolean autoPlay = false;
+    // Mouse position of a pending cell pick, as x << 32 | y, or NO_PICK
+    private static final long NO_PICK = Long.MIN_VALUE;
+    private final AtomicLong pendingPick = new AtomicLong(NO_PICK);
+    private final Ray pickRay = new Ray();
+    // Last picked cell and face, as in Model.pickCell
+    private final int pickedCell[] = new int[4];
 //= PROGRAM PART 2/5: CONSTRUCTORS ==========================================
 
     /**
@@ -108,25 +109,6 @@ public class Tetris3d implements
         qualitySpec.setPoints(true);
 
         cameraController = new CameraControllerAquynza(camera);
-        
-        
-        testMaterial = new Material();
-        testMaterial.setAmbient(new ColorRgb(0, 0, 0));
-        testMaterial.setDiffuse(shape.getColor());
-        testMaterial.setSpecular(new ColorRgb(1, 1, 1));
-        testMaterial.setDoubleSided(false);
-        testMaterial.setPhongExponent(40.0);
-        
-        light = new Light(Light.POINT, new Vector3D(3.0, -3.0, 3.0), new ColorRgb(1.0, 1.0, 1.0));
-        light2 = new Light(Light.AMBIENT, new Vector3D(-3.0, 3.0, -3.0), new ColorRgb(1.0, 1.0, 1.0));
-        
-        timer = new javax.swing.Timer(2000, new ActionListener() {
-			@Override
-			public void actionPerformed(ActionEvent e) {
-				tick();
-			}
-		});
-        timer.start();
     }
 
     private void createGUI()
@@ -161,122 +143,47 @@ public class Tetris3d implements
         frame.setSize(size);
         frame.setVisible(true);
         instance.canvas.requestFocusInWindow();
-    }
-
-//= PROGRAM PART 4/5: JOGL-OPENGL PROCEDURES ================================
-
-    /**
-     * @param gl
-     */
-    private void drawObjectsGL(GL2 gl)
-    {
-        gl.glEnable(gl.GL_DEPTH_TEST);
-
-        gl.glLoadIdentity();
 
-        gl.glPolygonMode(gl.GL_FRONT_AND_BACK, gl.GL_FILL);
-        //corridor.drawGL(gl);
-        
-     // Configure for inside looking
-        gl.glEnable(gl.GL_CULL_FACE);
-        gl.glCullFace(gl.GL_BACK);
-        
-
-        gl.glLineWidth((float)3.0);
-        gl.glBegin(gl.GL_LINES);
-            gl.glColor3d(1, 0, 0);
-            gl.glVertex3d(0, 0, 0);
-            gl.glVertex3d(1, 0, 0);
-
-            gl.glColor3d(0, 1, 0);
-            gl.glVertex3d(0, 0, 0);
-            gl.glVertex3d(0, 1, 0);
-
-            gl.glColor3d(0, 0, 1);
-            gl.glVertex3d(0, 0, 0);
-            gl.glVertex3d(0, 0, 1);
-        gl.glEnd();
-
-        //drawWalls(gl);
-        
-        
-        gl.glRotated(-90, 1, 0, 0);
-        //gl.glTranslated(Shape.BOX_LENGTH/2, -Shape.BOX_LENGTH/2, 0);
-        
-        
-        
-        gl.glEnable(gl.GL_LIGHTING);
-        JoglMaterialRenderer.activate(gl, testMaterial);
-        JoglLightRenderer.activate(gl, light);
-        JoglLightRenderer.activate(gl, light2);
-       
-        ModelRenderer.drawModel(gl, model, camera, qualitySpec);
-        
-        TetrisShapeRenderer.draw(gl, shape, camera, qualitySpec);
-        
-        gl.glDisable(gl.GL_LIGHTING);
-        
-        
+        final GLCanvas canvas = instance.canvas;
+        instance.loop.setListener(new Runnable() {
+            @Override
+            public void run() {
+                canvas.repaint();
+            }
+        });
+        instance.loop.start();
     }
 
-	private void drawWalls(GL2 gl) {
-		// Floor
-		gl.glColor3d(1.0, 0.0, 0.0);
-        
-        gl.glPushMatrix();{
-        	gl.glRotated(90, 1, 0, 0);
-        	gl.glRotated(90, 0, 0, 1);
-        	gl.glTranslated(0, -5*(Shape.BOX_LENGTH)-Shape.SPACE, -8.0*(Shape.BOX_LENGTH+Shape.SPACE)-Shape.SPACE);
-        	WallRenderer.draw(gl, 5, 5, camera, qualitySpec);
-        }gl.glPopMatrix();
-        
-        int width = 5, height = 9;
-        
-        // Walls
-        gl.glPushMatrix();{
-        	WallRenderer.draw(gl, width, height, camera, qualitySpec);
-        }gl.glPopMatrix();
-        
-        gl.glPushMatrix();{
-        	gl.glRotated(-90, 0, 1, 0);
-        	gl.glTranslated(0, 0, -5*(Shape.BOX_LENGTH)-Shape.SPACE);
-        	WallRenderer.draw(gl, width, height, camera, qualitySpec);
-        }gl.glPopMatrix();
-        
-        gl.glPushMatrix();{
-        	gl.glRotated(90, 0, 1, 0);
-        	gl.glTranslated(-5*(Shape.BOX_LENGTH)-Shape.SPACE, 0, 0);
-        	WallRenderer.draw(gl, width, height, camera, qualitySpec);
-        }gl.glPopMatrix();
-        
-        gl.glPushMatrix();{
-        	gl.glRotated(180, 0, 1, 0);
-        	gl.glTranslated(-5*(Shape.BOX_LENGTH)-Shape.SPACE, 0, -5*(Shape.BOX_LENGTH)-Shape.SPACE);
-        	WallRenderer.draw(gl, width, height, camera, qualitySpec);
-        }gl.glPopMatrix();
-	}
+//= PROGRAM PART 4/5: JOGL-OPENGL PROCEDURES ================================
 
     /** Called by drawable to initiate drawing */
     public void display(GLAutoDrawable drawable) {
         GL2 gl = drawable.getGL().getGL2();
 
-        gl.glClearColor(0, 0, 0, 1);
-        gl.glClear(gl.GL_COLOR_BUFFER_BIT | gl.GL_DEPTH_BUFFER_BIT);
-        gl.glColor3d(1, 1, 1);
-
-        JoglCameraRenderer.activate(gl, camera);
+        GameSnapshot snapshot = loop.acquireSnapshot();
+        long pick = pendingPick.getAndSet(NO_PICK);
+        if ( pick != NO_PICK ) {
+            camera.generateRay((int)(pick >> 32), (int)pick, pickRay);
+            if ( ModelRenderer.pickCell(snapshot.getModel(), pickRay, pickedCell) ) {
+                sceneRenderer.setHighlightedCell(pickedCell[0], pickedCell[1], pickedCell[2]);
+            }
+            else {
+                sceneRenderer.clearHighlightedCell();
+            }
+        }
 
-        drawObjectsGL(gl);
+        sceneRenderer.drawFrame(gl, snapshot.getModel(), snapshot.getShape(),
+            showShapeBounds, camera, qualitySpec);
     }
    
-    /** Not used method, but needed to instantiate GLEventListener */
+    /** Called when the context is created, losing the state set before */
     public void init(GLAutoDrawable drawable) {
-        ;
+        sceneRenderer.init();
     }
 
-    /** Not used method, but needed to instantiate GLEventListener */
+    /** Called before the context is destroyed */
     public void dispose(GLAutoDrawable drawable) {
-        ;
+        sceneRenderer.dispose(drawable.getGL().getGL2());
     }
 
     /** Not used method, but needed to instantiate GLEventListener */
@@ -301,22 +208,22 @@ public class Tetris3d implements
     public void keyPressed(KeyEvent e) {
     	switch (e.getKeyCode()) {
 		case KeyEvent.VK_Q:
-			model.rotateYes(shape);			
+			loop.submit(GameEngine.ROTATE_YES);			
 			break;
 		case KeyEvent.VK_A:
-			model.rotateYesReverse(shape);
+			loop.submit(GameEngine.ROTATE_YES_REVERSE);
 			break;
 		case KeyEvent.VK_W:
-			model.rotateNo(shape);
+			loop.submit(GameEngine.ROTATE_NO);
 			break;
 		case KeyEvent.VK_S:
-			model.rotateNoReverse(shape);
+			loop.submit(GameEngine.ROTATE_NO_REVERSE);
 			break;
 		case KeyEvent.VK_E:
-			model.rotateMaybe(shape);
+			loop.submit(GameEngine.ROTATE_MAYBE);
 			break;
 		case KeyEvent.VK_D:
-			model.rotateMaybeReverse(shape);
+			loop.submit(GameEngine.ROTATE_MAYBE_REVERSE);
 			break;	
 		case KeyEvent.VK_F7:
 			System.out.println(camera.getPosition());
@@ -332,42 +239,44 @@ public class Tetris3d implements
 			
 			break;
 		case KeyEvent.VK_RIGHT:
-			model.incrementDesfX(shape);
+			loop.submit(GameEngine.MOVE_RIGHT);
 		break;
 		case KeyEvent.VK_LEFT:
-			model.decrementDesfX(shape);
+			loop.submit(GameEngine.MOVE_LEFT);
 			break;
 		case KeyEvent.VK_UP:
-			model.decrementDesfY(shape);
+			loop.submit(GameEngine.MOVE_UP);
 			break;
 		case KeyEvent.VK_DOWN:
-			model.incrementDesfY(shape);
+			loop.submit(GameEngine.MOVE_DOWN);
 			break;
 		case KeyEvent.VK_P:
-			if(timer.isRunning()){
-				timer.stop();
-			}
-			else{
-				timer.start();
-			}
+			loop.setPaused(!loop.isPaused());
 			break;
 		case KeyEvent.VK_1:
-			shape = new TetrisBar();
+			loop.submitShape(new TetrisBar());
 			break;
 		case KeyEvent.VK_2:
-			shape = new TetrisBox();
+			loop.submitShape(new TetrisBox());
 			break;
 		case KeyEvent.VK_3:
-			shape = new TetrisT();
+			loop.submitShape(new TetrisT());
 			break;
 		case KeyEvent.VK_4:
-			shape = new TetrisL();
+			loop.submitShape(new TetrisL());
+			break;
+		case KeyEvent.VK_I:
+			autoPlay = !autoPlay;
+			loop.setPolicy(autoPlay ? autoPlayer : null);
+			break;
+		case KeyEvent.VK_ENTER:
+			loop.submit(GameEngine.DROP);
 			break;
 		case KeyEvent.VK_SPACE:
-			tick();
+			loop.submit(GameEngine.TICK);
 			break;
 		case KeyEvent.VK_C:
-			Model.band = !Model.band;
+			showShapeBounds = !showShapeBounds;
 			break;
 		case KeyEvent.VK_R:
 			camera.setPosition(new Vector3D(3.17, -6.62, -3.45));
@@ -415,7 +324,11 @@ public class Tetris3d implements
     public void mouseClicked(MouseEvent e) {
         if ( cameraController.processMouseClickedEventAwt(e) ) {
             canvas.repaint();
+            return;
         }
+        // Snapshots are only read from the drawing thread
+        pendingPick.set((long)e.getX() << 32 | (e.getY() & 0xFFFFFFFFL));
+        canvas.repaint();
     }
 
     public void mouseMoved(MouseEvent e) {
@@ -435,25 +348,4 @@ public class Tetris3d implements
             canvas.repaint();
         }
     }
-    private void tick() {
-		if(model.incrementLevel(shape)){
-			int rand = (int)(Math.random()*4.0);
-			switch(rand){
-			case 1:
-				shape = new TetrisBox();
-				break;
-			case 2:
-				shape = new TetrisT();
-				break;
-			case 3:
-				shape = new TetrisBar();
-				break;
-			case 0:
-				shape = new TetrisL();
-				break;
-			}
-		}
-		canvas.repaint();
-	}
 }
-
@@ -0,0 +1,102 @@
+package model;
+
+/**
+ * Aggregated statistics of a batch of games played by
+ * <code>BatchRunner</code>.
+ */
+public class BatchReport {
+
+    private int games;
+    private long ticks;
+    private long piecesPlaced;
+    private long clearedFloors;
+    private long minTicks = Long.MAX_VALUE;
+    private long maxTicks;
+    private long elapsedNanos;
+
+    /**
+     * Adds the statistics of one finished game.
+     */
+    public void add(GameEngine engine) {
+        games++;
+        ticks += engine.getTick();
+        piecesPlaced += engine.getPiecesPlaced();
+        clearedFloors += engine.getClearedFloors();
+        minTicks = Math.min(minTicks, engine.getTick());
+        maxTicks = Math.max(maxTicks, engine.getTick());
+    }
+
+    /**
+     * Adds the statistics of another partial report.
+     */
+    public void merge(BatchReport other) {
+        games += other.games;
+        ticks += other.ticks;
+        piecesPlaced += other.piecesPlaced;
+        clearedFloors += other.clearedFloors;
+        minTicks = Math.min(minTicks, other.minTicks);
+        maxTicks = Math.max(maxTicks, other.maxTicks);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    public long getClearedFloors() {
+        return clearedFloors;
+    }
+
+    /**
+     * @return shortest game length in ticks, 0 for an empty batch
+     */
+    public long getMinTicks() {
+        return games == 0 ? 0 : minTicks;
+    }
+
+    public long getMaxTicks() {
+        return maxTicks;
+    }
+
+    public double getAverageTicks() {
+        return games == 0 ? 0 : (double) ticks / games;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1000000000.0;
+    }
+
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : ticks / getElapsedSeconds();
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games / getElapsedSeconds();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "games: %d%n"
+                + "pieces placed: %d (%.2f per game)%n"
+                + "floors cleared: %d (%.2f per game)%n"
+                + "survival ticks: min %d, avg %.2f, max %d%n"
+                + "elapsed: %.3f s, %.0f games/s, %.0f ticks/s",
+                games,
+                piecesPlaced, games == 0 ? 0.0 : (double) piecesPlaced / games,
+                clearedFloors, games == 0 ? 0.0 : (double) clearedFloors / games,
+                getMinTicks(), getAverageTicks(), maxTicks,
+                getElapsedSeconds(), getGamesPerSecond(), getTicksPerSecond());
+    }
+}
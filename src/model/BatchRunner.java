@@ -0,0 +1,109 @@
+package model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import model.shapes.ShapeFactory;
+
+import vsdk.toolkit.common.VSDK;
+
+/**
+ * Plays many independent games concurrently on a
+ * <code>ForkJoinPool</code>. Game <code>i</code> of a batch takes the
+ * <code>i</code>-th split of a <code>SplitMix64</code> seeded with the
+ * batch seed, and draws its pieces and its policy seed from it, so games
+ * share no random state and a batch report only depends on its
+ * arguments, not on the number of threads.
+ */
+public class BatchRunner {
+
+    /** Games played sequentially by one task before splitting stops. */
+    private static final int GAMES_PER_TASK = 16;
+
+    private final ForkJoinPool pool;
+    private final PolicyFactory policies;
+    private final PieceGenerator pieces;
+    private final long maxTicks;
+
+    /**
+     * Runs the games on <code>VSDK.getSharedPool</code>, which is never
+     * shut down, with uniformly drawn standard pieces.
+     */
+    public BatchRunner(PolicyFactory policies, long maxTicks) {
+        this(VSDK.getSharedPool(), policies,
+                PieceGenerator.uniform(ShapeFactory.STANDARD, new SplitMix64(0),
+                        GameEngine.DEFAULT_PREVIEW),
+                maxTicks);
+    }
+
+    /**
+     * @param pool pool running the games, still owned by the caller,
+     * who shuts it down when no batch uses it anymore
+     * @param policies creates the policy of each game
+     * @param pieces piece generator configuration, copied for each game
+     * with its own stream
+     * @param maxTicks length at which a game still running is stopped
+     */
+    public BatchRunner(ForkJoinPool pool, PolicyFactory policies,
+            PieceGenerator pieces, long maxTicks) {
+        this.pool = pool;
+        this.policies = policies;
+        this.pieces = pieces;
+        this.maxTicks = maxTicks;
+    }
+
+    public BatchReport run(int games, long baseSeed) {
+        long t0 = System.nanoTime();
+        BatchReport report = pool.invoke(new Games(new SplitMix64(baseSeed), 0, games));
+        report.setElapsedNanos(System.nanoTime() - t0);
+        return report;
+    }
+
+    /**
+     * Plays a single game to its end or to <code>maxTicks</code>.
+     * @param random stream of the game, split into the piece stream and
+     * the policy seed
+     */
+    public GameEngine play(SplitMix64 random) {
+        GameEngine engine = new GameEngine(new Model(),
+                pieces.withRandom(random.split(0)), 1);
+        Policy policy = policies.createPolicy(random.split(1).nextLong());
+        while (!engine.isGameOver() && engine.getTick() < maxTicks) {
+            policy.play(engine);
+            engine.step();
+        }
+        return engine;
+    }
+
+    private class Games extends RecursiveTask<BatchReport> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final SplitMix64 root;
+        private final int from;
+        private final int to;
+
+        Games(SplitMix64 root, int from, int to) {
+            this.root = root;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected BatchReport compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                BatchReport report = new BatchReport();
+                for (int i = from; i < to; i++) {
+                    report.add(play(root.split(i)));
+                }
+                return report;
+            }
+            int middle = (from + to) >>> 1;
+            Games left = new Games(root, from, middle);
+            left.fork();
+            BatchReport report = new Games(root, middle, to).compute();
+            report.merge(left.join());
+            return report;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package model;
+
+import model.shapes.Shape;
+import model.shapes.ShapeFactory;
+
+/**
+ * Headless game loop around a <code>Model</code> and its falling
+ * <code>Shape</code>. Time advances in logical ticks through
+ * <code>step()</code>, with gravity applied every
+ * <code>gravityPeriod</code> ticks, so a game runs as fast as the CPU
+ * allows and doesn't need a display or a timer. Pieces come from a
+ * <code>PieceGenerator</code> with its own seeded stream, so two engines
+ * with the same seed and the same commands play exactly the same game.
+ */
+public class GameEngine {
+
+    public static final int MOVE_RIGHT = 0;
+    public static final int MOVE_LEFT = 1;
+    public static final int MOVE_UP = 2;
+    public static final int MOVE_DOWN = 3;
+    public static final int ROTATE_YES = 4;
+    public static final int ROTATE_YES_REVERSE = 5;
+    public static final int ROTATE_NO = 6;
+    public static final int ROTATE_NO_REVERSE = 7;
+    public static final int ROTATE_MAYBE = 8;
+    public static final int ROTATE_MAYBE_REVERSE = 9;
+    public static final int DROP = 10;
+    public static final int TICK = 11;
+
+    public static final int DEFAULT_PREVIEW = 3;
+
+    private final Model model;
+    private final PieceGenerator pieces;
+    private final int gravityPeriod;
+    private Shape shape;
+    private long tick;
+    private int piecesPlaced;
+    private boolean gameOver;
+
+    public GameEngine(long seed) {
+        this(new Model(), seed, 1);
+    }
+
+    /**
+     * @param model well to play on
+     * @param seed seed of the piece sequence, drawn uniformly
+     * @param gravityPeriod logical ticks between two gravity steps
+     */
+    public GameEngine(Model model, long seed, int gravityPeriod) {
+        this(model, PieceGenerator.uniform(ShapeFactory.STANDARD,
+                new SplitMix64(seed), DEFAULT_PREVIEW), gravityPeriod);
+    }
+
+    /**
+     * @param model well to play on
+     * @param pieces generator of the piece sequence, owned by this engine
+     * @param gravityPeriod logical ticks between two gravity steps
+     */
+    public GameEngine(Model model, PieceGenerator pieces, int gravityPeriod) {
+        if (gravityPeriod < 1) {
+            throw new IllegalArgumentException("Gravity period must be positive");
+        }
+        this.model = model;
+        this.pieces = pieces;
+        this.gravityPeriod = gravityPeriod;
+        spawn();
+    }
+
+    /**
+     * Applies one input command to the falling shape. <code>DROP</code>
+     * lets the shape fall until it locks and <code>TICK</code> advances
+     * the logical clock.
+     * @return false if the command could not be applied
+     */
+    public boolean apply(int command) {
+        if (gameOver) {
+            return false;
+        }
+        switch (command) {
+        case DROP:
+            model.hardDrop(shape);
+            lock();
+            return true;
+        case TICK:
+            step();
+            return true;
+        default:
+            return applyMove(model, shape, command);
+        }
+    }
+
+    /**
+     * Applies a move or rotation command on <code>shape</code> following
+     * the rules of <code>model</code>. Only the shape changes.
+     * @return false if the command was refused
+     */
+    public static boolean applyMove(Model model, Shape shape, int command) {
+        int x = shape.getDesfX();
+        int y = shape.getDesfY();
+        switch (command) {
+        case MOVE_RIGHT:
+            model.incrementDesfX(shape);
+            return shape.getDesfX() != x;
+        case MOVE_LEFT:
+            model.decrementDesfX(shape);
+            return shape.getDesfX() != x;
+        case MOVE_UP:
+            model.decrementDesfY(shape);
+            return shape.getDesfY() != y;
+        case MOVE_DOWN:
+            model.incrementDesfY(shape);
+            return shape.getDesfY() != y;
+        case ROTATE_YES:
+            return model.rotateYes(shape);
+        case ROTATE_YES_REVERSE:
+            return model.rotateYesReverse(shape);
+        case ROTATE_NO:
+            return model.rotateNo(shape);
+        case ROTATE_NO_REVERSE:
+            return model.rotateNoReverse(shape);
+        case ROTATE_MAYBE:
+            return model.rotateMaybe(shape);
+        case ROTATE_MAYBE_REVERSE:
+            return model.rotateMaybeReverse(shape);
+        default:
+            throw new IllegalArgumentException("Unknown command " + command);
+        }
+    }
+
+    /**
+     * Advances the game one logical tick.
+     * @return true if the falling shape locked during this tick
+     */
+    public boolean step() {
+        if (gameOver) {
+            return false;
+        }
+        tick++;
+        if (tick % gravityPeriod != 0) {
+            return false;
+        }
+        if (model.incrementLevel(shape)) {
+            lock();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Runs <code>ticks</code> logical ticks, stopping early when the game
+     * is over.
+     */
+    public void run(long ticks) {
+        for (long t = 0; t < ticks && !gameOver; ++t) {
+            step();
+        }
+    }
+
+    private void lock() {
+        piecesPlaced++;
+        spawn();
+    }
+
+    private void spawn() {
+        shape = pieces.next();
+        if (!model.canPlace(shape)) {
+            gameOver = true;
+        }
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    /**
+     * @return the shapes that will fall after the current one, in order.
+     * They must not be modified.
+     */
+    public Shape[] getPreview() {
+        return pieces.getPreview();
+    }
+
+    /**
+     * Replaces the falling shape, keeping the piece sequence untouched.
+     */
+    public void setShape(Shape shape) {
+        this.shape = shape;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    public int getClearedFloors() {
+        return model.getClearedFloors();
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
@@ -0,0 +1,177 @@
+package model;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import model.shapes.Shape;
+
+/**
+ * Runs a <code>GameEngine</code> on its own simulation thread, which is
+ * the only thread ever touching the engine. Other threads submit
+ * commands to a queue drained by the simulation thread, and read the
+ * game through <code>GameSnapshot</code>s. Snapshots rotate between
+ * three buffers exchanged through an atomic reference: the simulation
+ * fills its back buffer and swaps it with the shared one, and a reader
+ * swaps its front buffer with the shared one when a newer snapshot is
+ * there. Neither side waits on the other, and a reader never sees a
+ * snapshot being written.
+ */
+public class GameLoop implements Runnable {
+
+    private final GameEngine engine;
+    private final long tickNanos;
+    private final ConcurrentLinkedQueue<Integer> commands = new ConcurrentLinkedQueue<Integer>();
+    private final AtomicReference<Shape> pendingShape = new AtomicReference<Shape>();
+    private final AtomicReference<GameSnapshot> shared;
+    private GameSnapshot back;
+    private GameSnapshot front;
+    private long version;
+    private volatile Policy policy;
+    private volatile Runnable listener;
+    private volatile boolean paused;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    /**
+     * @param tickNanos period of the gravity ticks
+     */
+    public GameLoop(GameEngine engine, long tickNanos) {
+        this.engine = engine;
+        this.tickNanos = tickNanos;
+        back = new GameSnapshot();
+        front = new GameSnapshot();
+        GameSnapshot first = new GameSnapshot();
+        first.copyFrom(engine, ++version);
+        shared = new AtomicReference<GameSnapshot>(first);
+    }
+
+    public synchronized void start() {
+        if (thread == null) {
+            running = true;
+            thread = new Thread(this, "simulation");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    public synchronized void stop() {
+        if (thread != null) {
+            running = false;
+            LockSupport.unpark(thread);
+            thread = null;
+        }
+    }
+
+    /**
+     * Queues a <code>GameEngine</code> command. Safe from any thread.
+     */
+    public void submit(int command) {
+        commands.add(command);
+        wake();
+    }
+
+    /**
+     * Asks the simulation thread to replace the falling shape.
+     */
+    public void submitShape(Shape shape) {
+        pendingShape.set(shape);
+        wake();
+    }
+
+    /**
+     * @param policy policy played before every gravity tick, or null
+     */
+    public void setPolicy(Policy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * @param listener called on the simulation thread after each
+     * published snapshot
+     */
+    public void setListener(Runnable listener) {
+        this.listener = listener;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        wake();
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Returns the most recent snapshot. Must always be called from the
+     * same reader thread; the returned snapshot stays valid until that
+     * thread calls this method again.
+     */
+    public GameSnapshot acquireSnapshot() {
+        if (shared.get().getVersion() > front.getVersion()) {
+            front = shared.getAndSet(front);
+        }
+        return front;
+    }
+
+    @Override
+    public void run() {
+        long next = System.nanoTime() + tickNanos;
+        while (running) {
+            boolean changed = drain();
+            long now = System.nanoTime();
+            if (paused) {
+                next = now + tickNanos;
+            } else if (now - next >= 0) {
+                Policy p = policy;
+                if (p != null) {
+                    p.play(engine);
+                }
+                engine.step();
+                changed = true;
+                next += tickNanos;
+                if (now - next >= 0) {
+                    next = now + tickNanos;
+                }
+            }
+            if (changed) {
+                publish();
+            }
+            if (commands.isEmpty() && pendingShape.get() == null) {
+                LockSupport.parkNanos(this, next - now);
+            }
+        }
+    }
+
+    private boolean drain() {
+        boolean changed = false;
+        Shape shape = pendingShape.getAndSet(null);
+        if (shape != null) {
+            engine.setShape(shape);
+            changed = true;
+        }
+        Integer command;
+        while ((command = commands.poll()) != null) {
+            engine.apply(command);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private void publish() {
+        back.copyFrom(engine, ++version);
+        back = shared.getAndSet(back);
+        Runnable l = listener;
+        if (l != null) {
+            l.run();
+        }
+    }
+
+    private void wake() {
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package model;
+
+import model.shapes.Shape;
+
+/**
+ * Copy of the game state published by a <code>GameLoop</code> for
+ * readers on other threads, such as the renderer. A snapshot is never
+ * modified while a reader holds it.
+ */
+public class GameSnapshot {
+
+    private Model model;
+    private Shape shape;
+    private long tick;
+    private int piecesPlaced;
+    private int clearedFloors;
+    private boolean gameOver;
+    private long version;
+
+    void copyFrom(GameEngine engine, long version) {
+        if (model == null) {
+            model = new Model(engine.getModel());
+        } else {
+            model.copyFrom(engine.getModel());
+        }
+        shape = engine.getShape().clone();
+        tick = engine.getTick();
+        piecesPlaced = engine.getPiecesPlaced();
+        clearedFloors = engine.getClearedFloors();
+        gameOver = engine.isGameOver();
+        this.version = version;
+    }
+
+    /**
+     * @return the well, which must not be modified
+     */
+    public Model getModel() {
+        return model;
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    public int getClearedFloors() {
+        return clearedFloors;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return publication number, growing with every published snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -1,5 +1,8 @@
 package model;
 
+import java.util.Arrays;
+
+import model.shapes.Orientation;
 import model.shapes.Shape;
 
 public class Model {
@@ -8,14 +11,92 @@ public class Model {
     public static final int NO = 1;
     public static final int MAYBE = 2;
     public static final int MAX_HEIGHT = 9;
-    public static boolean band = false;
-    private int height = 0;
+    public static final int WIDTH = 7;
+    public static final int DEPTH = 7;
+    private final int width;
+    private final int depth;
+    private final int height;
+    private final long fullRow;
+    private final long borderRow;
+    /**
+     * Well bitboard: one <code>long</code> per (level, x) row, indexed
+     * <code>z * width + x</code>, whose bit <code>y</code> tells if the
+     * cell is occupied. A layer is the <code>width</code> consecutive rows
+     * of one level.
+     */
+    private long[] rows;
+    /** Number of occupied cells of each level, border walls included. */
+    private int[] layerCells;
+    /**
+     * Per column, indexed <code>x * depth + y</code>: the lowest occupied
+     * level index (the top of the stack, or the floor level when the
+     * column is empty) and the number of occupied cells over the floor.
+     */
+    private int[] columnTop;
+    private int[] columnCells;
     private boolean[][][] matrix;
+    private int clearedFloors;
+    /** Zobrist hash of the occupied cells, see <code>getHash</code>. */
+    private long hash;
+    /** Number of times the occupied cells changed, see <code>getModificationCount</code>. */
+    private int modifications;
 
     public Model() {
+        this(WIDTH, DEPTH, MAX_HEIGHT);
+    }
+
+    /**
+     * @param width well size along x, border walls included
+     * @param depth well size along y, border walls included (at most 64)
+     * @param maxHeight index of the floor level; the well has
+     * <code>maxHeight + 1</code> levels
+     */
+    public Model(int width, int depth, int maxHeight) {
+        if (depth > Long.SIZE) {
+            throw new IllegalArgumentException("Well depth must be at most " + Long.SIZE);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.height = maxHeight + 1;
+        fullRow = depth == Long.SIZE ? -1L : (1L << depth) - 1;
+        borderRow = 1L | (1L << (depth - 1));
         resetMatrix();
     }
 
+    /**
+     * Builds a copy of <code>other</code>, sharing nothing with it.
+     */
+    public Model(Model other) {
+        this.width = other.width;
+        this.depth = other.depth;
+        this.height = other.height;
+        this.fullRow = other.fullRow;
+        this.borderRow = other.borderRow;
+        this.rows = new long[other.rows.length];
+        this.layerCells = new int[other.layerCells.length];
+        this.columnTop = new int[other.columnTop.length];
+        this.columnCells = new int[other.columnCells.length];
+        copyFrom(other);
+    }
+
+    /**
+     * Overwrites this well with the contents of <code>other</code>, which
+     * must have the same size.
+     */
+    public void copyFrom(Model other) {
+        if (other.width != width || other.depth != depth || other.height != height) {
+            throw new IllegalArgumentException("Well sizes differ");
+        }
+        System.arraycopy(other.rows, 0, rows, 0, rows.length);
+        System.arraycopy(other.layerCells, 0, layerCells, 0, layerCells.length);
+        System.arraycopy(other.columnTop, 0, columnTop, 0, columnTop.length);
+        System.arraycopy(other.columnCells, 0, columnCells, 0, columnCells.length);
+        clearedFloors = other.clearedFloors;
+        hash = other.hash;
+        modifications = other.modifications;
+        matrix = null;
+    }
+
     /*public boolean addShape(Shape shape) {
      if (shape.getLevel() == MAX_HEIGHT - 1) {
      // TODO: agregar shape a matriz
@@ -41,144 +122,339 @@ public class Model {
      }
      */
     public void resetMatrix() {
-        matrix = new boolean[7][7][MAX_HEIGHT + 1];
-        for (int i = 0; i < matrix.length; ++i) {
-            for (int j = 0; j < matrix[i].length; ++j) {
-                for (int k = 0; k < matrix[i][j].length; ++k) {
-                    if (k == MAX_HEIGHT || i == 0 || i == 6 || j == 0 || j == 6) {
-                        matrix[i][j][k] = true;
-                    }
+        rows = new long[width * height];
+        for (int k = 0; k < height; ++k) {
+            for (int i = 0; i < width; ++i) {
+                if (k == height - 1 || i == 0 || i == width - 1) {
+                    rows[k * width + i] = fullRow;
+                } else {
+                    rows[k * width + i] = borderRow;
                 }
             }
         }
+        matrix = null;
+        clearedFloors = 0;
+        hash = hashRows(0, rows.length);
+        modifications++;
+        countCells();
     }
 
+    /**
+     * @return a boolean view of the well, indexed <code>[x][y][z]</code>.
+     * The view is rebuilt only after the well changes, and must not be
+     * modified; use <code>setMatrix</code> to load a new well.
+     */
     public boolean[][][] getMatrix() {
+        if (matrix == null) {
+            boolean[][][] m = new boolean[width][depth][height];
+            for (int i = 0; i < width; ++i) {
+                for (int j = 0; j < depth; ++j) {
+                    for (int k = 0; k < height; ++k) {
+                        m[i][j][k] = isOccupied(i, j, k);
+                    }
+                }
+            }
+            matrix = m;
+        }
         return matrix;
     }
 
     public void setMatrix(boolean[][][] matrix) {
-        this.matrix = matrix;
-    }
-
-    public void incrementDesfX(Shape shape) {
-        boolean[][][] shapeMatrix = shape.getMatrix();
-        boolean band = false;
-
-        for (int k = 0; k < shapeMatrix[0][0].length; ++k) {
-            int maxX = 0;
-            for (int j = 0; j < shapeMatrix[0].length; ++j) {
-                band = false;
-                for (int i = 0; i < shapeMatrix.length; ++i) {
-                    if (shapeMatrix[i][j][k]) {
-                        band = true;
-                        maxX = Math.max(maxX, i);
+        for (int i = 0; i < width; ++i) {
+            for (int k = 0; k < height; ++k) {
+                long row = 0;
+                for (int j = 0; j < depth; ++j) {
+                    if (matrix[i][j][k]) {
+                        row |= 1L << j;
                     }
                 }
-                if (band
-                        && matrix[maxX + 1 + shape.getDesfX()][j
-                        + shape.getDesfY()][k + shape.getLevel()]) {
-                    return;
-                }
+                rows[k * width + i] = row;
             }
         }
-        shape.incrementDesfX();
+        this.matrix = null;
+        hash = hashRows(0, rows.length);
+        modifications++;
+        countCells();
     }
 
-    public void decrementDesfX(Shape shape) {
-        boolean[][][] shapeMatrix = shape.getMatrix();
-        boolean band = false;
-        ;
-        for (int k = 0; k < shapeMatrix[0][0].length; ++k) {
-            int minX = 0;
-            for (int j = 0; j < shapeMatrix[0].length; ++j) {
-                band = false;
-                for (int i = 0; i < shapeMatrix.length; ++i) {
-                    if (shapeMatrix[i][j][k]) {
-                        band = true;
-                        minX = Math.min(minX, i);
-                    }
-                }
-                if (band
-                        && matrix[minX - 1 + shape.getDesfX()][j
-                        + shape.getDesfY()][k + shape.getLevel()]) {
-                    return;
-                }
-            }
+    private void countCells() {
+        layerCells = new int[height];
+        for (int r = 0; r < rows.length; ++r) {
+            layerCells[r / width] += Long.bitCount(rows[r]);
         }
-        shape.decrementDesfX();
+        columnTop = new int[width * depth];
+        columnCells = new int[width * depth];
+        countColumns();
     }
 
-    public void incrementDesfY(Shape shape) {
-        boolean[][][] shapeMatrix = shape.getMatrix();
-        boolean band = false;
-        for (int k = 0; k < shapeMatrix[0][0].length; ++k) {
-            int maxY = 0;
-            for (int i = 0; i < shapeMatrix.length; ++i) {
-                band = false;
-                for (int j = 0; j < shapeMatrix[i].length; ++j) {
-                    if (shapeMatrix[i][j][k]) {
-                        band = true;
-                        maxY = Math.max(maxY, j);
-                    }
-                }
-                if (band
-                        && matrix[i + shape.getDesfX()][maxY + shape.getDesfY()
-                        + 1][k + shape.getLevel()]) {
-                    return;
-                }
+    private void countColumns() {
+        Arrays.fill(columnTop, height - 1);
+        Arrays.fill(columnCells, 0);
+        for (int r = (height - 1) * width - 1; r >= 0; --r) {
+            int z = r / width;
+            int x = r - z * width;
+            long cells = rows[r];
+            while (cells != 0) {
+                int c = x * depth + Long.numberOfTrailingZeros(cells);
+                columnTop[c] = z;
+                columnCells[c]++;
+                cells &= cells - 1;
             }
         }
-        shape.incrementDesfY();
     }
 
-    public void decrementDesfY(Shape shape) {
-        boolean[][][] shapeMatrix = shape.getMatrix();
-        boolean band = false;
-        for (int k = 0; k < shapeMatrix[0][0].length; ++k) {
-            int minY = 0;
-            for (int i = 0; i < shapeMatrix.length; ++i) {
-                band = false;
-                for (int j = 0; j < shapeMatrix[i].length; ++j) {
-                    if (shapeMatrix[i][j][k]) {
-                        band = true;
-                        minY = Math.min(minY, j);
-                    }
-                }
-                if (band
-                        && matrix[i + shape.getDesfX()][minY + shape.getDesfY()
-                        - 1][k + shape.getLevel()]) {
-                    return;
+    /**
+     * @return the lowest occupied level index of column <code>(x, y)</code>,
+     * which is the floor level for an empty column
+     */
+    public int getColumnTop(int x, int y) {
+        return columnTop[x * depth + y];
+    }
+
+    /**
+     * @return stack height of column <code>(x, y)</code> over the floor
+     */
+    public int getColumnHeight(int x, int y) {
+        return height - 1 - columnTop[x * depth + y];
+    }
+
+    /**
+     * @return empty cells of column <code>(x, y)</code> under its top
+     */
+    public int getColumnHoles(int x, int y) {
+        int c = x * depth + y;
+        return height - 1 - columnTop[c] - columnCells[c];
+    }
+
+    public boolean isOccupied(int x, int y, int z) {
+        return (rows[z * width + x] & (1L << y)) != 0;
+    }
+
+    /**
+     * Finds the first occupied cell crossed by a ray, walking the cells it
+     * crosses in order (Amanatides and Woo), so the cost grows with the
+     * cells crossed and not with the well size. Coordinates are in cells:
+     * cell <code>(x, y, z)</code> spans from <code>(x, y, z)</code> to
+     * <code>(x + 1, y + 1, z + 1)</code>.
+     *
+     * @param out receives the cell coordinates in its first three
+     * positions, and in the fourth the face through which the ray entered
+     * it: 0 and 1 for the -x and +x faces, 2 and 3 for y, 4 and 5 for z, or
+     * -1 if the ray starts inside the cell
+     * @return distance along the ray to the cell, in units of the
+     * direction length, or -1 if no occupied cell is hit
+     */
+    public double pickCell(double ox, double oy, double oz,
+            double dx, double dy, double dz, int[] out) {
+        double[] o = {ox, oy, oz};
+        double[] d = {dx, dy, dz};
+        int[] size = {width, depth, height};
+        int[] cell = new int[3];
+        int[] step = new int[3];
+        double[] tMax = new double[3];
+        double[] tDelta = new double[3];
+        double tEnter = 0, tExit = Double.MAX_VALUE;
+        int axis = -1;
+
+        for (int a = 0; a < 3; ++a) {
+            if (d[a] == 0) {
+                if (o[a] < 0 || o[a] > size[a]) {
+                    return -1;
                 }
+                continue;
+            }
+            double t0 = -o[a] / d[a];
+            double t1 = (size[a] - o[a]) / d[a];
+            if (t0 > t1) {
+                double aux = t0;
+                t0 = t1;
+                t1 = aux;
+            }
+            if (t0 > tEnter) {
+                tEnter = t0;
+                axis = a;
+            }
+            tExit = Math.min(tExit, t1);
+        }
+        if (tEnter > tExit) {
+            return -1;
+        }
+
+        for (int a = 0; a < 3; ++a) {
+            double p = o[a] + tEnter * d[a];
+            cell[a] = Math.max(0, Math.min(size[a] - 1, (int) Math.floor(p)));
+            if (d[a] == 0) {
+                tMax[a] = Double.MAX_VALUE;
+                continue;
             }
+            step[a] = d[a] > 0 ? 1 : -1;
+            tMax[a] = (cell[a] + (d[a] > 0 ? 1 : 0) - o[a]) / d[a];
+            tDelta[a] = 1 / Math.abs(d[a]);
+        }
+
+        double t = tEnter;
+        while (true) {
+            if (isOccupied(cell[0], cell[1], cell[2])) {
+                out[0] = cell[0];
+                out[1] = cell[1];
+                out[2] = cell[2];
+                out[3] = axis < 0 ? -1 : 2 * axis + (step[axis] > 0 ? 0 : 1);
+                return t;
+            }
+            axis = 0;
+            if (tMax[1] < tMax[axis]) {
+                axis = 1;
+            }
+            if (tMax[2] < tMax[axis]) {
+                axis = 2;
+            }
+            t = tMax[axis];
+            cell[axis] += step[axis];
+            if (t > tExit || cell[axis] < 0 || cell[axis] >= size[axis]) {
+                return -1;
+            }
+            tMax[axis] += tDelta[axis];
         }
-        shape.decrementDesfY();
     }
 
-    private boolean rotate(Shape shape, int rotation) {
-        shape.rotate(rotation);
-        int x, y, z;
-        boolean[][][] shapeMatrix = shape.getMatrix();
+    public int getWidth() {
+        return width;
+    }
 
-        for (int i = 0; i < shapeMatrix.length; ++i) {
-            for (int j = 0; j < shapeMatrix[i].length; ++j) {
-                for (int k = 0; k < shapeMatrix[i][j].length; ++k) {
-                    x = i + shape.getDesfX();
-                    y = j + shape.getDesfY();
-                    z = k + shape.getLevel();
-                    if (x < matrix.length && y < matrix[0].length && z < matrix[0][0].length) {
-                        if (matrix[x][y][z] && shapeMatrix[i][j][k]) {
-                            for (int p = 0; p < 3; ++p) {
-                                shape.rotate(rotation);
-                            }
-                            return false;
-                        }
-                    }
+    public int getDepth() {
+        return depth;
+    }
 
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return number of complete floors removed since the last
+     * <code>resetMatrix</code>
+     */
+    public int getClearedFloors() {
+        return clearedFloors;
+    }
+
+    /**
+     * @return Zobrist hash of the well: the XOR of a fixed pseudo random
+     * key per occupied cell, kept up to date as shapes are joined and
+     * floors removed. Equal wells of the same size have equal hashes.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * @return a counter increased every time a shape is joined or the well
+     * is loaded, copied along with the well. Views built from the well are
+     * still valid while it stays the same.
+     */
+    public int getModificationCount() {
+        return modifications;
+    }
+
+    /**
+     * @return hash of the well together with the shape class, orientation
+     * and position
+     */
+    public long getHash(Shape shape) {
+        long key = shape.getClass().getName().hashCode();
+        key = key * 31 + shape.getOrientationIndex();
+        key = key * 31 + shape.getDesfX();
+        key = key * 31 + shape.getDesfY();
+        key = key * 31 + shape.getLevel();
+        return hash ^ SplitMix64.mix(key ^ 0x5DEECE66DL);
+    }
+
+    private static long hashRow(int row, long cells) {
+        long h = 0;
+        while (cells != 0) {
+            int y = Long.numberOfTrailingZeros(cells);
+            h ^= SplitMix64.mix((((long) row << 6 | y) + 1) * 0x9E3779B97F4A7C15L);
+            cells &= cells - 1;
+        }
+        return h;
+    }
+
+    private long hashRows(int from, int to) {
+        long h = 0;
+        for (int r = from; r < to; ++r) {
+            h ^= hashRow(r, rows[r]);
+        }
+        return h;
+    }
+
+    /**
+     * @return true if the shape, at its current position, does not overlap
+     * the well
+     */
+    public boolean canPlace(Shape shape) {
+        return !collides(shape.getOrientation(), shape.getDesfX(),
+                shape.getDesfY(), shape.getLevel());
+    }
+
+    /**
+     * Tests the shape orientation placed at the given offsets against the
+     * well. Cells falling outside the well count as collisions.
+     */
+    private boolean collides(Orientation orientation, int desfX, int desfY, int level) {
+        int sizeX = orientation.getSizeX();
+        int sizeZ = orientation.getSizeZ();
+        if (desfX < 0 || desfY < 0 || level < 0
+                || desfX + sizeX > width
+                || desfY + orientation.getSizeY() > depth
+                || level + sizeZ > height) {
+            return true;
+        }
+        for (int k = 0; k < sizeZ; ++k) {
+            int base = (k + level) * width + desfX;
+            for (int i = 0; i < sizeX; ++i) {
+                if ((rows[base + i] & (orientation.getRow(i, k) << desfY)) != 0) {
+                    return true;
                 }
             }
         }
+        return false;
+    }
 
+    public void incrementDesfX(Shape shape) {
+        if (!collides(shape.getOrientation(), shape.getDesfX() + 1,
+                shape.getDesfY(), shape.getLevel())) {
+            shape.incrementDesfX();
+        }
+    }
+
+    public void decrementDesfX(Shape shape) {
+        if (!collides(shape.getOrientation(), shape.getDesfX() - 1,
+                shape.getDesfY(), shape.getLevel())) {
+            shape.decrementDesfX();
+        }
+    }
+
+    public void incrementDesfY(Shape shape) {
+        if (!collides(shape.getOrientation(), shape.getDesfX(),
+                shape.getDesfY() + 1, shape.getLevel())) {
+            shape.incrementDesfY();
+        }
+    }
+
+    public void decrementDesfY(Shape shape) {
+        if (!collides(shape.getOrientation(), shape.getDesfX(),
+                shape.getDesfY() - 1, shape.getLevel())) {
+            shape.decrementDesfY();
+        }
+    }
+
+    private boolean rotate(Shape shape, int rotation) {
+        int previous = shape.getOrientationIndex();
+        shape.rotate(rotation);
+        if (collides(shape.getOrientation(), shape.getDesfX(),
+                shape.getDesfY(), shape.getLevel())) {
+            shape.setOrientationIndex(previous);
+            return false;
+        }
         return true;
     }
 
@@ -187,21 +463,14 @@ public class Model {
     }
 
     private boolean rotateReverse(Shape shape, int rotation) {
-        if (rotate(shape, rotation)) {
-            if (rotate(shape, rotation)) {
-                if (rotate(shape, rotation)) {
-                    return true;
-                } else {
-                    shape.rotate(rotation);
-                    shape.rotate(rotation);
-                }
-            } else {
-                shape.rotate(rotation);
-                shape.rotate(rotation);
-                shape.rotate(rotation);
-            }
+        int previous = shape.getOrientationIndex();
+        shape.rotateReverse(rotation);
+        if (collides(shape.getOrientation(), shape.getDesfX(),
+                shape.getDesfY(), shape.getLevel())) {
+            shape.setOrientationIndex(previous);
+            return false;
         }
-        return false;
+        return true;
     }
 
     public boolean rotateYesReverse(Shape shape) {
@@ -224,69 +493,79 @@ public class Model {
         return rotateReverse(shape, MAYBE);
     }
 
-    public boolean incrementLevel(Shape shape) {
-        boolean[][][] shapeMatrix = shape.getMatrix();
-        boolean band = false;
-        boolean unir = false;
-        int maxZ = 0;
-        int x, y, z;
-        for (int i = 0; i < shapeMatrix.length && !unir; ++i) {
-            for (int j = 0; j < shapeMatrix[i].length && !unir; ++j) {
-                band = false;
-                maxZ = 0;
-                for (int k = 0; k < shapeMatrix[0][0].length; ++k) {
-                    if (shapeMatrix[i][j][k]) {
-                        band = true;
-                        maxZ = Math.max(maxZ, k);
-                    }
+    /**
+     * @return level at which the shape would lock if it kept falling
+     * straight down from its current position. Columns whose stack top is
+     * below the shape are resolved from the column map in constant time;
+     * only columns where the shape sits under an overhang are scanned.
+     */
+    public int computeLandingLevel(Shape shape) {
+        Orientation orientation = shape.getOrientation();
+        int desfX = shape.getDesfX();
+        int desfY = shape.getDesfY();
+        int level = shape.getLevel();
+        int landing = height - orientation.getSizeZ();
+        for (int i = 0; i < orientation.getSizeX(); ++i) {
+            for (int j = 0; j < orientation.getSizeY(); ++j) {
+                int bottom = orientation.getBottom(i, j);
+                if (bottom < 0) {
+                    continue;
                 }
-                x = i + shape.getDesfX();
-                y = j + shape.getDesfY();
-                z = maxZ + shape.getLevel() + 1;
-                if (x < matrix.length && y < matrix[0].length && z < matrix[0][0].length) {
-                    if (band && matrix[x][y][z]) {
-                        unir = true;
+                int x = desfX + i;
+                int y = desfY + j;
+                int z = level + bottom + 1;
+                int top = columnTop[x * depth + y];
+                if (top < z) {
+                    while (!isOccupied(x, y, z)) {
+                        ++z;
                     }
+                    top = z;
                 }
+                landing = Math.min(landing, top - 1 - bottom);
             }
         }
-        if (unir) {
-            for (int i = 0; i < shapeMatrix.length; ++i) {
-                for (int j = 0; j < shapeMatrix[i].length; ++j) {
-                    for (int k = 0; k < shapeMatrix[i][j].length; ++k) {
-                        if (shapeMatrix[i][j][k]) {
-                            matrix[i + shape.getDesfX()][j + shape.getDesfY()][k + shape.getLevel()] = true;
-                        }
-                    }
-                }
-            }
-            verifyFloor();
+        return landing;
+    }
+
+    /**
+     * Moves the shape to its landing level and joins it to the well.
+     */
+    public void hardDrop(Shape shape) {
+        shape.setLevel(computeLandingLevel(shape));
+        joinShape(shape);
+    }
+
+    public boolean incrementLevel(Shape shape) {
+        if (collides(shape.getOrientation(), shape.getDesfX(),
+                shape.getDesfY(), shape.getLevel() + 1)) {
+            joinShape(shape);
             return true;
         }
         shape.setLevel(shape.getLevel() + 1);
         return false;
     }
 
-    public synchronized boolean incrementLevel2(Shape shape) {
+    /**
+     * Variant of <code>incrementLevel</code> that joins the shape as soon
+     * as any interior cell under its whole bounding box is occupied.
+     */
+    public boolean incrementLevel2(Shape shape) {
         boolean[][][] shapeMatrix = shape.getMatrix();
-        int x, y, z;
-        for (int k = 0; k < shapeMatrix[0][0].length; ++k) {
-            for (int i = 0; i < shapeMatrix.length; ++i) {
-                for (int j = 0; j < shapeMatrix[0].length; ++j) {
-                    x = i + shape.getDesfX();
-                    y = j + shape.getDesfY();
-                    z = k + shape.getLevel() + 1;
-                    if (x > 0 && x < matrix.length - 1 && y > 0 && y < matrix[0].length - 1 && z < matrix[0][0].length) {
-
-                        if (matrix[x][y][z]) {
-                            System.out.println("===========");
-                            System.out.println("X: " + x);
-                            System.out.println("Y: " + y);
-                            System.out.println("Z: " + z);
-                            System.out.println("d");
-                            joinShape(shape);
-                            return true;
-                        }
+        int x0 = Math.max(1, shape.getDesfX());
+        int x1 = Math.min(width - 1, shape.getDesfX() + shapeMatrix.length);
+        int y0 = Math.max(1, shape.getDesfY());
+        int y1 = Math.min(depth - 1, shape.getDesfY() + shapeMatrix[0].length);
+        if (x0 < x1 && y0 < y1) {
+            long mask = ((1L << (y1 - y0)) - 1) << y0;
+            for (int k = 0; k < shapeMatrix[0][0].length; ++k) {
+                int z = k + shape.getLevel() + 1;
+                if (z >= height) {
+                    break;
+                }
+                for (int x = x0; x < x1; ++x) {
+                    if ((rows[z * width + x] & mask) != 0) {
+                        joinShape(shape);
+                        return true;
                     }
                 }
             }
@@ -296,38 +575,127 @@ public class Model {
     }
 
     private void joinShape(Shape shape) {
-        boolean[][][] shapeMatrix = shape.getMatrix();
-        for (int i = 0; i < shapeMatrix.length; ++i) {
-            for (int j = 0; j < shapeMatrix[i].length; ++j) {
-                for (int k = 0; k < shapeMatrix[i][j].length; ++k) {
-                    if (shapeMatrix[i][j][k]) {
-                        matrix[i + shape.getDesfX()][j + shape.getDesfY()][k + shape.getLevel()] = true;
-                    }
+        Orientation orientation = shape.getOrientation();
+        int desfX = shape.getDesfX();
+        int desfY = shape.getDesfY();
+        int level = shape.getLevel();
+        for (int k = 0; k < orientation.getSizeZ(); ++k) {
+            int base = (k + level) * width + desfX;
+            for (int i = 0; i < orientation.getSizeX(); ++i) {
+                long cells = (orientation.getRow(i, k) << desfY) & ~rows[base + i];
+                rows[base + i] |= cells;
+                hash ^= hashRow(base + i, cells);
+                layerCells[k + level] += Long.bitCount(cells);
+                int z = k + level;
+                int column = (desfX + i) * depth;
+                while (cells != 0 && z < height - 1) {
+                    int c = column + Long.numberOfTrailingZeros(cells);
+                    columnTop[c] = Math.min(columnTop[c], z);
+                    columnCells[c]++;
+                    cells &= cells - 1;
                 }
             }
         }
-        verifyFloor();
+        matrix = null;
+        modifications++;
+        verifyFloor(level, level + orientation.getSizeZ() - 1);
     }
 
-    private void verifyFloor() {
-        boolean completeFloor;
-        for (int k = 0; k < matrix[0][0].length - 1; ++k) {
-            completeFloor = true;
-            for (int i = 0; i < matrix.length && completeFloor; ++i) {
-                for (int j = 0; j < matrix[i].length && completeFloor; ++j) {
-                    if (!matrix[i][j][k]) {
-                        completeFloor = false;
-                    }
+    /**
+     * Removes every complete floor above the well bottom, moving the
+     * levels over them down in a single pass. The top level is kept as it
+     * was, so it fills the levels left free at the top.
+     * <p>
+     * Every join clears the floors it completes, so a new complete floor
+     * can only be one of the levels <code>from</code> to <code>to</code>
+     * just joined. The whole well is only scanned when the top level is
+     * complete, since it then refills the free levels with complete ones.
+     */
+    private void verifyFloor(int from, int to) {
+        int full = width * depth;
+        int top = -1;
+        if (layerCells[0] == full) {
+            from = 0;
+            to = height - 2;
+        }
+        for (int k = Math.min(to, height - 2); k >= from && top < 0; --k) {
+            if (layerCells[k] == full) {
+                top = k;
+            }
+        }
+        if (top < 0) {
+            return;
+        }
+
+        boolean topFull = layerCells[0] == full;
+        int end = (top + 1) * width;
+        hash ^= hashRows(0, end);
+        int dst = top;
+        int cleared = 0;
+        for (int src = top; src >= 0; --src) {
+            if (layerCells[src] == full) {
+                cleared++;
+                continue;
+            }
+            if (dst != src) {
+                System.arraycopy(rows, src * width, rows, dst * width, width);
+                layerCells[dst] = layerCells[src];
+            }
+            dst--;
+        }
+        // Levels left free repeat the old top level, which now sits at
+        // dst + 1 unless it was complete itself
+        for (; dst >= 0; --dst) {
+            if (!topFull) {
+                System.arraycopy(rows, (dst + 1) * width, rows, dst * width, width);
+                layerCells[dst] = layerCells[dst + 1];
+            } else {
+                Arrays.fill(rows, dst * width, (dst + 1) * width, fullRow);
+                layerCells[dst] = full;
+            }
+        }
+        hash ^= hashRows(0, end);
+        clearedFloors += cleared;
+        updateColumns(top, cleared);
+        matrix = null;
+    }
+
+    /**
+     * Updates the column heights after <code>cleared</code> floors were
+     * removed from levels <code>0</code> to <code>top</code>, the only
+     * ones whose rows changed. Each column lost one cell per floor and got
+     * the cells of the <code>cleared</code> levels refilled at the top.
+     * Column tops are found again in the changed rows, and below them only
+     * for the columns left empty there.
+     */
+    private void updateColumns(int top, int cleared) {
+        Arrays.fill(columnTop, top + 1);
+        for (int c = 0; c < columnCells.length; ++c) {
+            columnCells[c] -= cleared;
+        }
+        for (int r = (top + 1) * width - 1; r >= 0; --r) {
+            int z = r / width;
+            int x = r - z * width;
+            long cells = rows[r];
+            while (cells != 0) {
+                int c = x * depth + Long.numberOfTrailingZeros(cells);
+                columnTop[c] = z;
+                if (z < cleared) {
+                    columnCells[c]++;
                 }
+                cells &= cells - 1;
             }
-            if (completeFloor) {
-                for (int kk = k; kk > 0; --kk) {
-                    for (int i = 1; i < matrix.length - 1; ++i) {
-                        for (int j = 1; j < matrix[i].length - 1; ++j) {
-                            matrix[i][j][kk] = matrix[i][j][kk - 1];
-                        }
-                    }
+        }
+        for (int c = 0; c < columnTop.length; ++c) {
+            int z = columnTop[c];
+            if (z > top) {
+                // The floor level is complete, so the walk ends there
+                int x = c / depth;
+                int y = c - x * depth;
+                while (!isOccupied(x, y, z)) {
+                    ++z;
                 }
+                columnTop[c] = z;
             }
         }
     }
@@ -0,0 +1,164 @@
+package model;
+
+import java.util.Arrays;
+
+import model.shapes.Shape;
+import model.shapes.ShapeFactory;
+
+/**
+ * Draws the sequence of falling shapes of a game from its own
+ * <code>SplitMix64</code> stream, and keeps the next shapes in a preview
+ * queue. Types are drawn either from a shuffled bag holding every type
+ * the same number of times, refilled when empty, or independently with
+ * fixed weights.
+ */
+public class PieceGenerator {
+
+    private final ShapeFactory shapes;
+    private final SplitMix64 random;
+    private final int[] weights;
+    private final int totalWeight;
+    private final int[] bag;
+    private int bagLeft;
+    private final Shape[] queue;
+    private int head;
+
+    private PieceGenerator(ShapeFactory shapes, SplitMix64 random,
+            int[] weights, int bagCopies, int previewSize) {
+        this.shapes = shapes;
+        this.random = random;
+        this.weights = weights;
+        if (weights != null) {
+            if (weights.length != shapes.getTypes()) {
+                throw new IllegalArgumentException("Expected one weight per shape type");
+            }
+            int total = 0;
+            for (int w : weights) {
+                if (w < 0) {
+                    throw new IllegalArgumentException("Weights can't be negative");
+                }
+                total += w;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("Weights sum must be positive");
+            }
+            this.totalWeight = total;
+            this.bag = null;
+        } else {
+            if (bagCopies < 1) {
+                throw new IllegalArgumentException("A bag needs at least one copy per type");
+            }
+            this.totalWeight = 0;
+            this.bag = new int[shapes.getTypes() * bagCopies];
+            for (int i = 0; i < bag.length; ++i) {
+                bag[i] = i % shapes.getTypes();
+            }
+        }
+        this.queue = new Shape[previewSize];
+        for (int i = 0; i < previewSize; ++i) {
+            queue[i] = draw();
+        }
+    }
+
+    /**
+     * @return a generator drawing every type with the same probability
+     */
+    public static PieceGenerator uniform(ShapeFactory shapes, SplitMix64 random, int previewSize) {
+        int[] weights = new int[shapes.getTypes()];
+        Arrays.fill(weights, 1);
+        return weighted(shapes, weights, random, previewSize);
+    }
+
+    /**
+     * @param weights relative probability of each shape type
+     */
+    public static PieceGenerator weighted(ShapeFactory shapes, int[] weights,
+            SplitMix64 random, int previewSize) {
+        return new PieceGenerator(shapes, random, weights.clone(), 0, previewSize);
+    }
+
+    /**
+     * @param copies number of times each type is in the bag
+     */
+    public static PieceGenerator bag(ShapeFactory shapes, int copies,
+            SplitMix64 random, int previewSize) {
+        return new PieceGenerator(shapes, random, null, copies, previewSize);
+    }
+
+    /**
+     * @return a fresh generator with the same configuration, drawing from
+     * <code>random</code>
+     */
+    public PieceGenerator withRandom(SplitMix64 random) {
+        return new PieceGenerator(shapes, random, weights,
+                bag == null ? 0 : bag.length / shapes.getTypes(), queue.length);
+    }
+
+    /**
+     * @return the next shape, removed from the preview queue
+     */
+    public Shape next() {
+        if (queue.length == 0) {
+            return draw();
+        }
+        Shape shape = queue[head];
+        queue[head] = draw();
+        head = (head + 1) % queue.length;
+        return shape;
+    }
+
+    /**
+     * @return the <code>i</code>-th shape that <code>next()</code> will
+     * return, counting from 0. The shape must not be modified.
+     */
+    public Shape peek(int i) {
+        if (i < 0 || i >= queue.length) {
+            throw new IndexOutOfBoundsException("Preview has " + queue.length + " shapes");
+        }
+        return queue[(head + i) % queue.length];
+    }
+
+    public int getPreviewSize() {
+        return queue.length;
+    }
+
+    /**
+     * @return the preview queue in drawing order
+     */
+    public Shape[] getPreview() {
+        Shape[] preview = new Shape[queue.length];
+        for (int i = 0; i < preview.length; ++i) {
+            preview[i] = peek(i);
+        }
+        return preview;
+    }
+
+    public ShapeFactory getShapes() {
+        return shapes;
+    }
+
+    private Shape draw() {
+        return shapes.createShape(drawType());
+    }
+
+    private int drawType() {
+        if (bag != null) {
+            if (bagLeft == 0) {
+                bagLeft = bag.length;
+            }
+            int i = random.nextInt(bagLeft);
+            int type = bag[i];
+            bagLeft--;
+            bag[i] = bag[bagLeft];
+            bag[bagLeft] = type;
+            return type;
+        }
+        int r = random.nextInt(totalWeight);
+        int type = 0;
+        while (r >= weights[type]) {
+            r -= weights[type];
+            type++;
+        }
+        return type;
+    }
+}
@@ -0,0 +1,11 @@
+package model;
+
+/**
+ * Decides the commands played on a game. <code>BatchRunner</code> calls
+ * <code>play</code> once before every logical tick; implementations issue
+ * their commands through <code>GameEngine.apply</code>.
+ */
+public interface Policy {
+
+    void play(GameEngine engine);
+}
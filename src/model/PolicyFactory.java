@@ -0,0 +1,10 @@
+package model;
+
+/**
+ * Creates the policy of each game in a batch, so that policies keeping
+ * state are never shared between games running concurrently.
+ */
+public interface PolicyFactory {
+
+    Policy createPolicy(long seed);
+}
@@ -0,0 +1,27 @@
+package model;
+
+import java.util.Random;
+
+/**
+ * Baseline policy issuing one random move or rotation per tick.
+ */
+public class RandomPolicy implements Policy {
+
+    public static final PolicyFactory FACTORY = new PolicyFactory() {
+        @Override
+        public Policy createPolicy(long seed) {
+            return new RandomPolicy(seed);
+        }
+    };
+
+    private final Random random;
+
+    public RandomPolicy(long seed) {
+        random = new Random(seed);
+    }
+
+    @Override
+    public void play(GameEngine engine) {
+        engine.apply(random.nextInt(GameEngine.ROTATE_MAYBE_REVERSE + 1));
+    }
+}
@@ -0,0 +1,94 @@
+package model;
+
+/**
+ * Small splittable pseudo random generator, following the SplitMix64
+ * algorithm of <code>java.util.SplittableRandom</code>, which is not
+ * available on the Java 7 platform targeted by this project. Each game
+ * owns its generator, so concurrent games never contend on a shared
+ * <code>Random</code>, and generators split from one another produce
+ * statistically independent streams.
+ */
+public class SplitMix64 {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long seed;
+    private final long gamma;
+
+    public SplitMix64(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SplitMix64(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * @return a new generator, independent from this one, which advances
+     * this generator state
+     */
+    public SplitMix64 split() {
+        return new SplitMix64(mix(nextSeed()), mixGamma(nextSeed()));
+    }
+
+    /**
+     * @return the generator that the <code>index</code>-th call to
+     * <code>split()</code> would return on a fresh copy of this generator.
+     * This generator state is not changed, so streams can be handed out by
+     * index from several threads.
+     */
+    public SplitMix64 split(long index) {
+        return new SplitMix64(mix(seed + (2 * index + 1) * gamma),
+                mixGamma(seed + (2 * index + 2) * gamma));
+    }
+
+    public long nextLong() {
+        return mix(nextSeed());
+    }
+
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * @return a uniformly distributed value from 0 to
+     * <code>bound - 1</code>
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive");
+        }
+        int r = nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt() >>> 1) {
+            ;
+        }
+        return r;
+    }
+
+    /**
+     * SplitMix64 finalizer: a bijective mix of the 64 bits of
+     * <code>z</code>, also used to derive Zobrist keys from indexes.
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
@@ -0,0 +1,73 @@
+package model.ai;
+
+import model.GameEngine;
+import model.Policy;
+import model.PolicyFactory;
+
+/**
+ * Policy placing every new shape on the best reachable placement found
+ * by a <code>PlacementEnumerator</code> under a <code>Heuristic</code>,
+ * optionally looking ahead over the engine preview queue with a
+ * <code>LookaheadSearch</code>. The shape is moved and dropped as soon as
+ * it appears, so each decision fits in a single tick.
+ */
+public class AutoPlayer implements Policy {
+
+    public static final PolicyFactory FACTORY = new PolicyFactory() {
+        @Override
+        public Policy createPolicy(long seed) {
+            return new AutoPlayer(new WeightedHeuristic());
+        }
+    };
+
+    private final PlacementEnumerator enumerator = new PlacementEnumerator();
+    private final Heuristic heuristic;
+    private final LookaheadSearch lookahead;
+    private final int depth;
+
+    public AutoPlayer(Heuristic heuristic) {
+        this.heuristic = heuristic;
+        this.lookahead = null;
+        this.depth = 0;
+    }
+
+    /**
+     * @param table transposition table, which may be shared with other
+     * players
+     * @param depth number of preview shapes to look ahead
+     */
+    public AutoPlayer(Heuristic heuristic, TranspositionTable table, int depth) {
+        this(heuristic, table, depth, LookaheadSearch.DEFAULT_BEAM_WIDTH);
+    }
+
+    /**
+     * @param beamWidth number of placements expanded at every ply of the
+     * lookahead
+     */
+    public AutoPlayer(Heuristic heuristic, TranspositionTable table, int depth,
+            int beamWidth) {
+        this.heuristic = heuristic;
+        this.lookahead = new LookaheadSearch(heuristic, table, beamWidth);
+        this.depth = depth;
+    }
+
+    @Override
+    public void play(GameEngine engine) {
+        if (engine.isGameOver()) {
+            return;
+        }
+        Placement best;
+        if (lookahead != null && depth > 0) {
+            best = lookahead.findBest(engine.getModel(), engine.getShape(),
+                    engine.getPreview(), depth);
+        } else {
+            best = enumerator.findBest(engine.getModel(), engine.getShape(), heuristic);
+        }
+        if (best != null) {
+            for (int command : best.getCommands()) {
+                engine.apply(command);
+            }
+        }
+        engine.apply(GameEngine.DROP);
+    }
+}
@@ -0,0 +1,15 @@
+package model.ai;
+
+import model.Model;
+
+/**
+ * Scores a well after a shape has been locked in it. Higher is better.
+ */
+public interface Heuristic {
+
+    /**
+     * @param model well after the lock and the floor clears
+     * @param clearedFloors floors removed by the lock
+     */
+    double evaluate(Model model, int clearedFloors);
+}
@@ -0,0 +1,198 @@
+package model.ai;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.Model;
+import model.SplitMix64;
+import model.shapes.Shape;
+
+/**
+ * Chooses a placement for the current shape looking ahead over the next
+ * known shapes: the value of a placement is the best heuristic score
+ * reachable by placing the following shapes too. The search is a beam
+ * search: at every ply the placements are first scored by the heuristic
+ * alone, and only the <code>beamWidth</code> best of them are expanded
+ * over the following shapes. Wells reached through different placement
+ * orders are evaluated once, through a <code>TranspositionTable</code>
+ * keyed by the well hash, the shapes still to place and the floors
+ * cleared since the root. The table may be shared between threads, the
+ * search itself may not.
+ * <p>
+ * The cost grows with <code>beamWidth</code> to the power of the depth,
+ * so wide beams are only practical on shallow searches.
+ */
+public class LookaheadSearch {
+
+    public static final int DEFAULT_BEAM_WIDTH = 8;
+
+    private final Heuristic heuristic;
+    private final TranspositionTable table;
+    private final int beamWidth;
+    private PlacementEnumerator[] enumerators = new PlacementEnumerator[0];
+    private Model[] scratch = new Model[0];
+    private double[][] scores = new double[0][];
+
+    public LookaheadSearch(Heuristic heuristic, TranspositionTable table) {
+        this(heuristic, table, DEFAULT_BEAM_WIDTH);
+    }
+
+    /**
+     * @param beamWidth number of placements expanded at every ply, the
+     * ones with the best heuristic scores. <code>Integer.MAX_VALUE</code>
+     * expands them all.
+     */
+    public LookaheadSearch(Heuristic heuristic, TranspositionTable table, int beamWidth) {
+        if (beamWidth < 1) {
+            throw new IllegalArgumentException("Beam width must be positive");
+        }
+        this.heuristic = heuristic;
+        this.table = table;
+        this.beamWidth = beamWidth;
+    }
+
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    /**
+     * @param preview shapes coming after <code>shape</code>, in order
+     * @param depth number of preview shapes to look at
+     * @return the best placement for <code>shape</code>, or null if it
+     * can't be placed
+     */
+    public Placement findBest(Model model, Shape shape, Shape[] preview, int depth) {
+        depth = Math.min(depth, preview.length);
+        ensureLevels(depth + 1, model);
+        table.newSearch();
+
+        List<Placement> placements = enumerators[0].enumerate(model, shape);
+        if (placements.isEmpty()) {
+            return null;
+        }
+        return expand(model, shape, placements, model.getClearedFloors(),
+                preview, 0, depth);
+    }
+
+    private double value(Model model, int rootFloors, Shape[] preview,
+            int index, int depth) {
+        int floors = model.getClearedFloors() - rootFloors;
+        if (index == depth) {
+            return heuristic.evaluate(model, floors);
+        }
+
+        long key = model.getHash() ^ SplitMix64.mix(sequenceKey(preview, index, depth) + floors);
+        int remaining = depth - index;
+        double value = table.probe(key, remaining);
+        if (!Double.isNaN(value)) {
+            return value;
+        }
+
+        Shape shape = preview[index].clone();
+        List<Placement> placements = enumerators[index + 1].enumerate(model, shape);
+        if (placements.isEmpty()) {
+            value = heuristic.evaluate(model, floors) - 1e6;
+        } else {
+            value = expand(model, shape, placements, rootFloors, preview,
+                    index + 1, depth).getScore();
+        }
+        table.store(key, remaining, value);
+        return value;
+    }
+
+    /**
+     * Scores every placement of <code>shape</code> in <code>model</code>
+     * with the heuristic, then, unless the placed wells are leaves, scores
+     * the <code>beamWidth</code> best of them again with the search value
+     * of the shapes from <code>preview[index]</code> on.
+     *
+     * @param placements placements of <code>shape</code>, not empty
+     * @return the placement with the best score
+     */
+    private Placement expand(Model model, Shape shape, List<Placement> placements,
+            int rootFloors, Shape[] preview, int index, int depth) {
+        Model child = scratch[index];
+        Placement best = null;
+        for (Placement placement : placements) {
+            child.copyFrom(model);
+            place(child, shape, placement);
+            placement.setScore(heuristic.evaluate(child,
+                    child.getClearedFloors() - rootFloors));
+            if (best == null || placement.getScore() > best.getScore()) {
+                best = placement;
+            }
+        }
+        if (index == depth) {
+            return best;
+        }
+
+        int size = placements.size();
+        int expanded = Math.min(beamWidth, size);
+        double[] sorted = scores[index];
+        if (sorted.length < size) {
+            sorted = scores[index] = new double[size];
+        }
+        for (int i = 0; i < size; ++i) {
+            sorted[i] = placements.get(i).getScore();
+        }
+        Arrays.sort(sorted, 0, size);
+        double threshold = sorted[size - expanded];
+        int ties = expanded;
+        for (int i = size - expanded; i < size; ++i) {
+            if (sorted[i] > threshold) {
+                --ties;
+            }
+        }
+
+        best = null;
+        for (Placement placement : placements) {
+            double score = placement.getScore();
+            if (score < threshold || (score == threshold && ties-- <= 0)) {
+                continue;
+            }
+            child.copyFrom(model);
+            place(child, shape, placement);
+            placement.setScore(value(child, rootFloors, preview, index, depth));
+            if (best == null || placement.getScore() > best.getScore()) {
+                best = placement;
+            }
+        }
+        return best;
+    }
+
+    private static void place(Model model, Shape shape, Placement placement) {
+        Shape placed = shape.clone();
+        placed.setOrientationIndex(placement.getOrientation());
+        placed.setDesfX(placement.getDesfX());
+        placed.setDesfY(placement.getDesfY());
+        placed.setLevel(placement.getLevel());
+        model.hardDrop(placed);
+    }
+
+    private static long sequenceKey(Shape[] preview, int from, int to) {
+        long key = to - from;
+        for (int i = from; i < to; ++i) {
+            key = key * 31 + preview[i].getClass().getName().hashCode();
+        }
+        return key;
+    }
+
+    private void ensureLevels(int levels, Model model) {
+        if (enumerators.length < levels) {
+            enumerators = new PlacementEnumerator[levels];
+            scores = new double[levels][];
+            for (int i = 0; i < levels; ++i) {
+                enumerators[i] = new PlacementEnumerator();
+                scores[i] = new double[0];
+            }
+        }
+        if (scratch.length < levels || scratch[0].getWidth() != model.getWidth()
+                || scratch[0].getDepth() != model.getDepth()
+                || scratch[0].getHeight() != model.getHeight()) {
+            scratch = new Model[Math.max(levels, scratch.length)];
+            for (int i = 0; i < scratch.length; ++i) {
+                scratch[i] = new Model(model);
+            }
+        }
+    }
+}
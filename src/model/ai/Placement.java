@@ -0,0 +1,65 @@
+package model.ai;
+
+/**
+ * Final resting position of a shape found by
+ * <code>PlacementEnumerator</code>, with the commands that bring the
+ * shape there from its spawn position before it is dropped.
+ */
+public class Placement {
+
+    private final int orientation;
+    private final int desfX;
+    private final int desfY;
+    private final int level;
+    private final int[] commands;
+    private double score;
+
+    public Placement(int orientation, int desfX, int desfY, int level, int[] commands) {
+        this.orientation = orientation;
+        this.desfX = desfX;
+        this.desfY = desfY;
+        this.level = level;
+        this.commands = commands;
+    }
+
+    public int getOrientation() {
+        return orientation;
+    }
+
+    public int getDesfX() {
+        return desfX;
+    }
+
+    public int getDesfY() {
+        return desfY;
+    }
+
+    /**
+     * @return level at which the shape locks
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * @return <code>GameEngine</code> move and rotation commands leading
+     * to this placement
+     */
+    public int[] getCommands() {
+        return commands;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement[orientation=" + orientation + ", x=" + desfX
+                + ", y=" + desfY + ", level=" + level + ", score=" + score + "]";
+    }
+}
@@ -0,0 +1,146 @@
+package model.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import model.GameEngine;
+import model.Model;
+import model.shapes.Shape;
+
+/**
+ * Finds every final placement of a shape reachable from its current
+ * position: a breadth first search over orientations and x/y offsets
+ * at the current level, using the move and rotation rules of
+ * <code>Model</code>, followed by a straight drop of every reached
+ * position. All the work is done on a scratch copy of the well, so the
+ * live model is never modified. An enumerator keeps scratch state and
+ * must not be shared between threads.
+ */
+public class PlacementEnumerator {
+
+    private static final int[] MOVES = {
+        GameEngine.MOVE_RIGHT,
+        GameEngine.MOVE_LEFT,
+        GameEngine.MOVE_UP,
+        GameEngine.MOVE_DOWN,
+        GameEngine.ROTATE_YES,
+        GameEngine.ROTATE_NO,
+        GameEngine.ROTATE_MAYBE
+    };
+
+    private Model scratch;
+    private int[] parent = new int[0];
+    private int[] parentMove = new int[0];
+    private int[] queue = new int[0];
+
+    /**
+     * @return every reachable placement, scored 0
+     */
+    public List<Placement> enumerate(Model model, Shape shape) {
+        List<Placement> placements = new ArrayList<Placement>();
+        search(model, shape, null, placements);
+        return placements;
+    }
+
+    /**
+     * @return the reachable placement with the highest score, or null if
+     * the shape can't be placed at all
+     */
+    public Placement findBest(Model model, Shape shape, Heuristic heuristic) {
+        return search(model, shape, heuristic, null);
+    }
+
+    private Placement search(Model model, Shape shape, Heuristic heuristic,
+            List<Placement> placements) {
+        if (scratch == null || scratch.getWidth() != model.getWidth()
+                || scratch.getDepth() != model.getDepth()
+                || scratch.getHeight() != model.getHeight()) {
+            scratch = new Model(model);
+        } else {
+            scratch.copyFrom(model);
+        }
+        if (!scratch.canPlace(shape)) {
+            return null;
+        }
+
+        int width = model.getWidth();
+        int depth = model.getDepth();
+        int states = shape.getOrientations().size() * width * depth;
+        if (parent.length < states) {
+            parent = new int[states];
+            parentMove = new int[states];
+            queue = new int[states];
+        }
+        Arrays.fill(parent, 0, states, -1);
+
+        Shape probe = shape.clone();
+        int level = shape.getLevel();
+        int start = key(shape, width, depth);
+        int head = 0;
+        int tail = 0;
+        parent[start] = start;
+        queue[tail++] = start;
+
+        Placement best = null;
+        int floorsBefore = model.getClearedFloors();
+
+        while (head < tail) {
+            int state = queue[head++];
+            for (int m = 0; m < MOVES.length; ++m) {
+                setState(probe, state, width, depth, level);
+                if (GameEngine.applyMove(scratch, probe, MOVES[m])) {
+                    int next = key(probe, width, depth);
+                    if (parent[next] < 0) {
+                        parent[next] = state;
+                        parentMove[next] = MOVES[m];
+                        queue[tail++] = next;
+                    }
+                }
+            }
+
+            setState(probe, state, width, depth, level);
+            scratch.hardDrop(probe);
+            Placement placement = new Placement(probe.getOrientationIndex(),
+                    probe.getDesfX(), probe.getDesfY(), probe.getLevel(),
+                    commands(state, start));
+            if (heuristic != null) {
+                placement.setScore(heuristic.evaluate(scratch,
+                        scratch.getClearedFloors() - floorsBefore));
+                if (best == null || placement.getScore() > best.getScore()) {
+                    best = placement;
+                }
+            }
+            if (placements != null) {
+                placements.add(placement);
+            }
+            scratch.copyFrom(model);
+        }
+        return best;
+    }
+
+    private int[] commands(int state, int start) {
+        int n = 0;
+        for (int s = state; s != start; s = parent[s]) {
+            ++n;
+        }
+        int[] commands = new int[n];
+        for (int s = state; s != start; s = parent[s]) {
+            commands[--n] = parentMove[s];
+        }
+        return commands;
+    }
+
+    private static int key(Shape shape, int width, int depth) {
+        return (shape.getOrientationIndex() * width + shape.getDesfX()) * depth
+                + shape.getDesfY();
+    }
+
+    private static void setState(Shape shape, int key, int width, int depth, int level) {
+        shape.setDesfY(key % depth);
+        key /= depth;
+        shape.setDesfX(key % width);
+        shape.setOrientationIndex(key / width);
+        shape.setLevel(level);
+    }
+}
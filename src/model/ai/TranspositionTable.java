@@ -0,0 +1,98 @@
+package model.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed size cache of search values keyed by <code>Model</code> hashes,
+ * safe to share between search threads without locks. Each entry is
+ * stored as two words, the key XOR the data and the data, so an entry
+ * torn by two concurrent writers fails its key check and reads as a
+ * miss. Entries are grouped in buckets of two slots: the first keeps the
+ * deepest result of the current search and the second always takes the
+ * latest store.
+ */
+public class TranspositionTable {
+
+    private static final int WORDS_PER_SLOT = 2;
+    private static final int SLOTS_PER_BUCKET = 2;
+    private static final long VALID = 0x8000;
+
+    private final AtomicLongArray words;
+    private final int bucketMask;
+    private volatile int generation;
+
+    /**
+     * @param log2Buckets base two logarithm of the number of buckets
+     */
+    public TranspositionTable(int log2Buckets) {
+        if (log2Buckets < 0 || log2Buckets > 26) {
+            throw new IllegalArgumentException("Table size out of range: 2^" + log2Buckets);
+        }
+        int buckets = 1 << log2Buckets;
+        bucketMask = buckets - 1;
+        words = new AtomicLongArray(buckets * SLOTS_PER_BUCKET * WORDS_PER_SLOT);
+    }
+
+    /**
+     * Marks the entries stored so far as old, so they are the first to be
+     * replaced.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0xFFFF;
+    }
+
+    /**
+     * @return the value stored for <code>hash</code> with at least
+     * <code>depth</code> levels searched, or NaN if there is none
+     */
+    public double probe(long hash, int depth) {
+        int base = bucket(hash);
+        for (int s = 0; s < SLOTS_PER_BUCKET; ++s) {
+            int i = base + s * WORDS_PER_SLOT;
+            long data = words.get(i + 1);
+            if ((words.get(i) ^ data) == hash && (data & VALID) != 0
+                    && depth(data) >= depth) {
+                return Float.intBitsToFloat((int) (data >>> 32));
+            }
+        }
+        return Double.NaN;
+    }
+
+    public void store(long hash, int depth, double value) {
+        long data = (long) Float.floatToIntBits((float) value) << 32
+                | (long) generation << 16
+                | VALID
+                | (depth & 0x7FFF);
+        int base = bucket(hash);
+        long old = words.get(base + 1);
+        int i;
+        if ((words.get(base) ^ old) == hash
+                || (old & VALID) == 0
+                || depth >= depth(old)
+                || generation(old) != generation) {
+            i = base;
+        } else {
+            i = base + WORDS_PER_SLOT;
+        }
+        words.set(i, hash ^ data);
+        words.set(i + 1, data);
+    }
+
+    public void clear() {
+        for (int i = 0; i < words.length(); ++i) {
+            words.set(i, 0);
+        }
+    }
+
+    private int bucket(long hash) {
+        return ((int) (hash ^ (hash >>> 32)) & bucketMask) * SLOTS_PER_BUCKET * WORDS_PER_SLOT;
+    }
+
+    private static int depth(long data) {
+        return (int) (data & 0x7FFF);
+    }
+
+    private static int generation(long data) {
+        return (int) ((data >>> 16) & 0xFFFF);
+    }
+}
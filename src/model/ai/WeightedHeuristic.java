@@ -0,0 +1,58 @@
+package model.ai;
+
+import model.Model;
+
+/**
+ * Linear combination of the classic stacking features, measured over the
+ * interior columns of the well: aggregate column height, holes (empty
+ * cells under the top of their column), bumpiness (height differences
+ * between neighbour columns along x and y) and cleared floors.
+ */
+public class WeightedHeuristic implements Heuristic {
+
+    private final double heightWeight;
+    private final double holesWeight;
+    private final double bumpinessWeight;
+    private final double floorsWeight;
+
+    /**
+     * Builds the heuristic with default weights.
+     */
+    public WeightedHeuristic() {
+        this(-0.51, -0.36, -0.18, 0.76);
+    }
+
+    public WeightedHeuristic(double heightWeight, double holesWeight,
+            double bumpinessWeight, double floorsWeight) {
+        this.heightWeight = heightWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.floorsWeight = floorsWeight;
+    }
+
+    @Override
+    public double evaluate(Model model, int clearedFloors) {
+        int aggregateHeight = 0;
+        int holes = 0;
+        int bumpiness = 0;
+
+        for (int i = 1; i < model.getWidth() - 1; ++i) {
+            for (int j = 1; j < model.getDepth() - 1; ++j) {
+                int h = model.getColumnHeight(i, j);
+                aggregateHeight += h;
+                holes += model.getColumnHoles(i, j);
+                if (i > 1) {
+                    bumpiness += Math.abs(h - model.getColumnHeight(i - 1, j));
+                }
+                if (j > 1) {
+                    bumpiness += Math.abs(h - model.getColumnHeight(i, j - 1));
+                }
+            }
+        }
+
+        return heightWeight * aggregateHeight
+                + holesWeight * holes
+                + bumpinessWeight * bumpiness
+                + floorsWeight * clearedFloors;
+    }
+}
@@ -0,0 +1,94 @@
+package model.shapes;
+
+import java.util.Arrays;
+
+/**
+ * Immutable occupancy of a shape in one orientation. Besides the boolean
+ * cell matrix, each (level, x) row of the shape is packed into a
+ * <code>long</code> whose bit <code>j</code> is set when the cell
+ * <code>(x, j, level)</code> is occupied, matching the row layout of
+ * the well bitboard in {@link model.Model}.
+ */
+public class Orientation {
+
+	private final boolean[][][] matrix;
+	private final long[] rows;
+	private final int[] bottom;
+	private final int sizeX;
+	private final int sizeY;
+	private final int sizeZ;
+	private final int cells;
+
+	public Orientation(boolean[][][] matrix) {
+		int maxX = -1, maxY = -1, maxZ = -1, count = 0;
+		for (int i = 0; i < matrix.length; i++) {
+			for (int j = 0; j < matrix[i].length; j++) {
+				for (int k = 0; k < matrix[i][j].length; k++) {
+					if (matrix[i][j][k]) {
+						maxX = Math.max(maxX, i);
+						maxY = Math.max(maxY, j);
+						maxZ = Math.max(maxZ, k);
+						count++;
+					}
+				}
+			}
+		}
+		this.matrix = matrix;
+		this.sizeX = maxX + 1;
+		this.sizeY = maxY + 1;
+		this.sizeZ = maxZ + 1;
+		this.cells = count;
+		this.rows = new long[sizeX * sizeZ];
+		this.bottom = new int[sizeX * sizeY];
+		Arrays.fill(bottom, -1);
+		for (int i = 0; i < sizeX; i++) {
+			for (int j = 0; j < sizeY; j++) {
+				for (int k = 0; k < sizeZ; k++) {
+					if (matrix[i][j][k]) {
+						rows[k * sizeX + i] |= 1L << j;
+						bottom[i * sizeY + j] = k;
+					}
+				}
+			}
+		}
+	}
+
+	public boolean[][][] getMatrix() {
+		return matrix;
+	}
+
+	/**
+	 * @return the y-bit mask of row <code>x</code> in shape level
+	 * <code>z</code>
+	 */
+	public long getRow(int x, int z) {
+		return rows[z * sizeX + x];
+	}
+
+	/**
+	 * @return lowest occupied level of column <code>(x, y)</code>, that is
+	 * the highest <code>z</code> index, or -1 if the column is empty
+	 */
+	public int getBottom(int x, int y) {
+		return bottom[x * sizeY + y];
+	}
+
+	/**
+	 * @return number of occupied x positions, counted from 0
+	 */
+	public int getSizeX() {
+		return sizeX;
+	}
+
+	public int getSizeY() {
+		return sizeY;
+	}
+
+	public int getSizeZ() {
+		return sizeZ;
+	}
+
+	public int getCells() {
+		return cells;
+	}
+}
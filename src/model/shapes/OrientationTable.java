@@ -0,0 +1,126 @@
+package model.shapes;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+
+/**
+ * Every distinct orientation a shape reaches through the YES, NO and MAYBE
+ * rotations, computed once per shape class. Orientations that only differ
+ * by the shape symmetries are stored once, and rotating becomes a lookup
+ * of the next orientation index.
+ */
+public class OrientationTable {
+
+	private final Orientation[] orientations;
+	private final int[][] next;
+	private final int[][] previous;
+
+	/**
+	 * @param base occupancy of orientation 0, in a cubic matrix
+	 * @param rotations rotation matrices indexed by <code>Model.YES</code>,
+	 * <code>Model.NO</code> and <code>Model.MAYBE</code>
+	 */
+	public OrientationTable(boolean[][][] base, Matrix4x4[] rotations) {
+		ArrayList<boolean[][][]> found = new ArrayList<boolean[][][]>();
+		ArrayList<int[]> transitions = new ArrayList<int[]>();
+		found.add(base);
+		for (int n = 0; n < found.size(); n++) {
+			int[] t = new int[rotations.length];
+			for (int r = 0; r < rotations.length; r++) {
+				boolean[][][] rotated = rotate(found.get(n), rotations[r]);
+				int index = indexOf(found, rotated);
+				if (index < 0) {
+					index = found.size();
+					found.add(rotated);
+				}
+				t[r] = index;
+			}
+			transitions.add(t);
+		}
+
+		orientations = new Orientation[found.size()];
+		next = new int[found.size()][];
+		previous = new int[found.size()][rotations.length];
+		for (int n = 0; n < orientations.length; n++) {
+			orientations[n] = new Orientation(found.get(n));
+			next[n] = transitions.get(n);
+		}
+		for (int n = 0; n < orientations.length; n++) {
+			for (int r = 0; r < rotations.length; r++) {
+				previous[next[n][r]][r] = n;
+			}
+		}
+	}
+
+	public int size() {
+		return orientations.length;
+	}
+
+	public Orientation get(int index) {
+		return orientations[index];
+	}
+
+	/**
+	 * @return orientation index reached by applying <code>rotation</code>
+	 * on orientation <code>index</code>
+	 */
+	public int next(int index, int rotation) {
+		return next[index][rotation];
+	}
+
+	/**
+	 * @return orientation index that reaches orientation <code>index</code>
+	 * by applying <code>rotation</code>
+	 */
+	public int previous(int index, int rotation) {
+		return previous[index][rotation];
+	}
+
+	private static int indexOf(ArrayList<boolean[][][]> found, boolean[][][] matrix) {
+		for (int n = 0; n < found.size(); n++) {
+			if (Arrays.deepEquals(found.get(n), matrix)) {
+				return n;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Rotates the occupied cells of <code>matrix</code> and moves them back
+	 * so that the lowest occupied index on each axis is 0.
+	 */
+	private static boolean[][][] rotate(boolean[][][] matrix, Matrix4x4 rotationMatrix) {
+		ArrayList<int[]> cells = new ArrayList<int[]>();
+		int xMin = Integer.MAX_VALUE;
+		int yMin = Integer.MAX_VALUE;
+		int zMin = Integer.MAX_VALUE;
+		for (int i = 0; i < matrix.length; i++) {
+			for (int j = 0; j < matrix[i].length; j++) {
+				for (int k = 0; k < matrix[i][j].length; k++) {
+					if (matrix[i][j][k]) {
+						Vector3D v = rotationMatrix.multiply(new Vector3D(i, j, k));
+						int[] cell = {
+							(int) Math.round(v.x),
+							(int) Math.round(v.y),
+							(int) Math.round(v.z)
+						};
+						xMin = Math.min(xMin, cell[0]);
+						yMin = Math.min(yMin, cell[1]);
+						zMin = Math.min(zMin, cell[2]);
+						cells.add(cell);
+					}
+				}
+			}
+		}
+
+		int n = matrix.length;
+		boolean[][][] rotated = new boolean[n][n][n];
+		for (int[] cell : cells) {
+			rotated[cell[0] - xMin][cell[1] - yMin][cell[2] - zMin] = true;
+		}
+		return rotated;
+	}
+}
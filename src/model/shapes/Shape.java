@@ -1,12 +1,9 @@
 package model.shapes;
 
-import java.util.ArrayList;
-
 import model.Model;
 
 import vsdk.toolkit.common.ColorRgb;
 import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
-import vsdk.toolkit.common.linealAlgebra.Vector3D;
 
 public abstract class Shape implements Cloneable {
 	public static final double BOX_LENGTH = 1;
@@ -16,11 +13,12 @@ public abstract class Shape implements Cloneable {
 	public static final Matrix4x4 noMat;
 	public static final Matrix4x4 maybeMat;
 	
-	protected boolean[][][] matrix;
 	protected ColorRgb color;
 	protected int desfX;
 	protected int desfY;
 	protected int level;
+	private final OrientationTable orientations;
+	private int orientation;
 	
 	static {
 		yesMat = new Matrix4x4();
@@ -33,66 +31,82 @@ public abstract class Shape implements Cloneable {
 		maybeMat.eulerAnglesRotation(0, Math.PI/2.0, 0);
 	}
 	
-	protected Shape(){
+	/**
+	 * @param orientations table shared by every instance of the shape class
+	 */
+	protected Shape(OrientationTable orientations){
+		this.orientations = orientations;
+		orientation = 0;
 		desfX = desfY = 1; 
 		level = 0;
 	}
 	
+	/**
+	 * Builds the orientation table of a shape class from its initial
+	 * occupancy.
+	 */
+	protected static OrientationTable createOrientations(boolean[][][] base) {
+		return new OrientationTable(base, new Matrix4x4[] {yesMat, noMat, maybeMat});
+	}
+	
+	/**
+	 * @return occupancy of the current orientation. The matrix is shared
+	 * between shapes and must not be modified.
+	 */
 	public boolean[][][] getMatrix() {
-		return matrix;
+		return getOrientation().getMatrix();
+	}
+
+	public Orientation getOrientation() {
+		return orientations.get(orientation);
+	}
+
+	public OrientationTable getOrientations() {
+		return orientations;
+	}
+
+	public int getOrientationIndex() {
+		return orientation;
+	}
+
+	public void setOrientationIndex(int orientation) {
+		this.orientation = orientation;
 	}
 
 	public void rotateYes() {
-		rotate(yesMat);
+		rotate(Model.YES);
 	}
 
 	public void rotateNo() {
-		rotate(noMat);
+		rotate(Model.NO);
 	}
 
 	public void rotateMaybe() {
-		rotate(maybeMat);
+		rotate(Model.MAYBE);
 	}
 	
-	private void rotate(Matrix4x4 rotationMatrix) {
-		ArrayList<Vector3D> vec = new ArrayList<Vector3D>();
-		int xMin = 0;
-		int yMin = 0;
-		int zMin = 0;
-		for (int i = 0; i < matrix.length; i++) {
-			for (int j = 0; j < matrix[i].length; j++) {
-				for (int k = 0; k < matrix[i][j].length; k++) {
-					if(matrix[i][j][k]) {
-						xMin = i;
-						yMin = j;
-						zMin = k;
-						vec.add(rotationMatrix.multiply(new Vector3D(i, j, k)));
-					}
-				}
-			}
-		}
-		
-		resetMatrix();
-		int auxX,auxY,auxZ;
-		for(Vector3D v:vec){
-			auxX = (int) (v.x<0.0?v.x-0.5:v.x+0.5);
-			auxY = (int) (v.y<0.0?v.y-0.5:v.y+0.5);
-			auxZ = (int) (v.z<0.0?v.z-0.5:v.z+0.5);
-			xMin = Math.min(xMin, auxX);
-			yMin = Math.min(yMin, auxY);
-			zMin = Math.min(zMin, auxZ);
-		}
-		for(Vector3D v:vec){
-			auxX = (int) (v.x<0.0?v.x-0.5:v.x+0.5);
-			auxY = (int) (v.y<0.0?v.y-0.5:v.y+0.5);
-			auxZ = (int) (v.z<0.0?v.z-0.5:v.z+0.5);
-			
-			matrix[auxX-xMin][auxY-yMin][auxZ-zMin] = true;
+	public void rotate(int rotation) {
+		orientation = orientations.next(orientation, rotation);
+	}
+
+	/**
+	 * Undoes <code>rotate(rotation)</code>.
+	 */
+	public void rotateReverse(int rotation) {
+		orientation = orientations.previous(orientation, rotation);
+	}
+
+	/**
+	 * @return a copy of this shape, sharing its color and orientation table
+	 */
+	@Override
+	public Shape clone() {
+		try {
+			return (Shape) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new AssertionError(e);
 		}
-		
 	}
-	
-	protected abstract void resetMatrix();
 
 	public ColorRgb getColor() {
 		return color;
@@ -139,18 +153,4 @@ public abstract class Shape implements Cloneable {
 		desfY--;
 	}
 
-	public void rotate(int rotation) {
-		switch(rotation){
-		case Model.YES:
-			rotateYes();
-			break;
-		case Model.NO:
-			rotateNo();
-			break;
-		case Model.MAYBE:
-			rotateMaybe();
-			break;
-		}
-	}
-	
 }
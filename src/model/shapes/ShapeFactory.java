@@ -0,0 +1,38 @@
+package model.shapes;
+
+/**
+* Set of shape types a game draws its pieces from.
+*/
+public interface ShapeFactory {
+
+	/**
+	 * The four classic shapes: 0 is TetrisL, 1 TetrisBox, 2 TetrisT and
+	 * 3 TetrisBar.
+	 */
+	ShapeFactory STANDARD = new ShapeFactory() {
+		@Override
+		public int getTypes() {
+			return 4;
+		}
+
+		@Override
+		public Shape createShape(int type) {
+			switch (type) {
+			case 0:
+				return new TetrisL();
+			case 1:
+				return new TetrisBox();
+			case 2:
+				return new TetrisT();
+			case 3:
+				return new TetrisBar();
+			default:
+				throw new IllegalArgumentException("Unknown shape type " + type);
+			}
+		}
+	};
+
+	int getTypes();
+
+	Shape createShape(int type);
+}
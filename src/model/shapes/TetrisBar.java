@@ -4,19 +4,21 @@ import vsdk.toolkit.common.ColorRgb;
 
 public class TetrisBar extends Shape {
 
-	public TetrisBar() {
-		color = new ColorRgb(0.0,1.0,0.0);
-		matrix = new boolean[4][4][4];
+	private static final OrientationTable ORIENTATIONS;
+
+	static {
+		boolean[][][] matrix = new boolean[4][4][4];
 		matrix[0][0][0] =
 		matrix[0][1][0] =
 		matrix[0][2][0] =
 		matrix[0][3][0] =
 		true;
-		
+		ORIENTATIONS = createOrientations(matrix);
 	}
-	@Override
-	protected void resetMatrix() {
-		matrix = new boolean[4][4][4];
+
+	public TetrisBar() {
+		super(ORIENTATIONS);
+		color = new ColorRgb(0.0,1.0,0.0);
 	}
 
 }
@@ -2,11 +2,14 @@ package model.shapes;
 
 public class TetrisSimpleBox extends Shape {
 	
+	private static final OrientationTable ORIENTATIONS =
+			createOrientations(new boolean[][][] {{{true}}});
+	
 	private int x;
 	private int y;
 	private int z;
 	public TetrisSimpleBox(int x, int y, int z) {
-		super();
+		super(ORIENTATIONS);
 		this.x = x;
 		this.y = y;
 		this.z = z;
@@ -29,10 +32,4 @@ public class TetrisSimpleBox extends Shape {
 	public void setZ(int z) {
 		this.z = z;
 	}
-	@Override
-	protected void resetMatrix() {
-		// TODO Auto-generated method stub
-		
-	}
-
 }
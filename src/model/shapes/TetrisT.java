@@ -4,18 +4,21 @@ import vsdk.toolkit.common.ColorRgb;
 
 public class TetrisT extends Shape {
 
-	public TetrisT() {
-		color = new ColorRgb(0.0,1.0,1.0);
-		resetMatrix();
+	private static final OrientationTable ORIENTATIONS;
+
+	static {
+		boolean[][][] matrix = new boolean[3][3][3];
 		matrix[0][0][0] = 
 		matrix[0][1][0] =
 		matrix[0][2][0] =
 		matrix[1][1][0] =
 		true;
+		ORIENTATIONS = createOrientations(matrix);
 	}
-	@Override
-	protected void resetMatrix() {
-		matrix = new boolean[3][3][3];
+
+	public TetrisT() {
+		super(ORIENTATIONS);
+		color = new ColorRgb(0.0,1.0,1.0);
 	}
 
 }
@@ -1,18 +1,37 @@
 package view.render;
 
+import java.nio.FloatBuffer;
+
 import javax.media.opengl.GL2;
 
+import com.jogamp.common.nio.Buffers;
+
 import model.Model;
 import model.shapes.Shape;
 
 import vsdk.toolkit.common.ColorRgb;
+import vsdk.toolkit.common.Ray;
 import vsdk.toolkit.common.RendererConfiguration;
 import vsdk.toolkit.environment.Camera;
 import vsdk.toolkit.environment.Material;
-import vsdk.toolkit.environment.geometry.Box;
-import vsdk.toolkit.render.jogl.JoglBoxRenderer;
-import vsdk.toolkit.render.jogl.JoglMaterialRenderer;
+import vsdk.toolkit.processing.VoxelMesher;
+import vsdk.toolkit.render.TiledRasterizer;
+import vsdk.toolkit.render.jogl.JoglGeometryRenderer;
+import vsdk.toolkit.render.jogl.JoglStateCache;
 
+/**
+ * Draws the cells of the well. When the cubes touch, only the cube faces
+ * not covered by another cell are drawn, merged into larger quads per
+ * level color. When they are drawn apart, every face of every cube is
+ * drawn on its own, so the gaps that tell the cells apart stay visible,
+ * and so do the sides of the neighbour cells seen through them. The
+ * faces are kept in vertex arrays that are rebuilt only when the well
+ * changes, so drawing an unchanged well takes a single draw call.
+ * <p>
+ * A renderer keeps the mesh of the last well it drew and is not thread
+ * safe: each well drawn in a frame, and each thread drawing wells, needs
+ * its own renderer.
+ */
 public class ModelRenderer {
 
     private final static ColorRgb[] colors = {
@@ -28,51 +47,180 @@ public class ModelRenderer {
         new ColorRgb(0.5, 0.5, 0)
     };
 
-    public static void drawModel(GL2 gl, Model model, Camera camera,
-            RendererConfiguration rendererConfiguration) {
-        boolean[][][] matrix = model.getMatrix();
-        Box box;
-        Material material;
-
-
+    private final Material material;
+    private final VoxelMesher mesher;
+    private byte[] voxels = new byte[0];
+    private final float[] corners = new float[12];
+    private final ColorRgb quadColor = new ColorRgb();
+    private FloatBuffer vertices;
+    private FloatBuffer normals;
+    private FloatBuffer vertexColors;
+    private int vertexCount;
+    private int meshModifications;
+    private long meshHash;
+    private boolean meshValid = false;
 
+    public ModelRenderer() {
         material = new Material();
         material.setAmbient(new ColorRgb(0, 0, 0));
         material.setSpecular(new ColorRgb(1, 1, 1));
         material.setDoubleSided(false);
         material.setPhongExponent(40.0);
 
-        gl.glPushMatrix();
-        {
-            for (int i = 0; i < matrix.length; ++i) {
-                //INI 2
-                gl.glPushMatrix();
-                {
-                    for (int j = 0; j < matrix[i].length; ++j) {
-                        //INI 3
-                        gl.glPushMatrix();
-                        {
-                            for (int k = 0; k < matrix[i][j].length; ++k) {
-                                if (matrix[i][j][k]) {
-                                    material.setDiffuse(colors[k]);
-                                    JoglMaterialRenderer.activate(gl, material);
-                                    box = new Box(Shape.BOX_LENGTH, Shape.BOX_LENGTH, Shape.BOX_LENGTH);
-                                    JoglBoxRenderer.draw(gl, box, camera, rendererConfiguration);
-                                }
-                                gl.glTranslated(0, 0, Shape.BOX_LENGTH + Shape.SPACE);
-                            }
-                            //FIN 3
-                        }
-                        gl.glPopMatrix();
-                        gl.glTranslated(0, Shape.BOX_LENGTH + Shape.SPACE, 0);
-                    }
-                    //FIN 2
+        mesher = new VoxelMesher();
+        mesher.setMergeFaces(Shape.SPACE == 0);
+        mesher.setInteriorFaces(Shape.SPACE > 0);
+    }
+
+    /**
+     * @return color of the cells at level <code>level</code>, repeating
+     * the palette on wells taller than it
+     */
+    public static ColorRgb getLevelColor(int level) {
+        return colors[level % colors.length];
+    }
+
+    /**
+     * Finds the cell of <code>model</code> under a ray in scene
+     * coordinates, as made by <code>Camera.generateRay</code> for a mouse
+     * position. The well is drawn rotated -90 degrees about x, with cell
+     * <code>i</code> centered at <code>i * (BOX_LENGTH + SPACE)</code>.
+     *
+     * @param out receives the cell and the face hit, as in
+     * <code>Model.pickCell</code>
+     * @return true if an occupied cell was hit
+     */
+    public static boolean pickCell(Model model, Ray ray, int[] out) {
+        double aux = Shape.BOX_LENGTH + Shape.SPACE;
+        return model.pickCell(
+                ray.origin.x / aux + 0.5, -ray.origin.z / aux + 0.5, ray.origin.y / aux + 0.5,
+                ray.direction.x, -ray.direction.z, ray.direction.y, out) >= 0;
+    }
+
+    /**
+     * Draws the well with its own material, taking the level colors as
+     * diffuse color. The state changes go through <code>state</code>, and
+     * the color material is left disabled.
+     */
+    public void drawModel(GL2 gl, Model model, Camera camera,
+            RendererConfiguration rendererConfiguration, JoglStateCache state) {
+        if (!meshValid || meshModifications != model.getModificationCount()
+                || meshHash != model.getHash()) {
+            buildMesh(model);
+        }
+        if (vertexCount == 0) {
+            return;
+        }
+
+        state.activateMaterial(gl, material);
+        state.colorMaterial(gl, gl.GL_FRONT_AND_BACK, gl.GL_DIFFUSE);
+        state.enable(gl, gl.GL_COLOR_MATERIAL);
+        gl.glEnableClientState(gl.GL_VERTEX_ARRAY);
+        gl.glEnableClientState(gl.GL_NORMAL_ARRAY);
+        gl.glEnableClientState(gl.GL_COLOR_ARRAY);
+        gl.glVertexPointer(3, gl.GL_FLOAT, 0, vertices);
+        gl.glNormalPointer(gl.GL_FLOAT, 0, normals);
+        gl.glColorPointer(3, gl.GL_FLOAT, 0, vertexColors);
+
+        if (rendererConfiguration.isSurfacesSet()) {
+            JoglGeometryRenderer.prepareSurfaceQuality(gl, rendererConfiguration, state);
+            state.polygonMode(gl, gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+            gl.glDrawArrays(gl.GL_QUADS, 0, vertexCount);
+        }
+        if (rendererConfiguration.isWiresSet()) {
+            state.lineWidth(gl, 1);
+            state.polygonMode(gl, gl.GL_FRONT_AND_BACK, gl.GL_LINE);
+            gl.glDrawArrays(gl.GL_QUADS, 0, vertexCount);
+            state.polygonMode(gl, gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+        }
+
+        gl.glDisableClientState(gl.GL_COLOR_ARRAY);
+        gl.glDisableClientState(gl.GL_NORMAL_ARRAY);
+        gl.glDisableClientState(gl.GL_VERTEX_ARRAY);
+        state.disable(gl, gl.GL_COLOR_MATERIAL);
+    }
+
+    /**
+     * Adds the visible faces of the well to a software rasterizer, with
+     * the same mesh and colors used by the OpenGL path.
+     */
+    public void drawModel(TiledRasterizer rasterizer, Model model) {
+        if (!meshValid || meshModifications != model.getModificationCount()
+                || meshHash != model.getHash()) {
+            buildMesh(model);
+        }
+        rasterizer.setMaterial(material);
+        for (int v = 0; v < vertexCount; v += 4) {
+            for (int i = 0; i < 12; ++i) {
+                corners[i] = vertices.get(3 * v + i);
+            }
+            quadColor.r = vertexColors.get(3 * v);
+            quadColor.g = vertexColors.get(3 * v + 1);
+            quadColor.b = vertexColors.get(3 * v + 2);
+            rasterizer.setColorMaterial(quadColor);
+            rasterizer.addQuad(corners, 0);
+        }
+        rasterizer.setColorMaterial(null);
+    }
+
+    /**
+     * Fills the vertex arrays with the drawn faces of the occupied cells.
+     * The cell material is its level wrapped to the color palette, plus one
+     * since 0 is an empty cell, so merged faces keep the level color.
+     */
+    private void buildMesh(Model model) {
+        int width = model.getWidth();
+        int depth = model.getDepth();
+        int height = model.getHeight();
+        if (voxels.length != width * depth * height) {
+            voxels = new byte[width * depth * height];
+        }
+        for (int k = 0; k < height; ++k) {
+            for (int j = 0; j < depth; ++j) {
+                for (int i = 0; i < width; ++i) {
+                    voxels[i + width * (j + depth * k)] =
+                            (byte) (model.isOccupied(i, j, k) ? k % colors.length + 1 : 0);
                 }
-                gl.glPopMatrix();
-                gl.glTranslated(Shape.BOX_LENGTH + Shape.SPACE, 0, 0);
             }
-            //FIN 1
         }
-        gl.glPopMatrix();
+        int quads = mesher.mesh(voxels, width, depth, height);
+
+        int floats = quads * 4 * 3;
+        if (vertices == null || vertices.capacity() < floats) {
+            vertices = Buffers.newDirectFloatBuffer(floats);
+            normals = Buffers.newDirectFloatBuffer(floats);
+            vertexColors = Buffers.newDirectFloatBuffer(floats);
+        }
+        vertices.clear();
+        normals.clear();
+        vertexColors.clear();
+
+        double aux = Shape.BOX_LENGTH + Shape.SPACE;
+        double l = Shape.BOX_LENGTH / 2;
+        double[] origin = {-l, -l, -l};
+        double[] pitch = {aux, aux, aux};
+        double[] size = {Shape.BOX_LENGTH, Shape.BOX_LENGTH, Shape.BOX_LENGTH};
+        for (int q = 0; q < quads; ++q) {
+            int face = mesher.getFace(q);
+            ColorRgb color = getLevelColor(mesher.getMaterial(q) - 1);
+            mesher.getCorners(q, origin, pitch, size, corners, 0);
+            vertices.put(corners);
+            for (int c = 0; c < 4; ++c) {
+                normals.put(VoxelMesher.getNormal(face, 0));
+                normals.put(VoxelMesher.getNormal(face, 1));
+                normals.put(VoxelMesher.getNormal(face, 2));
+                vertexColors.put((float) color.r);
+                vertexColors.put((float) color.g);
+                vertexColors.put((float) color.b);
+            }
+        }
+        vertices.flip();
+        normals.flip();
+        vertexColors.flip();
+
+        vertexCount = quads * 4;
+        meshModifications = model.getModificationCount();
+        meshHash = model.getHash();
+        meshValid = true;
     }
 }
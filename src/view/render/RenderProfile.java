@@ -0,0 +1,130 @@
+package view.render;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.media.opengl.GL2;
+
+import model.GameEngine;
+import model.Model;
+import model.Policy;
+import model.RandomPolicy;
+import model.shapes.Shape;
+
+import vsdk.toolkit.common.RendererConfiguration;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.render.jogl.JoglCommandRecorder;
+
+/**
+ * Renders a seeded random game into a <code>JoglCommandRecorder</code>,
+ * without a display, and reports the GL commands, draw calls, vertices
+ * and state changes per frame together with the CPU time spent in the
+ * renderers. The command stream of every frame can be written to a golden
+ * file, and a later run checked against it.
+ * <p>
+ * Usage: <code>RenderProfile [frames] [write|check golden-file]</code>.
+ * In check mode the exit status is 1 when a frame differs.
+ */
+public class RenderProfile {
+
+    private static final long SEED = 20131113L;
+    private static final int GRAVITY_PERIOD = 4;
+
+    private final Camera camera;
+    private final RendererConfiguration qualitySpec;
+    private final SceneRenderer sceneRenderer;
+
+    public RenderProfile() {
+        camera = new Camera();
+        camera.setPosition(new Vector3D(3.17, -6.62, -3.45));
+        qualitySpec = new RendererConfiguration();
+        qualitySpec.setSurfaces(true);
+        qualitySpec.setWires(true);
+        qualitySpec.setPoints(true);
+
+        sceneRenderer = new SceneRenderer();
+    }
+
+    /**
+     * Draws a frame with the renderer of the game window, with the camera
+     * and quality of a newly opened one.
+     */
+    public void drawFrame(GL2 gl, Model model, Shape shape) {
+        sceneRenderer.drawFrame(gl, model, shape, false, camera, qualitySpec);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int frames = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        String mode = args.length > 2 ? args[1] : "";
+        OutputStream golden = null;
+        InputStream expected = null;
+        if (mode.equals("write")) {
+            golden = new BufferedOutputStream(new FileOutputStream(args[2]));
+        } else if (mode.equals("check")) {
+            expected = new BufferedInputStream(new FileInputStream(args[2]));
+        }
+
+        RenderProfile profile = new RenderProfile();
+        JoglCommandRecorder recorder = new JoglCommandRecorder();
+        GL2 gl = recorder.getGL();
+        GameEngine engine = new GameEngine(new Model(), SEED, GRAVITY_PERIOD);
+        Policy policy = new RandomPolicy(SEED);
+
+        long commands = 0, drawCalls = 0, vertices = 0;
+        long stateChanges = 0, redundant = 0, nanos = 0;
+        int status = 0;
+        for (int frame = 0; frame < frames; ++frame) {
+            if (engine.isGameOver()) {
+                engine = new GameEngine(new Model(), SEED + frame, GRAVITY_PERIOD);
+            }
+            policy.play(engine);
+            engine.step();
+
+            recorder.beginFrame();
+            long start = System.nanoTime();
+            profile.drawFrame(gl, engine.getModel(), engine.getShape());
+            nanos += System.nanoTime() - start;
+
+            commands += recorder.getCommandCount();
+            drawCalls += recorder.getDrawCalls();
+            vertices += recorder.getVertices();
+            stateChanges += recorder.getStateChanges();
+            redundant += recorder.getRedundantStateChanges();
+
+            if (golden != null) {
+                JoglCommandRecorder.writeStream(recorder.getStream(), golden);
+            }
+            if (expected != null) {
+                int diff = recorder.compareWith(JoglCommandRecorder.readStream(expected));
+                if (diff >= 0) {
+                    System.out.println("Frame " + frame + " differs at command "
+                            + diff + " (" + recorder.getCommandName(diff) + ")");
+                    status = 1;
+                    break;
+                }
+            }
+        }
+        if (golden != null) {
+            golden.close();
+        }
+        if (expected != null) {
+            expected.close();
+        }
+
+        System.out.println("Frames: " + frames);
+        System.out.printf("Per frame: %.1f commands, %.1f draw calls, %.1f vertices,"
+                + " %.1f state changes (%.1f redundant)%n",
+                commands / (double) frames, drawCalls / (double) frames,
+                vertices / (double) frames, stateChanges / (double) frames,
+                redundant / (double) frames);
+        System.out.printf("Renderer CPU time: %.1f us per frame%n",
+                nanos / 1e3 / frames);
+        System.exit(status);
+    }
+}
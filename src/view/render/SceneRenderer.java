@@ -0,0 +1,218 @@
+package view.render;
+
+import javax.media.opengl.GL2;
+
+import model.Model;
+import model.shapes.Shape;
+
+import vsdk.toolkit.common.ColorRgb;
+import vsdk.toolkit.common.RendererConfiguration;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.environment.Light;
+import vsdk.toolkit.environment.Material;
+import vsdk.toolkit.environment.geometry.Box;
+import vsdk.toolkit.render.jogl.JoglBoxRenderer;
+import vsdk.toolkit.render.jogl.JoglCameraRenderer;
+import vsdk.toolkit.render.jogl.JoglStateCache;
+
+/**
+ * Draws a frame of the game: the axes, the well and the falling shape,
+ * lit by the game lights, and the outline of a highlighted cell. The
+ * game window and <code>RenderProfile</code> both draw their frames with
+ * it, so the profiled command stream is the one of the game.
+ * <p>
+ * Every state change of the frame goes through one
+ * <code>JoglStateCache</code>, kept from frame to frame, so the state
+ * that does not change between frames, like the lights, is only sent
+ * once. A scene renderer is meant for a single OpenGL context, where it
+ * also keeps the shader and buffers of the falling shape: when the
+ * context is created again, <code>init</code> must be called, and
+ * <code>dispose</code> releases them before the context is destroyed. It
+ * also keeps the mesh of the last well it drew, like
+ * <code>ModelRenderer</code>, and is not thread safe.
+ */
+public class SceneRenderer {
+
+    private final Material material;
+    private final Light light;
+    private final Light light2;
+    private final ModelRenderer modelRenderer;
+    private final TetrisShapeRenderer shapeRenderer;
+    private final JoglStateCache state;
+    private final Box highlightBox;
+    private final RendererConfiguration highlightQuality;
+    private boolean highlight = false;
+    private int highlightX;
+    private int highlightY;
+    private int highlightZ;
+
+    public SceneRenderer() {
+        material = new Material();
+        material.setAmbient(new ColorRgb(0, 0, 0));
+        material.setSpecular(new ColorRgb(1, 1, 1));
+        material.setDoubleSided(false);
+        material.setPhongExponent(40.0);
+
+        light = new Light(Light.POINT, new Vector3D(3.0, -3.0, 3.0), new ColorRgb(1.0, 1.0, 1.0));
+        light2 = new Light(Light.AMBIENT, new Vector3D(-3.0, 3.0, -3.0), new ColorRgb(1.0, 1.0, 1.0));
+
+        modelRenderer = new ModelRenderer();
+        shapeRenderer = new TetrisShapeRenderer();
+        state = new JoglStateCache();
+
+        double size = Shape.BOX_LENGTH + Shape.SPACE / 2;
+        highlightBox = new Box(size, size, size);
+        highlightQuality = new RendererConfiguration();
+        highlightQuality.setSurfaces(false);
+        highlightQuality.setWires(true);
+        highlightQuality.setShadingType(RendererConfiguration.SHADING_TYPE_NOLIGHT);
+    }
+
+    /**
+     * Outlines the cell <code>(x, y, z)</code> of the well in the next
+     * frames, as numbered by <code>ModelRenderer.pickCell</code>.
+     */
+    public void setHighlightedCell(int x, int y, int z) {
+        highlight = true;
+        highlightX = x;
+        highlightY = y;
+        highlightZ = z;
+    }
+
+    public void clearHighlightedCell() {
+        highlight = false;
+    }
+
+    /**
+     * @return cache filtering the state changes of the frames, whose
+     * counters tell how many changes were filtered
+     */
+    public JoglStateCache getStateCache() {
+        return state;
+    }
+
+    /**
+     * Forgets the state and GL objects of a previous context, for a newly
+     * created one.
+     */
+    public void init() {
+        state.invalidate();
+        shapeRenderer.reset();
+    }
+
+    /**
+     * Releases the GL objects created for the frames. Must be called with
+     * their context current.
+     */
+    public void dispose(GL2 gl) {
+        shapeRenderer.dispose(gl);
+    }
+
+    /**
+     * Clears the frame and draws the scene seen from <code>camera</code>.
+     */
+    public void drawFrame(GL2 gl, Model model, Shape shape,
+            boolean showShapeBounds, Camera camera,
+            RendererConfiguration qualitySpec) {
+        gl.glClearColor(0, 0, 0, 1);
+        gl.glClear(gl.GL_COLOR_BUFFER_BIT | gl.GL_DEPTH_BUFFER_BIT);
+        gl.glColor3d(1, 1, 1);
+
+        JoglCameraRenderer.activate(gl, camera);
+
+        drawObjects(gl, model, shape, showShapeBounds, camera, qualitySpec);
+    }
+
+    private void drawObjects(GL2 gl, Model model, Shape shape,
+            boolean showShapeBounds, Camera camera,
+            RendererConfiguration qualitySpec) {
+        state.enable(gl, gl.GL_DEPTH_TEST);
+
+        gl.glLoadIdentity();
+
+        state.polygonMode(gl, gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+
+        // Configure for inside looking
+        state.enable(gl, gl.GL_CULL_FACE);
+        state.cullFace(gl, gl.GL_BACK);
+
+        state.lineWidth(gl, (float)3.0);
+        gl.glBegin(gl.GL_LINES);
+            gl.glColor3d(1, 0, 0);
+            gl.glVertex3d(0, 0, 0);
+            gl.glVertex3d(1, 0, 0);
+
+            gl.glColor3d(0, 1, 0);
+            gl.glVertex3d(0, 0, 0);
+            gl.glVertex3d(0, 1, 0);
+
+            gl.glColor3d(0, 0, 1);
+            gl.glVertex3d(0, 0, 0);
+            gl.glVertex3d(0, 0, 1);
+        gl.glEnd();
+
+        //drawWalls(gl, camera, qualitySpec);
+
+        gl.glRotated(-90, 1, 0, 0);
+        //gl.glTranslated(Shape.BOX_LENGTH/2, -Shape.BOX_LENGTH/2, 0);
+
+        state.enable(gl, gl.GL_LIGHTING);
+        material.setDiffuse(shape.getColor());
+        state.activateMaterial(gl, material);
+        state.activateLight(gl, light);
+        state.activateLight(gl, light2);
+
+        modelRenderer.drawModel(gl, model, camera, qualitySpec, state);
+
+        shapeRenderer.draw(gl, shape, showShapeBounds, camera, qualitySpec, state);
+
+        state.disable(gl, gl.GL_LIGHTING);
+
+        if (highlight) {
+            double aux = Shape.BOX_LENGTH + Shape.SPACE;
+            gl.glColor3d(1.0, 0.5, 0.0);
+            gl.glPushMatrix();
+            gl.glTranslated(highlightX * aux, highlightY * aux, highlightZ * aux);
+            JoglBoxRenderer.draw(gl, highlightBox, camera, highlightQuality, state);
+            gl.glPopMatrix();
+        }
+    }
+
+	private void drawWalls(GL2 gl, Camera camera, RendererConfiguration qualitySpec) {
+		// Floor
+		gl.glColor3d(1.0, 0.0, 0.0);
+
+        gl.glPushMatrix();{
+        	gl.glRotated(90, 1, 0, 0);
+        	gl.glRotated(90, 0, 0, 1);
+        	gl.glTranslated(0, -5*(Shape.BOX_LENGTH)-Shape.SPACE, -8.0*(Shape.BOX_LENGTH+Shape.SPACE)-Shape.SPACE);
+        	WallRenderer.draw(gl, 5, 5, camera, qualitySpec);
+        }gl.glPopMatrix();
+
+        int width = 5, height = 9;
+
+        // Walls
+        gl.glPushMatrix();{
+        	WallRenderer.draw(gl, width, height, camera, qualitySpec);
+        }gl.glPopMatrix();
+
+        gl.glPushMatrix();{
+        	gl.glRotated(-90, 0, 1, 0);
+        	gl.glTranslated(0, 0, -5*(Shape.BOX_LENGTH)-Shape.SPACE);
+        	WallRenderer.draw(gl, width, height, camera, qualitySpec);
+        }gl.glPopMatrix();
+
+        gl.glPushMatrix();{
+        	gl.glRotated(90, 0, 1, 0);
+        	gl.glTranslated(-5*(Shape.BOX_LENGTH)-Shape.SPACE, 0, 0);
+        	WallRenderer.draw(gl, width, height, camera, qualitySpec);
+        }gl.glPopMatrix();
+
+        gl.glPushMatrix();{
+        	gl.glRotated(180, 0, 1, 0);
+        	gl.glTranslated(-5*(Shape.BOX_LENGTH)-Shape.SPACE, 0, -5*(Shape.BOX_LENGTH)-Shape.SPACE);
+        	WallRenderer.draw(gl, width, height, camera, qualitySpec);
+        }gl.glPopMatrix();
+	}
+}
@@ -0,0 +1,125 @@
+package view.render;
+
+import java.io.File;
+import java.util.Random;
+
+import model.GameEngine;
+import model.Model;
+import model.shapes.Shape;
+
+import vsdk.toolkit.common.ColorRgb;
+import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.environment.Light;
+import vsdk.toolkit.environment.Material;
+import vsdk.toolkit.io.image.ImagePersistence;
+import vsdk.toolkit.media.RGBImage;
+import vsdk.toolkit.render.TiledRasterizer;
+
+/**
+ * Draws the game scene of the main window, the well and the falling shape
+ * with the same camera, lights and materials, into an
+ * <code>RGBImage</code> using a <code>TiledRasterizer</code>, so that
+ * thumbnails and replays can be made on machines without a GPU.
+ * <p>
+ * Usage: <code>SoftwareSceneRenderer [size] [frames] [image.ppm]</code>
+ * renders a full well and reports the time per frame.
+ */
+public class SoftwareSceneRenderer {
+
+    private final TiledRasterizer rasterizer;
+    private final Camera camera;
+    private final Material material;
+    private final ModelRenderer modelRenderer;
+    private final Light light;
+    private final Light light2;
+    private final Matrix4x4 sceneTransform;
+
+    public SoftwareSceneRenderer() {
+        this(new TiledRasterizer());
+    }
+
+    public SoftwareSceneRenderer(TiledRasterizer rasterizer) {
+        this.rasterizer = rasterizer;
+        camera = new Camera();
+        camera.setPosition(new Vector3D(3.17, -6.62, -3.45));
+
+        material = new Material();
+        material.setAmbient(new ColorRgb(0, 0, 0));
+        material.setSpecular(new ColorRgb(1, 1, 1));
+        material.setDoubleSided(false);
+        material.setPhongExponent(40.0);
+        modelRenderer = new ModelRenderer();
+
+        light = new Light(Light.POINT, new Vector3D(3.0, -3.0, 3.0), new ColorRgb(1.0, 1.0, 1.0));
+        light2 = new Light(Light.AMBIENT, new Vector3D(-3.0, 3.0, -3.0), new ColorRgb(1.0, 1.0, 1.0));
+
+        sceneTransform = new Matrix4x4();
+        sceneTransform.axisRotation(Math.toRadians(-90), 1, 0, 0);
+    }
+
+    public Camera getCamera() {
+        return camera;
+    }
+
+    public TiledRasterizer getRasterizer() {
+        return rasterizer;
+    }
+
+    /**
+     * Renders a frame into <code>image</code>, which is resized to
+     * <code>width</code> by <code>height</code> if needed.
+     */
+    public void render(RGBImage image, int width, int height, Model model,
+            Shape shape) {
+        if (camera.getViewportXSize() != width || camera.getViewportYSize() != height) {
+            camera.updateViewportResize(width, height);
+        }
+        rasterizer.begin(camera, width, height);
+        rasterizer.addLight(light);
+        rasterizer.addLight(light2);
+        rasterizer.setTransform(sceneTransform);
+        modelRenderer.drawModel(rasterizer, model);
+        material.setDiffuse(shape.getColor());
+        rasterizer.setMaterial(material);
+        TetrisShapeRenderer.draw(rasterizer, shape);
+        rasterizer.render(image);
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 640;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        // A full well, with a hole in each floor so none is cleared
+        Model model = new Model();
+        Random random = new Random(20131113L);
+        boolean[][][] cells = new boolean[model.getWidth()][model.getDepth()][model.getHeight()];
+        for (int i = 0; i < model.getWidth(); ++i) {
+            for (int j = 0; j < model.getDepth(); ++j) {
+                for (int k = 2; k < model.getHeight(); ++k) {
+                    cells[i][j][k] = random.nextInt(10) < 8;
+                }
+            }
+        }
+        model.setMatrix(cells);
+        GameEngine engine = new GameEngine(20131113L);
+
+        SoftwareSceneRenderer renderer = new SoftwareSceneRenderer();
+        RGBImage image = new RGBImage();
+        long start = 0;
+        for (int frame = -frames; frame < frames; ++frame) {
+            if (frame == 0) {
+                start = System.nanoTime();
+            }
+            renderer.render(image, size, size, model, engine.getShape());
+        }
+        System.out.printf("%dx%d, %d triangles, %d threads: %.2f ms per frame%n",
+                size, size, renderer.getRasterizer().getTriangleCount(),
+                Runtime.getRuntime().availableProcessors(),
+                (System.nanoTime() - start) / 1e6 / frames);
+        if (args.length > 2) {
+            ImagePersistence.exportPPM(new File(args[2]), image);
+        }
+    }
+}
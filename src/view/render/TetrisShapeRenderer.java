@@ -2,56 +2,118 @@ package view.render;
 
 import javax.media.opengl.GL2;
 
-import model.Model;
 import model.shapes.Shape;
 import vsdk.toolkit.common.RendererConfiguration;
 import vsdk.toolkit.environment.Camera;
 import vsdk.toolkit.environment.geometry.Box;
-import vsdk.toolkit.render.jogl.JoglBoxRenderer;
+import vsdk.toolkit.render.TiledRasterizer;
+import vsdk.toolkit.render.jogl.JoglInstancedCubeRenderer;
+import vsdk.toolkit.render.jogl.JoglRenderQueue;
+import vsdk.toolkit.render.jogl.JoglStateCache;
 
+/**
+ * Draws the falling shape. Its cubes go through a
+ * <code>JoglInstancedCubeRenderer</code>, so they take a single instanced
+ * draw call when the context supports it.
+ * <p>
+ * A renderer keeps the shader and buffers of its cubes, created in the
+ * context of its first draw, so it is meant for a single OpenGL context:
+ * <code>dispose</code> releases them, and <code>reset</code> forgets them
+ * when the context was created again.
+ */
 public class TetrisShapeRenderer {
 
-	public static void draw(GL2 gl, Shape shape, Camera camera,
+	private final JoglInstancedCubeRenderer cubes = new JoglInstancedCubeRenderer();
+	private final Box box = new Box(Shape.BOX_LENGTH,Shape.BOX_LENGTH,Shape.BOX_LENGTH);
+	private final JoglRenderQueue bounds = new JoglRenderQueue();
+
+	public void draw(GL2 gl, Shape shape, Camera camera,
 			RendererConfiguration rendererConfiguration) {
-	 	Box box;
-	 	gl.glLineWidth((float) 15.0);
-	 	boolean[][][] matrix = shape.getMatrix();
-	 	double aux = (Shape.BOX_LENGTH+Shape.SPACE);
-	 	//INI 1
-	 	gl.glPushMatrix();{
-	 	gl.glTranslated(shape.getDesfX()*aux, shape.getDesfY()*aux, shape.getLevel()*aux);
-	 	for(int i=0;i<matrix.length;++i){
-	 		//INI 2
- 			gl.glPushMatrix();{
- 			for(int j = 0;j<matrix[i].length;++j){
- 					//INI 3
-			
-				gl.glPushMatrix();{
+		draw(gl, shape, false, camera, rendererConfiguration, null);
+	}
+
+	/**
+	 * Adds the cubes of the shape to a software rasterizer, with its
+	 * current material.
+	 */
+	public static void draw(TiledRasterizer rasterizer, Shape shape) {
+		boolean[][][] matrix = shape.getMatrix();
+		double aux = (Shape.BOX_LENGTH+Shape.SPACE);
+		int x = shape.getDesfX(), y = shape.getDesfY(), z = shape.getLevel();
+
+		for(int i=0;i<matrix.length;++i){
+			for(int j = 0;j<matrix[i].length;++j){
+				for(int k = 0;k<matrix[i][j].length;++k){
+					if(matrix[i][j][k]){
+						rasterizer.addBox((x+i)*aux, (y+j)*aux, (z+k)*aux,
+								Shape.BOX_LENGTH, Shape.BOX_LENGTH, Shape.BOX_LENGTH);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param drawBounds when true, the empty cells of the shape matrix are
+	 * drawn as wireframe boxes
+	 * @param state filters the state changes, or null to send them directly
+	 */
+	public void draw(GL2 gl, Shape shape, boolean drawBounds,
+			Camera camera, RendererConfiguration rendererConfiguration,
+			JoglStateCache state) {
+		if (state == null) {
+			gl.glLineWidth((float) 15.0);
+		} else {
+			state.lineWidth(gl, (float) 15.0);
+		}
+		boolean[][][] matrix = shape.getMatrix();
+		double aux = (Shape.BOX_LENGTH+Shape.SPACE);
+		int x = shape.getDesfX(), y = shape.getDesfY(), z = shape.getLevel();
+
+		cubes.clear();
+		for(int i=0;i<matrix.length;++i){
+			for(int j = 0;j<matrix[i].length;++j){
 				for(int k = 0;k<matrix[i][j].length;++k){
-					box = new Box(Shape.BOX_LENGTH,Shape.BOX_LENGTH,Shape.BOX_LENGTH);
 					if(matrix[i][j][k]){
-						rendererConfiguration.setSurfaces(true);
-						JoglBoxRenderer.draw(gl, box, camera, rendererConfiguration);
+						cubes.addInstance((x+i)*aux, (y+j)*aux, (z+k)*aux, shape.getColor());
 					}
-					
-					else if(Model.band){
-						rendererConfiguration.setSurfaces(false);
-						JoglBoxRenderer.draw(gl, box, camera, rendererConfiguration);
+				}
+			}
+		}
+		rendererConfiguration.setSurfaces(true);
+		cubes.draw(gl, Shape.BOX_LENGTH, camera, rendererConfiguration, state);
+
+		if(drawBounds){
+			rendererConfiguration.setSurfaces(false);
+			bounds.clear();
+			for(int i=0;i<matrix.length;++i){
+				for(int j = 0;j<matrix[i].length;++j){
+					for(int k = 0;k<matrix[i][j].length;++k){
+						if(!matrix[i][j][k]){
+							bounds.add(box, null, (x+i)*aux, (y+j)*aux, (z+k)*aux, rendererConfiguration);
+						}
 					}
-					
-					gl.glTranslated(0, 0, Shape.BOX_LENGTH + Shape.SPACE);
 				}
-				//FIN 3
-				}gl.glPopMatrix();
-				gl.glTranslated(0, Shape.BOX_LENGTH + Shape.SPACE, 0);
- 			}
- 			//FIN 2
- 			}gl.glPopMatrix();
- 			gl.glTranslated(Shape.BOX_LENGTH + Shape.SPACE, 0, 0);
-	 	}
-		//FIN 1
-	 	}gl.glPopMatrix();
-	 	rendererConfiguration.setSurfaces(true);		
+			}
+			bounds.draw(gl, camera, state);
+		}
+		rendererConfiguration.setSurfaces(true);
 	}
-	
+
+	/**
+	 * Releases the GL objects of the cubes. Must be called with the
+	 * context of the first draw current.
+	 */
+	public void dispose(GL2 gl) {
+		cubes.dispose(gl);
+	}
+
+	/**
+	 * Forgets the GL objects of the cubes, for when their context was
+	 * destroyed. The next draw creates them in the current context.
+	 */
+	public void reset() {
+		cubes.reset();
+	}
+
 }
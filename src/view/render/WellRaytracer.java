@@ -0,0 +1,187 @@
+package view.render;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Random;
+
+import model.GameEngine;
+import model.Model;
+import model.shapes.Shape;
+
+import vsdk.toolkit.common.ColorRgb;
+import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.environment.Light;
+import vsdk.toolkit.environment.Material;
+import vsdk.toolkit.environment.geometry.Box;
+import vsdk.toolkit.environment.scene.SimpleBody;
+import vsdk.toolkit.io.image.ImagePersistence;
+import vsdk.toolkit.media.RGBImage;
+import vsdk.toolkit.render.Raytracer;
+
+/**
+ * Renders the well and the falling shape with a <code>Raytracer</code>,
+ * with the camera, lights and materials of the game window, for offline
+ * renders with shadows on machines without a GPU. Each cell is a
+ * <code>Box</code> body, colored by its level as in
+ * <code>ModelRenderer</code>.
+ * <p>
+ * Usage: <code>WellRaytracer [size] [frames] [image.ppm] [wells]</code>
+ * renders a full well and reports the rays traced per second. With
+ * <code>wells</code> greater than one, copies of the well are laid in a
+ * square grid, to check how the ray cost grows with the number of cells.
+ */
+public class WellRaytracer {
+
+    private final Raytracer raytracer;
+    private final Camera camera;
+    private final Box box;
+    private final Material shapeMaterial;
+    private final Material[] levelMaterials;
+    private final ArrayList<Light> lights;
+    private final ArrayList<SimpleBody> bodies;
+    private final Matrix4x4 sceneTransform;
+    private int wells;
+
+    public WellRaytracer() {
+        this(new Raytracer());
+    }
+
+    public WellRaytracer(Raytracer raytracer) {
+        this.raytracer = raytracer;
+        camera = new Camera();
+        camera.setPosition(new Vector3D(3.17, -6.62, -3.45));
+        box = new Box(Shape.BOX_LENGTH, Shape.BOX_LENGTH, Shape.BOX_LENGTH);
+
+        shapeMaterial = createMaterial();
+        levelMaterials = new Material[Model.MAX_HEIGHT + 1];
+        for (int k = 0; k < levelMaterials.length; ++k) {
+            levelMaterials[k] = createMaterial();
+            levelMaterials[k].setDiffuse(ModelRenderer.getLevelColor(k));
+        }
+
+        lights = new ArrayList<Light>();
+        lights.add(new Light(Light.POINT, new Vector3D(3.0, -3.0, 3.0), new ColorRgb(1.0, 1.0, 1.0)));
+        lights.add(new Light(Light.AMBIENT, new Vector3D(-3.0, 3.0, -3.0), new ColorRgb(1.0, 1.0, 1.0)));
+        bodies = new ArrayList<SimpleBody>();
+
+        sceneTransform = new Matrix4x4();
+        sceneTransform.axisRotation(Math.toRadians(-90), 1, 0, 0);
+        wells = 1;
+    }
+
+    private static Material createMaterial() {
+        Material material = new Material();
+        material.setAmbient(new ColorRgb(0, 0, 0));
+        material.setSpecular(new ColorRgb(1, 1, 1));
+        material.setDoubleSided(false);
+        material.setPhongExponent(40.0);
+        return material;
+    }
+
+    public Camera getCamera() {
+        return camera;
+    }
+
+    public Raytracer getRaytracer() {
+        return raytracer;
+    }
+
+    /**
+     * Sets how many copies of the well are rendered, laid in a square grid
+     * behind the first one. Defaults to 1.
+     */
+    public void setWells(int wells) {
+        this.wells = Math.max(1, wells);
+    }
+
+    /**
+     * Renders a frame into <code>image</code>, which is resized to
+     * <code>width</code> by <code>height</code> if needed.
+     */
+    public void render(RGBImage image, int width, int height, Model model,
+            Shape shape) {
+        if (camera.getViewportXSize() != width || camera.getViewportYSize() != height) {
+            camera.updateViewportResize(width, height);
+        }
+        bodies.clear();
+        double aux = Shape.BOX_LENGTH + Shape.SPACE;
+        int side = (int) Math.ceil(Math.sqrt(wells));
+        for (int w = 0; w < wells; ++w) {
+            int dx = (w % side) * (model.getWidth() + 1);
+            int dy = (w / side) * (model.getDepth() + 1);
+            for (int k = 0; k < model.getHeight(); ++k) {
+                Material material = levelMaterials[k % levelMaterials.length];
+                for (int i = 0; i < model.getWidth(); ++i) {
+                    for (int j = 0; j < model.getDepth(); ++j) {
+                        if (model.isOccupied(i, j, k)) {
+                            addCube((dx + i) * aux, (dy + j) * aux, k * aux, material);
+                        }
+                    }
+                }
+            }
+        }
+
+        shapeMaterial.setDiffuse(shape.getColor());
+        boolean[][][] matrix = shape.getMatrix();
+        int x = shape.getDesfX(), y = shape.getDesfY(), z = shape.getLevel();
+        for (int i = 0; i < matrix.length; ++i) {
+            for (int j = 0; j < matrix[i].length; ++j) {
+                for (int k = 0; k < matrix[i][j].length; ++k) {
+                    if (matrix[i][j][k]) {
+                        addCube((x + i) * aux, (y + j) * aux, (z + k) * aux, shapeMaterial);
+                    }
+                }
+            }
+        }
+        raytracer.execute(image, camera, bodies, lights);
+    }
+
+    private void addCube(double x, double y, double z, Material material) {
+        SimpleBody body = new SimpleBody(box, material);
+        body.setPosition(sceneTransform.multiply(new Vector3D(x, y, z)));
+        body.setRotation(sceneTransform);
+        bodies.add(body);
+    }
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 320;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        // A full well, with a hole in each floor so none is cleared
+        Model model = new Model();
+        Random random = new Random(20131113L);
+        boolean[][][] cells = new boolean[model.getWidth()][model.getDepth()][model.getHeight()];
+        for (int i = 0; i < model.getWidth(); ++i) {
+            for (int j = 0; j < model.getDepth(); ++j) {
+                for (int k = 2; k < model.getHeight(); ++k) {
+                    cells[i][j][k] = random.nextInt(10) < 8;
+                }
+            }
+        }
+        model.setMatrix(cells);
+        GameEngine engine = new GameEngine(20131113L);
+
+        WellRaytracer renderer = new WellRaytracer();
+        if (args.length > 3) {
+            renderer.setWells(Integer.parseInt(args[3]));
+        }
+        RGBImage image = new RGBImage();
+        long rays = 0, nanos = 0;
+        for (int frame = -1; frame < frames; ++frame) {
+            renderer.render(image, size, size, model, engine.getShape());
+            if (frame >= 0) {
+                rays += renderer.getRaytracer().getRaysTraced();
+                nanos += renderer.getRaytracer().getElapsedNanos();
+            }
+        }
+        System.out.printf("%dx%d, %d bodies, %d threads: %.1f ms per frame, %.2f Mrays/s%n",
+                size, size, renderer.bodies.size(),
+                Runtime.getRuntime().availableProcessors(),
+                nanos / 1e6 / frames, rays * 1e3 / nanos);
+        if (args.length > 2 && !args[2].equals("-")) {
+            ImagePersistence.exportPPM(new File(args[2]), image);
+        }
+    }
+}
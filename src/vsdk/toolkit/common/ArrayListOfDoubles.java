@@ -2,6 +2,7 @@
 //=-------------------------------------------------------------------------=
 //= Module history:                                                         =
 //= - November 5 2006 - Oscar Chavarro: Original base version               =
+//= - October 18 2026: sort of empty lists fixed                            =
 //===========================================================================
 
 package vsdk.toolkit.common;
@@ -98,7 +99,9 @@ public class ArrayListOfDoubles extends FundamentalEntity {
     Quicksort
     */
     public void sort() {
-        quicksort(array, 0, mysize-1);
+        if ( mysize > 1 ) {
+            quicksort(array, 0, mysize-1);
+        }
     }
 
 }
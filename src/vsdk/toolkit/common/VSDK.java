@@ -3,12 +3,14 @@
 //= Module history:                                                         =
 //= - February 13 2006 - Oscar Chavarro: Original base version              =
 //= - August 7 2006 - Oscar Chavarro: Accounting functionality started      =
+//= - October 18 2026: shared fork/join pool                                =
 //===========================================================================
 
 package vsdk.toolkit.common;
 
 import java.text.DecimalFormat;
 import java.text.FieldPosition;
+import java.util.concurrent.ForkJoinPool;
 
 import vsdk.toolkit.common.linealAlgebra.Vector3D;
 
@@ -71,6 +73,8 @@ The VSDK class provides the following services:
     service is to be used by rendering operations (specially those on
     toolkit.render and toolkit.environment.geometry packages), useful
     for benchmarking purposes
+  - It provides a fork/join pool shared by the parallel operations of the
+    toolkit that are not given one
 */
 
 public class VSDK
@@ -108,6 +112,9 @@ public class VSDK
     private static int primitiveCount[];
     private static int intersectionCount[];
 
+    // Pool shared by parallel operations, created on first use
+    private static ForkJoinPool sharedPool;
+
     static {
         primitiveCount = new int[PRIMITIVE_TYPE_COUNT];
         intersectionCount = new int[INTERSECTION_TYPE_COUNT];
@@ -115,6 +122,20 @@ public class VSDK
         resetIntersectionCounters();
     }
 
+    /**
+    Returns a fork/join pool with one worker per processor, shared by all
+    the toolkit operations built without a pool of their own. It is
+    created on first use and never shut down: its worker threads are
+    daemon threads, which end with the program.
+    */
+    public static synchronized ForkJoinPool getSharedPool()
+    {
+        if ( sharedPool == null ) {
+            sharedPool = new ForkJoinPool();
+        }
+        return sharedPool;
+    }
+
     public static void resetPrimitiveCounters()
     {
         int i;
@@ -8,6 +8,8 @@
 //= - November 3 2006 - Oscar Chavarro: New versions of determinant and     =
 //=   invert that takes into account 4x4 matrices, not just the 3x3 case    =
 //= - May 2007 - Liliana Baquero: Revitions to matrix math code             =
+//= - October 18 2026: allocation free operations, flat array kernels       =
+//= - October 18 2026: quaternion conversion moved to Quaternion            =
 //=-------------------------------------------------------------------------=
 //= References:                                                             =
 //= [FOLE1992] Foley, vanDam, Feiner, Hughes. "Computer Graphics,           =
@@ -22,6 +24,14 @@ import vsdk.toolkit.common.FundamentalEntity;
 
 /**
 This class is a data structure that represents a 4x4 matrix
+
+Methods returning a new `Matrix4x4` or `Vector3D` are convenient but
+allocate on each call. For tight loops, `multiplyInto`, `transformPoint`,
+`transformVector`, `invert`, `invertAffine`, `invertRigid` and `transpose`
+work in place, without allocating. The static methods receiving `double`
+arrays implement the same operations over flat matrices of 16 values in
+row order, as given by `exportToDoubleArrayRowOrder`, for code keeping
+many matrices in a single array.
  */
 
 public class Matrix4x4 extends FundamentalEntity
@@ -299,17 +309,30 @@ public class Matrix4x4 extends FundamentalEntity
     public void
     eulerAnglesRotation(double yaw, double pitch, double roll)
     {
-        Matrix4x4 R1, R2, R3;
+        // Expanded product of the rotations around z, -y and x axes
+        double cy = Math.cos(yaw), sy = Math.sin(yaw);
+        double cp = Math.cos(pitch), sp = Math.sin(pitch);
+        double cr = Math.cos(roll), sr = Math.sin(roll);
+
+        M[0][0] = cy*cp;
+        M[0][1] = -cy*sp*sr - sy*cr;
+        M[0][2] = -cy*sp*cr + sy*sr;
+        M[0][3] = 0;
 
-        R1 = new Matrix4x4();
-        R2 = new Matrix4x4();
-        R3 = new Matrix4x4();
+        M[1][0] = sy*cp;
+        M[1][1] = -sy*sp*sr + cy*cr;
+        M[1][2] = -sy*sp*cr - cy*sr;
+        M[1][3] = 0;
 
-        R3.axisRotation(yaw, 0, 0, 1);
-        R2.axisRotation(pitch, 0, -1, 0);
-        R1.axisRotation(roll, 1, 0, 0);
+        M[2][0] = sp;
+        M[2][1] = cp*sr;
+        M[2][2] = cp*cr;
+        M[2][3] = 0;
 
-        this.M = R3.multiply(R2.multiply(R1)).M;
+        M[3][0] = 0;
+        M[3][1] = 0;
+        M[3][2] = 0;
+        M[3][3] = 1;
     }
 
     /**
@@ -396,15 +419,108 @@ public class Matrix4x4 extends FundamentalEntity
     }
 
     /**
-     Converts current matrix into it's invert matrix.
+     Converts current matrix into it's invert matrix. The adjugate is
+     expanded from the 2x2 minors of the upper and lower row pairs, without
+     allocating.
      */
     public void invert()
     {
-        double a = 1/determinant();
-        Matrix4x4 N = cofactors(), N2;
-        N.transpose();
-        N2 = N.multiply(a);
-        this.M = N2.M;
+        double a00 = M[0][0], a01 = M[0][1], a02 = M[0][2], a03 = M[0][3];
+        double a10 = M[1][0], a11 = M[1][1], a12 = M[1][2], a13 = M[1][3];
+        double a20 = M[2][0], a21 = M[2][1], a22 = M[2][2], a23 = M[2][3];
+        double a30 = M[3][0], a31 = M[3][1], a32 = M[3][2], a33 = M[3][3];
+
+        double s0 = a00*a11 - a10*a01;
+        double s1 = a00*a12 - a10*a02;
+        double s2 = a00*a13 - a10*a03;
+        double s3 = a01*a12 - a11*a02;
+        double s4 = a01*a13 - a11*a03;
+        double s5 = a02*a13 - a12*a03;
+        double c5 = a22*a33 - a32*a23;
+        double c4 = a21*a33 - a31*a23;
+        double c3 = a21*a32 - a31*a22;
+        double c2 = a20*a33 - a30*a23;
+        double c1 = a20*a32 - a30*a22;
+        double c0 = a20*a31 - a30*a21;
+        double a = 1 / (s0*c5 - s1*c4 + s2*c3 + s3*c2 - s4*c1 + s5*c0);
+
+        M[0][0] = ( a11*c5 - a12*c4 + a13*c3) * a;
+        M[0][1] = (-a01*c5 + a02*c4 - a03*c3) * a;
+        M[0][2] = ( a31*s5 - a32*s4 + a33*s3) * a;
+        M[0][3] = (-a21*s5 + a22*s4 - a23*s3) * a;
+        M[1][0] = (-a10*c5 + a12*c2 - a13*c1) * a;
+        M[1][1] = ( a00*c5 - a02*c2 + a03*c1) * a;
+        M[1][2] = (-a30*s5 + a32*s2 - a33*s1) * a;
+        M[1][3] = ( a20*s5 - a22*s2 + a23*s1) * a;
+        M[2][0] = ( a10*c4 - a11*c2 + a13*c0) * a;
+        M[2][1] = (-a00*c4 + a01*c2 - a03*c0) * a;
+        M[2][2] = ( a30*s4 - a31*s2 + a33*s0) * a;
+        M[2][3] = (-a20*s4 + a21*s2 - a23*s0) * a;
+        M[3][0] = (-a10*c3 + a11*c1 - a12*c0) * a;
+        M[3][1] = ( a00*c3 - a01*c1 + a02*c0) * a;
+        M[3][2] = (-a30*s3 + a31*s1 - a32*s0) * a;
+        M[3][3] = ( a20*s3 - a21*s1 + a22*s0) * a;
+    }
+
+    /**
+     Converts current matrix into it's invert matrix, assuming it is an
+     affine transformation (last row is <0, 0, 0, 1>), which is cheaper than
+     `invert`.
+     */
+    public void invertAffine()
+    {
+        double a00 = M[0][0], a01 = M[0][1], a02 = M[0][2];
+        double a10 = M[1][0], a11 = M[1][1], a12 = M[1][2];
+        double a20 = M[2][0], a21 = M[2][1], a22 = M[2][2];
+        double tx = M[0][3], ty = M[1][3], tz = M[2][3];
+
+        double b00 = a11*a22 - a12*a21;
+        double b10 = a12*a20 - a10*a22;
+        double b20 = a10*a21 - a11*a20;
+        double a = 1 / (a00*b00 + a01*b10 + a02*b20);
+
+        M[0][0] = b00 * a;
+        M[0][1] = (a02*a21 - a01*a22) * a;
+        M[0][2] = (a01*a12 - a02*a11) * a;
+        M[1][0] = b10 * a;
+        M[1][1] = (a00*a22 - a02*a20) * a;
+        M[1][2] = (a02*a10 - a00*a12) * a;
+        M[2][0] = b20 * a;
+        M[2][1] = (a01*a20 - a00*a21) * a;
+        M[2][2] = (a00*a11 - a01*a10) * a;
+        invertTranslation(tx, ty, tz);
+    }
+
+    /**
+     Converts current matrix into it's invert matrix, assuming it is a rigid
+     transformation: a rotation followed by a translation. Its inverse is
+     the transposed rotation followed by the opposite translation.
+     */
+    public void invertRigid()
+    {
+        double aux;
+        double tx = M[0][3], ty = M[1][3], tz = M[2][3];
+
+        aux = M[0][1]; M[0][1] = M[1][0]; M[1][0] = aux;
+        aux = M[0][2]; M[0][2] = M[2][0]; M[2][0] = aux;
+        aux = M[1][2]; M[1][2] = M[2][1]; M[2][1] = aux;
+        invertTranslation(tx, ty, tz);
+    }
+
+    /**
+     Given the already inverted upper 3x3 block, sets the translation and
+     last row of an inverted affine transformation which had translation
+     <tx, ty, tz>.
+     */
+    private void invertTranslation(double tx, double ty, double tz)
+    {
+        M[0][3] = -(M[0][0]*tx + M[0][1]*ty + M[0][2]*tz);
+        M[1][3] = -(M[1][0]*tx + M[1][1]*ty + M[1][2]*tz);
+        M[2][3] = -(M[2][0]*tx + M[2][1]*ty + M[2][2]*tz);
+        M[3][0] = 0;
+        M[3][1] = 0;
+        M[3][2] = 0;
+        M[3][3] = 1;
     }
 
     public Matrix4x4 cofactors()
@@ -435,17 +551,16 @@ public class Matrix4x4 extends FundamentalEntity
      */
     public void transpose()
     {
-        double R[][] = new double[4][4];
-
         int row, column;
+        double aux;
 
         for ( row = 0; row < 4; row++ ) {
-            for ( column = 0; column < 4; column++ ) {
-                R[row][column] = M[column][row];
+            for ( column = row + 1; column < 4; column++ ) {
+                aux = M[row][column];
+                M[row][column] = M[column][row];
+                M[column][row] = aux;
             }
         }
-
-        M = R;
     }
 
     /**
@@ -495,21 +610,117 @@ public class Matrix4x4 extends FundamentalEntity
     public Matrix4x4 multiply(Matrix4x4 second)
     {
         Matrix4x4 R = new Matrix4x4();
-        int row_a, column_b, row_b;
-        double acumulado;
-
-        for( row_a = 0; row_a < 4; row_a++ ) {
-            for( column_b = 0; column_b < 4; column_b++ ) {
-                acumulado = 0;
-                for( row_b = 0; row_b < 4; row_b++ ) {
-                    acumulado += M[row_a][row_b]*second.M[row_b][column_b];
-                }
-                R.M[row_a][column_b] = acumulado;
-            }
-        }
+
+        multiplyInto(R, this, second);
         return R;
     }
 
+    /**
+     Stores in `dst` the product `a * b`, without allocating. `dst` can be
+     the same matrix as `a` or `b`.
+     */
+    public static void multiplyInto(Matrix4x4 dst, Matrix4x4 a, Matrix4x4 b)
+    {
+        double B[][] = b.M;
+        double b00 = B[0][0], b01 = B[0][1], b02 = B[0][2], b03 = B[0][3];
+        double b10 = B[1][0], b11 = B[1][1], b12 = B[1][2], b13 = B[1][3];
+        double b20 = B[2][0], b21 = B[2][1], b22 = B[2][2], b23 = B[2][3];
+        double b30 = B[3][0], b31 = B[3][1], b32 = B[3][2], b33 = B[3][3];
+        int row;
+
+        for ( row = 0; row < 4; row++ ) {
+            double A[] = a.M[row];
+            double a0 = A[0], a1 = A[1], a2 = A[2], a3 = A[3];
+            double R[] = dst.M[row];
+            R[0] = a0*b00 + a1*b10 + a2*b20 + a3*b30;
+            R[1] = a0*b01 + a1*b11 + a2*b21 + a3*b31;
+            R[2] = a0*b02 + a1*b12 + a2*b22 + a3*b32;
+            R[3] = a0*b03 + a1*b13 + a2*b23 + a3*b33;
+        }
+    }
+
+    /**
+     Stores in `dst` the product `a * b` of two flat matrices in row order,
+     without allocating. `dst` can be the same array as `a` or `b`.
+     */
+    public static void multiplyInto(double dst[], double a[], double b[])
+    {
+        double b00 = b[0],  b01 = b[1],  b02 = b[2],  b03 = b[3];
+        double b10 = b[4],  b11 = b[5],  b12 = b[6],  b13 = b[7];
+        double b20 = b[8],  b21 = b[9],  b22 = b[10], b23 = b[11];
+        double b30 = b[12], b31 = b[13], b32 = b[14], b33 = b[15];
+        int i;
+
+        for ( i = 0; i < 16; i += 4 ) {
+            double a0 = a[i], a1 = a[i+1], a2 = a[i+2], a3 = a[i+3];
+            dst[i] = a0*b00 + a1*b10 + a2*b20 + a3*b30;
+            dst[i+1] = a0*b01 + a1*b11 + a2*b21 + a3*b31;
+            dst[i+2] = a0*b02 + a1*b12 + a2*b22 + a3*b32;
+            dst[i+3] = a0*b03 + a1*b13 + a2*b23 + a3*b33;
+        }
+    }
+
+    /**
+     Stores in `dst` the point `src` transformed by this matrix, as done by
+     `multiply(Vector3D)`, without allocating. `dst` can be `src`.
+     */
+    public final void transformPoint(Vector3D src, Vector3D dst)
+    {
+        double x = src.x, y = src.y, z = src.z;
+
+        dst.x = M[0][0] * x + M[0][1] * y + M[0][2] * z + M[0][3];
+        dst.y = M[1][0] * x + M[1][1] * y + M[1][2] * z + M[1][3];
+        dst.z = M[2][0] * x + M[2][1] * y + M[2][2] * z + M[2][3];
+    }
+
+    /**
+     Stores in `dst` the direction `src` transformed by this matrix,
+     ignoring translation, without allocating. `dst` can be `src`.
+     */
+    public final void transformVector(Vector3D src, Vector3D dst)
+    {
+        double x = src.x, y = src.y, z = src.z;
+
+        dst.x = M[0][0] * x + M[0][1] * y + M[0][2] * z;
+        dst.y = M[1][0] * x + M[1][1] * y + M[1][2] * z;
+        dst.z = M[2][0] * x + M[2][1] * y + M[2][2] * z;
+    }
+
+    /**
+     Transforms the point at position `srcOffset` of `src` (x, y and z
+     values) by the flat matrix `m`, storing it at position `dstOffset` of
+     `dst`. Arrays and positions can be the same.
+     */
+    public static void transformPoint(double m[], double src[], int srcOffset,
+                                      double dst[], int dstOffset)
+    {
+        double x = src[srcOffset];
+        double y = src[srcOffset+1];
+        double z = src[srcOffset+2];
+
+        dst[dstOffset] = m[0]*x + m[1]*y + m[2]*z + m[3];
+        dst[dstOffset+1] = m[4]*x + m[5]*y + m[6]*z + m[7];
+        dst[dstOffset+2] = m[8]*x + m[9]*y + m[10]*z + m[11];
+    }
+
+    /**
+     Stores in `dst` the inverse of flat matrix `m`, assuming it is a rigid
+     transformation, as `invertRigid`. `dst` can be `m`.
+     */
+    public static void invertRigidInto(double dst[], double m[])
+    {
+        double r01 = m[1], r02 = m[2], r12 = m[6];
+        double tx = m[3], ty = m[7], tz = m[11];
+
+        dst[0] = m[0];  dst[1] = m[4];  dst[2] = m[8];
+        dst[4] = r01;   dst[5] = m[5];  dst[6] = m[9];
+        dst[8] = r02;   dst[9] = r12;   dst[10] = m[10];
+        dst[3] = -(dst[0]*tx + dst[1]*ty + dst[2]*tz);
+        dst[7] = -(dst[4]*tx + dst[5]*ty + dst[6]*tz);
+        dst[11] = -(dst[8]*tx + dst[9]*ty + dst[10]*tz);
+        dst[12] = 0;  dst[13] = 0;  dst[14] = 0;  dst[15] = 1;
+    }
+
     private double determinant3x3(double minor3x3[])
     {
         //return a*e*i + d*h*c + g*b*f - c*e*g - f*h*a - i*b*d;
@@ -590,6 +801,28 @@ public class Matrix4x4 extends FundamentalEntity
         return array;
     }
 
+    /**
+     Copies this matrix in row order into `dst`, without allocating.
+     */
+    public void exportToDoubleArrayRowOrder(double dst[])
+    {
+        int i;
+        for ( i = 0; i < 4; i++ ) {
+            System.arraycopy(M[i], 0, dst, 4*i, 4);
+        }
+    }
+
+    /**
+     Sets this matrix from 16 values in row order.
+     */
+    public void importFromDoubleArrayRowOrder(double src[])
+    {
+        int i;
+        for ( i = 0; i < 4; i++ ) {
+            System.arraycopy(src, 4*i, M[i], 0, 4);
+        }
+    }
+
     public float[] exportToFloatArrayRowOrder()
     {
         float array[] = new float[16];
@@ -613,50 +846,8 @@ public class Matrix4x4 extends FundamentalEntity
     public Quaternion exportToQuaternion()
     {
         Quaternion quat = new Quaternion();
-        double tr, s;
-        double q[] = new double[4];
-        int i, j, k;
-        int nxt[] = new int[3];
-
-        nxt[0] = 1;
-        nxt[1] = 2;
-        nxt[2] = 0;
-
-        tr = M[0][0] + M[1][1] + M[2][2];
-
-        // check the diagonal
-        if ( tr > 0.0 ) {
-            s = Math.sqrt(tr + 1.0);
-            quat.magnitude = s / 2.0;
-            s = 0.5 / s;
-            quat.direction.x = (M[2][1] - M[1][2]) * s;
-            quat.direction.y = (M[0][2] - M[2][0]) * s;
-            quat.direction.z = (M[1][0] - M[0][1]) * s;
-          }
-          else {                
-            // diagonal is negative
-            i = 0;
-            if (M[1][1] > M[0][0]) i = 1;
-            if (M[2][2] > M[i][i]) i = 2;
-            j = nxt[i];
-            k = nxt[j];
-
-            s = Math.sqrt ((M[i][i] - (M[j][j] + M[k][k])) + 1.0);
-
-            q[i] = s * 0.5;
-
-            if (s != 0.0) s = 0.5 / s;
-
-            q[3] = (M[k][j] - M[j][k]) * s;
-            q[j] = (M[j][i] + M[i][j]) * s;
-            q[k] = (M[k][i] + M[i][k]) * s;
-
-            quat.direction.x = q[0];
-            quat.direction.y = q[1];
-            quat.direction.z = q[2];
-            quat.magnitude = q[3];
-        }
 
+        quat.importFromMatrix(this);
         return quat;
     }
 
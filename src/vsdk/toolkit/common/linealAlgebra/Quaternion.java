@@ -2,6 +2,8 @@
 //=-------------------------------------------------------------------------=
 //= Module history:                                                         =
 //= - August 8 2005 - Oscar Chavarro: Original base version                 =
+//= - October 18 2026: composition, rotation, interpolation and matrix      =
+//=   conversion operations                                                 =
 //===========================================================================
 
 package vsdk.toolkit.common.linealAlgebra;
@@ -9,6 +11,18 @@ package vsdk.toolkit.common.linealAlgebra;
 import vsdk.toolkit.common.VSDK;
 import vsdk.toolkit.common.FundamentalEntity;
 
+/**
+A quaternion q = `magnitude` + `direction`.x i + `direction`.y j +
+`direction`.z k. Unit quaternions represent rotations: the rotation of
+`angle` radians around the unit `axis` is cos(angle/2) + sin(angle/2) axis,
+which is what `axisRotation` builds.
+
+Rotations are composed with the Hamilton product, in the same order of
+matrix products: the matrix of `a.multiply(b)` is the matrix of `a`
+multiplied by the matrix of `b`, so `b` is applied first. Methods with an
+output parameter do not allocate, and allow the output to be one of the
+operands.
+*/
 public class Quaternion extends FundamentalEntity
 {
     /// Check the general attribute description in superclass Entity.
@@ -23,18 +37,303 @@ public class Quaternion extends FundamentalEntity
         magnitude = 0;
     }
 
+    public Quaternion(Quaternion b)
+    {
+        direction = new Vector3D(b.direction);
+        magnitude = b.magnitude;
+    }
+
+    /**
+    Make this quaternion internal values equal to the other's.
+    */
+    public void clone(Quaternion other)
+    {
+        direction.x = other.direction.x;
+        direction.y = other.direction.y;
+        direction.z = other.direction.z;
+        magnitude = other.magnitude;
+    }
+
+    /**
+    Makes this quaternion the identity rotation.
+    */
+    public void identity()
+    {
+        direction.x = 0;
+        direction.y = 0;
+        direction.z = 0;
+        magnitude = 1;
+    }
+
+    /**
+    Makes this quaternion the rotation of `angle` radians around the given
+    axis, as done by `Matrix4x4.axisRotation`. The axis does not need to be
+    normalized; if it is zero this quaternion becomes the identity.
+    */
+    public void axisRotation(double angle, double x, double y, double z)
+    {
+        double mag, s;
+
+        mag = Math.sqrt(x*x + y*y + z*z);
+        if ( mag == 0.0 ) {
+            identity();
+            return;
+        }
+        s = Math.sin(angle/2) / mag;
+        direction.x = x * s;
+        direction.y = y * s;
+        direction.z = z * s;
+        magnitude = Math.cos(angle/2);
+    }
+
+    public void axisRotation(double angle, Vector3D axis)
+    {
+        axisRotation(angle, axis.x, axis.y, axis.z);
+    }
+
     public double length()
     {
-        return magnitude * magnitude + direction.dotProduct(direction);
+        return Math.sqrt(magnitude * magnitude + direction.dotProduct(direction));
     }
 
     public void normalize()
     {
         double l;
 
-        l = length();
-        magnitude *= 1/l;
-        direction = direction.multiply(1/l);
+        l = 1 / length();
+        magnitude *= l;
+        direction.x *= l;
+        direction.y *= l;
+        direction.z *= l;
+    }
+
+    public double dotProduct(Quaternion b)
+    {
+        return magnitude * b.magnitude + direction.dotProduct(b.direction);
+    }
+
+    /**
+    Changes this quaternion into its conjugate, which for unit quaternions
+    is the inverse rotation.
+    */
+    public void conjugate()
+    {
+        direction.x = -direction.x;
+        direction.y = -direction.y;
+        direction.z = -direction.z;
+    }
+
+    /**
+    @return a new quaternion with the product `this` * `b`
+    */
+    public Quaternion multiply(Quaternion b)
+    {
+        Quaternion c = new Quaternion();
+
+        multiplyInto(c, this, b);
+        return c;
+    }
+
+    /**
+    Stores in `dst` the Hamilton product `a` * `b`. `dst` can be `a` or
+    `b`.
+    */
+    public static void multiplyInto(Quaternion dst, Quaternion a, Quaternion b)
+    {
+        double aw = a.magnitude;
+        double ax = a.direction.x, ay = a.direction.y, az = a.direction.z;
+        double bw = b.magnitude;
+        double bx = b.direction.x, by = b.direction.y, bz = b.direction.z;
+
+        dst.magnitude = aw*bw - ax*bx - ay*by - az*bz;
+        dst.direction.x = aw*bx + bw*ax + ay*bz - az*by;
+        dst.direction.y = aw*by + bw*ay + az*bx - ax*bz;
+        dst.direction.z = aw*bz + bw*az + ax*by - ay*bx;
+    }
+
+    /**
+    @return a new vector with `v` rotated by this unit quaternion
+    */
+    public Vector3D rotate(Vector3D v)
+    {
+        Vector3D r = new Vector3D();
+
+        rotate(v, r);
+        return r;
+    }
+
+    /**
+    Stores in `dst` the vector `src` rotated by this unit quaternion, which
+    can be the same vector. This uses the expansion
+    v' = v + 2w (q x v) + 2 q x (q x v), of 15 multiplications, instead of
+    the two quaternion products of q v q*.
+    */
+    public void rotate(Vector3D src, Vector3D dst)
+    {
+        double qx = direction.x, qy = direction.y, qz = direction.z;
+        double vx = src.x, vy = src.y, vz = src.z;
+        double tx, ty, tz;
+
+        tx = 2 * (qy*vz - qz*vy);
+        ty = 2 * (qz*vx - qx*vz);
+        tz = 2 * (qx*vy - qy*vx);
+        dst.x = vx + magnitude*tx + qy*tz - qz*ty;
+        dst.y = vy + magnitude*ty + qz*tx - qx*tz;
+        dst.z = vz + magnitude*tz + qx*ty - qy*tx;
+    }
+
+    /**
+    Stores in `x`, `y` and `z` the images of the coordinate axes rotated by
+    this unit quaternion, which are the columns of its rotation matrix.
+    */
+    public void exportToBasis(Vector3D x, Vector3D y, Vector3D z)
+    {
+        double qx = direction.x, qy = direction.y, qz = direction.z;
+        double x2 = qx + qx, y2 = qy + qy, z2 = qz + qz;
+        double xx = qx * x2, xy = qx * y2, xz = qx * z2;
+        double yy = qy * y2, yz = qy * z2, zz = qz * z2;
+        double sx = magnitude * x2, sy = magnitude * y2, sz = magnitude * z2;
+
+        x.x = 1-(yy+zz);  x.y = xy+sz;      x.z = xz-sy;
+        y.x = xy-sz;      y.y = 1-(xx+zz);  y.z = yz+sx;
+        z.x = xz+sy;      z.y = yz-sx;      z.z = 1-(xx+yy);
+    }
+
+    /**
+    Makes this quaternion equivalent to the rotation whose matrix has the
+    `x`, `y` and `z` vectors as columns. Vectors should be orthonormal;
+    otherwise the resulting quaternion is not unitary, and `normalize`
+    gives an approximation of the rotation.
+    */
+    public void importFromBasis(Vector3D x, Vector3D y, Vector3D z)
+    {
+        importFromRotation(x.x, y.x, z.x,
+                           x.y, y.y, z.y,
+                           x.z, y.z, z.z);
+    }
+
+    /**
+    Makes this quaternion equivalent to the rotation part of `R`, as done
+    by `Matrix4x4.exportToQuaternion`, without allocating memory.
+    */
+    public void importFromMatrix(Matrix4x4 R)
+    {
+        importFromRotation(R.M[0][0], R.M[0][1], R.M[0][2],
+                           R.M[1][0], R.M[1][1], R.M[1][2],
+                           R.M[2][0], R.M[2][1], R.M[2][2]);
+    }
+
+    /**
+    Stores in `R` the rotation matrix equivalent to this quaternion, as done
+    by `Matrix4x4.importFromQuaternion`.
+    */
+    public void exportToMatrix(Matrix4x4 R)
+    {
+        R.importFromQuaternion(this);
+    }
+
+    /**
+    Conversion from a 3x3 matrix given by rows. When the trace is positive,
+    the scalar part is the biggest one and all others are calculated from
+    it; otherwise the biggest of the vector parts is used, which avoids
+    divisions by small numbers.
+    */
+    private void importFromRotation(double m00, double m01, double m02,
+                                    double m10, double m11, double m12,
+                                    double m20, double m21, double m22)
+    {
+        double tr, s;
+
+        tr = m00 + m11 + m22;
+
+        if ( tr > 0.0 ) {
+            s = Math.sqrt(tr + 1.0);
+            magnitude = s / 2.0;
+            s = 0.5 / s;
+            direction.x = (m21 - m12) * s;
+            direction.y = (m02 - m20) * s;
+            direction.z = (m10 - m01) * s;
+        }
+        else if ( m00 >= m11 && m00 >= m22 ) {
+            s = Math.sqrt((m00 - (m11 + m22)) + 1.0);
+            direction.x = s * 0.5;
+            if ( s != 0.0 ) {
+                s = 0.5 / s;
+            }
+            magnitude = (m21 - m12) * s;
+            direction.y = (m10 + m01) * s;
+            direction.z = (m20 + m02) * s;
+        }
+        else if ( m11 >= m22 ) {
+            s = Math.sqrt((m11 - (m22 + m00)) + 1.0);
+            direction.y = s * 0.5;
+            if ( s != 0.0 ) {
+                s = 0.5 / s;
+            }
+            magnitude = (m02 - m20) * s;
+            direction.z = (m21 + m12) * s;
+            direction.x = (m01 + m10) * s;
+        }
+        else {
+            s = Math.sqrt((m22 - (m00 + m11)) + 1.0);
+            direction.z = s * 0.5;
+            if ( s != 0.0 ) {
+                s = 0.5 / s;
+            }
+            magnitude = (m10 - m01) * s;
+            direction.x = (m02 + m20) * s;
+            direction.y = (m12 + m21) * s;
+        }
+    }
+
+    /**
+    Stores in `dst` the normalized linear interpolation between unit
+    quaternions `a` (for `t` = 0) and `b` (for `t` = 1), along the shortest
+    path. It is cheaper than `slerp` and follows the same path, but with
+    non constant angular speed, which is not noticeable for small angles.
+    `dst` can be `a` or `b`.
+    */
+    public static void nlerp(Quaternion a, Quaternion b, double t, Quaternion dst)
+    {
+        double ta, tb;
+
+        ta = 1 - t;
+        tb = (a.dotProduct(b) < 0) ? -t : t;
+        dst.magnitude = ta*a.magnitude + tb*b.magnitude;
+        dst.direction.x = ta*a.direction.x + tb*b.direction.x;
+        dst.direction.y = ta*a.direction.y + tb*b.direction.y;
+        dst.direction.z = ta*a.direction.z + tb*b.direction.z;
+        dst.normalize();
+    }
+
+    /**
+    Stores in `dst` the spherical linear interpolation between unit
+    quaternions `a` (for `t` = 0) and `b` (for `t` = 1), along the shortest
+    path and with constant angular speed. For nearly equal rotations `nlerp`
+    is used, as the sine of the angle between them goes to zero. `dst` can
+    be `a` or `b`.
+    */
+    public static void slerp(Quaternion a, Quaternion b, double t, Quaternion dst)
+    {
+        double cosine, angle, sine, ta, tb;
+
+        cosine = a.dotProduct(b);
+        if ( Math.abs(cosine) > 1 - VSDK.EPSILON ) {
+            nlerp(a, b, t, dst);
+            return;
+        }
+
+        angle = Math.acos(Math.abs(cosine));
+        sine = Math.sin(angle);
+        ta = Math.sin((1 - t) * angle) / sine;
+        tb = Math.sin(t * angle) / sine;
+        if ( cosine < 0 ) {
+            tb = -tb;
+        }
+        dst.magnitude = ta*a.magnitude + tb*b.magnitude;
+        dst.direction.x = ta*a.direction.x + tb*b.direction.x;
+        dst.direction.y = ta*a.direction.y + tb*b.direction.y;
+        dst.direction.z = ta*a.direction.z + tb*b.direction.z;
     }
 
     public String toString()
@@ -0,0 +1,294 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.common.linealAlgebra;
+
+import vsdk.toolkit.common.FundamentalEntity;
+
+/**
+Class Vector3DArray is a growable list of 3D points or vectors, stored as
+three parallel arrays of `x`, `y` and `z` coordinates instead of an array
+of `Vector3D` objects. Each element takes 24 bytes instead of a reference
+plus a 40 bytes object, and elements are contiguous in memory.
+
+Batch operations (transformations, normalization, dot and cross products,
+bounding box) work over the first `size()` elements with simple counted
+loops over the coordinate arrays, which the JIT compiler can unroll and
+translate to SIMD instructions. As in `Vector3D`, coordinate arrays are
+public for direct access in inner loops; they can be longer than
+`size()`, and are replaced when the array grows.
+*/
+public class Vector3DArray extends FundamentalEntity
+{
+    /// Check the general attribute description in superclass Entity.
+    public static final long serialVersionUID = 20261018L;
+
+    /// Yes, they are public due to efficiency issues
+    public double x[];
+    public double y[];
+    public double z[];
+
+    private int mysize;
+
+    public Vector3DArray()
+    {
+        this(16);
+    }
+
+    /**
+    @param capacity number of elements that can be added before growing
+    */
+    public Vector3DArray(int capacity)
+    {
+        capacity = Math.max(1, capacity);
+        x = new double[capacity];
+        y = new double[capacity];
+        z = new double[capacity];
+        mysize = 0;
+    }
+
+    public int size()
+    {
+        return mysize;
+    }
+
+    /**
+    Changes the number of elements. New elements are not initialized.
+    */
+    public void setSize(int size)
+    {
+        ensureCapacity(size);
+        mysize = size;
+    }
+
+    public void clean()
+    {
+        mysize = 0;
+    }
+
+    public void ensureCapacity(int capacity)
+    {
+        if ( capacity <= x.length ) {
+            return;
+        }
+        int n = Math.max(capacity, 2 * x.length);
+        double aux[];
+
+        aux = new double[n];
+        System.arraycopy(x, 0, aux, 0, mysize);
+        x = aux;
+        aux = new double[n];
+        System.arraycopy(y, 0, aux, 0, mysize);
+        y = aux;
+        aux = new double[n];
+        System.arraycopy(z, 0, aux, 0, mysize);
+        z = aux;
+    }
+
+    public void add(double px, double py, double pz)
+    {
+        if ( mysize >= x.length ) {
+            ensureCapacity(mysize + 1);
+        }
+        x[mysize] = px;
+        y[mysize] = py;
+        z[mysize] = pz;
+        mysize++;
+    }
+
+    public void add(Vector3D p)
+    {
+        add(p.x, p.y, p.z);
+    }
+
+    /**
+    Copies element `i` into `out`, without allocating.
+    */
+    public void get(int i, Vector3D out)
+    {
+        out.x = x[i];
+        out.y = y[i];
+        out.z = z[i];
+    }
+
+    public void set(int i, double px, double py, double pz)
+    {
+        x[i] = px;
+        y[i] = py;
+        z[i] = pz;
+    }
+
+    public void set(int i, Vector3D p)
+    {
+        set(i, p.x, p.y, p.z);
+    }
+
+    /**
+    Transforms all elements as points by matrix `M`, in place, as done by
+    `Matrix4x4.multiply(Vector3D)`.
+    */
+    public void transformPoints(Matrix4x4 M)
+    {
+        transformPoints(M, this);
+    }
+
+    /**
+    Stores in `out` all elements transformed as points by matrix `M`. `out`
+    is resized to the size of this array, and can be this array.
+    */
+    public void transformPoints(Matrix4x4 M, Vector3DArray out)
+    {
+        double m00 = M.M[0][0], m01 = M.M[0][1], m02 = M.M[0][2], m03 = M.M[0][3];
+        double m10 = M.M[1][0], m11 = M.M[1][1], m12 = M.M[1][2], m13 = M.M[1][3];
+        double m20 = M.M[2][0], m21 = M.M[2][1], m22 = M.M[2][2], m23 = M.M[2][3];
+        int n = mysize;
+        int i;
+
+        out.setSize(n);
+        double ox[] = out.x, oy[] = out.y, oz[] = out.z;
+        double ix[] = x, iy[] = y, iz[] = z;
+        for ( i = 0; i < n; i++ ) {
+            double px = ix[i], py = iy[i], pz = iz[i];
+            ox[i] = m00*px + m01*py + m02*pz + m03;
+            oy[i] = m10*px + m11*py + m12*pz + m13;
+            oz[i] = m20*px + m21*py + m22*pz + m23;
+        }
+    }
+
+    /**
+    Transforms all elements as directions by matrix `M`, in place,
+    ignoring its translation.
+    */
+    public void transformVectors(Matrix4x4 M)
+    {
+        double m00 = M.M[0][0], m01 = M.M[0][1], m02 = M.M[0][2];
+        double m10 = M.M[1][0], m11 = M.M[1][1], m12 = M.M[1][2];
+        double m20 = M.M[2][0], m21 = M.M[2][1], m22 = M.M[2][2];
+        double ix[] = x, iy[] = y, iz[] = z;
+        int n = mysize;
+        int i;
+
+        for ( i = 0; i < n; i++ ) {
+            double px = ix[i], py = iy[i], pz = iz[i];
+            ix[i] = m00*px + m01*py + m02*pz;
+            iy[i] = m10*px + m11*py + m12*pz;
+            iz[i] = m20*px + m21*py + m22*pz;
+        }
+    }
+
+    /**
+    Normalizes all elements in place. Zero length elements become NaN, as
+    they have no direction.
+    */
+    public void normalize()
+    {
+        double ix[] = x, iy[] = y, iz[] = z;
+        int n = mysize;
+        int i;
+
+        for ( i = 0; i < n; i++ ) {
+            double px = ix[i], py = iy[i], pz = iz[i];
+            double s = 1 / Math.sqrt(px*px + py*py + pz*pz);
+            ix[i] = px * s;
+            iy[i] = py * s;
+            iz[i] = pz * s;
+        }
+    }
+
+    /**
+    Stores in `out[i]` the dot product of element `i` of this array and
+    element `i` of `b`.
+    */
+    public void dotProduct(Vector3DArray b, double out[])
+    {
+        double ax[] = x, ay[] = y, az[] = z;
+        double bx[] = b.x, by[] = b.y, bz[] = b.z;
+        int n = Math.min(mysize, b.mysize);
+        int i;
+
+        for ( i = 0; i < n; i++ ) {
+            out[i] = ax[i]*bx[i] + ay[i]*by[i] + az[i]*bz[i];
+        }
+    }
+
+    /**
+    Stores in `out` the cross product of each element of this array with
+    the corresponding element of `b`. `out` can be this array or `b`.
+    */
+    public void crossProduct(Vector3DArray b, Vector3DArray out)
+    {
+        int n = Math.min(mysize, b.mysize);
+        int i;
+
+        out.setSize(n);
+        double ax[] = x, ay[] = y, az[] = z;
+        double bx[] = b.x, by[] = b.y, bz[] = b.z;
+        double ox[] = out.x, oy[] = out.y, oz[] = out.z;
+        for ( i = 0; i < n; i++ ) {
+            double px = ay[i]*bz[i] - az[i]*by[i];
+            double py = az[i]*bx[i] - ax[i]*bz[i];
+            double pz = ax[i]*by[i] - ay[i]*bx[i];
+            ox[i] = px;
+            oy[i] = py;
+            oz[i] = pz;
+        }
+    }
+
+    /**
+    Calculates the bounding box of the elements, in the same layout of
+    `Geometry.getMinMax`: minimum x, y, z followed by maximum x, y, z.
+    @return the bounding box, which is empty (minimums greater than
+    maximums) for an empty array
+    */
+    public double[] getMinMax()
+    {
+        double minmax[] = new double[6];
+
+        getMinMax(minmax);
+        return minmax;
+    }
+
+    /**
+    Same as `getMinMax()`, storing the bounding box in `minmax`.
+    */
+    public void getMinMax(double minmax[])
+    {
+        minmax[0] = min(x);
+        minmax[1] = min(y);
+        minmax[2] = min(z);
+        minmax[3] = max(x);
+        minmax[4] = max(y);
+        minmax[5] = max(z);
+    }
+
+    private double min(double a[])
+    {
+        double m = Double.MAX_VALUE;
+        int n = mysize;
+        int i;
+
+        for ( i = 0; i < n; i++ ) {
+            m = (a[i] < m) ? a[i] : m;
+        }
+        return m;
+    }
+
+    private double max(double a[])
+    {
+        double m = -Double.MAX_VALUE;
+        int n = mysize;
+        int i;
+
+        for ( i = 0; i < n; i++ ) {
+            m = (a[i] > m) ? a[i] : m;
+        }
+        return m;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
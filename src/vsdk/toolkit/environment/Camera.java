@@ -16,6 +16,10 @@
 //= - November 5 2006 - Oscar Chavarro: plane calculation methods updated   =
 //= - November 5 2006 - Oscar Chavarro: added Cohen-Sutherland line         =
 //=   clipping functionality                                                =
+//= - October 18 2026: allocation free generateRay and generateRays         =
+//= - October 18 2026: matrices of updateVectors multiplied in place        =
+//= - October 18 2026: orientation kept as a quaternion, reference frame    =
+//=   vectors rebuilt lazily                                                =
 //===========================================================================
 
 package vsdk.toolkit.environment;
@@ -25,6 +29,7 @@ import vsdk.toolkit.common.Entity;
 import vsdk.toolkit.common.linealAlgebra.Vector3D;
 import vsdk.toolkit.common.Ray;
 import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.common.linealAlgebra.Quaternion;
 import vsdk.toolkit.environment.geometry.Geometry;
 
 public class Camera extends Entity
@@ -36,6 +41,19 @@ public class Camera extends Entity
     private Vector3D up;
     private Vector3D front;
     private Vector3D left;
+
+    /**
+    The camera orientation is the rotation that takes the x, y and z axes
+    to the `front`, `left` and `up` vectors. It is kept both as the
+    `orientation` unit quaternion and as those three vectors, and only one
+    of them is updated when the camera is changed: `frameOutdated` tells
+    that the vectors should be rebuilt from the quaternion, and
+    `orientationOutdated` the opposite. Both are never true at the same
+    time.
+    */
+    private Quaternion orientation;
+    private boolean frameOutdated;
+    private boolean orientationOutdated;
     private Vector3D eyePosition;
     private double focalDistance;
     private int projectionMode;
@@ -79,6 +97,7 @@ public class Camera extends Entity
     // Private values which are preprocessed to speed up calculations
     private Vector3D dx, dy, _dir, upWithScale, rightWithScale;
     private Matrix4x4 normalizingTransformation;
+    private Matrix4x4 auxiliaryTransformation;
     
     public Camera() 
     {
@@ -87,6 +106,9 @@ public class Camera extends Entity
         up = new Vector3D(0,0,1);
         front=new Vector3D(0,1,0);
         left=new Vector3D(-1,0,0);
+        orientation = new Quaternion();
+        frameOutdated = false;
+        orientationOutdated = true;
         
         fov = 60;
         viewportXSize = 320;
@@ -108,6 +130,9 @@ public class Camera extends Entity
         up = new Vector3D(b.up);
         front=new Vector3D(b.front);
         left=new Vector3D(b.left);
+        orientation = new Quaternion(b.orientation);
+        frameOutdated = b.frameOutdated;
+        orientationOutdated = b.orientationOutdated;
         
         fov = b.fov;
         viewportXSize = b.viewportXSize;
@@ -123,6 +148,10 @@ public class Camera extends Entity
         updateVectors();
     }
 
+    /**
+    @return the normalizing transformation, which is updated in place by
+    each call to `updateVectors`
+    */
     public Matrix4x4 getNormalizingTransformation()
     {
         return normalizingTransformation;
@@ -162,6 +191,7 @@ public class Camera extends Entity
     {
         Vector3D partial;
         Vector3D result;
+        updateFrame();
         partial = front.multiply(focalDistance);
         result = eyePosition.add(partial);
         return result;
@@ -178,10 +208,12 @@ public class Camera extends Entity
     {
         Vector3D partial;
 
+        updateFrame();
         partial = focusedPosition.substract(eyePosition);
         front.clone(partial);
         focalDistance = front.length();
         front.normalize();
+        orientationOutdated = true;
     }
 
     /**
@@ -203,6 +235,7 @@ public class Camera extends Entity
      */
     public void setFocusedPositionMaintainingOrthogonality(Vector3D focusedPosition)
     {
+        updateFrame();
         front.substract(focusedPosition, eyePosition);
         focalDistance = front.length();
         front.normalize();
@@ -212,10 +245,17 @@ public class Camera extends Entity
 
         up = front.crossProduct(left);
         up.normalize();
+        orientationOutdated = true;
     }
 
+    /**
+    Returns the `up` vector of the reference frame. As with `getFront` and
+    `getLeft`, the returned vector should not be modified; use the `set`
+    methods or `rotate` to change the camera orientation.
+    */
     public Vector3D getUp()
     {
+        updateFrame();
         return up;
     }
 
@@ -231,11 +271,13 @@ public class Camera extends Entity
 
     public Vector3D getFront()
     {
+        updateFrame();
         return front;
     }
 
     public Vector3D getLeft()
     {
+        updateFrame();
         return left;
     }
 
@@ -249,7 +291,9 @@ public class Camera extends Entity
     */
     public void setUpDirect(Vector3D up)
     {
+        updateFrame();
         this.up.clone(up);
+        orientationOutdated = true;
     }
 
     /**
@@ -262,7 +306,9 @@ public class Camera extends Entity
     */
     public void setLeftDirect(Vector3D left)
     {
+        updateFrame();
         this.left.clone(left);
+        orientationOutdated = true;
     }
 
     /**
@@ -272,12 +318,14 @@ public class Camera extends Entity
     public void setUpMaintainingOrthogonality(Vector3D up)
     {
         up.normalize();
+        updateFrame();
 
         left = up.crossProduct(front);
         left.normalize();
  
         this.up=front.crossProduct(left);
         this.up.normalize();
+        orientationOutdated = true;
     }
 
     public double getFov()
@@ -339,6 +387,7 @@ public class Camera extends Entity
     
     public void updateVectors()
     {
+        updateFrame();
         up.normalize();
         left.normalize();
         front.normalize();
@@ -353,26 +402,30 @@ public class Camera extends Entity
         The normalizing transformation of current camera is such that transforms
         points in space to make it lie in the canonical view volume space,
         and it is calculated following the mechanism described on sections
-        [FOLE1992].6.5.1 and [FOLE1992].6.5.2.
+        [FOLE1992].6.5.1 and [FOLE1992].6.5.2. Each step is multiplied in
+        place into the result, so no matrices are allocated after the first
+        call.
         */
-        normalizingTransformation = new Matrix4x4();
-        // 1. Translate the "VRP" point to the origin
-        Vector3D VRP;
-        Matrix4x4 T1 = new Matrix4x4();
+        if ( normalizingTransformation == null ) {
+            normalizingTransformation = new Matrix4x4();
+            auxiliaryTransformation = new Matrix4x4();
+        }
+        Matrix4x4 N = normalizingTransformation;
+        Matrix4x4 A = auxiliaryTransformation;
 
+        // 1. Translate the "VRP" point to the origin
         // Warning: near plane clipping
-        VRP = eyePosition.add(front.multiply(nearPlaneDistance));
-        //VRP = eyePosition.add(front.multiply(1));
-        T1.translation(VRP.multiply(-1));
+        N.translation(-(eyePosition.x + front.x * nearPlaneDistance),
+                      -(eyePosition.y + front.y * nearPlaneDistance),
+                      -(eyePosition.z + front.z * nearPlaneDistance));
 
         // 2. Rotate the "VRC" coordinate system such as the front axis
         //    become the -z axis
-        Matrix4x4 R1 = new Matrix4x4();
-        Matrix4x4 R2 = new Matrix4x4();
-
-        R1 = getRotation();
-        R1.invert();
-        R2.eulerAnglesRotation(Math.toRadians(90), Math.toRadians(-90), 0);
+        fillRotation(A);
+        A.invert();
+        Matrix4x4.multiplyInto(N, A, N);
+        A.eulerAnglesRotation(Math.toRadians(90), Math.toRadians(-90), 0);
+        Matrix4x4.multiplyInto(N, A, N);
 
         // 3. Translate such that the center of projection is at the origin
         ;
@@ -382,26 +435,18 @@ public class Camera extends Entity
         ;
 
         // 5. Scale such that the view volume becomes the canonical perspective
-        //    view volume
-        Matrix4x4 S1 = new Matrix4x4();
-        Matrix4x4 S2 = new Matrix4x4();
-        double dx, dy, dz;
-
+        //    view volume:
         // 5.1. Non proportional scaling to adjust the slopes of the piramid
         // planes to fix 45 degrees in u and v directions
-        dx = rightWithScale.length();
-        dy = upWithScale.length();
-        S1.scale(dx, dy, 1);
-        S1.invert();
-
         // 5.2. Proportional scaling to adjust near / far clipping planes
         // maintaining the piramid form
-        dz = nearPlaneDistance;
-        S2.scale(dz, dz, dz);
-        S2.invert();
+        double dx, dy, dz;
 
-        //
-        normalizingTransformation = S2.multiply(S1.multiply(R2.multiply(R1.multiply(T1))));
+        dx = rightWithScale.length();
+        dy = upWithScale.length();
+        dz = nearPlaneDistance;
+        A.scale(1/(dx*dz), 1/(dy*dz), 1/dz);
+        Matrix4x4.multiplyInto(N, A, N);
     }
 
     /**
@@ -439,6 +484,7 @@ public class Camera extends Entity
         Vector3D du;
 
         if ( projectionMode == PROJECTION_MODE_ORTHOGONAL ) {
+            updateFrame();
             double fovFactor = viewportXSize/viewportYSize;
             du = left.multiply(-fovFactor);
             dv = up;
@@ -459,6 +505,131 @@ public class Camera extends Entity
         return ray;
     }
 
+    /**
+    Same as `generateRay(x, y)`, but leaving the ray in `outRay` instead of
+    allocating a new one. `outRay.t` is not modified.
+    */
+    public final void generateRay(int x, int y, Ray outRay)
+    {
+        double u, v, su, sv, length;
+
+        // 1. Convert integer image coordinates into values in the range [-0.5, 0.5]
+        u = ((double)x - viewportXSize/2.0) / viewportXSize;
+        v = ((viewportYSize - (double)y - 1) -  viewportYSize/2.0) / viewportYSize;
+
+        // 2. Calculate the ray origin and direction
+        if ( projectionMode == PROJECTION_MODE_ORTHOGONAL ) {
+            updateFrame();
+            su = -(viewportXSize/viewportYSize)*2*u/orthogonalZoom;
+            sv = 2*v/orthogonalZoom;
+            outRay.origin.x = eyePosition.x + left.x*su + up.x*sv;
+            outRay.origin.y = eyePosition.y + left.y*su + up.y*sv;
+            outRay.origin.z = eyePosition.z + left.z*su + up.z*sv;
+            outRay.direction.x = front.x;
+            outRay.direction.y = front.y;
+            outRay.direction.z = front.z;
+        }
+        else {
+            // Default behavior is to assume planar perspective projection
+            outRay.origin.x = eyePosition.x;
+            outRay.origin.y = eyePosition.y;
+            outRay.origin.z = eyePosition.z;
+            outRay.direction.x = _dir.x + upWithScale.x*v + rightWithScale.x*u;
+            outRay.direction.y = _dir.y + upWithScale.y*v + rightWithScale.y*u;
+            outRay.direction.z = _dir.z + upWithScale.z*v + rightWithScale.z*u;
+        }
+        length = Math.sqrt(outRay.direction.x*outRay.direction.x +
+                           outRay.direction.y*outRay.direction.y +
+                           outRay.direction.z*outRay.direction.z);
+        outRay.direction.x /= length;
+        outRay.direction.y /= length;
+        outRay.direction.z /= length;
+    }
+
+    /**
+    Calculates the projector rays of a rectangle of pixels, without
+    allocating any memory, for algorithms tracing whole images. Rays are
+    the same given by `generateRay` for each pixel, stored in row major
+    order: the ray of pixel <x0 + i, y0 + j> is ray number
+    `j * xSize + i`, whose origin is at positions `3 * number` to
+    `3 * number + 2` of `outOrigins`, and likewise its normalized direction
+    in `outDirections`.
+
+    Directions are calculated incrementally from `_dir`, `upWithScale` and
+    `rightWithScale`, adding the step between pixels along each row.
+
+    PRE: same as `generateRay`, and arrays must hold `3 * xSize * ySize`
+    values.
+    */
+    public final void generateRays(int x0, int y0, int xSize, int ySize,
+                                   double outOrigins[],
+                                   double outDirections[])
+    {
+        double u0, v;
+        double ox, oy, oz, dx, dy, dz;
+        double stepX, stepY, stepZ;
+        double length;
+        int x, y, i = 0;
+
+        u0 = ((double)x0 - viewportXSize/2.0) / viewportXSize;
+        updateFrame();
+
+        for ( y = y0; y < y0 + ySize; y++ ) {
+            v = ((viewportYSize - (double)y - 1) -  viewportYSize/2.0) / viewportYSize;
+
+            if ( projectionMode == PROJECTION_MODE_ORTHOGONAL ) {
+                // Origins move on the projection plane, direction is fixed
+                double fovFactor = viewportXSize/viewportYSize;
+                double su = -fovFactor*2*u0/orthogonalZoom;
+                double sv = 2*v/orthogonalZoom;
+                ox = eyePosition.x + left.x*su + up.x*sv;
+                oy = eyePosition.y + left.y*su + up.y*sv;
+                oz = eyePosition.z + left.z*su + up.z*sv;
+                su = -fovFactor*2/(viewportXSize*orthogonalZoom);
+                stepX = left.x*su;
+                stepY = left.y*su;
+                stepZ = left.z*su;
+                length = Math.sqrt(front.x*front.x + front.y*front.y +
+                                   front.z*front.z);
+                dx = front.x / length;
+                dy = front.y / length;
+                dz = front.z / length;
+                for ( x = 0; x < xSize; x++, i += 3 ) {
+                    outOrigins[i] = ox;
+                    outOrigins[i+1] = oy;
+                    outOrigins[i+2] = oz;
+                    outDirections[i] = dx;
+                    outDirections[i+1] = dy;
+                    outDirections[i+2] = dz;
+                    ox += stepX;
+                    oy += stepY;
+                    oz += stepZ;
+                }
+                continue;
+            }
+
+            // Default behavior is to assume planar perspective projection
+            dx = _dir.x + upWithScale.x*v + rightWithScale.x*u0;
+            dy = _dir.y + upWithScale.y*v + rightWithScale.y*u0;
+            dz = _dir.z + upWithScale.z*v + rightWithScale.z*u0;
+            stepX = rightWithScale.x / viewportXSize;
+            stepY = rightWithScale.y / viewportXSize;
+            stepZ = rightWithScale.z / viewportXSize;
+            for ( x = 0; x < xSize; x++, i += 3 ) {
+                length = Math.sqrt(dx*dx + dy*dy + dz*dz);
+                outOrigins[i] = eyePosition.x;
+                outOrigins[i+1] = eyePosition.y;
+                outOrigins[i+2] = eyePosition.z;
+                outDirections[i] = dx/length;
+                outDirections[i+1] = dy/length;
+                outDirections[i+2] = dz/length;
+                dx += stepX;
+                dy += stepY;
+                dz += stepZ;
+            }
+        }
+    }
+
     public double getOrthogonalZoom()
     {
         return orthogonalZoom;
@@ -471,6 +642,9 @@ public class Camera extends Entity
 
     public void setRotation(Matrix4x4 R)
     {
+        frameOutdated = false;
+        orientationOutdated = true;
+
         up.x = R.M[0][2];
         up.y = R.M[1][2];
         up.z = R.M[2][2];
@@ -492,12 +666,84 @@ public class Camera extends Entity
         //------------------------------------------------------------
         Matrix4x4 R = new Matrix4x4();
 
+        fillRotation(R);
+        return R;
+    }
+
+    private void fillRotation(Matrix4x4 R)
+    {
+        updateFrame();
         R.identity();
         R.M[0][0] = front.x; R.M[0][1] = left.x; R.M[0][2] = up.x;
         R.M[1][0] = front.y; R.M[1][1] = left.y; R.M[1][2] = up.y;
         R.M[2][0] = front.z; R.M[2][1] = left.z; R.M[2][2] = up.z;
+    }
 
-        return R;
+    /**
+    @return the camera orientation as a unit quaternion, equivalent to
+    `getRotation`. The returned quaternion is updated in place by later
+    changes to the camera, and should not be modified; use `setOrientation`
+    or `rotate` instead.
+    */
+    public Quaternion getOrientation()
+    {
+        updateOrientation();
+        return orientation;
+    }
+
+    /**
+    Sets the camera orientation from a quaternion, which is normalized.
+    The `up`, `front` and `left` vectors are rebuilt from it the next time
+    they are needed, so a sequence of orientations (i.e. from
+    `Quaternion.slerp` in a camera animation) can be set without
+    calculating matrices. As with the other parameters, `updateVectors`
+    must be called before generating rays.
+    */
+    public void setOrientation(Quaternion q)
+    {
+        orientation.clone(q);
+        orientation.normalize();
+        frameOutdated = true;
+        orientationOutdated = false;
+    }
+
+    /**
+    Rotates the camera around its position by the unit quaternion `q`,
+    given in world coordinates: the new orientation is `q` multiplied by
+    the current one. The orientation is normalized after the product, so
+    repeated small rotations do not deform the reference frame.
+    */
+    public void rotate(Quaternion q)
+    {
+        updateOrientation();
+        Quaternion.multiplyInto(orientation, q, orientation);
+        orientation.normalize();
+        frameOutdated = true;
+    }
+
+    /**
+    Rebuilds the `up`, `front` and `left` vectors from `orientation` if it
+    was changed after them.
+    */
+    private void updateFrame()
+    {
+        if ( frameOutdated ) {
+            orientation.exportToBasis(front, left, up);
+            frameOutdated = false;
+        }
+    }
+
+    /**
+    Recalculates `orientation` from the `up`, `front` and `left` vectors
+    if they were changed after it.
+    */
+    private void updateOrientation()
+    {
+        if ( orientationOutdated ) {
+            orientation.importFromBasis(front, left, up);
+            orientation.normalize();
+            orientationOutdated = false;
+        }
     }
     
     /**
@@ -536,21 +782,19 @@ public class Camera extends Entity
     public Matrix4x4 calculateTransformationMatrix()
     {
         //- Take into account the camera position and orientation ----------
+        // R = R_adic1 * R_adic2 * R1 * T1, multiplied in place
         Matrix4x4 R;
-        Matrix4x4 R1;
-        Matrix4x4 T1 = new Matrix4x4();
-        Matrix4x4 R_adic2 = new Matrix4x4();
-        Matrix4x4 R_adic1 = new Matrix4x4();
-        Matrix4x4 R2 = new Matrix4x4();
+        Matrix4x4 A = new Matrix4x4();
 
-        R1 = getRotation();
-        R1.invert();
-
-        T1.translation(-eyePosition.x, -eyePosition.y, -eyePosition.z);
-        R_adic2.axisRotation(Math.toRadians(90), 0, 0, 1);
-        R_adic1.axisRotation(Math.toRadians(-90), 1, 0, 0);
+        R = getRotation();
+        R.invert();
 
-        R = R_adic1.multiply(R_adic2.multiply(R1.multiply(T1)));
+        A.translation(-eyePosition.x, -eyePosition.y, -eyePosition.z);
+        Matrix4x4.multiplyInto(R, R, A);
+        A.axisRotation(Math.toRadians(90), 0, 0, 1);
+        Matrix4x4.multiplyInto(R, A, R);
+        A.axisRotation(Math.toRadians(-90), 1, 0, 0);
+        Matrix4x4.multiplyInto(R, A, R);
 
         return R;
     }
@@ -589,6 +833,7 @@ public class Camera extends Entity
           }
         ;
 
+        updateFrame();
         msg = msg + "  - eyePosition(x, y, z) = " + eyePosition + "\n";
         msg = msg + "  - focusedPointPosition(x, y, z) = " + eyePosition.add(front.multiply(focalDistance)) + "\n";
 
@@ -611,7 +856,7 @@ public class Camera extends Entity
             VSDK.formatDouble(Math.toDegrees(pitch)) + ", " +
             VSDK.formatDouble(Math.toDegrees(roll)) + "> DEG)\n";
 
-        msg = msg + "  - Rotation quaternion: " + R.exportToQuaternion() + "\n";
+        msg = msg + "  - Rotation quaternion: " + getOrientation() + "\n";
 
         //------------------------------------------------------------
         updateVectors();
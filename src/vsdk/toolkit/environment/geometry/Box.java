@@ -2,6 +2,7 @@
 //=-------------------------------------------------------------------------=
 //= Module history:                                                         =
 //= - February 12 2006 - Oscar Chavarro: Original base version              =
+//= - October 18 2026: Reentrant ray intersection, without allocations      =
 //=-------------------------------------------------------------------------=
 //= References:                                                             =
 //= [MANT1988] Mantyla Martti. "An Introduction To Solid Modeling",         =
@@ -22,20 +23,17 @@ public class Box extends Solid {
 
     private Vector3D size;
 
-    private GeometryIntersectionInformation lastInfo;
     private int lastPlane;
 
     public Box(double dx, double dy, double dz) {
         size = new Vector3D(dx, dy, dz);
 
-        lastInfo = new GeometryIntersectionInformation();
         lastPlane = 0;
     }
 
     public Box(Vector3D s) {
         size = new Vector3D(s);
 
-        lastInfo = new GeometryIntersectionInformation();
         lastPlane = 0;
     }
 
@@ -51,113 +49,128 @@ public class Box extends Solid {
     public boolean
     doIntersection(Ray inOutRay) {
         double t, min_t = Double.MAX_VALUE;
-        double x2 = size.x/2;  // OJO: Esto deberia venir precalculado
-        double y2 = size.y/2;  // OJO: Esto deberia venir precalculado
-        double z2 = size.z/2;  // OJO: Esto deberia venir precalculado
-        Vector3D p = new Vector3D();
-        GeometryIntersectionInformation info = 
-            new GeometryIntersectionInformation();
+        double x2 = size.x/2;
+        double y2 = size.y/2;
+        double z2 = size.z/2;
+        double px, py, pz;
+        int plane = 0;
 
         inOutRay.direction.normalize();
 
-        // (1) Plano superior: Z = size.z/2
-        if ( Math.abs(inOutRay.direction.z) > VSDK.EPSILON ) {
-            // El rayo no es paralelo al plano Z=size.z/2
-            t = (z2-inOutRay.origin.z)/inOutRay.direction.z;
-            if ( t > -VSDK.EPSILON ) {
-                p = inOutRay.origin.add(inOutRay.direction.multiply(t));
-                if ( p.x >= -x2 && p.x <= x2 && 
-                     p.y >= -y2 && p.y <= y2 ) {
-                    info.p = new Vector3D(p);
+        double ox = inOutRay.origin.x;
+        double oy = inOutRay.origin.y;
+        double oz = inOutRay.origin.z;
+        double dx = inOutRay.direction.x;
+        double dy = inOutRay.direction.y;
+        double dz = inOutRay.direction.z;
+
+        // (1) and (2): planes Z = size.z/2 and Z = -size.z/2
+        if ( Math.abs(dz) > VSDK.EPSILON ) {
+            t = (z2-oz)/dz;
+            if ( t > -VSDK.EPSILON && t < min_t ) {
+                px = ox + t*dx;
+                py = oy + t*dy;
+                if ( px >= -x2 && px <= x2 && py >= -y2 && py <= y2 ) {
                     min_t = t;
-                    lastPlane = 1;
+                    plane = 1;
                 }
             }
-        }
-
-        // (2) Plano inferior: Z = -size.z/2
-        if ( Math.abs(inOutRay.direction.z) > VSDK.EPSILON ) {
-            // El rayo no es paralelo al plano Z=-size.z/2
-            t = (-z2-inOutRay.origin.z)/inOutRay.direction.z;
+            t = (-z2-oz)/dz;
             if ( t > -VSDK.EPSILON && t < min_t ) {
-                p = inOutRay.origin.add(inOutRay.direction.multiply(t));
-                if ( p.x >= -x2 && p.x <= x2 && 
-                     p.y >= -y2 && p.y <= y2 ) {
-                    info.p = p;
+                px = ox + t*dx;
+                py = oy + t*dy;
+                if ( px >= -x2 && px <= x2 && py >= -y2 && py <= y2 ) {
                     min_t = t;
-                    lastPlane = 2;
+                    plane = 2;
                 }
             }
         }
 
-        // (3) Plano frontal: Y = size.y/2
-        if ( Math.abs(inOutRay.direction.y) > VSDK.EPSILON ) {
-            // El rayo no es paralelo al plano Y=size.y/2
-            t = (y2-inOutRay.origin.y)/inOutRay.direction.y;
+        // (3) and (4): planes Y = size.y/2 and Y = -size.y/2
+        if ( Math.abs(dy) > VSDK.EPSILON ) {
+            t = (y2-oy)/dy;
             if ( t > -VSDK.EPSILON && t < min_t ) {
-                p = inOutRay.origin.add(inOutRay.direction.multiply(t));
-                if ( p.x >= -x2 && p.x <= x2 && 
-                     p.z >= -z2 && p.z <= z2 ) {
-                    info.p = p;
+                px = ox + t*dx;
+                pz = oz + t*dz;
+                if ( px >= -x2 && px <= x2 && pz >= -z2 && pz <= z2 ) {
                     min_t = t;
-                    lastPlane = 3;
+                    plane = 3;
                 }
             }
-        }
-
-        // (4) Plano posterior: Y = -size.y/2
-        if ( Math.abs(inOutRay.direction.y) > VSDK.EPSILON ) {
-            // El rayo no es paralelo al plano Y=-size.y/2
-            t = (-y2-inOutRay.origin.y)/inOutRay.direction.y;
+            t = (-y2-oy)/dy;
             if ( t > -VSDK.EPSILON && t < min_t ) {
-                p = inOutRay.origin.add(inOutRay.direction.multiply(t));
-                if ( p.x >= -x2 && p.x <= x2 && 
-                     p.z >= -z2 && p.z <= z2 ) {
-                    info.p = p;
+                px = ox + t*dx;
+                pz = oz + t*dz;
+                if ( px >= -x2 && px <= x2 && pz >= -z2 && pz <= z2 ) {
                     min_t = t;
-                    lastPlane = 4;
+                    plane = 4;
                 }
             }
         }
 
-        // (5) Plano X = size.x/2
-        if ( Math.abs(inOutRay.direction.x) > VSDK.EPSILON ) {
-            // El rayo no es paralelo al plano X=size.x/2
-            t = (x2-inOutRay.origin.x)/inOutRay.direction.x;
+        // (5) and (6): planes X = size.x/2 and X = -size.x/2
+        if ( Math.abs(dx) > VSDK.EPSILON ) {
+            t = (x2-ox)/dx;
             if ( t > -VSDK.EPSILON && t < min_t ) {
-                p = inOutRay.origin.add(inOutRay.direction.multiply(t));
-                if ( p.y >= -y2 && p.y <= y2 && 
-                     p.z >= -z2 && p.z <= z2 ) {
-                    info.p = p;
+                py = oy + t*dy;
+                pz = oz + t*dz;
+                if ( py >= -y2 && py <= y2 && pz >= -z2 && pz <= z2 ) {
                     min_t = t;
-                    lastPlane = 5;
+                    plane = 5;
                 }
             }
-        }
-
-        // (6) Plano X = -size.x/2
-        if ( Math.abs(inOutRay.direction.x) > VSDK.EPSILON ) {
-            // El rayo no es paralelo al plano X=-size.x/2
-            t = (-x2-inOutRay.origin.x)/inOutRay.direction.x;
+            t = (-x2-ox)/dx;
             if ( t > -VSDK.EPSILON && t < min_t ) {
-                p = inOutRay.origin.add(inOutRay.direction.multiply(t));
-                if ( p.y >= -y2 && p.y <= y2 && 
-                     p.z >= -z2 && p.z <= z2 ) {
-                    info.p = p;
+                py = oy + t*dy;
+                pz = oz + t*dz;
+                if ( py >= -y2 && py <= y2 && pz >= -z2 && pz <= z2 ) {
                     min_t = t;
-                    lastPlane = 6;
+                    plane = 6;
                 }
             }
         }
 
-        if ( min_t < Double.MAX_VALUE ) {
+        if ( plane != 0 ) {
             inOutRay.t = min_t;
-            lastInfo.clone(info);
+            lastPlane = plane;
             return true;
         }
         return false;
     }
 
+    /**
+    Check the general interface contract in superclass method
+    Geometry.isReentrant. Note that `getLastIntersectedPlane` is not
+    meaningful when several threads use current box.
+    */
+    public boolean isReentrant()
+    {
+        return true;
+    }
+
+    /**
+    @return plane containing point <x, y, z> of the box surface, numbered
+    as in `doIntersection`
+    */
+    private int planeAt(double x, double y, double z)
+    {
+        double best = Math.abs(z - size.z/2);
+        double d;
+        int plane = 1;
+
+        d = Math.abs(z + size.z/2);
+        if ( d < best ) { best = d; plane = 2; }
+        d = Math.abs(y - size.y/2);
+        if ( d < best ) { best = d; plane = 3; }
+        d = Math.abs(y + size.y/2);
+        if ( d < best ) { best = d; plane = 4; }
+        d = Math.abs(x - size.x/2);
+        if ( d < best ) { best = d; plane = 5; }
+        d = Math.abs(x + size.x/2);
+        if ( d < best ) { best = d; plane = 6; }
+        return plane;
+    }
+
     /**
     Check the general interface contract in superclass method
     Geometry.doExtraInformation.
@@ -165,9 +178,11 @@ public class Box extends Solid {
     public void
     doExtraInformation(Ray inRay, double inT, 
                                   GeometryIntersectionInformation outData) {
-        outData.p = lastInfo.p;
+        outData.p.x = inRay.origin.x + inT*inRay.direction.x;
+        outData.p.y = inRay.origin.y + inT*inRay.direction.y;
+        outData.p.z = inRay.origin.z + inT*inRay.direction.z;
 
-        switch ( lastPlane ) {
+        switch ( planeAt(outData.p.x, outData.p.y, outData.p.z) ) {
           case 1:
             outData.n.x = 0;
             outData.n.y = 0;
@@ -7,6 +7,8 @@
 //=-------------------------------------------------------------------------=
 //= Module history:                                                         =
 //= - August 8 2005 - Oscar Chavarro: Original base version                 =
+//= - October 18 2026: isReentrant                                          =
+//= - October 18 2026: doVoxelization transforms points in place            =
 //===========================================================================
 
 package vsdk.toolkit.environment.geometry;
@@ -145,6 +147,20 @@ public abstract class Geometry extends Entity {
     doExtraInformation(Ray inRay, double intT, 
                                       GeometryIntersectionInformation outData);
 
+    /**
+    Tells if `doIntersection` and `doExtraInformation` keep no state between
+    calls, so that several threads can query current geometry at the same
+    time, and `doExtraInformation` only depends on its arguments. For
+    geometries answering false, the application must make each
+    `doIntersection` / `doExtraInformation` pair a critical section, as
+    explained in `doExtraInformation`.
+    @return false in this default implementation
+    */
+    public boolean isReentrant()
+    {
+        return false;
+    }
+
     /**
     This operation returns a simple bounding volume specification in the
     form of a "min-max box", which is a paralelogram aligned with the
@@ -220,7 +236,7 @@ public abstract class Geometry extends Entity {
         int containmentStatus;
         int x, y, z;
         Vector3D p = new Vector3D();
-        Vector3D transformedP;
+        Vector3D transformedP = new Vector3D();
 
         if ( reporter != null ) {
             reporter.begin();
@@ -231,8 +247,8 @@ public abstract class Geometry extends Entity {
                     reporter.update(0, nx*ny, x*ny);
                 }
                 for ( z = 0; z < nz; z++ ) {
-                    p = vv.getVoxelPosition(x, y, z);
-                    transformedP = M.multiply(p);
+                    vv.getVoxelPosition(x, y, z, p);
+                    M.transformPoint(p, transformedP);
                     containmentStatus = doContainmentTest(
                             transformedP, (1/((double)nmax) * greaterScale));
                     if ( containmentStatus == INSIDE ||
@@ -3,6 +3,7 @@
 //= Module history:                                                         =
 //= - April 8 2006 - Oscar Chavarro: Original base version                  =
 //= - November 1 2006 - Alfonso Barbosa, Diana Reyes: added classifyPoint   =
+//= - October 18 2026: isReentrant                                          =
 //===========================================================================
 
 package vsdk.toolkit.environment.geometry;
@@ -152,6 +153,15 @@ public class InfinitePlane extends HalfSpace {
         outData.n.clone(getNormal());
     }
 
+    /**
+    Check the general interface contract in superclass method
+    Geometry.isReentrant.
+    */
+    public boolean isReentrant()
+    {
+        return true;
+    }
+
     /**
     TODO: Current returned values are not always true!
     */
@@ -3,6 +3,7 @@
 //= Module history:                                                         =
 //= - August 8 2005 - Oscar Chavarro: Original base version                 =
 //= - March 14 2006 - Oscar Chavarro: Get/set interface                     =
+//= - October 18 2026: Reentrant ray intersection                           =
 //=-------------------------------------------------------------------------=
 //= References:                                                             =
 //= [MANT1988] Mantyla Martti. "An Introduction To Solid Modeling",         =
@@ -21,13 +22,11 @@ public class Sphere extends Solid {
 
     private double _radius;
     private double _radius_squared;
-    private Vector3D _static_delta;
     private double [] _static_minmax;
 
     public Sphere(double r) {
         _radius = r;
         _radius_squared = _radius*_radius;
-        _static_delta = new Vector3D();
         _static_minmax = new double[6];
     }
 
@@ -46,38 +45,16 @@ public class Sphere extends Solid {
     */
     public boolean
     doIntersection(Ray inout_rayo) {
-        /* OJO: Como en Java, a diferencia de C no hay sino objetos por
-                referencia, no se puede hacer una declaraci&oacute;n 
-                est&aacute;tica de un objeto, y poder hacerla es importante 
-                porque la constructora Vector3D::Vector3D se ejecuta muchas veces, 
-                y no se debe gastar tiempo creando objetos (i.e. haciento 
-                Vector3D delta; delta = new Vector3D(); ...).  El c&oacute;digo
-                original de MIT resolvi&oacute; &eacute;sto usando unos 
-                flotantes double dx, dy, dz; e implementando una versi&oacute;n
-                adicional de Vector3D::dotProduct() que recibe 3 doubles.  
-                Se considera que esa soluci&oacute;n es "fea" y que al ofrecer
-                el nuevo m&eacute;todo `Vector3D::dotProduct` se le 
-                desorganiza la mente al usuario/programador.  Por eso, se 
-                resolvi&oacute; implementar otra soluci&oacute;n (tal vez 
-                igual de fea): a&ntilde;adir un nuevo atributo de clase en
-                Sphere, y utilizarlo como su fuese una variable est&aacute;tica
-                de tipo Vector3D dentro del m&eacute;todo.  Esto no es bueno 
-                porque gasta memoria, pero ... que m&aacute;s podr&aacute; 
-                hacerse? Al menos el tiempo de ejecuci&oacute;n se mantiene 
-                igual respecto al c&oacute;digo original de MIT.
-                NOTA: Comparar este m&eacute;todo modificado con la 
-                      versi&oacute;n original en la etapa 1, con la 
-                      ayuda de un profiler. ... */
-        _static_delta.x = -inout_rayo.origin.x;
-        _static_delta.y = -inout_rayo.origin.y;
-        _static_delta.z = -inout_rayo.origin.z;
-        double v = inout_rayo.direction.dotProduct(_static_delta);
+        // Delta from the ray origin to the sphere center is kept in local
+        // variables, so this method can be called from several threads
+        double dx = -inout_rayo.origin.x;
+        double dy = -inout_rayo.origin.y;
+        double dz = -inout_rayo.origin.z;
+        double v = inout_rayo.direction.x*dx + inout_rayo.direction.y*dy +
+                   inout_rayo.direction.z*dz;
 
         // Test if the inout_rayo actually intersects the sphere
-        double t = _radius_squared + v*v 
-                  - _static_delta.x*_static_delta.x 
-                  - _static_delta.y*_static_delta.y 
-                  - _static_delta.z*_static_delta.z;
+        double t = _radius_squared + v*v - dx*dx - dy*dy - dz*dz;
         if ( t < 0 ) {
             return false;
         }
@@ -139,6 +116,15 @@ public class Sphere extends Solid {
         //-----------------------------------------------------------------
     }
 
+    /**
+    Check the general interface contract in superclass method
+    Geometry.isReentrant.
+    */
+    public boolean isReentrant()
+    {
+        return true;
+    }
+
     /**
     Check the general interface contract in superclass method
     Geometry.doContainmentTest.
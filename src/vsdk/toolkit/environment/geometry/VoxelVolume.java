@@ -2,11 +2,15 @@
 //=-------------------------------------------------------------------------=
 //= Module history:                                                         =
 //= - February 22 2007 - Oscar Chavarro: Original base version              =
+//= - October 18 2026: 3D-DDA ray intersection, getYSize fixed              =
+//= - October 18 2026: allocation free getVoxelPosition                     =
 //=-------------------------------------------------------------------------=
 //= References:                                                             =
 //= [KAUF1987] Kaufman, Arie. "Efficient Algorithms for 3D Scan-Conversion  =
 //=     of Parametric Curves, Surfaces, and Volumes", ACM SIGGRAPH Computer =
 //=     Graphics, volume 21, number 4, July 1987.                           =
+//= [AMAN1987] Amanatides, John. Woo, Andrew. "A Fast Voxel Traversal       =
+//=     Algorithm for Ray Tracing", Eurographics 1987.                      =
 //===========================================================================
 
 package vsdk.toolkit.environment.geometry;
@@ -43,10 +47,26 @@ public class VoxelVolume extends Solid {
     public static final long serialVersionUID = 20070222L;
 
     private ArrayList<IndexedColorImage> data;
+    private int threshold;
 
     public VoxelVolume()
     {
         data = null;
+        threshold = 128;
+    }
+
+    /**
+    Sets the minimum voxel value considered solid by `doIntersection`.
+    Defaults to 128.
+    */
+    public void setThreshold(int threshold)
+    {
+        this.threshold = threshold;
+    }
+
+    public int getThreshold()
+    {
+        return threshold;
     }
 
     public int getXSize()
@@ -58,7 +78,7 @@ public class VoxelVolume extends Solid {
     public int getYSize()
     {
         if ( data == null || data.size() < 0 ) return 0;
-        return data.get(0).getXSize();
+        return data.get(0).getYSize();
     }
 
     public int getZSize()
@@ -111,12 +131,21 @@ public class VoxelVolume extends Solid {
     public Vector3D getVoxelPosition(int x, int y, int z)
     {
         Vector3D p = new Vector3D();
-        p.x = ((double)x+0.5) / ((double)getXSize())*2 - 1;
-        p.y = ((double)y+0.5) / ((double)getYSize())*2 - 1;
-        p.z = ((double)z+0.5) / ((double)getZSize())*2 - 1;
+        getVoxelPosition(x, y, z, p);
         return p;
     }
 
+    /**
+    Same as `getVoxelPosition(x, y, z)`, leaving the voxel center
+    in `out` instead of allocating it.
+    */
+    public void getVoxelPosition(int x, int y, int z, Vector3D out)
+    {
+        out.x = ((double)x+0.5) / ((double)getXSize())*2 - 1;
+        out.y = ((double)y+0.5) / ((double)getYSize())*2 - 1;
+        out.z = ((double)z+0.5) / ((double)getZSize())*2 - 1;
+    }
+
     /**
     Partial coordinate convertion (X axis) for `x` voxel coordinate to
     corresponding voxel index.
@@ -246,26 +275,160 @@ public class VoxelVolume extends Solid {
     }
 
     /**
-     Check the general interface contract in superclass method
-     Geometry.doIntersection.
-
-       Dado un Ray `inout_rayo`, esta operaci&oacute;n determina si el rayo se
-       intersecta con alguna de las mallas de triangulos. Si el rayo no intersecta
-       al objeto se retorna 0, y de lo contrario se retorna la distancia desde
-       el origen del rayo hasta el punto de interseccion mas cercano de todas las mallas.
-     */
+    Check the general interface contract in superclass method
+    Geometry.doIntersection.
+
+    The ray walks the voxels it crosses, in order, as proposed in
+    [AMAN1987], and stops at the first one with a value not less than
+    current threshold, so the cost is proportional to the number of voxels
+    crossed, not to the volume size.
+    */
     public boolean doIntersection(Ray inOut_Ray) {
-        return false;
+        double t = traverse(inOut_Ray, null);
+        if ( t < 0 ) {
+            return false;
+        }
+        inOut_Ray.t = t;
+        return true;
     }
 
     /**
     Check the general interface contract in superclass method
     Geometry.doExtraInformation.
+
+    The normal is the one of the voxel face crossed by the ray, or the
+    opposite of the ray direction when the ray starts inside a solid voxel.
     */
     public void
     doExtraInformation(Ray inRay, double inT,
                                    GeometryIntersectionInformation outData) {
-        ;
+        int face[] = new int[2];
+
+        outData.p.x = inRay.origin.x + inT * inRay.direction.x;
+        outData.p.y = inRay.origin.y + inT * inRay.direction.y;
+        outData.p.z = inRay.origin.z + inT * inRay.direction.z;
+
+        outData.n.x = 0;
+        outData.n.y = 0;
+        outData.n.z = 0;
+        if ( traverse(inRay, face) < 0 || face[1] == 0 ) {
+            outData.n.x = -inRay.direction.x;
+            outData.n.y = -inRay.direction.y;
+            outData.n.z = -inRay.direction.z;
+            outData.n.normalize();
+            return;
+        }
+        switch ( face[0] ) {
+          case 0: outData.n.x = face[1]; break;
+          case 1: outData.n.y = face[1]; break;
+          default: outData.n.z = face[1]; break;
+        }
+    }
+
+    /**
+    Traverses the voxels crossed by `inRay`, starting at the ray origin or
+    at the volume frame.
+    @param outFace if not null, receives the axis of the face through
+    which the ray entered the voxel found (0 to 2 for x to z), and the sign
+    of its normal (0 when the ray starts inside the voxel)
+    @return distance along the ray to the first voxel with a value not less
+    than current threshold, or -1 if there is none
+    */
+    private double traverse(Ray inRay, int outFace[])
+    {
+        int size[] = {getXSize(), getYSize(), getZSize()};
+        double o[] = {inRay.origin.x, inRay.origin.y, inRay.origin.z};
+        double d[] = {inRay.direction.x, inRay.direction.y, inRay.direction.z};
+        int cell[] = new int[3];
+        int step[] = new int[3];
+        double tMax[] = new double[3];
+        double tDelta[] = new double[3];
+        double tEnter = 0, tExit = Double.MAX_VALUE;
+        int axis, enterAxis = -1;
+
+        if ( size[0] <= 0 || size[1] <= 0 || size[2] <= 0 ) {
+            return -1;
+        }
+
+        // Clip the ray to the voxel frame
+        for ( axis = 0; axis < 3; axis++ ) {
+            if ( Math.abs(d[axis]) < VSDK.EPSILON ) {
+                if ( o[axis] < -1 || o[axis] > 1 ) {
+                    return -1;
+                }
+                continue;
+            }
+            double t0 = (-1 - o[axis]) / d[axis];
+            double t1 = (1 - o[axis]) / d[axis];
+            if ( t0 > t1 ) {
+                double aux = t0;
+                t0 = t1;
+                t1 = aux;
+            }
+            if ( t0 > tEnter ) {
+                tEnter = t0;
+                enterAxis = axis;
+            }
+            if ( t1 < tExit ) {
+                tExit = t1;
+            }
+        }
+        if ( tEnter > tExit ) {
+            return -1;
+        }
+
+        // Starting voxel, and distances to next voxel boundaries
+        for ( axis = 0; axis < 3; axis++ ) {
+            double h = 2.0 / size[axis];
+            double p = o[axis] + tEnter * d[axis];
+            cell[axis] = (int)Math.floor((p + 1) / h);
+            cell[axis] = Math.max(0, Math.min(size[axis] - 1, cell[axis]));
+            if ( Math.abs(d[axis]) < VSDK.EPSILON ) {
+                step[axis] = 0;
+                tMax[axis] = Double.MAX_VALUE;
+                tDelta[axis] = Double.MAX_VALUE;
+                continue;
+            }
+            step[axis] = (d[axis] > 0) ? 1 : -1;
+            double boundary = -1 + (cell[axis] + ((step[axis] > 0) ? 1 : 0)) * h;
+            tMax[axis] = (boundary - o[axis]) / d[axis];
+            tDelta[axis] = h / Math.abs(d[axis]);
+        }
+
+        double t = tEnter;
+        axis = enterAxis;
+        while ( true ) {
+            if ( getVoxel(cell[0], cell[1], cell[2]) >= threshold ) {
+                if ( outFace != null ) {
+                    outFace[0] = Math.max(axis, 0);
+                    outFace[1] = (axis < 0) ? 0 : -step[axis];
+                }
+                return t;
+            }
+
+            // Step along the axis with the nearest voxel boundary
+            axis = 0;
+            if ( tMax[1] < tMax[axis] ) axis = 1;
+            if ( tMax[2] < tMax[axis] ) axis = 2;
+            t = tMax[axis];
+            if ( t > tExit ) {
+                return -1;
+            }
+            cell[axis] += step[axis];
+            if ( cell[axis] < 0 || cell[axis] >= size[axis] ) {
+                return -1;
+            }
+            tMax[axis] += tDelta[axis];
+        }
+    }
+
+    /**
+    Check the general interface contract in superclass method
+    Geometry.isReentrant. Intersections only read the voxels.
+    */
+    public boolean isReentrant()
+    {
+        return true;
     }
 
     /**
@@ -0,0 +1,102 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.environment.scene;
+
+// VitralSDK classes
+import vsdk.toolkit.common.Entity;
+import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+import vsdk.toolkit.environment.Material;
+import vsdk.toolkit.environment.geometry.Geometry;
+
+/**
+A `SimpleBody` places a `Geometry` in a scene: it gives it a material, a
+position and a rotation. As geometries are defined around their own
+origin, a point `p` of the geometry lies at `position + rotation * p` in
+the scene.
+
+The rotation must be orthonormal (no scaling), so distances along rays
+are the same in scene and geometry coordinates.
+*/
+public class SimpleBody extends Entity
+{
+    /// Check the general attribute description in superclass Entity.
+    public static final long serialVersionUID = 20261018L;
+
+    private Geometry geometry;
+    private Material material;
+    private Vector3D position;
+    private Matrix4x4 rotation;
+    private Matrix4x4 rotationInverse;
+
+    public SimpleBody(Geometry geometry, Material material)
+    {
+        this.geometry = geometry;
+        this.material = material;
+        position = new Vector3D();
+        rotation = new Matrix4x4();
+        rotationInverse = new Matrix4x4();
+    }
+
+    public Geometry getGeometry()
+    {
+        return geometry;
+    }
+
+    public void setGeometry(Geometry geometry)
+    {
+        this.geometry = geometry;
+    }
+
+    public Material getMaterial()
+    {
+        return material;
+    }
+
+    public void setMaterial(Material material)
+    {
+        this.material = material;
+    }
+
+    public Vector3D getPosition()
+    {
+        return position;
+    }
+
+    public void setPosition(Vector3D position)
+    {
+        this.position.clone(position);
+    }
+
+    public Matrix4x4 getRotation()
+    {
+        return rotation;
+    }
+
+    /**
+    Sets the body rotation, and precalculates its inverse.
+    */
+    public void setRotation(Matrix4x4 rotation)
+    {
+        this.rotation = new Matrix4x4(rotation);
+        rotationInverse = new Matrix4x4(rotation);
+        rotationInverse.transpose();
+    }
+
+    /**
+    @return the inverse rotation, which takes scene directions to geometry
+    directions. Must not be modified.
+    */
+    public Matrix4x4 getRotationInverse()
+    {
+        return rotationInverse;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -8,6 +8,7 @@ import java.awt.event.MouseWheelEvent;
 
 import vsdk.toolkit.common.linealAlgebra.Vector3D;
 import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.common.linealAlgebra.Quaternion;
 import vsdk.toolkit.environment.Camera;
 
 public class CameraControllerAquynza extends CameraController {
@@ -17,11 +18,17 @@ public class CameraControllerAquynza extends CameraController {
     private int oldMouseY;
     private double deltaMov;
 
+    // Incremental rotations for mouse drags, reused between events
+    private Quaternion dragRotation;
+    private Quaternion auxiliaryRotation;
+
     public CameraControllerAquynza(Camera camera) {
         this.camera = camera;
         oldMouseX = 0;
         oldMouseY = 0;
         deltaMov = 0.25;
+        dragRotation = new Quaternion();
+        auxiliaryRotation = new Quaternion();
     }
 
     public double getDeltaMovement()
@@ -308,8 +315,6 @@ public class CameraControllerAquynza extends CameraController {
         if ( deltaY < -5 ) deltaY = -5;
 
         //------------------------------------------------------------
-        Matrix4x4 R; // Camera rotation matrix
-        Matrix4x4 DR;
         Vector3D eyePosition;
         Vector3D focusedPosition;
         double ax, ay;
@@ -323,22 +328,22 @@ public class CameraControllerAquynza extends CameraController {
 
         modifiers = e.getModifiersEx();
 
-        R = camera.getRotation();
-        u = new Vector3D(R.M[0][0], R.M[1][0], R.M[2][0]);
-        v = new Vector3D(R.M[0][1], R.M[1][1], R.M[2][1]);
-        w = new Vector3D(R.M[0][2], R.M[1][2], R.M[2][2]);
+        // Camera's front, left and up vectors. Rotations around them are
+        // composed as quaternions and applied at the end.
+        u = camera.getFront();
+        v = camera.getLeft();
+        w = camera.getUp();
+        dragRotation.identity();
 
         if ( (modifiers & e.BUTTON1_DOWN_MASK) != 0 ) {
             // Turn
             ax = -Math.min(2, 0.01*deltaX);
             ay = Math.min(2, 0.01*deltaY);
 
-            DR = new Matrix4x4();
-            DR.axisRotation(ay, v.x, v.y, v.z);
-            R = DR.multiply(R);
-
-            DR.axisRotation(ax, w.x, w.y, w.z);
-            R = DR.multiply(R);
+            dragRotation.axisRotation(ay, v);
+            auxiliaryRotation.axisRotation(ax, w);
+            Quaternion.multiplyInto(dragRotation, auxiliaryRotation,
+                                    dragRotation);
 
             updated = true;
         }
@@ -354,9 +359,7 @@ public class CameraControllerAquynza extends CameraController {
             // Advance
             eyePosition = eyePosition.substract(u.multiply(senseFactor*((double)deltaY)));
             ax = Math.min(2, 0.01*deltaX);
-            DR = new Matrix4x4();
-            DR.axisRotation(ax, u.x, u.y, u.z);
-            R = DR.multiply(R);
+            dragRotation.axisRotation(ax, u);
             updated = true;
         }
 
@@ -364,7 +367,7 @@ public class CameraControllerAquynza extends CameraController {
         //R.eulerAnglesRotation(yaw, pitch, roll);
         camera.setPosition(eyePosition);
         camera.setFocusedPositionMaintainingOrthogonality(focusedPosition);
-        camera.setRotation(R);
+        camera.rotate(dragRotation);
 
         //------------------------------------------------------------
         oldMouseX = e.getX();  
@@ -0,0 +1,588 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//=-------------------------------------------------------------------------=
+//= References:                                                             =
+//= [WALD2007] Wald, Ingo. "On fast Construction of SAH-based Bounding      =
+//=     Volume Hierarchies". IEEE Symposium on Interactive Ray Tracing,     =
+//=     2007.                                                               =
+//===========================================================================
+
+package vsdk.toolkit.processing;
+
+// Java base classes
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// VitralSDK classes
+import vsdk.toolkit.common.ArrayListOfInts;
+import vsdk.toolkit.common.Ray;
+
+/**
+This class is a bounding volume hierarchy over a set of items, each one
+given by its axis aligned bounding box, in the same layout returned by
+`Geometry.getMinMax`: minimum x, y, z followed by maximum x, y, z. It
+answers ray and point queries visiting a logarithmic number of nodes for
+well distributed items, instead of testing all of them.
+
+The tree is built top-down, splitting each node where the surface area
+heuristic (SAH), evaluated on a fixed number of bins per axis, is lowest,
+as described in [WALD2007]. Nodes are kept in flat arrays, and the two
+children of a node are always consecutive and stored after their parent.
+Large subtrees can be built in parallel on a `ForkJoinPool`.
+
+When items move without changing much, `refit` updates the node boxes
+for new item boxes keeping the tree structure, which is much cheaper than
+a new build but makes queries slower as items drift away.
+
+Queries only test boxes; items are tested by a `RayIntersector` given by
+the caller. Queries do not modify the hierarchy, so several threads can
+query it at the same time.
+*/
+public class BoundingVolumeHierarchy extends ProcessingElement
+{
+    /**
+    Tests an item of the hierarchy against a ray.
+    */
+    public interface RayIntersector
+    {
+        /**
+        @return distance along `ray` to the nearest intersection with item
+        `item` if it is less than `maxT`, or any value not less than
+        `maxT` otherwise
+        */
+        double intersect(int item, Ray ray, double maxT);
+    }
+
+    private static final int BINS = 16;
+    private static final int MAX_LEAF_SIZE = 8;
+
+    /// Relative cost of visiting a node, with respect to testing an item
+    private static final double TRAVERSAL_COST = 1.0;
+
+    /// Subtrees with more items than this are built as separate tasks
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private int itemCount;
+    private int items[];
+    private double itemBounds[];
+    private double centroids[];
+
+    // Nodes: bounds, first child or first item, and item count (0 for
+    // inner nodes)
+    private double nodeBounds[];
+    private int nodeFirst[];
+    private int nodeCount[];
+    private int nodes;
+    private int depth;
+
+    public BoundingVolumeHierarchy()
+    {
+        items = new int[0];
+        nodeBounds = new double[0];
+        nodeFirst = new int[0];
+        nodeCount = new int[0];
+        nodes = 0;
+        depth = 0;
+    }
+
+    public int getItemCount()
+    {
+        return itemCount;
+    }
+
+    public int getNodeCount()
+    {
+        return nodes;
+    }
+
+    /**
+    @return length of the longest path from the root to a leaf, counted in
+    nodes
+    */
+    public int getDepth()
+    {
+        return depth;
+    }
+
+    /**
+    Builds the hierarchy in current thread.
+    @param bounds 6 values per item, as in `Geometry.getMinMax`
+    @param n number of items
+    */
+    public void build(double bounds[], int n)
+    {
+        build(bounds, n, null);
+    }
+
+    /**
+    Builds the hierarchy, running large subtrees as tasks of `pool`.
+    @param bounds 6 values per item, as in `Geometry.getMinMax`. It is
+    copied.
+    @param n number of items
+    @param pool pool for the build tasks, or null to build in current
+    thread
+    */
+    public void build(double bounds[], int n, ForkJoinPool pool)
+    {
+        int i, axis;
+
+        itemCount = n;
+        itemBounds = new double[6 * n];
+        System.arraycopy(bounds, 0, itemBounds, 0, 6 * n);
+        items = new int[n];
+        centroids = new double[3 * n];
+        for ( i = 0; i < n; i++ ) {
+            items[i] = i;
+            for ( axis = 0; axis < 3; axis++ ) {
+                centroids[3*i + axis] =
+                    (bounds[6*i + axis] + bounds[6*i + 3 + axis]) / 2;
+            }
+        }
+
+        int capacity = Math.max(1, 2 * n - 1);
+        nodeBounds = new double[6 * capacity];
+        nodeFirst = new int[capacity];
+        nodeCount = new int[capacity];
+        AtomicInteger allocated = new AtomicInteger(1);
+
+        Builder root = new Builder(0, 0, n, allocated);
+        if ( pool != null && n > PARALLEL_THRESHOLD ) {
+            pool.invoke(root);
+        }
+        else {
+            root.compute();
+        }
+        nodes = allocated.get();
+        if ( n == 0 ) {
+            nodes = 0;
+        }
+        calculateDepth();
+    }
+
+    /**
+    Updates the node boxes for new item boxes, keeping the tree structure.
+    @param bounds 6 values per item, for the same items of last `build`
+    */
+    public void refit(double bounds[])
+    {
+        int node, i, k;
+
+        System.arraycopy(bounds, 0, itemBounds, 0, 6 * itemCount);
+
+        // Children are stored after their parents
+        for ( node = nodes - 1; node >= 0; node-- ) {
+            if ( nodeCount[node] > 0 ) {
+                setEmpty(nodeBounds, node);
+                for ( i = 0; i < nodeCount[node]; i++ ) {
+                    include(nodeBounds, node, itemBounds,
+                            items[nodeFirst[node] + i]);
+                }
+            }
+            else {
+                int left = nodeFirst[node];
+                for ( k = 0; k < 3; k++ ) {
+                    nodeBounds[6*node + k] = Math.min(
+                        nodeBounds[6*left + k], nodeBounds[6*left + 6 + k]);
+                    nodeBounds[6*node + 3 + k] = Math.max(
+                        nodeBounds[6*left + 3 + k], nodeBounds[6*left + 9 + k]);
+                }
+            }
+        }
+    }
+
+    private void calculateDepth()
+    {
+        int level[] = new int[Math.max(1, nodes)];
+        int node;
+
+        depth = (nodes > 0) ? 1 : 0;
+        level[0] = 1;
+        for ( node = 0; node < nodes; node++ ) {
+            if ( nodeCount[node] == 0 ) {
+                int left = nodeFirst[node];
+                level[left] = level[node] + 1;
+                level[left + 1] = level[node] + 1;
+                depth = Math.max(depth, level[node] + 1);
+            }
+        }
+    }
+
+    /**
+    @return a stack big enough for the queries of current hierarchy
+    */
+    public int[] createStack()
+    {
+        return new int[depth + 1];
+    }
+
+    /**
+    Finds the item nearest to the ray origin hit by `ray`.
+    @param maxT only hits closer than this are reported
+    @param any when true, returns the first hit found instead of the
+    nearest one, as needed for shadow rays
+    @param stack scratch space for the traversal, from `createStack`, or
+    null to allocate one
+    @return index of the item hit, or -1 if none was hit
+    */
+    public int intersect(Ray ray, double maxT, boolean any,
+                         RayIntersector intersector, int stack[])
+    {
+        if ( nodes == 0 ) {
+            return -1;
+        }
+        if ( stack == null || stack.length < depth + 1 ) {
+            stack = createStack();
+        }
+
+        double ox = ray.origin.x, oy = ray.origin.y, oz = ray.origin.z;
+        double ix = 1 / ray.direction.x;
+        double iy = 1 / ray.direction.y;
+        double iz = 1 / ray.direction.z;
+        double best = maxT;
+        int hit = -1;
+        int top = 0;
+        int i;
+
+        stack[top++] = 0;
+        while ( top > 0 ) {
+            int node = stack[--top];
+            if ( entry(node, ox, oy, oz, ix, iy, iz, best) == Double.MAX_VALUE ) {
+                continue;
+            }
+            if ( nodeCount[node] > 0 ) {
+                int first = nodeFirst[node];
+                for ( i = 0; i < nodeCount[node]; i++ ) {
+                    int item = items[first + i];
+                    double t = intersector.intersect(item, ray, best);
+                    if ( t < best ) {
+                        best = t;
+                        hit = item;
+                        if ( any ) {
+                            return hit;
+                        }
+                    }
+                }
+                continue;
+            }
+
+            // Visit nearest child first
+            int left = nodeFirst[node];
+            double tl = entry(left, ox, oy, oz, ix, iy, iz, best);
+            double tr = entry(left + 1, ox, oy, oz, ix, iy, iz, best);
+            if ( tl <= tr ) {
+                if ( tr != Double.MAX_VALUE ) {
+                    stack[top++] = left + 1;
+                }
+                if ( tl != Double.MAX_VALUE ) {
+                    stack[top++] = left;
+                }
+            }
+            else {
+                if ( tl != Double.MAX_VALUE ) {
+                    stack[top++] = left;
+                }
+                if ( tr != Double.MAX_VALUE ) {
+                    stack[top++] = left + 1;
+                }
+            }
+        }
+        return hit;
+    }
+
+    /**
+    @return distance along the ray to the box of `node`, or
+    Double.MAX_VALUE if the ray misses it before `maxT`
+    */
+    private double entry(int node, double ox, double oy, double oz,
+                         double ix, double iy, double iz, double maxT)
+    {
+        int b = 6 * node;
+        double t0, t1, near, far;
+
+        t0 = (nodeBounds[b] - ox) * ix;
+        t1 = (nodeBounds[b + 3] - ox) * ix;
+        near = Math.min(t0, t1);
+        far = Math.max(t0, t1);
+        t0 = (nodeBounds[b + 1] - oy) * iy;
+        t1 = (nodeBounds[b + 4] - oy) * iy;
+        near = Math.max(near, Math.min(t0, t1));
+        far = Math.min(far, Math.max(t0, t1));
+        t0 = (nodeBounds[b + 2] - oz) * iz;
+        t1 = (nodeBounds[b + 5] - oz) * iz;
+        near = Math.max(near, Math.min(t0, t1));
+        far = Math.min(far, Math.max(t0, t1));
+
+        // NaN comparisons fail, keeping rays along a box face
+        if ( far < 0 || near > far || near >= maxT ) {
+            return Double.MAX_VALUE;
+        }
+        return Math.max(near, 0);
+    }
+
+    /**
+    Adds to `out` the items whose box contains point <x, y, z>.
+    */
+    public void findContaining(double x, double y, double z,
+                               ArrayListOfInts out)
+    {
+        if ( nodes == 0 ) {
+            return;
+        }
+        int stack[] = createStack();
+        int top = 0;
+        int i;
+
+        stack[top++] = 0;
+        while ( top > 0 ) {
+            int node = stack[--top];
+            if ( !contains(nodeBounds, node, x, y, z) ) {
+                continue;
+            }
+            if ( nodeCount[node] == 0 ) {
+                stack[top++] = nodeFirst[node];
+                stack[top++] = nodeFirst[node] + 1;
+                continue;
+            }
+            for ( i = 0; i < nodeCount[node]; i++ ) {
+                int item = items[nodeFirst[node] + i];
+                if ( contains(itemBounds, item, x, y, z) ) {
+                    out.add(item);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(double b[], int i,
+                                    double x, double y, double z)
+    {
+        return x >= b[6*i] && x <= b[6*i + 3] &&
+               y >= b[6*i + 1] && y <= b[6*i + 4] &&
+               z >= b[6*i + 2] && z <= b[6*i + 5];
+    }
+
+    private static void setEmpty(double b[], int i)
+    {
+        int k;
+
+        for ( k = 0; k < 3; k++ ) {
+            b[6*i + k] = Double.MAX_VALUE;
+            b[6*i + 3 + k] = -Double.MAX_VALUE;
+        }
+    }
+
+    /**
+    Grows box `i` of `b` to contain box `j` of `from`.
+    */
+    private static void include(double b[], int i, double from[], int j)
+    {
+        int k;
+
+        for ( k = 0; k < 3; k++ ) {
+            b[6*i + k] = Math.min(b[6*i + k], from[6*j + k]);
+            b[6*i + 3 + k] = Math.max(b[6*i + 3 + k], from[6*j + 3 + k]);
+        }
+    }
+
+    private static double halfArea(double b[], int i)
+    {
+        double dx = b[6*i + 3] - b[6*i];
+        double dy = b[6*i + 4] - b[6*i + 1];
+        double dz = b[6*i + 5] - b[6*i + 2];
+        if ( dx < 0 ) {
+            return 0;
+        }
+        return dx*dy + dy*dz + dz*dx;
+    }
+
+    /**
+    Builds the subtree of a node over a range of `items`. Each task only
+    writes its own nodes and its own range of `items`.
+    */
+    private class Builder extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private int node;
+        private int start;
+        private int end;
+        private AtomicInteger allocated;
+
+        // Bins: bounds, item count, and the bounds and counts swept from
+        // each side
+        private double binBounds[] = new double[6 * BINS];
+        private int binCount[] = new int[BINS];
+        private double sweep[] = new double[6];
+        private double rightArea[] = new double[BINS];
+        private int rightCount[] = new int[BINS];
+
+        Builder(int node, int start, int end, AtomicInteger allocated)
+        {
+            this.node = node;
+            this.start = start;
+            this.end = end;
+            this.allocated = allocated;
+        }
+
+        protected void compute()
+        {
+            build(node, start, end);
+        }
+
+        private void build(int node, int start, int end)
+        {
+            int i, axis;
+            int n = end - start;
+
+            // Node bounds and centroid bounds
+            setEmpty(nodeBounds, node);
+            double cmin[] = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+            double cmax[] = {-Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+            for ( i = start; i < end; i++ ) {
+                int item = items[i];
+                include(nodeBounds, node, itemBounds, item);
+                for ( axis = 0; axis < 3; axis++ ) {
+                    cmin[axis] = Math.min(cmin[axis], centroids[3*item + axis]);
+                    cmax[axis] = Math.max(cmax[axis], centroids[3*item + axis]);
+                }
+            }
+            if ( n <= 2 ) {
+                makeLeaf(node, start, n);
+                return;
+            }
+
+            // Best binned SAH split over the three axes
+            double bestCost = Double.MAX_VALUE;
+            int bestAxis = -1;
+            int bestBin = 0;
+            for ( axis = 0; axis < 3; axis++ ) {
+                double extent = cmax[axis] - cmin[axis];
+                if ( extent <= 0 ) {
+                    continue;
+                }
+                fillBins(start, end, axis, cmin[axis], extent);
+
+                // Right to left sweep: area and count of bins b..BINS-1
+                setEmpty(sweep, 0);
+                int count = 0;
+                for ( i = BINS - 1; i > 0; i-- ) {
+                    include(sweep, 0, binBounds, i);
+                    count += binCount[i];
+                    rightArea[i] = halfArea(sweep, 0);
+                    rightCount[i] = count;
+                }
+
+                // Left to right sweep, splitting after bin i - 1
+                setEmpty(sweep, 0);
+                count = 0;
+                for ( i = 1; i < BINS; i++ ) {
+                    include(sweep, 0, binBounds, i - 1);
+                    count += binCount[i - 1];
+                    if ( count == 0 || rightCount[i] == 0 ) {
+                        continue;
+                    }
+                    double cost = halfArea(sweep, 0) * count +
+                                  rightArea[i] * rightCount[i];
+                    if ( cost < bestCost ) {
+                        bestCost = cost;
+                        bestAxis = axis;
+                        bestBin = i;
+                    }
+                }
+            }
+
+            double area = halfArea(nodeBounds, node);
+            double leafCost = n;
+            double splitCost = TRAVERSAL_COST +
+                ((area > 0) ? bestCost / area : n);
+            if ( n <= MAX_LEAF_SIZE &&
+                 (bestAxis < 0 || splitCost >= leafCost) ) {
+                makeLeaf(node, start, n);
+                return;
+            }
+
+            int middle;
+            if ( bestAxis >= 0 ) {
+                middle = partition(start, end, bestAxis, cmin[bestAxis],
+                                   cmax[bestAxis] - cmin[bestAxis], bestBin);
+            }
+            else {
+                // All centroids equal: split by count
+                middle = (start + end) >>> 1;
+            }
+
+            int left = allocated.getAndAdd(2);
+            nodeFirst[node] = left;
+            nodeCount[node] = 0;
+
+            if ( middle - start > PARALLEL_THRESHOLD &&
+                 end - middle > PARALLEL_THRESHOLD ) {
+                invokeAll(new Builder(left, start, middle, allocated),
+                          new Builder(left + 1, middle, end, allocated));
+            }
+            else {
+                build(left, start, middle);
+                build(left + 1, middle, end);
+            }
+        }
+
+        private void makeLeaf(int node, int start, int n)
+        {
+            nodeFirst[node] = start;
+            nodeCount[node] = n;
+        }
+
+        private int binOf(int item, int axis, double min, double extent)
+        {
+            int bin = (int)((centroids[3*item + axis] - min) / extent * BINS);
+            return Math.min(BINS - 1, Math.max(0, bin));
+        }
+
+        private void fillBins(int start, int end, int axis, double min,
+                              double extent)
+        {
+            int i;
+
+            for ( i = 0; i < BINS; i++ ) {
+                setEmpty(binBounds, i);
+                binCount[i] = 0;
+            }
+            for ( i = start; i < end; i++ ) {
+                int item = items[i];
+                int bin = binOf(item, axis, min, extent);
+                include(binBounds, bin, itemBounds, item);
+                binCount[bin]++;
+            }
+        }
+
+        /**
+        Moves the items in bins before `split` to the start of the range.
+        @return end of the items before `split`
+        */
+        private int partition(int start, int end, int axis, double min,
+                              double extent, int split)
+        {
+            int i = start;
+            int j = end - 1;
+
+            while ( i <= j ) {
+                if ( binOf(items[i], axis, min, extent) < split ) {
+                    i++;
+                }
+                else {
+                    int aux = items[i];
+                    items[i] = items[j];
+                    items[j] = aux;
+                    j--;
+                }
+            }
+            return i;
+        }
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
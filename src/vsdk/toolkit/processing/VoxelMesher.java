@@ -0,0 +1,351 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//= - October 18 2026: interior faces                                       =
+//===========================================================================
+
+package vsdk.toolkit.processing;
+
+import vsdk.toolkit.common.ArrayListOfInts;
+
+/**
+This class builds a surface for a voxel grid, as a list of quads. Only the
+faces of solid voxels that are not covered by a neighbour solid voxel are
+kept, and coplanar faces of the same material are merged greedily into
+maximal rectangles, so large flat regions take a single quad. For voxels
+drawn apart from each other, merging can be turned off, as a merged quad
+would hide the gaps between them, and the faces between neighbour voxels
+can be kept, as they show through those gaps.
+
+The grid is given as a byte per voxel, indexed
+<code>x + xSize*(y + ySize*z)</code>. A value of 0 means an empty voxel
+and any other value (read as unsigned) is the voxel material. Unless
+interior faces are kept, any solid voxel hides the faces of its
+neighbours, whatever its material.
+
+Faces are numbered <code>2*axis</code> for the side facing the negative
+direction of <code>axis</code> and <code>2*axis + 1</code> for the side
+facing the positive direction, with axis 0, 1 and 2 for x, y and z. Quads
+are reported as the block of voxels they cover, one voxel thick along the
+face axis.
+*/
+public class VoxelMesher extends ProcessingElement
+{
+    public static final int NEGATIVE_X = 0;
+    public static final int POSITIVE_X = 1;
+    public static final int NEGATIVE_Y = 2;
+    public static final int POSITIVE_Y = 3;
+    public static final int NEGATIVE_Z = 4;
+    public static final int POSITIVE_Z = 5;
+
+    private static final int QUAD_STRIDE = 8;
+
+    private boolean boundaryFaces;
+    private boolean mergeFaces;
+    private boolean interiorFaces;
+    private int mask[];
+    private ArrayListOfInts quads;
+    private int quadCount;
+    private int workMin[] = new int[3];
+    private int workExtent[] = new int[3];
+    private double low[] = new double[3];
+    private double high[] = new double[3];
+    private double cu[] = new double[4];
+    private double cv[] = new double[4];
+
+    public VoxelMesher()
+    {
+        boundaryFaces = true;
+        mergeFaces = true;
+        interiorFaces = false;
+        mask = new int[0];
+        quads = new ArrayListOfInts(QUAD_STRIDE * 256);
+        quadCount = 0;
+    }
+
+    /**
+    When set to false, faces lying on the grid boundary are not generated,
+    as if the grid was surrounded by solid voxels. Defaults to true.
+    */
+    public void setBoundaryFaces(boolean boundaryFaces)
+    {
+        this.boundaryFaces = boundaryFaces;
+    }
+
+    public boolean isBoundaryFacesSet()
+    {
+        return boundaryFaces;
+    }
+
+    /**
+    When set to false, each exposed voxel face is reported as its own quad.
+    Defaults to true.
+    */
+    public void setMergeFaces(boolean mergeFaces)
+    {
+        this.mergeFaces = mergeFaces;
+    }
+
+    public boolean isMergeFacesSet()
+    {
+        return mergeFaces;
+    }
+
+    /**
+    When set to true, faces between two solid voxels are generated too, as
+    the ones of a voxel alone. Defaults to false.
+    */
+    public void setInteriorFaces(boolean interiorFaces)
+    {
+        this.interiorFaces = interiorFaces;
+    }
+
+    public boolean isInteriorFacesSet()
+    {
+        return interiorFaces;
+    }
+
+    /**
+    Builds the quads for given grid, replacing the ones of a previous call.
+    Working memory is kept between calls, so meshing grids of the same size
+    does not allocate.
+    @return number of quads generated
+    */
+    public int mesh(byte voxels[], int xSize, int ySize, int zSize)
+    {
+        if ( voxels.length < xSize*ySize*zSize ) {
+            throw new IllegalArgumentException("Voxel array smaller than " +
+                xSize + "x" + ySize + "x" + zSize);
+        }
+        int size[] = {xSize, ySize, zSize};
+        int stride[] = {1, xSize, xSize*ySize};
+
+        quads.clean();
+        quadCount = 0;
+
+        int axis;
+        for ( axis = 0; axis < 3; axis++ ) {
+            int u = (axis + 1) % 3;
+            int v = (axis + 2) % 3;
+            int uSize = size[u];
+            int vSize = size[v];
+            if ( mask.length < uSize*vSize ) {
+                mask = new int[uSize*vSize];
+            }
+
+            int side;
+            for ( side = 0; side < 2; side++ ) {
+                int step = (side == 0) ? -stride[axis] : stride[axis];
+                int face = 2*axis + side;
+                int slice;
+                for ( slice = 0; slice < size[axis]; slice++ ) {
+                    boolean onBoundary = (side == 0) ? slice == 0 :
+                                                       slice == size[axis]-1;
+                    int i, j;
+                    // Material of each exposed face in this slice, or 0
+                    for ( j = 0; j < vSize; j++ ) {
+                        for ( i = 0; i < uSize; i++ ) {
+                            int index = slice*stride[axis] + i*stride[u] +
+                                        j*stride[v];
+                            int material = voxels[index] & 0xFF;
+                            if ( material != 0 ) {
+                                if ( onBoundary ) {
+                                    if ( !boundaryFaces ) {
+                                        material = 0;
+                                    }
+                                }
+                                else if ( !interiorFaces &&
+                                          voxels[index + step] != 0 ) {
+                                    material = 0;
+                                }
+                            }
+                            mask[j*uSize + i] = material;
+                        }
+                    }
+                    mergeSlice(face, axis, u, v, slice, uSize, vSize);
+                }
+            }
+        }
+        return quadCount;
+    }
+
+    /**
+    Builds the quads for a grid indexed <code>[x][y][z]</code>, where all
+    solid voxels have material 1.
+    */
+    public int mesh(boolean grid[][][])
+    {
+        int xSize = grid.length;
+        int ySize = (xSize > 0) ? grid[0].length : 0;
+        int zSize = (ySize > 0) ? grid[0][0].length : 0;
+        byte voxels[] = new byte[xSize*ySize*zSize];
+        int x, y, z;
+
+        for ( x = 0; x < xSize; x++ ) {
+            for ( y = 0; y < ySize; y++ ) {
+                for ( z = 0; z < zSize; z++ ) {
+                    if ( grid[x][y][z] ) {
+                        voxels[x + xSize*(y + ySize*z)] = 1;
+                    }
+                }
+            }
+        }
+        return mesh(voxels, xSize, ySize, zSize);
+    }
+
+    /**
+    Greedy merge of current mask: each quad grows first along u while the
+    material stays the same, then along v while the whole run repeats. When
+    merging is off every quad stays one voxel wide.
+    */
+    private void mergeSlice(int face, int axis, int u, int v, int slice,
+                            int uSize, int vSize)
+    {
+        int i, j, w, h;
+
+        for ( j = 0; j < vSize; j++ ) {
+            for ( i = 0; i < uSize; ) {
+                int material = mask[j*uSize + i];
+                if ( material == 0 ) {
+                    i++;
+                    continue;
+                }
+                for ( w = 1; mergeFaces && i + w < uSize &&
+                          mask[j*uSize + i + w] == material; w++ ) {
+                    ;
+                }
+                for ( h = 1; mergeFaces && j + h < vSize; h++ ) {
+                    int k;
+                    for ( k = 0; k < w; k++ ) {
+                        if ( mask[(j + h)*uSize + i + k] != material ) {
+                            break;
+                        }
+                    }
+                    if ( k < w ) {
+                        break;
+                    }
+                }
+                int row;
+                for ( row = 0; row < h; row++ ) {
+                    int k;
+                    for ( k = 0; k < w; k++ ) {
+                        mask[(j + row)*uSize + i + k] = 0;
+                    }
+                }
+
+                int min[] = workMin;
+                int extent[] = workExtent;
+                extent[axis] = 1;
+                min[axis] = slice;
+                min[u] = i;
+                min[v] = j;
+                extent[u] = w;
+                extent[v] = h;
+                quads.add(face);
+                quads.add(material);
+                quads.add(min[0]);
+                quads.add(min[1]);
+                quads.add(min[2]);
+                quads.add(extent[0]);
+                quads.add(extent[1]);
+                quads.add(extent[2]);
+                quadCount++;
+                i += w;
+            }
+        }
+    }
+
+    public int getQuadCount()
+    {
+        return quadCount;
+    }
+
+    public int getFace(int quad)
+    {
+        return quads.get(quad*QUAD_STRIDE);
+    }
+
+    public int getMaterial(int quad)
+    {
+        return quads.get(quad*QUAD_STRIDE + 1);
+    }
+
+    /**
+    @return first voxel covered by the quad along <code>axis</code>
+    */
+    public int getMin(int quad, int axis)
+    {
+        return quads.get(quad*QUAD_STRIDE + 2 + axis);
+    }
+
+    /**
+    @return number of voxels covered by the quad along <code>axis</code>,
+    1 along the face axis
+    */
+    public int getExtent(int quad, int axis)
+    {
+        return quads.get(quad*QUAD_STRIDE + 5 + axis);
+    }
+
+    /**
+    Computes the four corners of a quad, counterclockwise as seen from
+    outside the solid. Voxel <code>i</code> along each axis spans from
+    <code>origin + i*pitch</code> to <code>origin + i*pitch + size</code>,
+    so a pitch larger than the voxel size leaves gaps between voxels, that
+    merged quads cover. Turn merging off to keep those gaps visible.
+    @param out receives x, y, z for each corner, starting at
+    <code>offset</code> (12 values)
+    */
+    public void getCorners(int quad, double origin[], double pitch[],
+                           double size[], float out[], int offset)
+    {
+        int face = getFace(quad);
+        int axis = face / 2;
+        int u = (axis + 1) % 3;
+        int v = (axis + 2) % 3;
+        int a;
+
+        for ( a = 0; a < 3; a++ ) {
+            int min = getMin(quad, a);
+            int max = min + getExtent(quad, a) - 1;
+            low[a] = origin[a] + min*pitch[a];
+            high[a] = origin[a] + max*pitch[a] + size[a];
+        }
+
+        double plane = (face % 2 == 1) ? high[axis] : low[axis];
+        // Corners in (u, v), swapped on negative faces to keep the winding
+        cu[0] = low[u];   cv[0] = low[v];
+        cu[2] = high[u];  cv[2] = high[v];
+        if ( face % 2 == 1 ) {
+            cu[1] = high[u];  cv[1] = low[v];
+            cu[3] = low[u];   cv[3] = high[v];
+        }
+        else {
+            cu[1] = low[u];   cv[1] = high[v];
+            cu[3] = high[u];  cv[3] = low[v];
+        }
+
+        int c;
+        for ( c = 0; c < 4; c++ ) {
+            out[offset + 3*c + axis] = (float)plane;
+            out[offset + 3*c + u] = (float)cu[c];
+            out[offset + 3*c + v] = (float)cv[c];
+        }
+    }
+
+    /**
+    @return outward normal component along <code>axis</code> for given face
+    */
+    public static int getNormal(int face, int axis)
+    {
+        if ( face / 2 != axis ) {
+            return 0;
+        }
+        return (face % 2 == 1) ? 1 : -1;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,641 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//= - October 18 2026: Bounding volume hierarchy instead of linear search   =
+//= - October 18 2026: Primary rays generated per tile with generateRays    =
+//===========================================================================
+
+package vsdk.toolkit.render;
+
+// Java base classes
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+// VitralSDK classes
+import vsdk.toolkit.common.ColorRgb;
+import vsdk.toolkit.common.Ray;
+import vsdk.toolkit.common.VSDK;
+import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.environment.Light;
+import vsdk.toolkit.environment.Material;
+import vsdk.toolkit.environment.geometry.Geometry;
+import vsdk.toolkit.environment.geometry.GeometryIntersectionInformation;
+import vsdk.toolkit.environment.scene.SimpleBody;
+import vsdk.toolkit.media.RGBImage;
+import vsdk.toolkit.processing.BoundingVolumeHierarchy;
+
+/**
+This class renders a set of `SimpleBody`s into an `RGBImage` by ray
+tracing. A primary ray is generated for each pixel with
+`Camera.generateRays`, and intersected with the bodies through
+`Geometry.doIntersection` and `Geometry.doExtraInformation`. Hit points
+are shaded with the Phong model, using `Material` and `Light`, with a
+shadow ray towards each point or directional light. Materials with a
+reflection coefficient also get reflected rays, up to a maximum depth.
+
+The image is divided into square tiles, traced as tasks of a
+`ForkJoinPool`, so idle threads steal the remaining tiles. Geometries are
+shared by all the threads: the ones whose `isReentrant` returns false are
+queried inside a critical section, as asked by `Geometry`.
+
+Bodies are found through a `BoundingVolumeHierarchy` over their scene
+bounding boxes, calculated from `Geometry.getMinMax`, so the cost of a ray
+grows with the logarithm of the number of bodies. Bodies with unbounded
+geometries, like `InfinitePlane`, are tested by every ray. When `execute`
+is given the same bodies as in previous call, in the same order, the
+hierarchy is refitted to their new positions instead of being built
+again; callers moving a few bodies between frames should keep them.
+
+PRE: camera viewport must have the size of the wanted image (see
+`Camera.updateViewportResize`).
+*/
+public class Raytracer extends RenderingElement
+{
+    private static final int DEFAULT_TILE_SIZE = 16;
+
+    /// Offset of secondary ray origins from the surface
+    private static final double SURFACE_OFFSET = 1000 * VSDK.EPSILON;
+
+    private ForkJoinPool pool;
+    private int tileSize;
+    private boolean shadows;
+    private int maxDepth;
+    private long raysTraced;
+    private long elapsedNanos;
+
+    // Current frame
+    private Camera camera;
+    private SimpleBody bodies[];
+    private Light lights[];
+    private ColorRgb background;
+    private int width;
+    private int height;
+    private int xTiles;
+
+    // Bounding boxes in scene coordinates of the bounded bodies, their
+    // body indexes, and the indexes of the unbounded ones
+    private double bounds[];
+    private int bounded[];
+    private int unbounded[];
+    private int unboundedCount;
+    private BoundingVolumeHierarchy hierarchy;
+
+    /**
+    Builds a ray tracer tracing its tiles on `VSDK.getSharedPool`.
+    */
+    public Raytracer()
+    {
+        this(VSDK.getSharedPool());
+    }
+
+    /**
+    @param pool pool tracing the tiles
+    */
+    public Raytracer(ForkJoinPool pool)
+    {
+        this.pool = pool;
+        tileSize = DEFAULT_TILE_SIZE;
+        shadows = true;
+        maxDepth = 3;
+        background = new ColorRgb(0, 0, 0);
+        hierarchy = new BoundingVolumeHierarchy();
+    }
+
+    /**
+    Sets the edge length of the tiles in pixels. Defaults to 16.
+    */
+    public void setTileSize(int tileSize)
+    {
+        this.tileSize = Math.max(1, tileSize);
+    }
+
+    public int getTileSize()
+    {
+        return tileSize;
+    }
+
+    public void setShadows(boolean shadows)
+    {
+        this.shadows = shadows;
+    }
+
+    public boolean isShadowsSet()
+    {
+        return shadows;
+    }
+
+    /**
+    Sets the maximum number of reflections followed from a primary ray.
+    Defaults to 3.
+    */
+    public void setMaxDepth(int maxDepth)
+    {
+        this.maxDepth = maxDepth;
+    }
+
+    public int getMaxDepth()
+    {
+        return maxDepth;
+    }
+
+    public void setBackground(ColorRgb c)
+    {
+        background = new ColorRgb(c);
+    }
+
+    /**
+    @return number of rays (primary, shadow and reflected) traced by last
+    call to `execute`
+    */
+    public long getRaysTraced()
+    {
+        return raysTraced;
+    }
+
+    public long getElapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    /**
+    @return rays traced per second by last call to `execute`
+    */
+    public double getRaysPerSecond()
+    {
+        if ( elapsedNanos == 0 ) {
+            return 0;
+        }
+        return raysTraced * 1e9 / elapsedNanos;
+    }
+
+    /**
+    Renders the bodies into `img`, which is resized to the camera viewport
+    size if needed.
+    */
+    public void execute(RGBImage img, Camera c,
+                        ArrayList<SimpleBody> bodies,
+                        ArrayList<Light> lights)
+    {
+        long start = System.nanoTime();
+        int i;
+
+        width = (int)c.getViewportXSize();
+        height = (int)c.getViewportYSize();
+        if ( img.getXSize() != width || img.getYSize() != height ) {
+            img.initNoFill(width, height);
+        }
+        if ( width <= 0 || height <= 0 ) {
+            raysTraced = 0;
+            elapsedNanos = System.nanoTime() - start;
+            return;
+        }
+        camera = c;
+        this.lights = lights.toArray(new Light[lights.size()]);
+        updateHierarchy(bodies);
+
+        xTiles = (width + tileSize - 1) / tileSize;
+        int yTiles = (height + tileSize - 1) / tileSize;
+        raysTraced = pool.invoke(new Tiles(img.getRawImageDirectBuffer(),
+                                           0, xTiles * yTiles));
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    /**
+    Builds the hierarchy over `list`, or refits it if `list` has the same
+    bodies of previous frame.
+    */
+    private void updateHierarchy(ArrayList<SimpleBody> list)
+    {
+        int i, n = 0;
+        boolean same = bodies != null && bodies.length == list.size();
+
+        for ( i = 0; same && i < bodies.length; i++ ) {
+            same = bodies[i] == list.get(i);
+        }
+        if ( !same ) {
+            bodies = list.toArray(new SimpleBody[list.size()]);
+            bounds = new double[6 * bodies.length];
+            bounded = new int[bodies.length];
+            unbounded = new int[bodies.length];
+        }
+
+        unboundedCount = 0;
+        for ( i = 0; i < bodies.length; i++ ) {
+            if ( calculateBounds(bodies[i], n) ) {
+                bounded[n] = i;
+                n++;
+            }
+            else {
+                unbounded[unboundedCount] = i;
+                unboundedCount++;
+            }
+        }
+        if ( same && n == hierarchy.getItemCount() ) {
+            hierarchy.refit(bounds);
+        }
+        else {
+            hierarchy.build(bounds, n, pool);
+        }
+    }
+
+    /**
+    Calculates in position `k` of `bounds` the bounding box of `body` in
+    scene coordinates.
+    @return false if the body geometry is unbounded
+    */
+    private boolean calculateBounds(SimpleBody body, int k)
+    {
+        double minmax[] = body.getGeometry().getMinMax();
+        double limit = Double.MAX_VALUE / 4;
+        int i;
+
+        for ( i = 0; i < 6; i++ ) {
+            if ( Double.isNaN(minmax[i]) || Math.abs(minmax[i]) > limit ) {
+                return false;
+            }
+        }
+
+        // Center is rotated, half sizes grow by the rotation absolute value
+        double cx = (minmax[0] + minmax[3]) / 2;
+        double cy = (minmax[1] + minmax[4]) / 2;
+        double cz = (minmax[2] + minmax[5]) / 2;
+        double ex = (minmax[3] - minmax[0]) / 2;
+        double ey = (minmax[4] - minmax[1]) / 2;
+        double ez = (minmax[5] - minmax[2]) / 2;
+        Matrix4x4 R = body.getRotation();
+        Vector3D p = body.getPosition();
+        for ( i = 0; i < 3; i++ ) {
+            double c = R.M[i][0]*cx + R.M[i][1]*cy + R.M[i][2]*cz;
+            double e = Math.abs(R.M[i][0])*ex + Math.abs(R.M[i][1])*ey +
+                Math.abs(R.M[i][2])*ez;
+            bounds[6*k + i] = c - e;
+            bounds[6*k + 3 + i] = c + e;
+        }
+        for ( i = 0; i < 6; i += 3 ) {
+            bounds[6*k + i] += p.x;
+            bounds[6*k + i + 1] += p.y;
+            bounds[6*k + i + 2] += p.z;
+        }
+        return true;
+    }
+
+    /**
+    Traces the pixels of a range of tiles, splitting it in halves down to
+    single tiles.
+    @return number of rays traced
+    */
+    private class Tiles extends TileRange
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ByteBuffer out;
+
+        Tiles(ByteBuffer out, int from, int to)
+        {
+            super(from, to);
+            this.out = out;
+        }
+
+        protected TileRange split(int from, int to)
+        {
+            return new Tiles(out, from, to);
+        }
+
+        protected long processTile(int tile)
+        {
+            return traceTile(tile, out);
+        }
+    }
+
+    private long traceTile(int tile, ByteBuffer out)
+    {
+        int x0 = (tile % xTiles) * tileSize;
+        int y0 = (tile / xTiles) * tileSize;
+        int x1 = Math.min(width, x0 + tileSize);
+        int y1 = Math.min(height, y0 + tileSize);
+        Tracer tracer = new Tracer();
+        ColorRgb color = new ColorRgb();
+        int x, y;
+
+        Ray ray = tracer.primary;
+        double origins[] = tracer.origins;
+        double directions[] = tracer.directions;
+        int i = 0;
+
+        camera.generateRays(x0, y0, x1 - x0, y1 - y0, origins, directions);
+        for ( y = y0; y < y1; y++ ) {
+            for ( x = x0; x < x1; x++, i += 3 ) {
+                ray.origin.x = origins[i];
+                ray.origin.y = origins[i+1];
+                ray.origin.z = origins[i+2];
+                ray.direction.x = directions[i];
+                ray.direction.y = directions[i+1];
+                ray.direction.z = directions[i+2];
+                tracer.trace(ray, 0, color);
+                int index = 3 * (y * width + x);
+                out.put(index, toByte(color.r));
+                out.put(index + 1, toByte(color.g));
+                out.put(index + 2, toByte(color.b));
+            }
+        }
+        return tracer.rays;
+    }
+
+    private static byte toByte(double c)
+    {
+        return (byte)(int)(Math.min(1, Math.max(0, c)) * 255 + 0.5);
+    }
+
+    /**
+    Scratch data of the thread tracing a tile. Each level of reflection
+    gets its own intersection data.
+    */
+    private class Tracer implements BoundingVolumeHierarchy.RayIntersector
+    {
+        private long rays;
+        private Ray local;
+        private Ray shadow;
+        private Ray reflected[];
+        private GeometryIntersectionInformation info;
+        private ColorRgb reflection;
+
+        private int stack[];
+
+        // Primary rays of current tile
+        private Ray primary;
+        private double origins[];
+        private double directions[];
+
+        // Last hit, in scene coordinates, and last hit found by hierarchy
+        private int hitBody;
+        private double hitT;
+        private double lastT;
+
+        Tracer()
+        {
+            local = new Ray();
+            shadow = new Ray();
+            reflected = new Ray[Math.max(1, maxDepth)];
+            int i;
+            for ( i = 0; i < reflected.length; i++ ) {
+                reflected[i] = new Ray();
+            }
+            info = new GeometryIntersectionInformation();
+            reflection = new ColorRgb();
+            stack = hierarchy.createStack();
+            primary = new Ray();
+            origins = new double[3 * tileSize * tileSize];
+            directions = new double[3 * tileSize * tileSize];
+        }
+
+        /**
+        Calculates in `out` the color seen along `ray`.
+        */
+        void trace(Ray ray, int depth, ColorRgb out)
+        {
+            rays++;
+            if ( !nearest(ray, Double.MAX_VALUE, false) ) {
+                out.r = background.r;
+                out.g = background.g;
+                out.b = background.b;
+                return;
+            }
+
+            // Hit point and normal, in scene coordinates
+            SimpleBody body = bodies[hitBody];
+            double t = hitT;
+            toLocal(body, ray);
+            Geometry g = body.getGeometry();
+            if ( g.isReentrant() ) {
+                g.doIntersection(local);
+                g.doExtraInformation(local, local.t, info);
+            }
+            else {
+                synchronized ( g ) {
+                    g.doIntersection(local);
+                    g.doExtraInformation(local, local.t, info);
+                }
+            }
+            Matrix4x4 R = body.getRotation();
+            double px = ray.origin.x + t * ray.direction.x;
+            double py = ray.origin.y + t * ray.direction.y;
+            double pz = ray.origin.z + t * ray.direction.z;
+            double nx = R.M[0][0]*info.n.x + R.M[0][1]*info.n.y + R.M[0][2]*info.n.z;
+            double ny = R.M[1][0]*info.n.x + R.M[1][1]*info.n.y + R.M[1][2]*info.n.z;
+            double nz = R.M[2][0]*info.n.x + R.M[2][1]*info.n.y + R.M[2][2]*info.n.z;
+            double length = Math.sqrt(nx*nx + ny*ny + nz*nz);
+            if ( length > 0 ) {
+                nx /= length;
+                ny /= length;
+                nz /= length;
+            }
+            double ex = -ray.direction.x;
+            double ey = -ray.direction.y;
+            double ez = -ray.direction.z;
+            if ( nx*ex + ny*ey + nz*ez < 0 ) {
+                nx = -nx;
+                ny = -ny;
+                nz = -nz;
+            }
+
+            Material m = body.getMaterial();
+            ColorRgb ambient = m.getAmbient();
+            ColorRgb diffuse = m.getDiffuse();
+            ColorRgb specular = m.getSpecular();
+            ColorRgb emission = m.getEmission();
+            double r = emission.r;
+            double gg = emission.g;
+            double b = emission.b;
+            int i;
+
+            for ( i = 0; i < lights.length; i++ ) {
+                Light l = lights[i];
+                if ( l.getLightType() == Light.AMBIENT ) {
+                    ColorRgb e = l.getSpecular();
+                    r += ambient.r * e.r;
+                    gg += ambient.g * e.g;
+                    b += ambient.b * e.b;
+                    continue;
+                }
+
+                ColorRgb la = l.getAmbient();
+                r += ambient.r * la.r;
+                gg += ambient.g * la.g;
+                b += ambient.b * la.b;
+
+                double lx, ly, lz, distance;
+                Vector3D lp = l.getPosition();
+                if ( l.getLightType() == Light.DIRECTIONAL ) {
+                    lx = lp.x;
+                    ly = lp.y;
+                    lz = lp.z;
+                    distance = Double.MAX_VALUE;
+                }
+                else {
+                    lx = lp.x - px;
+                    ly = lp.y - py;
+                    lz = lp.z - pz;
+                    distance = Math.sqrt(lx*lx + ly*ly + lz*lz);
+                }
+                length = Math.sqrt(lx*lx + ly*ly + lz*lz);
+                if ( length > 0 ) {
+                    lx /= length;
+                    ly /= length;
+                    lz /= length;
+                }
+                double cosine = nx*lx + ny*ly + nz*lz;
+                if ( cosine <= 0 ) {
+                    continue;
+                }
+
+                if ( shadows ) {
+                    shadow.origin.x = px + SURFACE_OFFSET * nx;
+                    shadow.origin.y = py + SURFACE_OFFSET * ny;
+                    shadow.origin.z = pz + SURFACE_OFFSET * nz;
+                    shadow.direction.x = lx;
+                    shadow.direction.y = ly;
+                    shadow.direction.z = lz;
+                    rays++;
+                    if ( nearest(shadow, distance, true) ) {
+                        continue;
+                    }
+                }
+
+                ColorRgb ld = l.getDiffuse();
+                ColorRgb ls = l.getSpecular();
+                r += diffuse.r * ld.r * cosine;
+                gg += diffuse.g * ld.g * cosine;
+                b += diffuse.b * ld.b * cosine;
+
+                // Phong highlight, around the light reflected direction
+                double rx = 2 * cosine * nx - lx;
+                double ry = 2 * cosine * ny - ly;
+                double rz = 2 * cosine * nz - lz;
+                double highlight = rx*ex + ry*ey + rz*ez;
+                if ( highlight > 0 ) {
+                    highlight = Math.pow(highlight, m.getPhongExponent());
+                    r += specular.r * ls.r * highlight;
+                    gg += specular.g * ls.g * highlight;
+                    b += specular.b * ls.b * highlight;
+                }
+            }
+
+            double kr = m.getReflectionCoefficient();
+            if ( kr > 0 && depth < maxDepth ) {
+                double dn = 2 * (nx*ex + ny*ey + nz*ez);
+                Ray next = reflected[depth];
+                next.origin.x = px + SURFACE_OFFSET * nx;
+                next.origin.y = py + SURFACE_OFFSET * ny;
+                next.origin.z = pz + SURFACE_OFFSET * nz;
+                next.direction.x = dn * nx - ex;
+                next.direction.y = dn * ny - ey;
+                next.direction.z = dn * nz - ez;
+                trace(next, depth + 1, reflection);
+                r += kr * reflection.r;
+                gg += kr * reflection.g;
+                b += kr * reflection.b;
+            }
+
+            out.r = r;
+            out.g = gg;
+            out.b = b;
+        }
+
+        /**
+        Finds the nearest body hit by `ray` closer than `maxT`, leaving it
+        in `hitBody` and `hitT`.
+        @param any when true, stops at the first hit found
+        @return true if a body was hit
+        */
+        boolean nearest(Ray ray, double maxT, boolean any)
+        {
+            int i;
+
+            hitBody = -1;
+            hitT = maxT;
+            for ( i = 0; i < unboundedCount; i++ ) {
+                double t = intersectBody(unbounded[i], ray, hitT);
+                if ( t < hitT ) {
+                    hitT = t;
+                    hitBody = unbounded[i];
+                    if ( any ) {
+                        return true;
+                    }
+                }
+            }
+            int item = hierarchy.intersect(ray, hitT, any, this, stack);
+            if ( item >= 0 ) {
+                hitBody = bounded[item];
+                hitT = lastT;
+            }
+            return hitBody >= 0;
+        }
+
+        /**
+        Intersects item `item` of the hierarchy, called back from
+        `BoundingVolumeHierarchy.intersect`.
+        */
+        public double intersect(int item, Ray ray, double maxT)
+        {
+            double t = intersectBody(bounded[item], ray, maxT);
+            if ( t < maxT ) {
+                lastT = t;
+            }
+            return t;
+        }
+
+        /**
+        @return distance to the intersection of `ray` with body `i`, or
+        `maxT` if there is none closer
+        */
+        private double intersectBody(int i, Ray ray, double maxT)
+        {
+            toLocal(bodies[i], ray);
+            Geometry g = bodies[i].getGeometry();
+            boolean hit;
+            if ( g.isReentrant() ) {
+                hit = g.doIntersection(local);
+            }
+            else {
+                synchronized ( g ) {
+                    hit = g.doIntersection(local);
+                }
+            }
+            if ( hit && local.t < maxT ) {
+                return local.t;
+            }
+            return maxT;
+        }
+
+        /**
+        Leaves in `local` the ray `ray` in the coordinates of `body`.
+        */
+        private void toLocal(SimpleBody body, Ray ray)
+        {
+            Matrix4x4 Ri = body.getRotationInverse();
+            Vector3D p = body.getPosition();
+            double ox = ray.origin.x - p.x;
+            double oy = ray.origin.y - p.y;
+            double oz = ray.origin.z - p.z;
+            double dx = ray.direction.x;
+            double dy = ray.direction.y;
+            double dz = ray.direction.z;
+
+            local.origin.x = Ri.M[0][0]*ox + Ri.M[0][1]*oy + Ri.M[0][2]*oz;
+            local.origin.y = Ri.M[1][0]*ox + Ri.M[1][1]*oy + Ri.M[1][2]*oz;
+            local.origin.z = Ri.M[2][0]*ox + Ri.M[2][1]*oy + Ri.M[2][2]*oz;
+            local.direction.x = Ri.M[0][0]*dx + Ri.M[0][1]*dy + Ri.M[0][2]*dz;
+            local.direction.y = Ri.M[1][0]*dx + Ri.M[1][1]*dy + Ri.M[1][2]*dz;
+            local.direction.z = Ri.M[2][0]*dx + Ri.M[2][1]*dy + Ri.M[2][2]*dz;
+            local.t = 0;
+        }
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,65 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render;
+
+// Java base classes
+import java.util.concurrent.RecursiveTask;
+
+/**
+This class is a fork/join task processing a range of screen tiles, for the
+renderers of this package that split an image into tiles. The range is split
+in halves down to single tiles, and the values returned by the tiles (such
+as the number of rays traced) are added up. An empty range processes no
+tile and returns 0.
+*/
+abstract class TileRange extends RecursiveTask<Long>
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final int from;
+    protected final int to;
+
+    /**
+    @param from first tile of the range
+    @param to tile after the last one of the range
+    */
+    protected TileRange(int from, int to)
+    {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+    @return a task of the same kind for tiles <code>from</code> to
+    <code>to</code>
+    */
+    protected abstract TileRange split(int from, int to);
+
+    /**
+    @return the value of the tile, added up over the range
+    */
+    protected abstract long processTile(int tile);
+
+    protected Long compute()
+    {
+        if ( to - from <= 0 ) {
+            return 0L;
+        }
+        if ( to - from == 1 ) {
+            return processTile(from);
+        }
+        int middle = (from + to) >>> 1;
+        TileRange left = split(from, middle);
+        left.fork();
+        long value = split(middle, to).compute();
+        return value + left.join();
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
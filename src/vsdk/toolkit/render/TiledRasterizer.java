@@ -0,0 +1,715 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render;
+
+// Java base classes
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// VitralSDK classes
+import vsdk.toolkit.common.ArrayListOfInts;
+import vsdk.toolkit.common.ColorRgb;
+import vsdk.toolkit.common.VSDK;
+import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.environment.Light;
+import vsdk.toolkit.environment.Material;
+import vsdk.toolkit.media.RGBImage;
+
+/**
+This class is a software renderer that draws flat shaded triangles into an
+<code>RGBImage</code> with a z-buffer, without needing OpenGL. It follows
+the same conventions as the JOGL renderers: the camera projection comes from
+<code>Camera.calculateProjectionMatrix</code>, polygons are front facing
+when their vertices are counter-clockwise seen from outside, and non double
+sided materials get their back faces culled.
+
+Polygons are added with the current transformation, material and lights,
+which are used right away to transform, light (one color per polygon,
+computed at its center) and clip them against the near plane. When
+<code>render</code> is called, triangles are binned into square screen
+tiles, and tiles are rasterized in parallel on a <code>ForkJoinPool</code>.
+Each tile owns its part of the color and depth buffers, so tiles need no
+synchronization.
+
+Lights are taken in world coordinates. Point and directional lights add
+diffuse and Blinn-Phong specular terms, ambient lights add their color
+times the material ambient color.
+
+PRE: camera viewport must have the image aspect (see
+<code>Camera.updateViewportResize</code>).
+*/
+public class TiledRasterizer extends RenderingElement
+{
+    private static final int DEFAULT_TILE_SIZE = 64;
+
+    // Screen triangle: x, y, z of its three vertices
+    private static final int TRIANGLE_STRIDE = 9;
+
+    /**
+    Unit cube faces, as the corners of each face, counter-clockwise
+    seen from outside
+    */
+    private static final int CUBE_FACES[][] = {
+        {0, 4, 6, 2}, {1, 3, 7, 5}, {0, 1, 5, 4},
+        {2, 6, 7, 3}, {0, 2, 3, 1}, {4, 5, 7, 6}
+    };
+
+    private ForkJoinPool pool;
+    private int tileSize;
+
+    // Current frame setup
+    private double projection[];
+    private double transform[];
+    private Vector3D eye;
+    private int width;
+    private int height;
+    private Material material;
+    private Material defaultMaterial;
+    private ColorRgb colorMaterial;
+    private ArrayList<Light> lights;
+    private int background;
+
+    // Triangles in screen space
+    private float triangles[];
+    private int colors[];
+    private int triangleCount;
+
+    // Buffers and tile bins
+    private int colorBuffer[];
+    private float depthBuffer[];
+    private ArrayListOfInts bins[];
+    private int xTiles;
+    private int yTiles;
+
+    // Scratch data for adding triangles
+    private double polygon[] = new double[3 * 4];
+    private double world[] = new double[3 * 4];
+    private double clip[] = new double[4 * 4];
+    private double clipped[] = new double[4 * 4];
+
+    /**
+    Builds a rasterizer drawing its tiles on <code>VSDK.getSharedPool</code>.
+    */
+    public TiledRasterizer()
+    {
+        this(VSDK.getSharedPool());
+    }
+
+    /**
+    @param pool pool rasterizing the tiles
+    */
+    public TiledRasterizer(ForkJoinPool pool)
+    {
+        this.pool = pool;
+        tileSize = DEFAULT_TILE_SIZE;
+        projection = new double[16];
+        transform = new double[16];
+        lights = new ArrayList<Light>();
+        triangles = new float[TRIANGLE_STRIDE * 1024];
+        colors = new int[1024];
+        colorBuffer = new int[0];
+        depthBuffer = new float[0];
+        bins = new ArrayListOfInts[0];
+        eye = new Vector3D();
+        defaultMaterial = new Material();
+        setTransform(null);
+        setMaterial(null);
+        setBackground(new ColorRgb(0, 0, 0));
+    }
+
+    public int getTileSize()
+    {
+        return tileSize;
+    }
+
+    /**
+    Sets the edge length of the tiles in pixels. Defaults to 64.
+    */
+    public void setTileSize(int tileSize)
+    {
+        this.tileSize = Math.max(8, tileSize);
+    }
+
+    public void setBackground(ColorRgb c)
+    {
+        background = packColor(c.r, c.g, c.b);
+    }
+
+    /**
+    Starts a new frame for an image of the given size, removing all the
+    triangles and lights added before.
+    */
+    public void begin(Camera c, int width, int height)
+    {
+        Matrix4x4 P = c.calculateProjectionMatrix();
+        int row, column;
+
+        for ( row = 0; row < 4; row++ ) {
+            for ( column = 0; column < 4; column++ ) {
+                projection[4*row + column] = P.M[row][column];
+            }
+        }
+        eye.clone(c.getPosition());
+        this.width = width;
+        this.height = height;
+        triangleCount = 0;
+        lights.clear();
+        setTransform(null);
+    }
+
+    public void addLight(Light l)
+    {
+        lights.add(l);
+    }
+
+    /**
+    Sets the transformation from the coordinates of next triangles to
+    world coordinates.
+    @param T transformation matrix, or null for the identity
+    */
+    public void setTransform(Matrix4x4 T)
+    {
+        int row, column;
+
+        for ( row = 0; row < 4; row++ ) {
+            for ( column = 0; column < 4; column++ ) {
+                if ( T == null ) {
+                    transform[4*row + column] = (row == column) ? 1 : 0;
+                }
+                else {
+                    transform[4*row + column] = T.M[row][column];
+                }
+            }
+        }
+    }
+
+    /**
+    @param m material of next triangles, or null for a default
+    <code>Material</code>
+    */
+    public void setMaterial(Material m)
+    {
+        material = (m != null) ? m : defaultMaterial;
+    }
+
+    /**
+    Replaces the material diffuse color for next triangles, as
+    <code>GL_COLOR_MATERIAL</code> does.
+    @param c diffuse color, or null to use the material one
+    */
+    public void setColorMaterial(ColorRgb c)
+    {
+        colorMaterial = c;
+    }
+
+    public int getTriangleCount()
+    {
+        return triangleCount;
+    }
+
+    /**
+    Adds a quad given by its four corners, which must be coplanar.
+    @param v corner coordinates, x, y and z of each corner
+    @param offset position of first corner coordinate in <code>v</code>
+    */
+    public void addQuad(float v[], int offset)
+    {
+        int i;
+
+        for ( i = 0; i < 12; i++ ) {
+            polygon[i] = v[offset + i];
+        }
+        addPolygon(4);
+    }
+
+    /**
+    Adds a triangle given by the x, y and z coordinates of its three
+    vertices.
+    */
+    public void addTriangle(double x0, double y0, double z0,
+                            double x1, double y1, double z1,
+                            double x2, double y2, double z2)
+    {
+        polygon[0] = x0; polygon[1] = y0; polygon[2] = z0;
+        polygon[3] = x1; polygon[4] = y1; polygon[5] = z1;
+        polygon[6] = x2; polygon[7] = y2; polygon[8] = z2;
+        addPolygon(3);
+    }
+
+    /**
+    Adds an axis aligned box centered at <x, y, z>.
+    */
+    public void addBox(double x, double y, double z,
+                       double xSize, double ySize, double zSize)
+    {
+        int face, corner, i;
+
+        for ( face = 0; face < 6; face++ ) {
+            for ( corner = 0; corner < 4; corner++ ) {
+                i = CUBE_FACES[face][corner];
+                polygon[3*corner] = x + (((i & 1) != 0) ? 0.5 : -0.5) * xSize;
+                polygon[3*corner + 1] = y + (((i & 2) != 0) ? 0.5 : -0.5) * ySize;
+                polygon[3*corner + 2] = z + (((i & 4) != 0) ? 0.5 : -0.5) * zSize;
+            }
+            addPolygon(4);
+        }
+    }
+
+    /**
+    Transforms, lights, clips and stores the convex polygon of
+    <code>n</code> vertices in <code>polygon</code>. The whole polygon gets
+    a single color.
+    */
+    private void addPolygon(int n)
+    {
+        int i, j;
+
+        // Model to world coordinates
+        for ( i = 0; i < n; i++ ) {
+            for ( j = 0; j < 3; j++ ) {
+                world[3*i + j] = transform[4*j] * polygon[3*i] +
+                                 transform[4*j + 1] * polygon[3*i + 1] +
+                                 transform[4*j + 2] * polygon[3*i + 2] +
+                                 transform[4*j + 3];
+            }
+        }
+
+        // World to clip coordinates
+        for ( i = 0; i < n; i++ ) {
+            for ( j = 0; j < 4; j++ ) {
+                clip[4*i + j] = projection[4*j] * world[3*i] +
+                                projection[4*j + 1] * world[3*i + 1] +
+                                projection[4*j + 2] * world[3*i + 2] +
+                                projection[4*j + 3];
+            }
+        }
+        if ( outside(n, 0, -1) || outside(n, 0, 1) || outside(n, 1, -1) ||
+             outside(n, 1, 1) || outside(n, 2, -1) || outside(n, 2, 1) ) {
+            return;
+        }
+
+        int color = shade(n);
+        for ( i = 1; i < n - 1; i++ ) {
+            addClipTriangle(0, i, i + 1, color);
+        }
+    }
+
+    /**
+    Clips against the near plane, culls and stores triangle (a, b, c) of
+    <code>clip</code>.
+    */
+    private void addClipTriangle(int a, int b, int c, int color)
+    {
+        int m = clipNear(a, b, c);
+        int i, j;
+
+        if ( m < 3 ) {
+            return;
+        }
+
+        // Back face culling, on the screen area of the clipped polygon
+        double area = 0;
+        for ( i = 0; i < m; i++ ) {
+            j = (i + 1) % m;
+            area += clipped[4*i] / clipped[4*i + 3] * clipped[4*j + 1] / clipped[4*j + 3] -
+                    clipped[4*j] / clipped[4*j + 3] * clipped[4*i + 1] / clipped[4*i + 3];
+        }
+        if ( area == 0 || (area < 0 && !material.isDoubleSided()) ) {
+            return;
+        }
+        for ( i = 1; i < m - 1; i++ ) {
+            storeTriangle(0, i, i + 1, area > 0, color);
+        }
+    }
+
+    /**
+    @return true if the <code>n</code> vertices in <code>clip</code> are out
+    of the plane <code>coordinate = side * w</code>
+    */
+    private boolean outside(int n, int coordinate, int side)
+    {
+        int i;
+
+        for ( i = 0; i < n; i++ ) {
+            if ( side * clip[4*i + coordinate] < clip[4*i + 3] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+    Clips triangle (a, b, c) of <code>clip</code> against the near plane,
+    <code>z = -w</code>.
+    @return number of vertices of the clipped polygon, left in
+    <code>clipped</code>
+    */
+    private int clipNear(int a, int b, int c)
+    {
+        int n = 0;
+        int v, i, j, k;
+
+        for ( v = 0; v < 3; v++ ) {
+            i = (v == 0) ? a : ((v == 1) ? b : c);
+            j = (v == 0) ? b : ((v == 1) ? c : a);
+            double di = clip[4*i + 2] + clip[4*i + 3];
+            double dj = clip[4*j + 2] + clip[4*j + 3];
+            if ( di >= 0 ) {
+                for ( k = 0; k < 4; k++ ) {
+                    clipped[4*n + k] = clip[4*i + k];
+                }
+                n++;
+            }
+            if ( (di >= 0) != (dj >= 0) ) {
+                double t = di / (di - dj);
+                for ( k = 0; k < 4; k++ ) {
+                    clipped[4*n + k] = clip[4*i + k] +
+                        t * (clip[4*j + k] - clip[4*i + k]);
+                }
+                n++;
+            }
+        }
+        return n;
+    }
+
+    /**
+    @return color of the polygon of <code>n</code> vertices in
+    <code>world</code>, lighted at its center
+    */
+    private int shade(int n)
+    {
+        double ux = world[3] - world[0];
+        double uy = world[4] - world[1];
+        double uz = world[5] - world[2];
+        double vx = world[6] - world[0];
+        double vy = world[7] - world[1];
+        double vz = world[8] - world[2];
+        double nx = uy * vz - uz * vy;
+        double ny = uz * vx - ux * vz;
+        double nz = ux * vy - uy * vx;
+        double length = Math.sqrt(nx*nx + ny*ny + nz*nz);
+        if ( length > 0 ) {
+            nx /= length;
+            ny /= length;
+            nz /= length;
+        }
+        double cx = 0, cy = 0, cz = 0;
+        int i;
+        for ( i = 0; i < n; i++ ) {
+            cx += world[3*i] / n;
+            cy += world[3*i + 1] / n;
+            cz += world[3*i + 2] / n;
+        }
+
+        // Viewer direction, normal facing the viewer
+        double ex = eye.x - cx;
+        double ey = eye.y - cy;
+        double ez = eye.z - cz;
+        length = Math.sqrt(ex*ex + ey*ey + ez*ez);
+        if ( length > 0 ) {
+            ex /= length;
+            ey /= length;
+            ez /= length;
+        }
+        if ( nx*ex + ny*ey + nz*ez < 0 ) {
+            nx = -nx;
+            ny = -ny;
+            nz = -nz;
+        }
+
+        ColorRgb ambient = material.getAmbient();
+        ColorRgb diffuse = (colorMaterial != null) ?
+            colorMaterial : material.getDiffuse();
+        ColorRgb specular = material.getSpecular();
+        ColorRgb emission = material.getEmission();
+        double r = emission.r;
+        double g = emission.g;
+        double b = emission.b;
+
+        for ( i = 0; i < lights.size(); i++ ) {
+            Light l = lights.get(i);
+            if ( l.getLightType() == Light.AMBIENT ) {
+                ColorRgb e = l.getSpecular();
+                r += ambient.r * e.r;
+                g += ambient.g * e.g;
+                b += ambient.b * e.b;
+                continue;
+            }
+
+            double lx, ly, lz;
+            Vector3D p = l.getPosition();
+            if ( l.getLightType() == Light.DIRECTIONAL ) {
+                lx = p.x;
+                ly = p.y;
+                lz = p.z;
+            }
+            else {
+                lx = p.x - cx;
+                ly = p.y - cy;
+                lz = p.z - cz;
+            }
+            length = Math.sqrt(lx*lx + ly*ly + lz*lz);
+            if ( length > 0 ) {
+                lx /= length;
+                ly /= length;
+                lz /= length;
+            }
+
+            ColorRgb la = l.getAmbient();
+            ColorRgb ld = l.getDiffuse();
+            ColorRgb ls = l.getSpecular();
+            r += ambient.r * la.r;
+            g += ambient.g * la.g;
+            b += ambient.b * la.b;
+
+            double cosine = nx*lx + ny*ly + nz*lz;
+            if ( cosine <= 0 ) {
+                continue;
+            }
+            r += diffuse.r * ld.r * cosine;
+            g += diffuse.g * ld.g * cosine;
+            b += diffuse.b * ld.b * cosine;
+
+            double hx = lx + ex;
+            double hy = ly + ey;
+            double hz = lz + ez;
+            length = Math.sqrt(hx*hx + hy*hy + hz*hz);
+            if ( length > 0 ) {
+                double highlight = Math.pow(
+                    Math.max(0, (nx*hx + ny*hy + nz*hz) / length),
+                    material.getPhongExponent());
+                r += specular.r * ls.r * highlight;
+                g += specular.g * ls.g * highlight;
+                b += specular.b * ls.b * highlight;
+            }
+        }
+        return packColor(r, g, b);
+    }
+
+    private static int packColor(double r, double g, double b)
+    {
+        int ir = (int)(Math.min(1, Math.max(0, r)) * 255 + 0.5);
+        int ig = (int)(Math.min(1, Math.max(0, g)) * 255 + 0.5);
+        int ib = (int)(Math.min(1, Math.max(0, b)) * 255 + 0.5);
+        return (ir << 16) | (ig << 8) | ib;
+    }
+
+    /**
+    Stores triangle (a, b, c) of <code>clipped</code> in screen coordinates,
+    with counter-clockwise winding on screen.
+    @param counterClockwise true if the vertices are counter-clockwise in
+    normalized device coordinates
+    */
+    private void storeTriangle(int a, int b, int c, boolean counterClockwise,
+                               int color)
+    {
+        if ( triangleCount == colors.length ) {
+            colors = Arrays.copyOf(colors, triangleCount * 2);
+            triangles = Arrays.copyOf(triangles,
+                                      triangleCount * 2 * TRIANGLE_STRIDE);
+        }
+
+        // Screen y goes down, which reverses the winding
+        if ( counterClockwise ) {
+            int aux = b;
+            b = c;
+            c = aux;
+        }
+        int base = TRIANGLE_STRIDE * triangleCount;
+        storeVertex(a, base);
+        storeVertex(b, base + 3);
+        storeVertex(c, base + 6);
+        colors[triangleCount] = color;
+        triangleCount++;
+    }
+
+    private void storeVertex(int v, int base)
+    {
+        double w = clipped[4*v + 3];
+        triangles[base] = (float)((clipped[4*v] / w + 1) * 0.5 * width);
+        triangles[base + 1] = (float)((1 - clipped[4*v + 1] / w) * 0.5 * height);
+        triangles[base + 2] = (float)(clipped[4*v + 2] / w);
+    }
+
+    /**
+    Draws all the triangles added since last <code>begin</code> into the
+    image, which is resized if needed.
+    */
+    public void render(RGBImage img)
+    {
+        if ( img.getXSize() != width || img.getYSize() != height ) {
+            img.initNoFill(width, height);
+        }
+        if ( width <= 0 || height <= 0 ) {
+            return;
+        }
+        if ( colorBuffer.length < width * height ) {
+            colorBuffer = new int[width * height];
+            depthBuffer = new float[width * height];
+        }
+        bin();
+        pool.invoke(new Tiles(img.getRawImageDirectBuffer(), 0,
+                              xTiles * yTiles));
+    }
+
+    /**
+    Lists in each tile bin the triangles whose bounding box covers it.
+    */
+    private void bin()
+    {
+        int i, x, y;
+
+        xTiles = (width + tileSize - 1) / tileSize;
+        yTiles = (height + tileSize - 1) / tileSize;
+        if ( bins.length < xTiles * yTiles ) {
+            bins = new ArrayListOfInts[xTiles * yTiles];
+            for ( i = 0; i < bins.length; i++ ) {
+                bins[i] = new ArrayListOfInts(256);
+            }
+        }
+        for ( i = 0; i < xTiles * yTiles; i++ ) {
+            bins[i].clean();
+        }
+
+        for ( i = 0; i < triangleCount; i++ ) {
+            int base = TRIANGLE_STRIDE * i;
+            float minX = Math.min(triangles[base], Math.min(triangles[base + 3], triangles[base + 6]));
+            float maxX = Math.max(triangles[base], Math.max(triangles[base + 3], triangles[base + 6]));
+            float minY = Math.min(triangles[base + 1], Math.min(triangles[base + 4], triangles[base + 7]));
+            float maxY = Math.max(triangles[base + 1], Math.max(triangles[base + 4], triangles[base + 7]));
+            int x0 = Math.max(0, (int)Math.floor(minX) / tileSize);
+            int x1 = Math.min(xTiles - 1, (int)Math.floor(maxX) / tileSize);
+            int y0 = Math.max(0, (int)Math.floor(minY) / tileSize);
+            int y1 = Math.min(yTiles - 1, (int)Math.floor(maxY) / tileSize);
+            for ( y = y0; y <= y1; y++ ) {
+                for ( x = x0; x <= x1; x++ ) {
+                    bins[y * xTiles + x].add(i);
+                }
+            }
+        }
+    }
+
+    /**
+    Rasterizes one tile and copies it to the image.
+    */
+    private void drawTile(int tile, ByteBuffer out)
+    {
+        int tx0 = (tile % xTiles) * tileSize;
+        int ty0 = (tile / xTiles) * tileSize;
+        int tx1 = Math.min(width, tx0 + tileSize);
+        int ty1 = Math.min(height, ty0 + tileSize);
+        ArrayListOfInts bin = bins[tile];
+        int i, x, y;
+
+        for ( y = ty0; y < ty1; y++ ) {
+            Arrays.fill(colorBuffer, y * width + tx0, y * width + tx1, background);
+            Arrays.fill(depthBuffer, y * width + tx0, y * width + tx1, Float.MAX_VALUE);
+        }
+
+        for ( i = 0; i < bin.size(); i++ ) {
+            int t = bin.get(i);
+            int base = TRIANGLE_STRIDE * t;
+            float x0 = triangles[base], y0 = triangles[base + 1], z0 = triangles[base + 2];
+            float x1 = triangles[base + 3], y1 = triangles[base + 4], z1 = triangles[base + 5];
+            float x2 = triangles[base + 6], y2 = triangles[base + 7], z2 = triangles[base + 8];
+            float area = (x1 - x0) * (y2 - y0) - (y1 - y0) * (x2 - x0);
+            if ( area <= 0 ) {
+                continue;
+            }
+
+            int minX = Math.max(tx0, (int)Math.floor(Math.min(x0, Math.min(x1, x2))));
+            int maxX = Math.min(tx1 - 1, (int)Math.ceil(Math.max(x0, Math.max(x1, x2))));
+            int minY = Math.max(ty0, (int)Math.floor(Math.min(y0, Math.min(y1, y2))));
+            int maxY = Math.min(ty1 - 1, (int)Math.ceil(Math.max(y0, Math.max(y1, y2))));
+            if ( minX > maxX || minY > maxY ) {
+                continue;
+            }
+
+            // Edge functions, positive inside, at the first pixel center
+            float px = minX + 0.5f;
+            float py = minY + 0.5f;
+            float a0 = y1 - y2, b0 = x2 - x1;
+            float a1 = y2 - y0, b1 = x0 - x2;
+            float a2 = y0 - y1, b2 = x1 - x0;
+            float e0 = b0 * (py - y1) + a0 * (px - x1);
+            float e1 = b1 * (py - y2) + a1 * (px - x2);
+            float e2 = b2 * (py - y0) + a2 * (px - x0);
+
+            // Depth as a plane over the screen
+            float dzdx = ((z1 - z0) * a1 + (z2 - z0) * a2) / area;
+            float dzdy = ((z1 - z0) * b1 + (z2 - z0) * b2) / area;
+            float zRow = z0 + (e1 * (z1 - z0) + e2 * (z2 - z0)) / area;
+            int color = colors[t];
+
+            for ( y = minY; y <= maxY; y++ ) {
+                float w0 = e0, w1 = e1, w2 = e2, z = zRow;
+                int index = y * width + minX;
+                for ( x = minX; x <= maxX; x++, index++ ) {
+                    if ( w0 >= 0 && w1 >= 0 && w2 >= 0 &&
+                         z < depthBuffer[index] ) {
+                        depthBuffer[index] = z;
+                        colorBuffer[index] = color;
+                    }
+                    w0 += a0;
+                    w1 += a1;
+                    w2 += a2;
+                    z += dzdx;
+                }
+                e0 += b0;
+                e1 += b1;
+                e2 += b2;
+                zRow += dzdy;
+            }
+        }
+
+        for ( y = ty0; y < ty1; y++ ) {
+            int index = y * width + tx0;
+            int position = 3 * index;
+            for ( x = tx0; x < tx1; x++, index++ ) {
+                int c = colorBuffer[index];
+                out.put(position++, (byte)(c >> 16));
+                out.put(position++, (byte)(c >> 8));
+                out.put(position++, (byte)c);
+            }
+        }
+    }
+
+    /**
+    Draws a range of tiles, splitting it in halves down to single tiles.
+    */
+    private class Tiles extends TileRange
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ByteBuffer out;
+
+        Tiles(ByteBuffer out, int from, int to)
+        {
+            super(from, to);
+            this.out = out;
+        }
+
+        protected TileRange split(int from, int to)
+        {
+            return new Tiles(out, from, to);
+        }
+
+        protected long processTile(int tile)
+        {
+            drawTile(tile, out);
+            return 0;
+        }
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
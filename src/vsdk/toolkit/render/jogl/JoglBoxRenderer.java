@@ -2,12 +2,13 @@
 //=-------------------------------------------------------------------------=
 //= Module history:                                                         =
 //= - March 20 2006 - Oscar Chavarro: Original base version                 =
+//= - October 18 2026: Added drawing through a JoglStateCache               =
+//= - October 18 2026: Wire cube drawn on the given GL instead of GLUT      =
 //===========================================================================
 
 package vsdk.toolkit.render.jogl;
 
 import javax.media.opengl.GL2;
-import com.jogamp.opengl.util.gl2.GLUT;
 
 import vsdk.toolkit.common.linealAlgebra.Vector3D;
 import vsdk.toolkit.common.RendererConfiguration;
@@ -16,7 +17,17 @@ import vsdk.toolkit.environment.geometry.Box;
 
 public class JoglBoxRenderer extends JoglRenderer {
 
-    private static GLUT glut = null;
+    /**
+    Normal and corners of each face of the unit cube, for wireframes
+    */
+    private static final int WIRE_FACES[][] = {
+        {0, 0, -1,   -1, -1, -1,   -1, 1, -1,   1, 1, -1,   1, -1, -1},
+        {0, 0, 1,    -1, -1, 1,    1, -1, 1,    1, 1, 1,    -1, 1, 1},
+        {0, -1, 0,   -1, -1, 1,    -1, -1, -1,  1, -1, -1,  1, -1, 1},
+        {-1, 0, 0,   -1, 1, 1,     -1, 1, -1,   -1, -1, -1, -1, -1, 1},
+        {0, 1, 0,    1, 1, 1,      1, 1, -1,    -1, 1, -1,  -1, 1, 1},
+        {1, 0, 0,    1, -1, 1,     1, -1, -1,   1, 1, -1,   1, 1, 1}
+    };
 
     private static void drawSolidUnitCube(GL2 gl)
     {
@@ -91,38 +102,78 @@ public class JoglBoxRenderer extends JoglRenderer {
         gl.glEnd();
     }
 
+    /**
+    Draws the edges of the unit cube as one line loop per face, as
+    glutWireCube does, but on the given GL instead of the one of the
+    current context.
+    */
+    private static void drawWireUnitCube(GL2 gl)
+    {
+        double l = 0.5;
+        int face, corner;
+
+        for ( face = 0; face < 6; face++ ) {
+            gl.glBegin(gl.GL_LINE_LOOP);
+            gl.glNormal3d(WIRE_FACES[face][0], WIRE_FACES[face][1],
+                          WIRE_FACES[face][2]);
+            for ( corner = 0; corner < 4; corner++ ) {
+                int c[] = WIRE_FACES[face];
+                gl.glVertex3d(c[3 + 3*corner] * l, c[4 + 3*corner] * l,
+                              c[5 + 3*corner] * l);
+            }
+            gl.glEnd();
+        }
+    }
+
     /**
     Generate OpenGL/JOGL primitives needed for the rendering of recieved
     Geometry object.
     */
     public static void draw(GL2 gl, Box box, Camera c, RendererConfiguration q)
     {
-        if (glut == null) {
-            glut = new GLUT();
-        }
+        draw(gl, box, c, q, null);
+    }
 
+    /**
+    Same as <code>draw(GL2, Box, Camera, RendererConfiguration)</code>, with
+    the state changes filtered by <code>state</code> when it is not null, so
+    that drawing many boxes in a row only sets the state once.
+    */
+    public static void draw(GL2 gl, Box box, Camera c, RendererConfiguration q,
+                            JoglStateCache state)
+    {
         Vector3D size = box.getSize();
 
         gl.glPushMatrix();
-        gl.glEnable(gl.GL_NORMALIZE);
+        if ( state == null ) gl.glEnable(gl.GL_NORMALIZE);
+        else state.enable(gl, gl.GL_NORMALIZE);
         gl.glScaled(size.x, size.y, size.z);
         if ( q.isSurfacesSet() ) {
-            JoglGeometryRenderer.prepareSurfaceQuality(gl, q);
-            gl.glPolygonMode(gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+            JoglGeometryRenderer.prepareSurfaceQuality(gl, q, state);
+            if ( state == null ) {
+                gl.glPolygonMode(gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+            }
+            else {
+                state.polygonMode(gl, gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+            }
             drawSolidUnitCube(gl);
         }
 
         if ( q.isWiresSet() ) {
-            gl.glLineWidth(1);
-            glut.glutWireCube(1);
+            if ( state == null ) gl.glLineWidth(1);
+            else state.lineWidth(gl, 1);
+            drawWireUnitCube(gl);
         }
         gl.glPopMatrix();
 
+        // These change state without the cache
         if ( q.isBoundingVolumeSet() ) {
             JoglGeometryRenderer.drawMinMaxBox(gl, box, q);
+            if ( state != null ) state.invalidate();
         }
         if ( q.isSelectionCornersSet() ) {
             JoglGeometryRenderer.drawSelectionCorners(gl, box, q);
+            if ( state != null ) state.invalidate();
         }
     }
 
@@ -0,0 +1,598 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render.jogl;
+
+// Java base classes
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.util.Arrays;
+
+// JOGL clases
+import javax.media.opengl.GL2;
+
+/**
+This class provides a <code>GL2</code> implementation that does not render
+anything: it records the stream of calls made on it, so that renderers can
+be run and measured without an OpenGL context. The <code>GL2</code> given by
+<code>getGL</code> is a generated class, <code>JoglRecordingGL2</code>, that
+forwards every call here without allocating. Each call is stored in a
+compact command buffer as a hash of the method signature and a hash of its
+arguments, and is classified to count draw calls, vertices sent, state
+changes and redundant state changes (the ones setting the value already
+set).
+
+The recorded stream of a frame can be saved as a golden stream and later
+compared with a new recording, to detect changes in the commands sent by
+the renderers.
+
+Queries return neutral values: zero, false, empty strings, or the recorded
+state for <code>glIsEnabled</code>. Extension and GLSL queries report
+nothing available unless <code>setFunctionsAvailable(true)</code> is called,
+so renderers take their fixed function paths. GLUT and GLU functions get the
+GL from the current context, and can not be recorded.
+*/
+public class JoglCommandRecorder extends JoglRenderer
+{
+    private static final String DRAW_CALLS[] = {
+        "glDrawArrays", "glDrawElements", "glDrawRangeElements",
+        "glDrawArraysInstanced", "glDrawElementsInstanced", "glCallList",
+        "glCallLists"
+    };
+
+    /**
+    State setting calls, with the number of leading arguments telling
+    which state is set; the remaining arguments are its value
+    */
+    private static final String STATE_CALLS[] = {
+        "glPolygonMode", "1", "glLineWidth", "0", "glPointSize", "0",
+        "glShadeModel", "0", "glCullFace", "0", "glFrontFace", "0",
+        "glBlendFunc", "0", "glDepthFunc", "0", "glDepthMask", "0",
+        "glColorMaterial", "0", "glUseProgram", "0", "glBindBuffer", "1",
+        "glBindTexture", "1", "glMatrixMode", "0", "glMaterialf", "2",
+        "glMaterialfv", "2", "glMateriali", "2", "glMaterialiv", "2",
+        "glLightf", "2", "glLightfv", "2", "glLightModelf", "1",
+        "glLightModelfv", "1", "glLightModeli", "1", "glTexEnvi", "2",
+        "glTexEnvf", "2"
+    };
+
+    private static final int KIND_OTHER = 0;
+    private static final int KIND_DRAW = 1;
+    private static final int KIND_STATE = 2;
+    private static final int KIND_ENABLE = 3;
+    private static final int KIND_DISABLE = 4;
+    private static final int KIND_VERTEX = 5;
+    private static final int KIND_BEGIN = 6;
+    private static final int KIND_IS_ENABLED = 7;
+    private static final int KIND_CREATE = 8;
+    private static final int KIND_FUNCTION_QUERY = 9;
+    private static final int KIND_PROFILE_QUERY = 10;
+    private static final int KIND_NOT_GL = 11;
+
+    private static final int MAX_ARGUMENTS = 32;
+
+    // Per method index, as in JoglRecordingGL2.SIGNATURES
+    private static final String NAMES[];
+    private static final long SIGNATURE_HASHES[];
+    private static final int KINDS[];
+    private static final int KEY_ARGUMENTS[];
+
+    static {
+        int n = JoglRecordingGL2.SIGNATURES.length;
+        NAMES = new String[n];
+        SIGNATURE_HASHES = new long[n];
+        KINDS = new int[n];
+        KEY_ARGUMENTS = new int[n];
+
+        int i;
+        for ( i = 0; i < n; i++ ) {
+            String signature = JoglRecordingGL2.SIGNATURES[i];
+            String name = signature.substring(0, signature.indexOf('('));
+            NAMES[i] = name;
+            SIGNATURE_HASHES[i] = hashString(signature);
+            KINDS[i] = classify(name);
+            KEY_ARGUMENTS[i] = keyArguments(name);
+        }
+    }
+
+    private GL2 gl;
+    private boolean functionsAvailable;
+
+    // Call being recorded
+    private int method;
+    private int argumentCount;
+    private long argumentValues[];
+    private long argumentHashes[];
+
+    // Command buffer: method signature and argument hash for each call
+    private long commands[];
+    private int commandCount;
+
+    // Shadow of the state set through recorded calls, as an open
+    // addressing table from state key to value hash
+    private long stateKeys[];
+    private long stateValues[];
+    private boolean stateUsed[];
+    private int stateSize;
+    private int nextObjectName;
+
+    private long drawCalls;
+    private long vertices;
+    private long stateChanges;
+    private long redundantStateChanges;
+
+    public JoglCommandRecorder()
+    {
+        argumentValues = new long[MAX_ARGUMENTS];
+        argumentHashes = new long[MAX_ARGUMENTS];
+        commands = new long[2 * 1024];
+        stateKeys = new long[256];
+        stateValues = new long[256];
+        stateUsed = new boolean[256];
+        functionsAvailable = false;
+        gl = new JoglRecordingGL2(this);
+        reset();
+    }
+
+    /**
+    @return the recording GL, to be given to renderers
+    */
+    public GL2 getGL()
+    {
+        return gl;
+    }
+
+    /**
+    When true, <code>hasGLSL</code> and <code>isFunctionAvailable</code>
+    report everything as available. Defaults to false.
+    */
+    public void setFunctionsAvailable(boolean functionsAvailable)
+    {
+        this.functionsAvailable = functionsAvailable;
+    }
+
+    /**
+    Starts a new frame: clears the command buffer and the counters, but
+    keeps the recorded state, as a real context would.
+    */
+    public void beginFrame()
+    {
+        commandCount = 0;
+        drawCalls = 0;
+        vertices = 0;
+        stateChanges = 0;
+        redundantStateChanges = 0;
+    }
+
+    /**
+    Starts a new frame and also forgets the recorded state, as a freshly
+    created context.
+    */
+    public void reset()
+    {
+        Arrays.fill(stateUsed, false);
+        stateSize = 0;
+        nextObjectName = 1;
+        beginFrame();
+    }
+
+    public int getCommandCount()
+    {
+        return commandCount;
+    }
+
+    /**
+    @return number of draw commands: glBegin/glEnd blocks, array and
+    element draws and display list calls
+    */
+    public long getDrawCalls()
+    {
+        return drawCalls;
+    }
+
+    /**
+    @return vertices sent by immediate mode calls and array draws (times
+    the instance count for instanced draws)
+    */
+    public long getVertices()
+    {
+        return vertices;
+    }
+
+    public long getStateChanges()
+    {
+        return stateChanges;
+    }
+
+    public long getRedundantStateChanges()
+    {
+        return redundantStateChanges;
+    }
+
+    /**
+    @return a copy of the command buffer of current frame
+    */
+    public long[] getStream()
+    {
+        return Arrays.copyOf(commands, 2 * commandCount);
+    }
+
+    /**
+    Compares current frame with a stream given by <code>getStream</code> or
+    <code>readStream</code>. Methods are identified by a hash of their
+    signature, so streams recorded by different runs can be compared.
+    @return index of the first differing command, or -1 if the streams
+    are equal
+    */
+    public int compareWith(long golden[])
+    {
+        int n = Math.min(golden.length / 2, commandCount);
+        int i;
+
+        for ( i = 0; i < n; i++ ) {
+            if ( golden[2*i] != commands[2*i] ||
+                 golden[2*i + 1] != commands[2*i + 1] ) {
+                return i;
+            }
+        }
+        if ( golden.length / 2 != commandCount ) {
+            return n;
+        }
+        return -1;
+    }
+
+    /**
+    @return name of the method called by command <code>index</code> of
+    current frame
+    */
+    public String getCommandName(int index)
+    {
+        if ( index < 0 || index >= commandCount ) {
+            return "<end of stream>";
+        }
+        long signature = commands[2*index];
+        int i;
+        for ( i = 0; i < SIGNATURE_HASHES.length; i++ ) {
+            if ( SIGNATURE_HASHES[i] == signature ) {
+                return JoglRecordingGL2.SIGNATURES[i];
+            }
+        }
+        return "<unknown>";
+    }
+
+    public static void writeStream(long stream[], OutputStream out)
+        throws IOException
+    {
+        DataOutputStream data = new DataOutputStream(out);
+        int i;
+
+        data.writeInt(stream.length);
+        for ( i = 0; i < stream.length; i++ ) {
+            data.writeLong(stream[i]);
+        }
+        data.flush();
+    }
+
+    public static long[] readStream(InputStream in) throws IOException
+    {
+        DataInputStream data = new DataInputStream(in);
+        long stream[] = new long[data.readInt()];
+        int i;
+
+        for ( i = 0; i < stream.length; i++ ) {
+            stream[i] = data.readLong();
+        }
+        return stream;
+    }
+
+    public String toString()
+    {
+        return "JoglCommandRecorder: " + commandCount + " commands, " +
+            drawCalls + " draw calls, " + vertices + " vertices, " +
+            stateChanges + " state changes (" + redundantStateChanges +
+            " redundant)";
+    }
+
+    //= Recording =============================================================
+
+    void begin(int method)
+    {
+        this.method = method;
+        argumentCount = 0;
+    }
+
+    private void argument(long value, long hash)
+    {
+        if ( argumentCount < MAX_ARGUMENTS ) {
+            argumentValues[argumentCount] = value;
+            argumentHashes[argumentCount] = hash;
+        }
+        else {
+            argumentHashes[MAX_ARGUMENTS - 1] =
+                argumentHashes[MAX_ARGUMENTS - 1] * 31 + hash;
+        }
+        argumentCount++;
+    }
+
+    void arg(int a) { argument(a, a); }
+    void arg(long a) { argument(a, a); }
+    void arg(short a) { argument(a, a); }
+    void arg(byte a) { argument(a, a); }
+    void arg(char a) { argument(a, a); }
+    void arg(boolean a) { argument(a ? 1 : 0, a ? 1 : 0); }
+    void arg(float a) { argument((long)a, Float.floatToIntBits(a)); }
+    void arg(double a) { argument((long)a, Double.doubleToLongBits(a)); }
+
+    void arg(Object a)
+    {
+        long h;
+        if ( a == null ) {
+            h = 0;
+        }
+        else if ( a instanceof float[] ) {
+            h = Arrays.hashCode((float[])a);
+        }
+        else if ( a instanceof double[] ) {
+            h = Arrays.hashCode((double[])a);
+        }
+        else if ( a instanceof int[] ) {
+            h = Arrays.hashCode((int[])a);
+        }
+        else if ( a instanceof byte[] ) {
+            h = Arrays.hashCode((byte[])a);
+        }
+        else if ( a instanceof short[] ) {
+            h = Arrays.hashCode((short[])a);
+        }
+        else if ( a instanceof long[] ) {
+            h = Arrays.hashCode((long[])a);
+        }
+        else if ( a instanceof Object[] ) {
+            h = Arrays.deepHashCode((Object[])a);
+        }
+        else if ( a instanceof Buffer || a instanceof String ) {
+            h = a.hashCode();
+        }
+        else {
+            h = a.getClass().getName().hashCode();
+        }
+        argument(0, h);
+    }
+
+    void end()
+    {
+        int kind = KINDS[method];
+        if ( kind == KIND_NOT_GL ) {
+            return;
+        }
+
+        int n = Math.min(argumentCount, MAX_ARGUMENTS);
+        long argumentsHash = hashArguments(0, n);
+        if ( 2 * commandCount == commands.length ) {
+            commands = Arrays.copyOf(commands, commands.length * 2);
+        }
+        commands[2 * commandCount] = SIGNATURE_HASHES[method];
+        commands[2 * commandCount + 1] = argumentsHash;
+        commandCount++;
+
+        switch ( kind ) {
+          case KIND_DRAW:
+            drawCalls++;
+            vertices += drawnVertices(NAMES[method]);
+            break;
+          case KIND_BEGIN:
+            drawCalls++;
+            break;
+          case KIND_VERTEX:
+            vertices++;
+            break;
+          case KIND_ENABLE:
+          case KIND_DISABLE:
+            setState(((long)KIND_ENABLE << 48) ^ argumentValues[0],
+                     (kind == KIND_ENABLE) ? 1 : 0);
+            break;
+          case KIND_STATE:
+            int keys = Math.min(KEY_ARGUMENTS[method], n);
+            setState(((long)method << 48) ^ hashArguments(0, keys),
+                     hashArguments(keys, n));
+            break;
+          default:
+            break;
+        }
+    }
+
+    boolean endBoolean()
+    {
+        end();
+        switch ( KINDS[method] ) {
+          case KIND_IS_ENABLED:
+            int i = stateIndex(((long)KIND_ENABLE << 48) ^ argumentValues[0]);
+            return stateUsed[i] && stateValues[i] == 1;
+          case KIND_FUNCTION_QUERY:
+            return functionsAvailable;
+          case KIND_PROFILE_QUERY:
+            return true;
+          default:
+            return false;
+        }
+    }
+
+    int endInt()
+    {
+        end();
+        if ( KINDS[method] == KIND_CREATE ) {
+            return nextObjectName++;
+        }
+        return 0;
+    }
+
+    private long hashArguments(int from, int to)
+    {
+        long h = 17;
+        int i;
+
+        for ( i = from; i < to; i++ ) {
+            h = h * 0x100000001B3L + argumentHashes[i];
+        }
+        return h;
+    }
+
+    private void setState(long key, long value)
+    {
+        int i = stateIndex(key);
+        stateChanges++;
+        if ( stateUsed[i] ) {
+            if ( stateValues[i] == value ) {
+                redundantStateChanges++;
+            }
+            stateValues[i] = value;
+            return;
+        }
+        stateUsed[i] = true;
+        stateKeys[i] = key;
+        stateValues[i] = value;
+        stateSize++;
+        if ( 2 * stateSize > stateKeys.length ) {
+            growState();
+        }
+    }
+
+    /**
+    @return slot of <code>key</code> in the state table, or the empty slot
+    where it would go
+    */
+    private int stateIndex(long key)
+    {
+        int mask = stateKeys.length - 1;
+        int i = (int)(key ^ (key >>> 29) ^ (key >>> 47)) & mask;
+        while ( stateUsed[i] && stateKeys[i] != key ) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void growState()
+    {
+        long keys[] = stateKeys;
+        long values[] = stateValues;
+        boolean used[] = stateUsed;
+        int i;
+
+        stateKeys = new long[keys.length * 2];
+        stateValues = new long[keys.length * 2];
+        stateUsed = new boolean[keys.length * 2];
+        for ( i = 0; i < keys.length; i++ ) {
+            if ( used[i] ) {
+                int j = stateIndex(keys[i]);
+                stateUsed[j] = true;
+                stateKeys[j] = keys[i];
+                stateValues[j] = values[i];
+            }
+        }
+    }
+
+    private long drawnVertices(String name)
+    {
+        if ( name.equals("glDrawArrays") ) {
+            return argumentValues[2];
+        }
+        if ( name.equals("glDrawArraysInstanced") ) {
+            return argumentValues[2] * argumentValues[3];
+        }
+        if ( name.equals("glDrawElements") ) {
+            return argumentValues[1];
+        }
+        if ( name.equals("glDrawRangeElements") ) {
+            return argumentValues[3];
+        }
+        if ( name.equals("glDrawElementsInstanced") ) {
+            return argumentValues[1] *
+                argumentValues[Math.min(argumentCount, MAX_ARGUMENTS) - 1];
+        }
+        return 0;
+    }
+
+    private static long hashString(String s)
+    {
+        long h = 0xCBF29CE484222325L;
+        int i;
+
+        for ( i = 0; i < s.length(); i++ ) {
+            h = (h ^ s.charAt(i)) * 0x100000001B3L;
+        }
+        return h;
+    }
+
+    private static int classify(String name)
+    {
+        int i;
+
+        if ( !name.startsWith("gl") ) {
+            if ( name.equals("hasGLSL") ||
+                 name.equals("isFunctionAvailable") ||
+                 name.equals("isExtensionAvailable") ) {
+                return KIND_FUNCTION_QUERY;
+            }
+            if ( name.equals("isGL") || name.equals("isGL2") ||
+                 name.equals("isGL2ES1") || name.equals("isGL2GL3") ) {
+                return KIND_PROFILE_QUERY;
+            }
+            return KIND_NOT_GL;
+        }
+        for ( i = 0; i < DRAW_CALLS.length; i++ ) {
+            if ( name.equals(DRAW_CALLS[i]) ) {
+                return KIND_DRAW;
+            }
+        }
+        for ( i = 0; i < STATE_CALLS.length; i += 2 ) {
+            if ( name.equals(STATE_CALLS[i]) ) {
+                return KIND_STATE;
+            }
+        }
+        if ( name.equals("glEnable") || name.equals("glEnableClientState") ) {
+            return KIND_ENABLE;
+        }
+        if ( name.equals("glDisable") ||
+             name.equals("glDisableClientState") ) {
+            return KIND_DISABLE;
+        }
+        if ( name.startsWith("glVertex") && !name.startsWith("glVertexP") &&
+             !name.startsWith("glVertexA") && !name.startsWith("glVertexB") &&
+             !name.startsWith("glVertexW") ) {
+            return KIND_VERTEX;
+        }
+        if ( name.equals("glBegin") ) {
+            return KIND_BEGIN;
+        }
+        if ( name.equals("glIsEnabled") ) {
+            return KIND_IS_ENABLED;
+        }
+        if ( name.startsWith("glCreate") || name.equals("glGenLists") ) {
+            return KIND_CREATE;
+        }
+        return KIND_OTHER;
+    }
+
+    private static int keyArguments(String name)
+    {
+        int i;
+
+        for ( i = 0; i < STATE_CALLS.length; i += 2 ) {
+            if ( name.equals(STATE_CALLS[i]) ) {
+                return Integer.parseInt(STATE_CALLS[i + 1]);
+            }
+        }
+        return 0;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -42,26 +42,45 @@ public class JoglGeometryRenderer extends JoglRenderer
     }
 
     public static void prepareSurfaceQuality(GL2 gl, RendererConfiguration quality)
+    {
+        prepareSurfaceQuality(gl, quality, null);
+    }
+
+    /**
+    Same as <code>prepareSurfaceQuality(GL2, RendererConfiguration)</code>,
+    with the state changes filtered by <code>state</code> when it is not
+    null.
+    */
+    public static void prepareSurfaceQuality(GL2 gl, RendererConfiguration quality, JoglStateCache state)
     {
         int shadingType = quality.getShadingType();
+        int shadeModel;
 
         switch ( shadingType ) {
           case RendererConfiguration.SHADING_TYPE_NOLIGHT:
-            gl.glDisable(gl.GL_LIGHTING);
-            gl.glShadeModel(gl.GL_FLAT);
-            // Warning: Change with configured color for ambient lightning
-            gl.glColor3d(1, 1, 1);
+            if ( state == null ) gl.glDisable(gl.GL_LIGHTING);
+            else state.disable(gl, gl.GL_LIGHTING);
+            shadeModel = gl.GL_FLAT;
             break;
           case RendererConfiguration.SHADING_TYPE_FLAT:
-            gl.glEnable(gl.GL_LIGHTING);
-            gl.glShadeModel(gl.GL_FLAT);
+            if ( state == null ) gl.glEnable(gl.GL_LIGHTING);
+            else state.enable(gl, gl.GL_LIGHTING);
+            shadeModel = gl.GL_FLAT;
             break;
           case RendererConfiguration.SHADING_TYPE_PHONG:
           case RendererConfiguration.SHADING_TYPE_GOURAUD: default:
-            gl.glEnable(gl.GL_LIGHTING);
-            gl.glShadeModel(gl.GL_SMOOTH);
+            if ( state == null ) gl.glEnable(gl.GL_LIGHTING);
+            else state.enable(gl, gl.GL_LIGHTING);
+            shadeModel = gl.GL_SMOOTH;
             break;
         }
+        if ( state == null ) gl.glShadeModel(shadeModel);
+        else state.shadeModel(gl, shadeModel);
+
+        if ( shadingType == RendererConfiguration.SHADING_TYPE_NOLIGHT ) {
+            // Warning: Change with configured color for ambient lightning
+            gl.glColor3d(1, 1, 1);
+        }
     }
 
     public static void drawVertexNormal(GL2 gl, Vertex vertex) {
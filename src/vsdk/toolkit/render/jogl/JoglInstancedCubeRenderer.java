@@ -0,0 +1,440 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render.jogl;
+
+// Java base classes
+import java.nio.FloatBuffer;
+
+// JOGL clases
+import javax.media.opengl.GL2;
+import javax.media.opengl.GL3ES3;
+import com.jogamp.common.nio.Buffers;
+
+// VitralSDK classes
+import vsdk.toolkit.common.VSDK;
+import vsdk.toolkit.common.ColorRgb;
+import vsdk.toolkit.common.RendererConfiguration;
+import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.environment.geometry.Box;
+
+/**
+This class draws many equal cubes, each one with its own position and color.
+Cubes are collected with <code>addInstance</code> and sent to OpenGL with
+<code>draw</code>. When the context supports GLSL and instanced arrays, a
+single cube mesh is kept in a buffer object and all the cubes are drawn with
+one <code>glDrawArraysInstanced</code> call, with per instance positions and
+colors read from a second buffer object. The vertex program reproduces fixed
+function per vertex lighting, taking the instance color as material diffuse.
+Otherwise, each cube is drawn in immediate mode with
+<code>JoglBoxRenderer</code>.
+
+GL objects are created the first time <code>draw</code> is called, and
+belong to the context current at that moment.
+*/
+public class JoglInstancedCubeRenderer extends JoglRenderer
+{
+    private static final int FLOATS_PER_INSTANCE = 6;
+    private static final int MAX_LIGHTS = 8;
+
+    private static final String VERTEX_PROGRAM =
+        "#version 120\n" +
+        "uniform float cubeSize;\n" +
+        "uniform float lighting;\n" +
+        "uniform float lightOn[" + MAX_LIGHTS + "];\n" +
+        "attribute vec3 instancePosition;\n" +
+        "attribute vec3 instanceColor;\n" +
+        "varying vec4 color;\n" +
+        "void main()\n" +
+        "{\n" +
+        "    vec4 vertex = vec4(gl_Vertex.xyz * cubeSize + instancePosition, 1.0);\n" +
+        "    vec4 eye = gl_ModelViewMatrix * vertex;\n" +
+        "    vec3 n = normalize(gl_NormalMatrix * gl_Normal);\n" +
+        "    vec3 v = normalize(-eye.xyz);\n" +
+        "    vec4 diffuse = vec4(instanceColor, gl_FrontMaterial.diffuse.a);\n" +
+        "    vec4 c = gl_FrontLightModelProduct.sceneColor;\n" +
+        "    for ( int i = 0; i < " + MAX_LIGHTS + "; i++ ) {\n" +
+        "        if ( lightOn[i] == 0.0 ) continue;\n" +
+        "        vec4 p = gl_LightSource[i].position;\n" +
+        "        vec3 l = normalize(p.w == 0.0 ? p.xyz : p.xyz - eye.xyz);\n" +
+        "        float d = max(dot(n, l), 0.0);\n" +
+        "        c += gl_FrontLightProduct[i].ambient;\n" +
+        "        c += gl_LightSource[i].diffuse * diffuse * d;\n" +
+        "        if ( d > 0.0 ) {\n" +
+        "            float s = max(dot(n, normalize(l + v)), 0.0);\n" +
+        "            c += gl_FrontLightProduct[i].specular *\n" +
+        "                pow(s, gl_FrontMaterial.shininess);\n" +
+        "        }\n" +
+        "    }\n" +
+        "    color = mix(vec4(instanceColor, 1.0), c, lighting);\n" +
+        "    color.a = diffuse.a;\n" +
+        "    gl_Position = gl_ModelViewProjectionMatrix * vertex;\n" +
+        "}\n";
+
+    private static final String FRAGMENT_PROGRAM =
+        "#version 120\n" +
+        "varying vec4 color;\n" +
+        "void main()\n" +
+        "{\n" +
+        "    gl_FragColor = clamp(color, 0.0, 1.0);\n" +
+        "}\n";
+
+    /**
+    Unit cube faces, in the same order and winding as JoglBoxRenderer
+    */
+    private static final float UNIT_CUBE[] = {
+        // normal x, y, z, followed by four corners x, y, z
+        0, 0, -1,   -1, -1, -1,   -1, 1, -1,   1, 1, -1,   1, -1, -1,
+        0, 0, 1,    -1, -1, 1,    1, -1, 1,    1, 1, 1,    -1, 1, 1,
+        0, -1, 0,   -1, -1, 1,    -1, -1, -1,  1, -1, -1,  1, -1, 1,
+        -1, 0, 0,   -1, 1, 1,     -1, 1, -1,   -1, -1, -1, -1, -1, 1,
+        0, 1, 0,    1, 1, 1,      1, 1, -1,    -1, 1, -1,  -1, 1, 1,
+        1, 0, 0,    1, -1, 1,     1, -1, -1,   1, 1, -1,   1, 1, 1
+    };
+
+    private FloatBuffer instances;
+    private int instanceCount;
+    private boolean instancingEnabled;
+
+    // GL objects, created on first use
+    private boolean initialized;
+    private boolean instancingAvailable;
+    private int program;
+    private int cubeBuffer;
+    private int instanceBuffer;
+    private int cubeSizeLocation;
+    private int lightingLocation;
+    private int lightOnLocation;
+    private int positionLocation;
+    private int colorLocation;
+    private float lightOn[];
+
+    private Box box;
+    private int tmpEnabled[];
+
+    public JoglInstancedCubeRenderer()
+    {
+        instances = Buffers.newDirectFloatBuffer(FLOATS_PER_INSTANCE * 64);
+        instanceCount = 0;
+        instancingEnabled = true;
+        initialized = false;
+        lightOn = new float[MAX_LIGHTS];
+        tmpEnabled = new int[1];
+        box = null;
+    }
+
+    /**
+    Allows to force the immediate mode path, even on contexts supporting
+    instancing.
+    */
+    public void setInstancingEnabled(boolean instancingEnabled)
+    {
+        this.instancingEnabled = instancingEnabled;
+    }
+
+    public boolean isInstancingEnabled()
+    {
+        return instancingEnabled;
+    }
+
+    /**
+    @return true if given context has everything needed for instanced
+    drawing
+    */
+    public static boolean isInstancingAvailable(GL2 gl)
+    {
+        return gl.hasGLSL() && gl instanceof GL3ES3 &&
+            gl.isFunctionAvailable("glDrawArraysInstanced") &&
+            gl.isFunctionAvailable("glVertexAttribDivisor") &&
+            gl.isFunctionAvailable("glGenBuffers");
+    }
+
+    /**
+    Removes all the cubes added since last call, keeping the memory.
+    */
+    public void clear()
+    {
+        instances.clear();
+        instanceCount = 0;
+    }
+
+    public int getInstanceCount()
+    {
+        return instanceCount;
+    }
+
+    /**
+    Adds a cube centered at (x, y, z), in current modelview coordinates.
+    */
+    public void addInstance(double x, double y, double z, ColorRgb color)
+    {
+        if ( instances.remaining() < FLOATS_PER_INSTANCE ) {
+            FloatBuffer bigger = Buffers.newDirectFloatBuffer(
+                instances.capacity() * 2);
+            instances.flip();
+            bigger.put(instances);
+            instances = bigger;
+        }
+        instances.put((float)x);
+        instances.put((float)y);
+        instances.put((float)z);
+        instances.put((float)color.r);
+        instances.put((float)color.g);
+        instances.put((float)color.b);
+        instanceCount++;
+    }
+
+    /**
+    Draws all the cubes added since last <code>clear</code>, with edges of
+    length <code>size</code>. Only surfaces go through the instanced path:
+    wires, bounding volumes and selection corners are drawn by
+    <code>JoglBoxRenderer</code>.
+    */
+    public void draw(GL2 gl, double size, Camera c, RendererConfiguration q)
+    {
+        draw(gl, size, c, q, null);
+    }
+
+    /**
+    Same as <code>draw(GL2, double, Camera, RendererConfiguration)</code>,
+    with the state changes filtered by <code>state</code> when it is not
+    null. Through a cache, the color material is left disabled instead of
+    restored, and the current material is left unknown to the cache.
+    */
+    public void draw(GL2 gl, double size, Camera c, RendererConfiguration q,
+                     JoglStateCache state)
+    {
+        if ( instanceCount == 0 ) {
+            return;
+        }
+        if ( !initialized ) {
+            init(gl);
+        }
+
+        boolean surfaces = q.isSurfacesSet();
+        if ( surfaces && instancingEnabled && instancingAvailable ) {
+            JoglGeometryRenderer.prepareSurfaceQuality(gl, q, state);
+            drawInstanced(gl, size, state);
+            q.setSurfaces(false);
+        }
+        if ( q.isSurfacesSet() || q.isWiresSet() ||
+             q.isBoundingVolumeSet() || q.isSelectionCornersSet() ) {
+            drawImmediate(gl, size, c, q, state);
+        }
+        q.setSurfaces(surfaces);
+    }
+
+    private void drawInstanced(GL2 gl, double size, JoglStateCache state)
+    {
+        GL3ES3 gl3 = (GL3ES3)gl;
+        int i;
+
+        for ( i = 0; i < MAX_LIGHTS; i++ ) {
+            lightOn[i] = gl.glIsEnabled(gl.GL_LIGHT0 + i) ? 1 : 0;
+        }
+
+        gl.glUseProgram(program);
+        gl.glUniform1f(cubeSizeLocation, (float)size);
+        gl.glUniform1f(lightingLocation,
+                       gl.glIsEnabled(gl.GL_LIGHTING) ? 1 : 0);
+        gl.glUniform1fv(lightOnLocation, MAX_LIGHTS, lightOn, 0);
+
+        gl.glBindBuffer(gl.GL_ARRAY_BUFFER, cubeBuffer);
+        gl.glEnableClientState(gl.GL_VERTEX_ARRAY);
+        gl.glEnableClientState(gl.GL_NORMAL_ARRAY);
+        gl.glNormalPointer(gl.GL_FLOAT, 6 * Buffers.SIZEOF_FLOAT, 0);
+        gl.glVertexPointer(3, gl.GL_FLOAT, 6 * Buffers.SIZEOF_FLOAT,
+                           3 * Buffers.SIZEOF_FLOAT);
+
+        instances.flip();
+        gl.glBindBuffer(gl.GL_ARRAY_BUFFER, instanceBuffer);
+        gl.glBufferData(gl.GL_ARRAY_BUFFER,
+                        instances.limit() * Buffers.SIZEOF_FLOAT, instances,
+                        gl.GL_STREAM_DRAW);
+        instances.position(instances.limit());
+        instances.limit(instances.capacity());
+
+        int stride = FLOATS_PER_INSTANCE * Buffers.SIZEOF_FLOAT;
+        gl.glEnableVertexAttribArray(positionLocation);
+        gl.glVertexAttribPointer(positionLocation, 3, gl.GL_FLOAT, false,
+                                 stride, 0);
+        gl3.glVertexAttribDivisor(positionLocation, 1);
+        gl.glEnableVertexAttribArray(colorLocation);
+        gl.glVertexAttribPointer(colorLocation, 3, gl.GL_FLOAT, false,
+                                 stride, 3 * Buffers.SIZEOF_FLOAT);
+        gl3.glVertexAttribDivisor(colorLocation, 1);
+
+        if ( state == null ) {
+            gl.glPolygonMode(gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+        }
+        else {
+            state.polygonMode(gl, gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+        }
+        gl.glDrawArraysInstanced(gl.GL_QUADS, 0, 24, instanceCount);
+
+        gl3.glVertexAttribDivisor(colorLocation, 0);
+        gl3.glVertexAttribDivisor(positionLocation, 0);
+        gl.glDisableVertexAttribArray(colorLocation);
+        gl.glDisableVertexAttribArray(positionLocation);
+        gl.glDisableClientState(gl.GL_NORMAL_ARRAY);
+        gl.glDisableClientState(gl.GL_VERTEX_ARRAY);
+        gl.glBindBuffer(gl.GL_ARRAY_BUFFER, 0);
+        gl.glUseProgram(0);
+    }
+
+    private void drawImmediate(GL2 gl, double size, Camera c,
+                               RendererConfiguration q, JoglStateCache state)
+    {
+        if ( box == null || box.getSize().x != size ) {
+            box = new Box(size, size, size);
+        }
+
+        // The current color is changed per cube, and with it the material.
+        // Through a cache, only the color is restored by OpenGL.
+        if ( state == null ) {
+            gl.glPushAttrib(gl.GL_CURRENT_BIT | gl.GL_LIGHTING_BIT);
+            gl.glColorMaterial(gl.GL_FRONT_AND_BACK, gl.GL_DIFFUSE);
+            gl.glEnable(gl.GL_COLOR_MATERIAL);
+        }
+        else {
+            gl.glPushAttrib(gl.GL_CURRENT_BIT);
+            state.colorMaterial(gl, gl.GL_FRONT_AND_BACK, gl.GL_DIFFUSE);
+            state.enable(gl, gl.GL_COLOR_MATERIAL);
+        }
+        int i;
+        for ( i = 0; i < instanceCount; i++ ) {
+            int base = i * FLOATS_PER_INSTANCE;
+            gl.glColor3f(instances.get(base + 3), instances.get(base + 4),
+                         instances.get(base + 5));
+            gl.glPushMatrix();
+            gl.glTranslatef(instances.get(base), instances.get(base + 1),
+                            instances.get(base + 2));
+            JoglBoxRenderer.draw(gl, box, c, q, state);
+            gl.glPopMatrix();
+        }
+        if ( state != null ) {
+            state.disable(gl, gl.GL_COLOR_MATERIAL);
+        }
+        gl.glPopAttrib();
+    }
+
+    private void init(GL2 gl)
+    {
+        initialized = true;
+        instancingAvailable = false;
+        if ( !isInstancingAvailable(gl) ) {
+            return;
+        }
+
+        program = createProgram(gl);
+        if ( program == 0 ) {
+            return;
+        }
+        cubeSizeLocation = gl.glGetUniformLocation(program, "cubeSize");
+        lightingLocation = gl.glGetUniformLocation(program, "lighting");
+        lightOnLocation = gl.glGetUniformLocation(program, "lightOn");
+        positionLocation = gl.glGetAttribLocation(program, "instancePosition");
+        colorLocation = gl.glGetAttribLocation(program, "instanceColor");
+
+        // Unit cube as interleaved normal and position, 24 vertices
+        FloatBuffer cube = Buffers.newDirectFloatBuffer(24 * 6);
+        int face, corner;
+        for ( face = 0; face < 6; face++ ) {
+            int base = face * 15;
+            for ( corner = 0; corner < 4; corner++ ) {
+                cube.put(UNIT_CUBE, base, 3);
+                cube.put(UNIT_CUBE[base + 3 + 3*corner] * 0.5f);
+                cube.put(UNIT_CUBE[base + 4 + 3*corner] * 0.5f);
+                cube.put(UNIT_CUBE[base + 5 + 3*corner] * 0.5f);
+            }
+        }
+        cube.flip();
+
+        int buffers[] = new int[2];
+        gl.glGenBuffers(2, buffers, 0);
+        cubeBuffer = buffers[0];
+        instanceBuffer = buffers[1];
+        gl.glBindBuffer(gl.GL_ARRAY_BUFFER, cubeBuffer);
+        gl.glBufferData(gl.GL_ARRAY_BUFFER,
+                        cube.limit() * Buffers.SIZEOF_FLOAT, cube,
+                        gl.GL_STATIC_DRAW);
+        gl.glBindBuffer(gl.GL_ARRAY_BUFFER, 0);
+        instancingAvailable = true;
+    }
+
+    private int createProgram(GL2 gl)
+    {
+        int vertexShader = compileShader(gl, gl.GL_VERTEX_SHADER,
+                                         VERTEX_PROGRAM);
+        int fragmentShader = compileShader(gl, gl.GL_FRAGMENT_SHADER,
+                                           FRAGMENT_PROGRAM);
+        if ( vertexShader == 0 || fragmentShader == 0 ) {
+            return 0;
+        }
+
+        int p = gl.glCreateProgram();
+        gl.glAttachShader(p, vertexShader);
+        gl.glAttachShader(p, fragmentShader);
+        gl.glLinkProgram(p);
+        gl.glDeleteShader(vertexShader);
+        gl.glDeleteShader(fragmentShader);
+        gl.glGetProgramiv(p, gl.GL_LINK_STATUS, tmpEnabled, 0);
+        if ( tmpEnabled[0] == 0 ) {
+            VSDK.reportMessage(this, VSDK.WARNING,
+                "JoglInstancedCubeRenderer.createProgram",
+                "Can not link instancing program, using immediate mode.");
+            gl.glDeleteProgram(p);
+            return 0;
+        }
+        return p;
+    }
+
+    private int compileShader(GL2 gl, int type, String source)
+    {
+        int shader = gl.glCreateShader(type);
+        gl.glShaderSource(shader, 1, new String[] {source},
+                          new int[] {source.length()}, 0);
+        gl.glCompileShader(shader);
+        gl.glGetShaderiv(shader, gl.GL_COMPILE_STATUS, tmpEnabled, 0);
+        if ( tmpEnabled[0] == 0 ) {
+            VSDK.reportMessage(this, VSDK.WARNING,
+                "JoglInstancedCubeRenderer.compileShader",
+                "Can not compile instancing shader, using immediate mode.");
+            gl.glDeleteShader(shader);
+            return 0;
+        }
+        return shader;
+    }
+
+    /**
+    Releases the GL objects. Must be called with the same context current
+    as the first <code>draw</code>.
+    */
+    public void dispose(GL2 gl)
+    {
+        if ( initialized && instancingAvailable ) {
+            gl.glDeleteProgram(program);
+            gl.glDeleteBuffers(2, new int[] {cubeBuffer, instanceBuffer}, 0);
+        }
+        initialized = false;
+        instancingAvailable = false;
+    }
+
+    /**
+    Forgets the GL objects without releasing them, for when the context
+    they belonged to was destroyed. The next <code>draw</code> creates them
+    again in the current context.
+    */
+    public void reset()
+    {
+        initialized = false;
+        instancingAvailable = false;
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,9086 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render.jogl;
+
+/**
+GL2 implementation forwarding every call to a JoglCommandRecorder, as a
+method index followed by its arguments. Methods returning a value ask the
+recorder for it, or return a neutral value.
+
+This class is generated by JoglRecordingGL2Generator from the GL2
+interface of JOGL 2.0.2, one method per distinct signature, sorted
+by name and parameter types. Do not edit it: run the
+generate-recording-gl Ant target when JOGL is upgraded.
+*/
+class JoglRecordingGL2 implements javax.media.opengl.GL2
+{
+    /**
+    Name and parameter types of each method, by method index
+    */
+    static final String SIGNATURES[] = {
+        "getBoundFramebuffer(int)",
+        "getContext()",
+        "getDefaultDrawFramebuffer()",
+        "getDefaultReadBuffer()",
+        "getDefaultReadFramebuffer()",
+        "getDownstreamGL()",
+        "getExtension(java.lang.String)",
+        "getGL()",
+        "getGL2()",
+        "getGL2ES1()",
+        "getGL2ES2()",
+        "getGL2GL3()",
+        "getGL3()",
+        "getGL3ES3()",
+        "getGL3bc()",
+        "getGL4()",
+        "getGL4ES3()",
+        "getGL4bc()",
+        "getGLES1()",
+        "getGLES2()",
+        "getGLES3()",
+        "getGLProfile()",
+        "getMaxRenderbufferSamples()",
+        "getPlatformGLExtensions()",
+        "getRootGL()",
+        "getSwapInterval()",
+        "glAccum(int,float)",
+        "glActiveStencilFaceEXT(int)",
+        "glActiveTexture(int)",
+        "glAllocateMemoryNV(int,float,float,float)",
+        "glAlphaFunc(int,float)",
+        "glApplyTextureEXT(int)",
+        "glAreTexturesResident(int,[I,int,[B,int)",
+        "glAreTexturesResident(int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glArrayElement(int)",
+        "glAttachObjectARB(int,int)",
+        "glAttachShader(int,int)",
+        "glBegin(int)",
+        "glBeginConditionalRender(int,int)",
+        "glBeginConditionalRenderNVX(int)",
+        "glBeginOcclusionQueryNV(int)",
+        "glBeginPerfMonitorAMD(int)",
+        "glBeginQuery(int,int)",
+        "glBeginTransformFeedback(int)",
+        "glBeginVertexShaderEXT()",
+        "glBeginVideoCaptureNV(int)",
+        "glBindAttribLocation(int,int,java.lang.String)",
+        "glBindBuffer(int,int)",
+        "glBindBufferBase(int,int,int)",
+        "glBindBufferRange(int,int,int,long,long)",
+        "glBindFragDataLocation(int,int,java.lang.String)",
+        "glBindFramebuffer(int,int)",
+        "glBindLightParameterEXT(int,int)",
+        "glBindMaterialParameterEXT(int,int)",
+        "glBindMultiTextureEXT(int,int,int)",
+        "glBindParameterEXT(int)",
+        "glBindProgramARB(int,int)",
+        "glBindRenderbuffer(int,int)",
+        "glBindTexGenParameterEXT(int,int,int)",
+        "glBindTexture(int,int)",
+        "glBindTextureUnitParameterEXT(int,int)",
+        "glBindTransformFeedbackNV(int,int)",
+        "glBindVertexArray(int)",
+        "glBindVertexShaderEXT(int)",
+        "glBindVideoCaptureStreamBufferNV(int,int,int,long)",
+        "glBindVideoCaptureStreamTextureNV(int,int,int,int,int)",
+        "glBitmap(int,int,float,float,float,float,[B,int)",
+        "glBitmap(int,int,float,float,float,float,java.nio.ByteBuffer)",
+        "glBitmap(int,int,float,float,float,float,long)",
+        "glBlendColor(float,float,float,float)",
+        "glBlendEquation(int)",
+        "glBlendEquationIndexedAMD(int,int)",
+        "glBlendEquationSeparate(int,int)",
+        "glBlendEquationSeparateIndexedAMD(int,int,int)",
+        "glBlendFunc(int,int)",
+        "glBlendFuncIndexedAMD(int,int,int)",
+        "glBlendFuncSeparate(int,int,int,int)",
+        "glBlendFuncSeparateINGR(int,int,int,int)",
+        "glBlendFuncSeparateIndexedAMD(int,int,int,int,int)",
+        "glBlitFramebuffer(int,int,int,int,int,int,int,int,int,int)",
+        "glBufferAddressRangeNV(int,int,long,long)",
+        "glBufferData(int,long,java.nio.Buffer,int)",
+        "glBufferParameteri(int,int,int)",
+        "glBufferSubData(int,long,long,java.nio.Buffer)",
+        "glCallList(int)",
+        "glCallLists(int,int,java.nio.Buffer)",
+        "glCheckFramebufferStatus(int)",
+        "glCheckNamedFramebufferStatusEXT(int,int)",
+        "glClampColor(int,int)",
+        "glClear(int)",
+        "glClearAccum(float,float,float,float)",
+        "glClearBufferfi(int,int,float,int)",
+        "glClearBufferfv(int,int,[F,int)",
+        "glClearBufferfv(int,int,java.nio.FloatBuffer)",
+        "glClearBufferiv(int,int,[I,int)",
+        "glClearBufferiv(int,int,java.nio.IntBuffer)",
+        "glClearBufferuiv(int,int,[I,int)",
+        "glClearBufferuiv(int,int,java.nio.IntBuffer)",
+        "glClearColor(float,float,float,float)",
+        "glClearColorIi(int,int,int,int)",
+        "glClearColorIui(int,int,int,int)",
+        "glClearDepth(double)",
+        "glClearDepthf(float)",
+        "glClearIndex(float)",
+        "glClearNamedBufferDataEXT(int,int,int,int,java.nio.Buffer)",
+        "glClearNamedBufferSubDataEXT(int,int,int,int,long,long,java.nio.Buffer)",
+        "glClearStencil(int)",
+        "glClientActiveTexture(int)",
+        "glClientAttribDefaultEXT(int)",
+        "glClipPlane(int,[D,int)",
+        "glClipPlane(int,java.nio.DoubleBuffer)",
+        "glClipPlanef(int,[F,int)",
+        "glClipPlanef(int,java.nio.FloatBuffer)",
+        "glColor3b(byte,byte,byte)",
+        "glColor3bv([B,int)",
+        "glColor3bv(java.nio.ByteBuffer)",
+        "glColor3d(double,double,double)",
+        "glColor3dv([D,int)",
+        "glColor3dv(java.nio.DoubleBuffer)",
+        "glColor3f(float,float,float)",
+        "glColor3fv([F,int)",
+        "glColor3fv(java.nio.FloatBuffer)",
+        "glColor3h(short,short,short)",
+        "glColor3hv([S,int)",
+        "glColor3hv(java.nio.ShortBuffer)",
+        "glColor3i(int,int,int)",
+        "glColor3iv([I,int)",
+        "glColor3iv(java.nio.IntBuffer)",
+        "glColor3s(short,short,short)",
+        "glColor3sv([S,int)",
+        "glColor3sv(java.nio.ShortBuffer)",
+        "glColor3ub(byte,byte,byte)",
+        "glColor3ubv([B,int)",
+        "glColor3ubv(java.nio.ByteBuffer)",
+        "glColor3ui(int,int,int)",
+        "glColor3uiv([I,int)",
+        "glColor3uiv(java.nio.IntBuffer)",
+        "glColor3us(short,short,short)",
+        "glColor3usv([S,int)",
+        "glColor3usv(java.nio.ShortBuffer)",
+        "glColor4b(byte,byte,byte,byte)",
+        "glColor4bv([B,int)",
+        "glColor4bv(java.nio.ByteBuffer)",
+        "glColor4d(double,double,double,double)",
+        "glColor4dv([D,int)",
+        "glColor4dv(java.nio.DoubleBuffer)",
+        "glColor4f(float,float,float,float)",
+        "glColor4fv([F,int)",
+        "glColor4fv(java.nio.FloatBuffer)",
+        "glColor4h(short,short,short,short)",
+        "glColor4hv([S,int)",
+        "glColor4hv(java.nio.ShortBuffer)",
+        "glColor4i(int,int,int,int)",
+        "glColor4iv([I,int)",
+        "glColor4iv(java.nio.IntBuffer)",
+        "glColor4s(short,short,short,short)",
+        "glColor4sv([S,int)",
+        "glColor4sv(java.nio.ShortBuffer)",
+        "glColor4ub(byte,byte,byte,byte)",
+        "glColor4ubv([B,int)",
+        "glColor4ubv(java.nio.ByteBuffer)",
+        "glColor4ui(int,int,int,int)",
+        "glColor4uiv([I,int)",
+        "glColor4uiv(java.nio.IntBuffer)",
+        "glColor4us(short,short,short,short)",
+        "glColor4usv([S,int)",
+        "glColor4usv(java.nio.ShortBuffer)",
+        "glColorFormatNV(int,int,int)",
+        "glColorMask(boolean,boolean,boolean,boolean)",
+        "glColorMaskIndexed(int,boolean,boolean,boolean,boolean)",
+        "glColorMaski(int,boolean,boolean,boolean,boolean)",
+        "glColorMaterial(int,int)",
+        "glColorPointer(int,int,int,java.nio.Buffer)",
+        "glColorPointer(int,int,int,long)",
+        "glColorPointer(javax.media.opengl.GLArrayData)",
+        "glColorSubTable(int,int,int,int,int,java.nio.Buffer)",
+        "glColorSubTable(int,int,int,int,int,long)",
+        "glColorTable(int,int,int,int,int,java.nio.Buffer)",
+        "glColorTable(int,int,int,int,int,long)",
+        "glColorTableParameterfv(int,int,[F,int)",
+        "glColorTableParameterfv(int,int,java.nio.FloatBuffer)",
+        "glColorTableParameteriv(int,int,[I,int)",
+        "glColorTableParameteriv(int,int,java.nio.IntBuffer)",
+        "glCompileShader(int)",
+        "glCompileShaderARB(int)",
+        "glCompileShaderIncludeARB(int,int,[Ljava.lang.String;,[I,int)",
+        "glCompileShaderIncludeARB(int,int,[Ljava.lang.String;,java.nio.IntBuffer)",
+        "glCompressedMultiTexImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedMultiTexImage2DEXT(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedMultiTexImage3DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedMultiTexSubImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedMultiTexSubImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedMultiTexSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTexImage1D(int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTexImage1D(int,int,int,int,int,int,long)",
+        "glCompressedTexImage2D(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTexImage2D(int,int,int,int,int,int,int,long)",
+        "glCompressedTexImage3D(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTexImage3D(int,int,int,int,int,int,int,int,long)",
+        "glCompressedTexSubImage1D(int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTexSubImage1D(int,int,int,int,int,int,long)",
+        "glCompressedTexSubImage2D(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTexSubImage2D(int,int,int,int,int,int,int,int,long)",
+        "glCompressedTexSubImage3D(int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTexSubImage3D(int,int,int,int,int,int,int,int,int,int,long)",
+        "glCompressedTextureImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTextureImage2DEXT(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTextureImage3DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTextureSubImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTextureSubImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glCompressedTextureSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glConvolutionFilter1D(int,int,int,int,int,java.nio.Buffer)",
+        "glConvolutionFilter1D(int,int,int,int,int,long)",
+        "glConvolutionFilter2D(int,int,int,int,int,int,java.nio.Buffer)",
+        "glConvolutionFilter2D(int,int,int,int,int,int,long)",
+        "glConvolutionParameterf(int,int,float)",
+        "glConvolutionParameterfv(int,int,[F,int)",
+        "glConvolutionParameterfv(int,int,java.nio.FloatBuffer)",
+        "glConvolutionParameteri(int,int,int)",
+        "glConvolutionParameteriv(int,int,[I,int)",
+        "glConvolutionParameteriv(int,int,java.nio.IntBuffer)",
+        "glCopyBufferSubData(int,int,long,long,long)",
+        "glCopyColorSubTable(int,int,int,int,int)",
+        "glCopyColorTable(int,int,int,int,int)",
+        "glCopyConvolutionFilter1D(int,int,int,int,int)",
+        "glCopyConvolutionFilter2D(int,int,int,int,int,int)",
+        "glCopyImageSubDataNV(int,int,int,int,int,int,int,int,int,int,int,int,int,int,int)",
+        "glCopyMultiTexImage1DEXT(int,int,int,int,int,int,int,int)",
+        "glCopyMultiTexImage2DEXT(int,int,int,int,int,int,int,int,int)",
+        "glCopyMultiTexSubImage1DEXT(int,int,int,int,int,int,int)",
+        "glCopyMultiTexSubImage2DEXT(int,int,int,int,int,int,int,int,int)",
+        "glCopyMultiTexSubImage3DEXT(int,int,int,int,int,int,int,int,int,int)",
+        "glCopyPathNV(int,int)",
+        "glCopyPixels(int,int,int,int,int)",
+        "glCopyTexImage1D(int,int,int,int,int,int,int)",
+        "glCopyTexImage2D(int,int,int,int,int,int,int,int)",
+        "glCopyTexSubImage1D(int,int,int,int,int,int)",
+        "glCopyTexSubImage2D(int,int,int,int,int,int,int,int)",
+        "glCopyTexSubImage3D(int,int,int,int,int,int,int,int,int)",
+        "glCopyTextureImage1DEXT(int,int,int,int,int,int,int,int)",
+        "glCopyTextureImage2DEXT(int,int,int,int,int,int,int,int,int)",
+        "glCopyTextureSubImage1DEXT(int,int,int,int,int,int,int)",
+        "glCopyTextureSubImage2DEXT(int,int,int,int,int,int,int,int,int)",
+        "glCopyTextureSubImage3DEXT(int,int,int,int,int,int,int,int,int,int)",
+        "glCoverFillPathInstancedNV(int,int,java.nio.Buffer,int,int,int,[F,int)",
+        "glCoverFillPathInstancedNV(int,int,java.nio.Buffer,int,int,int,java.nio.FloatBuffer)",
+        "glCoverFillPathNV(int,int)",
+        "glCoverStrokePathInstancedNV(int,int,java.nio.Buffer,int,int,int,[F,int)",
+        "glCoverStrokePathInstancedNV(int,int,java.nio.Buffer,int,int,int,java.nio.FloatBuffer)",
+        "glCoverStrokePathNV(int,int)",
+        "glCreateProgram()",
+        "glCreateProgramObjectARB()",
+        "glCreateShader(int)",
+        "glCreateShaderObjectARB(int)",
+        "glCreateSyncFromCLeventARB(long,long,int)",
+        "glCullFace(int)",
+        "glCullParameterdvEXT(int,[D,int)",
+        "glCullParameterdvEXT(int,java.nio.DoubleBuffer)",
+        "glCullParameterfvEXT(int,[F,int)",
+        "glCullParameterfvEXT(int,java.nio.FloatBuffer)",
+        "glCurrentPaletteMatrix(int)",
+        "glDebugMessageControl(int,int,int,int,[I,int,boolean)",
+        "glDebugMessageControl(int,int,int,int,java.nio.IntBuffer,boolean)",
+        "glDebugMessageEnableAMD(int,int,int,[I,int,boolean)",
+        "glDebugMessageEnableAMD(int,int,int,java.nio.IntBuffer,boolean)",
+        "glDebugMessageInsert(int,int,int,int,int,java.lang.String)",
+        "glDebugMessageInsertAMD(int,int,int,int,java.lang.String)",
+        "glDeleteBuffers(int,[I,int)",
+        "glDeleteBuffers(int,java.nio.IntBuffer)",
+        "glDeleteFencesAPPLE(int,[I,int)",
+        "glDeleteFencesAPPLE(int,java.nio.IntBuffer)",
+        "glDeleteFencesNV(int,[I,int)",
+        "glDeleteFencesNV(int,java.nio.IntBuffer)",
+        "glDeleteFramebuffers(int,[I,int)",
+        "glDeleteFramebuffers(int,java.nio.IntBuffer)",
+        "glDeleteLists(int,int)",
+        "glDeleteNamedStringARB(int,java.lang.String)",
+        "glDeleteNamesAMD(int,int,[I,int)",
+        "glDeleteNamesAMD(int,int,java.nio.IntBuffer)",
+        "glDeleteObjectARB(int)",
+        "glDeleteOcclusionQueriesNV(int,[I,int)",
+        "glDeleteOcclusionQueriesNV(int,java.nio.IntBuffer)",
+        "glDeletePathsNV(int,int)",
+        "glDeletePerfMonitorsAMD(int,[I,int)",
+        "glDeletePerfMonitorsAMD(int,java.nio.IntBuffer)",
+        "glDeleteProgram(int)",
+        "glDeleteProgramsARB(int,[I,int)",
+        "glDeleteProgramsARB(int,java.nio.IntBuffer)",
+        "glDeleteQueries(int,[I,int)",
+        "glDeleteQueries(int,java.nio.IntBuffer)",
+        "glDeleteRenderbuffers(int,[I,int)",
+        "glDeleteRenderbuffers(int,java.nio.IntBuffer)",
+        "glDeleteShader(int)",
+        "glDeleteTextures(int,[I,int)",
+        "glDeleteTextures(int,java.nio.IntBuffer)",
+        "glDeleteTransformFeedbacksNV(int,[I,int)",
+        "glDeleteTransformFeedbacksNV(int,java.nio.IntBuffer)",
+        "glDeleteVertexArrays(int,[I,int)",
+        "glDeleteVertexArrays(int,java.nio.IntBuffer)",
+        "glDeleteVertexShaderEXT(int)",
+        "glDepthBoundsEXT(double,double)",
+        "glDepthFunc(int)",
+        "glDepthMask(boolean)",
+        "glDepthRange(double,double)",
+        "glDepthRangef(float,float)",
+        "glDetachObjectARB(int,int)",
+        "glDetachShader(int,int)",
+        "glDisable(int)",
+        "glDisableClientState(int)",
+        "glDisableClientStateIndexedEXT(int,int)",
+        "glDisableClientStateiEXT(int,int)",
+        "glDisableIndexed(int,int)",
+        "glDisableVariantClientStateEXT(int)",
+        "glDisableVertexArrayAttribEXT(int,int)",
+        "glDisableVertexArrayEXT(int,int)",
+        "glDisableVertexAttribAPPLE(int,int)",
+        "glDisableVertexAttribArray(int)",
+        "glDisableVertexAttribArrayARB(int)",
+        "glDisablei(int,int)",
+        "glDrawArrays(int,int,int)",
+        "glDrawArraysInstanced(int,int,int,int)",
+        "glDrawBuffer(int)",
+        "glDrawBuffers(int,[I,int)",
+        "glDrawBuffers(int,java.nio.IntBuffer)",
+        "glDrawBuffersATI(int,[I,int)",
+        "glDrawBuffersATI(int,java.nio.IntBuffer)",
+        "glDrawElements(int,int,int,java.nio.Buffer)",
+        "glDrawElements(int,int,int,long)",
+        "glDrawElementsInstanced(int,int,int,java.nio.Buffer,int)",
+        "glDrawElementsInstanced(int,int,int,long,int)",
+        "glDrawPixels(int,int,int,int,java.nio.Buffer)",
+        "glDrawPixels(int,int,int,int,long)",
+        "glDrawRangeElements(int,int,int,int,int,java.nio.Buffer)",
+        "glDrawRangeElements(int,int,int,int,int,long)",
+        "glDrawTextureNV(int,int,float,float,float,float,float,float,float,float,float)",
+        "glDrawTransformFeedbackNV(int,int)",
+        "glEdgeFlag(boolean)",
+        "glEdgeFlagFormatNV(int)",
+        "glEdgeFlagPointer(int,java.nio.Buffer)",
+        "glEdgeFlagPointer(int,long)",
+        "glEdgeFlagv([B,int)",
+        "glEdgeFlagv(java.nio.ByteBuffer)",
+        "glEnable(int)",
+        "glEnableClientState(int)",
+        "glEnableClientStateIndexedEXT(int,int)",
+        "glEnableClientStateiEXT(int,int)",
+        "glEnableIndexed(int,int)",
+        "glEnableVariantClientStateEXT(int)",
+        "glEnableVertexArrayAttribEXT(int,int)",
+        "glEnableVertexArrayEXT(int,int)",
+        "glEnableVertexAttribAPPLE(int,int)",
+        "glEnableVertexAttribArray(int)",
+        "glEnableVertexAttribArrayARB(int)",
+        "glEnablei(int,int)",
+        "glEnd()",
+        "glEndConditionalRender()",
+        "glEndConditionalRenderNVX()",
+        "glEndList()",
+        "glEndOcclusionQueryNV()",
+        "glEndPerfMonitorAMD(int)",
+        "glEndQuery(int)",
+        "glEndTransformFeedback()",
+        "glEndVertexShaderEXT()",
+        "glEndVideoCaptureNV(int)",
+        "glEvalCoord1d(double)",
+        "glEvalCoord1dv([D,int)",
+        "glEvalCoord1dv(java.nio.DoubleBuffer)",
+        "glEvalCoord1f(float)",
+        "glEvalCoord1fv([F,int)",
+        "glEvalCoord1fv(java.nio.FloatBuffer)",
+        "glEvalCoord2d(double,double)",
+        "glEvalCoord2dv([D,int)",
+        "glEvalCoord2dv(java.nio.DoubleBuffer)",
+        "glEvalCoord2f(float,float)",
+        "glEvalCoord2fv([F,int)",
+        "glEvalCoord2fv(java.nio.FloatBuffer)",
+        "glEvalMapsNV(int,int)",
+        "glEvalMesh1(int,int,int)",
+        "glEvalMesh2(int,int,int,int,int)",
+        "glEvalPoint1(int)",
+        "glEvalPoint2(int,int)",
+        "glExtractComponentEXT(int,int,int)",
+        "glFeedbackBuffer(int,int,java.nio.FloatBuffer)",
+        "glFinish()",
+        "glFinishFenceAPPLE(int)",
+        "glFinishFenceNV(int)",
+        "glFinishObjectAPPLE(int,int)",
+        "glFinishTextureSUNX()",
+        "glFlush()",
+        "glFlushMappedBufferRange(int,long,long)",
+        "glFlushMappedNamedBufferRangeEXT(int,long,long)",
+        "glFlushPixelDataRangeNV(int)",
+        "glFlushVertexArrayRangeAPPLE(int,java.nio.Buffer)",
+        "glFlushVertexArrayRangeNV()",
+        "glFogCoordFormatNV(int,int)",
+        "glFogCoordPointer(int,int,java.nio.Buffer)",
+        "glFogCoordPointer(int,int,long)",
+        "glFogCoordd(double)",
+        "glFogCoorddv([D,int)",
+        "glFogCoorddv(java.nio.DoubleBuffer)",
+        "glFogCoordf(float)",
+        "glFogCoordfv([F,int)",
+        "glFogCoordfv(java.nio.FloatBuffer)",
+        "glFogCoordh(short)",
+        "glFogCoordhv([S,int)",
+        "glFogCoordhv(java.nio.ShortBuffer)",
+        "glFogf(int,float)",
+        "glFogfv(int,[F,int)",
+        "glFogfv(int,java.nio.FloatBuffer)",
+        "glFogi(int,int)",
+        "glFogiv(int,[I,int)",
+        "glFogiv(int,java.nio.IntBuffer)",
+        "glFrameTerminatorGREMEDY()",
+        "glFramebufferDrawBufferEXT(int,int)",
+        "glFramebufferDrawBuffersEXT(int,int,[I,int)",
+        "glFramebufferDrawBuffersEXT(int,int,java.nio.IntBuffer)",
+        "glFramebufferReadBufferEXT(int,int)",
+        "glFramebufferRenderbuffer(int,int,int,int)",
+        "glFramebufferTexture1D(int,int,int,int,int)",
+        "glFramebufferTexture2D(int,int,int,int,int)",
+        "glFramebufferTexture3D(int,int,int,int,int,int)",
+        "glFramebufferTextureARB(int,int,int,int)",
+        "glFramebufferTextureEXT(int,int,int,int)",
+        "glFramebufferTextureFaceARB(int,int,int,int,int)",
+        "glFramebufferTextureFaceEXT(int,int,int,int,int)",
+        "glFramebufferTextureLayer(int,int,int,int,int)",
+        "glFramebufferTextureLayerARB(int,int,int,int,int)",
+        "glFramebufferTextureLayerEXT(int,int,int,int,int)",
+        "glFreeMemoryNV(java.nio.ByteBuffer)",
+        "glFrontFace(int)",
+        "glFrustum(double,double,double,double,double,double)",
+        "glFrustumf(float,float,float,float,float,float)",
+        "glGenBuffers(int,[I,int)",
+        "glGenBuffers(int,java.nio.IntBuffer)",
+        "glGenFencesAPPLE(int,[I,int)",
+        "glGenFencesAPPLE(int,java.nio.IntBuffer)",
+        "glGenFencesNV(int,[I,int)",
+        "glGenFencesNV(int,java.nio.IntBuffer)",
+        "glGenFramebuffers(int,[I,int)",
+        "glGenFramebuffers(int,java.nio.IntBuffer)",
+        "glGenLists(int)",
+        "glGenNamesAMD(int,int,[I,int)",
+        "glGenNamesAMD(int,int,java.nio.IntBuffer)",
+        "glGenOcclusionQueriesNV(int,[I,int)",
+        "glGenOcclusionQueriesNV(int,java.nio.IntBuffer)",
+        "glGenPathsNV(int)",
+        "glGenPerfMonitorsAMD(int,[I,int)",
+        "glGenPerfMonitorsAMD(int,java.nio.IntBuffer)",
+        "glGenProgramsARB(int,[I,int)",
+        "glGenProgramsARB(int,java.nio.IntBuffer)",
+        "glGenQueries(int,[I,int)",
+        "glGenQueries(int,java.nio.IntBuffer)",
+        "glGenRenderbuffers(int,[I,int)",
+        "glGenRenderbuffers(int,java.nio.IntBuffer)",
+        "glGenSymbolsEXT(int,int,int,int)",
+        "glGenTextures(int,[I,int)",
+        "glGenTextures(int,java.nio.IntBuffer)",
+        "glGenTransformFeedbacksNV(int,[I,int)",
+        "glGenTransformFeedbacksNV(int,java.nio.IntBuffer)",
+        "glGenVertexArrays(int,[I,int)",
+        "glGenVertexArrays(int,java.nio.IntBuffer)",
+        "glGenVertexShadersEXT(int)",
+        "glGenerateMipmap(int)",
+        "glGenerateMultiTexMipmapEXT(int,int)",
+        "glGenerateTextureMipmapEXT(int,int)",
+        "glGetActiveAttrib(int,int,int,[I,int,[I,int,[I,int,[B,int)",
+        "glGetActiveAttrib(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetActiveUniform(int,int,int,[I,int,[I,int,[I,int,[B,int)",
+        "glGetActiveUniform(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetActiveUniformARB(int,int,int,[I,int,[I,int,[I,int,[B,int)",
+        "glGetActiveUniformARB(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetActiveUniformBlockName(int,int,int,[I,int,[B,int)",
+        "glGetActiveUniformBlockName(int,int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetActiveUniformBlockiv(int,int,int,[I,int)",
+        "glGetActiveUniformBlockiv(int,int,int,java.nio.IntBuffer)",
+        "glGetActiveUniformName(int,int,int,[I,int,[B,int)",
+        "glGetActiveUniformName(int,int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetActiveUniformsiv(int,int,[I,int,int,[I,int)",
+        "glGetActiveUniformsiv(int,int,java.nio.IntBuffer,int,java.nio.IntBuffer)",
+        "glGetAttachedObjectsARB(int,int,[I,int,[I,int)",
+        "glGetAttachedObjectsARB(int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+        "glGetAttachedShaders(int,int,[I,int,[I,int)",
+        "glGetAttachedShaders(int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+        "glGetAttribLocation(int,java.lang.String)",
+        "glGetBooleanIndexedv(int,int,[B,int)",
+        "glGetBooleanIndexedv(int,int,java.nio.ByteBuffer)",
+        "glGetBooleani_v(int,int,[B,int)",
+        "glGetBooleani_v(int,int,java.nio.ByteBuffer)",
+        "glGetBooleanv(int,[B,int)",
+        "glGetBooleanv(int,java.nio.ByteBuffer)",
+        "glGetBoundBuffer(int)",
+        "glGetBufferParameteriv(int,int,[I,int)",
+        "glGetBufferParameteriv(int,int,java.nio.IntBuffer)",
+        "glGetBufferParameterui64vNV(int,int,[J,int)",
+        "glGetBufferParameterui64vNV(int,int,java.nio.LongBuffer)",
+        "glGetBufferSize(int)",
+        "glGetBufferSubData(int,long,long,java.nio.Buffer)",
+        "glGetClipPlane(int,[D,int)",
+        "glGetClipPlane(int,java.nio.DoubleBuffer)",
+        "glGetClipPlanef(int,[F,int)",
+        "glGetClipPlanef(int,java.nio.FloatBuffer)",
+        "glGetColorTable(int,int,int,java.nio.Buffer)",
+        "glGetColorTable(int,int,int,long)",
+        "glGetColorTableParameterfv(int,int,[F,int)",
+        "glGetColorTableParameterfv(int,int,java.nio.FloatBuffer)",
+        "glGetColorTableParameteriv(int,int,[I,int)",
+        "glGetColorTableParameteriv(int,int,java.nio.IntBuffer)",
+        "glGetCompressedMultiTexImageEXT(int,int,int,java.nio.Buffer)",
+        "glGetCompressedTexImage(int,int,java.nio.Buffer)",
+        "glGetCompressedTexImage(int,int,long)",
+        "glGetCompressedTextureImageEXT(int,int,int,java.nio.Buffer)",
+        "glGetConvolutionFilter(int,int,int,java.nio.Buffer)",
+        "glGetConvolutionFilter(int,int,int,long)",
+        "glGetConvolutionParameterfv(int,int,[F,int)",
+        "glGetConvolutionParameterfv(int,int,java.nio.FloatBuffer)",
+        "glGetConvolutionParameteriv(int,int,[I,int)",
+        "glGetConvolutionParameteriv(int,int,java.nio.IntBuffer)",
+        "glGetDebugMessageLog(int,int,[I,int,[I,int,[I,int,[I,int,[I,int,[B,int)",
+        "glGetDebugMessageLog(int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetDebugMessageLogAMD(int,int,[I,int,[I,int,[I,int,[I,int,[B,int)",
+        "glGetDebugMessageLogAMD(int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetDoubleIndexedvEXT(int,int,[D,int)",
+        "glGetDoubleIndexedvEXT(int,int,java.nio.DoubleBuffer)",
+        "glGetDoublei_vEXT(int,int,[D,int)",
+        "glGetDoublei_vEXT(int,int,java.nio.DoubleBuffer)",
+        "glGetDoublev(int,[D,int)",
+        "glGetDoublev(int,java.nio.DoubleBuffer)",
+        "glGetError()",
+        "glGetFenceivNV(int,int,[I,int)",
+        "glGetFenceivNV(int,int,java.nio.IntBuffer)",
+        "glGetFloatIndexedvEXT(int,int,[F,int)",
+        "glGetFloatIndexedvEXT(int,int,java.nio.FloatBuffer)",
+        "glGetFloati_vEXT(int,int,[F,int)",
+        "glGetFloati_vEXT(int,int,java.nio.FloatBuffer)",
+        "glGetFloatv(int,[F,int)",
+        "glGetFloatv(int,java.nio.FloatBuffer)",
+        "glGetFragDataLocation(int,java.lang.String)",
+        "glGetFramebufferAttachmentParameteriv(int,int,int,[I,int)",
+        "glGetFramebufferAttachmentParameteriv(int,int,int,java.nio.IntBuffer)",
+        "glGetFramebufferParameterivEXT(int,int,[I,int)",
+        "glGetFramebufferParameterivEXT(int,int,java.nio.IntBuffer)",
+        "glGetGraphicsResetStatus()",
+        "glGetHandleARB(int)",
+        "glGetHistogram(int,boolean,int,int,java.nio.Buffer)",
+        "glGetHistogram(int,boolean,int,int,long)",
+        "glGetHistogramParameterfv(int,int,[F,int)",
+        "glGetHistogramParameterfv(int,int,java.nio.FloatBuffer)",
+        "glGetHistogramParameteriv(int,int,[I,int)",
+        "glGetHistogramParameteriv(int,int,java.nio.IntBuffer)",
+        "glGetImageHandleNV(int,int,boolean,int,int)",
+        "glGetInfoLogARB(int,int,[I,int,[B,int)",
+        "glGetInfoLogARB(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetIntegerIndexedv(int,int,[I,int)",
+        "glGetIntegerIndexedv(int,int,java.nio.IntBuffer)",
+        "glGetIntegeri_v(int,int,[I,int)",
+        "glGetIntegeri_v(int,int,java.nio.IntBuffer)",
+        "glGetIntegerui64i_vNV(int,int,[J,int)",
+        "glGetIntegerui64i_vNV(int,int,java.nio.LongBuffer)",
+        "glGetIntegerui64vNV(int,[J,int)",
+        "glGetIntegerui64vNV(int,java.nio.LongBuffer)",
+        "glGetIntegerv(int,[I,int)",
+        "glGetIntegerv(int,java.nio.IntBuffer)",
+        "glGetInternalformativ(int,int,int,int,[I,int)",
+        "glGetInternalformativ(int,int,int,int,java.nio.IntBuffer)",
+        "glGetInvariantBooleanvEXT(int,int,[B,int)",
+        "glGetInvariantBooleanvEXT(int,int,java.nio.ByteBuffer)",
+        "glGetInvariantFloatvEXT(int,int,[F,int)",
+        "glGetInvariantFloatvEXT(int,int,java.nio.FloatBuffer)",
+        "glGetInvariantIntegervEXT(int,int,[I,int)",
+        "glGetInvariantIntegervEXT(int,int,java.nio.IntBuffer)",
+        "glGetLightfv(int,int,[F,int)",
+        "glGetLightfv(int,int,java.nio.FloatBuffer)",
+        "glGetLightiv(int,int,[I,int)",
+        "glGetLightiv(int,int,java.nio.IntBuffer)",
+        "glGetLocalConstantBooleanvEXT(int,int,[B,int)",
+        "glGetLocalConstantBooleanvEXT(int,int,java.nio.ByteBuffer)",
+        "glGetLocalConstantFloatvEXT(int,int,[F,int)",
+        "glGetLocalConstantFloatvEXT(int,int,java.nio.FloatBuffer)",
+        "glGetLocalConstantIntegervEXT(int,int,[I,int)",
+        "glGetLocalConstantIntegervEXT(int,int,java.nio.IntBuffer)",
+        "glGetMapAttribParameterfvNV(int,int,int,[F,int)",
+        "glGetMapAttribParameterfvNV(int,int,int,java.nio.FloatBuffer)",
+        "glGetMapAttribParameterivNV(int,int,int,[I,int)",
+        "glGetMapAttribParameterivNV(int,int,int,java.nio.IntBuffer)",
+        "glGetMapControlPointsNV(int,int,int,int,int,boolean,java.nio.Buffer)",
+        "glGetMapParameterfvNV(int,int,[F,int)",
+        "glGetMapParameterfvNV(int,int,java.nio.FloatBuffer)",
+        "glGetMapParameterivNV(int,int,[I,int)",
+        "glGetMapParameterivNV(int,int,java.nio.IntBuffer)",
+        "glGetMapdv(int,int,[D,int)",
+        "glGetMapdv(int,int,java.nio.DoubleBuffer)",
+        "glGetMapfv(int,int,[F,int)",
+        "glGetMapfv(int,int,java.nio.FloatBuffer)",
+        "glGetMapiv(int,int,[I,int)",
+        "glGetMapiv(int,int,java.nio.IntBuffer)",
+        "glGetMaterialfv(int,int,[F,int)",
+        "glGetMaterialfv(int,int,java.nio.FloatBuffer)",
+        "glGetMaterialiv(int,int,[I,int)",
+        "glGetMaterialiv(int,int,java.nio.IntBuffer)",
+        "glGetMinmax(int,boolean,int,int,java.nio.Buffer)",
+        "glGetMinmax(int,boolean,int,int,long)",
+        "glGetMinmaxParameterfv(int,int,[F,int)",
+        "glGetMinmaxParameterfv(int,int,java.nio.FloatBuffer)",
+        "glGetMinmaxParameteriv(int,int,[I,int)",
+        "glGetMinmaxParameteriv(int,int,java.nio.IntBuffer)",
+        "glGetMultiTexEnvfvEXT(int,int,int,[F,int)",
+        "glGetMultiTexEnvfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glGetMultiTexEnvivEXT(int,int,int,[I,int)",
+        "glGetMultiTexEnvivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetMultiTexGendvEXT(int,int,int,[D,int)",
+        "glGetMultiTexGendvEXT(int,int,int,java.nio.DoubleBuffer)",
+        "glGetMultiTexGenfvEXT(int,int,int,[F,int)",
+        "glGetMultiTexGenfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glGetMultiTexGenivEXT(int,int,int,[I,int)",
+        "glGetMultiTexGenivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetMultiTexImageEXT(int,int,int,int,int,java.nio.Buffer)",
+        "glGetMultiTexLevelParameterfvEXT(int,int,int,int,[F,int)",
+        "glGetMultiTexLevelParameterfvEXT(int,int,int,int,java.nio.FloatBuffer)",
+        "glGetMultiTexLevelParameterivEXT(int,int,int,int,[I,int)",
+        "glGetMultiTexLevelParameterivEXT(int,int,int,int,java.nio.IntBuffer)",
+        "glGetMultiTexParameterIivEXT(int,int,int,[I,int)",
+        "glGetMultiTexParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetMultiTexParameterIuivEXT(int,int,int,[I,int)",
+        "glGetMultiTexParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetMultiTexParameterfvEXT(int,int,int,[F,int)",
+        "glGetMultiTexParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glGetMultiTexParameterivEXT(int,int,int,[I,int)",
+        "glGetMultiTexParameterivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetMultisamplefvNV(int,int,[F,int)",
+        "glGetMultisamplefvNV(int,int,java.nio.FloatBuffer)",
+        "glGetNamedBufferParameterivEXT(int,int,[I,int)",
+        "glGetNamedBufferParameterivEXT(int,int,java.nio.IntBuffer)",
+        "glGetNamedBufferParameterui64vNV(int,int,[J,int)",
+        "glGetNamedBufferParameterui64vNV(int,int,java.nio.LongBuffer)",
+        "glGetNamedBufferSubDataEXT(int,long,long,java.nio.Buffer)",
+        "glGetNamedFramebufferAttachmentParameterivEXT(int,int,int,[I,int)",
+        "glGetNamedFramebufferAttachmentParameterivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetNamedFramebufferParameterivEXT(int,int,[I,int)",
+        "glGetNamedFramebufferParameterivEXT(int,int,java.nio.IntBuffer)",
+        "glGetNamedProgramLocalParameterIivEXT(int,int,int,[I,int)",
+        "glGetNamedProgramLocalParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetNamedProgramLocalParameterIuivEXT(int,int,int,[I,int)",
+        "glGetNamedProgramLocalParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetNamedProgramLocalParameterdvEXT(int,int,int,[D,int)",
+        "glGetNamedProgramLocalParameterdvEXT(int,int,int,java.nio.DoubleBuffer)",
+        "glGetNamedProgramLocalParameterfvEXT(int,int,int,[F,int)",
+        "glGetNamedProgramLocalParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glGetNamedProgramStringEXT(int,int,int,java.nio.Buffer)",
+        "glGetNamedProgramivEXT(int,int,int,[I,int)",
+        "glGetNamedProgramivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetNamedRenderbufferParameterivEXT(int,int,[I,int)",
+        "glGetNamedRenderbufferParameterivEXT(int,int,java.nio.IntBuffer)",
+        "glGetNamedStringARB(int,java.lang.String,int,[I,int,[B,int)",
+        "glGetNamedStringARB(int,java.lang.String,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetNamedStringivARB(int,java.lang.String,int,[I,int)",
+        "glGetNamedStringivARB(int,java.lang.String,int,java.nio.IntBuffer)",
+        "glGetObjectLabel(int,int,int,[I,int,[B,int)",
+        "glGetObjectLabel(int,int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetObjectParameterfvARB(int,int,[F,int)",
+        "glGetObjectParameterfvARB(int,int,java.nio.FloatBuffer)",
+        "glGetObjectParameterivAPPLE(int,int,int,[I,int)",
+        "glGetObjectParameterivAPPLE(int,int,int,java.nio.IntBuffer)",
+        "glGetObjectParameterivARB(int,int,[I,int)",
+        "glGetObjectParameterivARB(int,int,java.nio.IntBuffer)",
+        "glGetObjectPtrLabel(java.nio.Buffer,int,[I,int,[B,int)",
+        "glGetObjectPtrLabel(java.nio.Buffer,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetOcclusionQueryivNV(int,int,[I,int)",
+        "glGetOcclusionQueryivNV(int,int,java.nio.IntBuffer)",
+        "glGetOcclusionQueryuivNV(int,int,[I,int)",
+        "glGetOcclusionQueryuivNV(int,int,java.nio.IntBuffer)",
+        "glGetPathColorGenfvNV(int,int,[F,int)",
+        "glGetPathColorGenfvNV(int,int,java.nio.FloatBuffer)",
+        "glGetPathColorGenivNV(int,int,[I,int)",
+        "glGetPathColorGenivNV(int,int,java.nio.IntBuffer)",
+        "glGetPathCommandsNV(int,[B,int)",
+        "glGetPathCommandsNV(int,java.nio.ByteBuffer)",
+        "glGetPathCoordsNV(int,[F,int)",
+        "glGetPathCoordsNV(int,java.nio.FloatBuffer)",
+        "glGetPathDashArrayNV(int,[F,int)",
+        "glGetPathDashArrayNV(int,java.nio.FloatBuffer)",
+        "glGetPathLengthNV(int,int,int)",
+        "glGetPathMetricRangeNV(int,int,int,int,[F,int)",
+        "glGetPathMetricRangeNV(int,int,int,int,java.nio.FloatBuffer)",
+        "glGetPathMetricsNV(int,int,int,java.nio.Buffer,int,int,[F,int)",
+        "glGetPathMetricsNV(int,int,int,java.nio.Buffer,int,int,java.nio.FloatBuffer)",
+        "glGetPathParameterfvNV(int,int,[F,int)",
+        "glGetPathParameterfvNV(int,int,java.nio.FloatBuffer)",
+        "glGetPathParameterivNV(int,int,[I,int)",
+        "glGetPathParameterivNV(int,int,java.nio.IntBuffer)",
+        "glGetPathSpacingNV(int,int,int,java.nio.Buffer,int,float,float,int,[F,int)",
+        "glGetPathSpacingNV(int,int,int,java.nio.Buffer,int,float,float,int,java.nio.FloatBuffer)",
+        "glGetPathTexGenfvNV(int,int,[F,int)",
+        "glGetPathTexGenfvNV(int,int,java.nio.FloatBuffer)",
+        "glGetPathTexGenivNV(int,int,[I,int)",
+        "glGetPathTexGenivNV(int,int,java.nio.IntBuffer)",
+        "glGetPerfMonitorCounterDataAMD(int,int,int,[I,int,[I,int)",
+        "glGetPerfMonitorCounterDataAMD(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+        "glGetPerfMonitorCounterInfoAMD(int,int,int,java.nio.Buffer)",
+        "glGetPerfMonitorCounterStringAMD(int,int,int,[I,int,[B,int)",
+        "glGetPerfMonitorCounterStringAMD(int,int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetPerfMonitorCountersAMD(int,[I,int,[I,int,int,[I,int)",
+        "glGetPerfMonitorCountersAMD(int,java.nio.IntBuffer,java.nio.IntBuffer,int,java.nio.IntBuffer)",
+        "glGetPerfMonitorGroupStringAMD(int,int,[I,int,[B,int)",
+        "glGetPerfMonitorGroupStringAMD(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetPerfMonitorGroupsAMD([I,int,int,[I,int)",
+        "glGetPerfMonitorGroupsAMD(java.nio.IntBuffer,int,java.nio.IntBuffer)",
+        "glGetPixelMapfv(int,[F,int)",
+        "glGetPixelMapfv(int,java.nio.FloatBuffer)",
+        "glGetPixelMapfv(int,long)",
+        "glGetPixelMapuiv(int,[I,int)",
+        "glGetPixelMapuiv(int,java.nio.IntBuffer)",
+        "glGetPixelMapuiv(int,long)",
+        "glGetPixelMapusv(int,[S,int)",
+        "glGetPixelMapusv(int,java.nio.ShortBuffer)",
+        "glGetPixelMapusv(int,long)",
+        "glGetPixelTransformParameterfvEXT(int,int,[F,int)",
+        "glGetPixelTransformParameterfvEXT(int,int,java.nio.FloatBuffer)",
+        "glGetPixelTransformParameterivEXT(int,int,[I,int)",
+        "glGetPixelTransformParameterivEXT(int,int,java.nio.IntBuffer)",
+        "glGetPointeri_vEXT(int,int,com.jogamp.common.nio.PointerBuffer)",
+        "glGetPolygonStipple([B,int)",
+        "glGetPolygonStipple(java.nio.ByteBuffer)",
+        "glGetPolygonStipple(long)",
+        "glGetProgramBinary(int,int,[I,int,[I,int,java.nio.Buffer)",
+        "glGetProgramBinary(int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.Buffer)",
+        "glGetProgramEnvParameterIivNV(int,int,[I,int)",
+        "glGetProgramEnvParameterIivNV(int,int,java.nio.IntBuffer)",
+        "glGetProgramEnvParameterIuivNV(int,int,[I,int)",
+        "glGetProgramEnvParameterIuivNV(int,int,java.nio.IntBuffer)",
+        "glGetProgramEnvParameterdvARB(int,int,[D,int)",
+        "glGetProgramEnvParameterdvARB(int,int,java.nio.DoubleBuffer)",
+        "glGetProgramEnvParameterfvARB(int,int,[F,int)",
+        "glGetProgramEnvParameterfvARB(int,int,java.nio.FloatBuffer)",
+        "glGetProgramInfoLog(int,int,[I,int,[B,int)",
+        "glGetProgramInfoLog(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetProgramLocalParameterIivNV(int,int,[I,int)",
+        "glGetProgramLocalParameterIivNV(int,int,java.nio.IntBuffer)",
+        "glGetProgramLocalParameterIuivNV(int,int,[I,int)",
+        "glGetProgramLocalParameterIuivNV(int,int,java.nio.IntBuffer)",
+        "glGetProgramLocalParameterdvARB(int,int,[D,int)",
+        "glGetProgramLocalParameterdvARB(int,int,java.nio.DoubleBuffer)",
+        "glGetProgramLocalParameterfvARB(int,int,[F,int)",
+        "glGetProgramLocalParameterfvARB(int,int,java.nio.FloatBuffer)",
+        "glGetProgramStringARB(int,int,java.nio.Buffer)",
+        "glGetProgramSubroutineParameteruivNV(int,int,[I,int)",
+        "glGetProgramSubroutineParameteruivNV(int,int,java.nio.IntBuffer)",
+        "glGetProgramiv(int,int,[I,int)",
+        "glGetProgramiv(int,int,java.nio.IntBuffer)",
+        "glGetProgramivARB(int,int,[I,int)",
+        "glGetProgramivARB(int,int,java.nio.IntBuffer)",
+        "glGetQueryObjecti64vEXT(int,int,[J,int)",
+        "glGetQueryObjecti64vEXT(int,int,java.nio.LongBuffer)",
+        "glGetQueryObjectiv(int,int,[I,int)",
+        "glGetQueryObjectiv(int,int,java.nio.IntBuffer)",
+        "glGetQueryObjectui64vEXT(int,int,[J,int)",
+        "glGetQueryObjectui64vEXT(int,int,java.nio.LongBuffer)",
+        "glGetQueryObjectuiv(int,int,[I,int)",
+        "glGetQueryObjectuiv(int,int,java.nio.IntBuffer)",
+        "glGetQueryiv(int,int,[I,int)",
+        "glGetQueryiv(int,int,java.nio.IntBuffer)",
+        "glGetRenderbufferParameteriv(int,int,[I,int)",
+        "glGetRenderbufferParameteriv(int,int,java.nio.IntBuffer)",
+        "glGetSeparableFilter(int,int,int,java.nio.Buffer,java.nio.Buffer,java.nio.Buffer)",
+        "glGetSeparableFilter(int,int,int,long,long,long)",
+        "glGetShaderInfoLog(int,int,[I,int,[B,int)",
+        "glGetShaderInfoLog(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetShaderPrecisionFormat(int,int,[I,int,[I,int)",
+        "glGetShaderPrecisionFormat(int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+        "glGetShaderSource(int,int,[I,int,[B,int)",
+        "glGetShaderSource(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetShaderSourceARB(int,int,[I,int,[B,int)",
+        "glGetShaderSourceARB(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetShaderiv(int,int,[I,int)",
+        "glGetShaderiv(int,int,java.nio.IntBuffer)",
+        "glGetString(int)",
+        "glGetStringi(int,int)",
+        "glGetTexEnvfv(int,int,[F,int)",
+        "glGetTexEnvfv(int,int,java.nio.FloatBuffer)",
+        "glGetTexEnviv(int,int,[I,int)",
+        "glGetTexEnviv(int,int,java.nio.IntBuffer)",
+        "glGetTexGendv(int,int,[D,int)",
+        "glGetTexGendv(int,int,java.nio.DoubleBuffer)",
+        "glGetTexGenfv(int,int,[F,int)",
+        "glGetTexGenfv(int,int,java.nio.FloatBuffer)",
+        "glGetTexGeniv(int,int,[I,int)",
+        "glGetTexGeniv(int,int,java.nio.IntBuffer)",
+        "glGetTexImage(int,int,int,int,java.nio.Buffer)",
+        "glGetTexImage(int,int,int,int,long)",
+        "glGetTexLevelParameterfv(int,int,int,[F,int)",
+        "glGetTexLevelParameterfv(int,int,int,java.nio.FloatBuffer)",
+        "glGetTexLevelParameteriv(int,int,int,[I,int)",
+        "glGetTexLevelParameteriv(int,int,int,java.nio.IntBuffer)",
+        "glGetTexParameterIiv(int,int,[I,int)",
+        "glGetTexParameterIiv(int,int,java.nio.IntBuffer)",
+        "glGetTexParameterIuiv(int,int,[I,int)",
+        "glGetTexParameterIuiv(int,int,java.nio.IntBuffer)",
+        "glGetTexParameterfv(int,int,[F,int)",
+        "glGetTexParameterfv(int,int,java.nio.FloatBuffer)",
+        "glGetTexParameteriv(int,int,[I,int)",
+        "glGetTexParameteriv(int,int,java.nio.IntBuffer)",
+        "glGetTextureHandleNV(int)",
+        "glGetTextureImageEXT(int,int,int,int,int,java.nio.Buffer)",
+        "glGetTextureLevelParameterfvEXT(int,int,int,int,[F,int)",
+        "glGetTextureLevelParameterfvEXT(int,int,int,int,java.nio.FloatBuffer)",
+        "glGetTextureLevelParameterivEXT(int,int,int,int,[I,int)",
+        "glGetTextureLevelParameterivEXT(int,int,int,int,java.nio.IntBuffer)",
+        "glGetTextureParameterIivEXT(int,int,int,[I,int)",
+        "glGetTextureParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetTextureParameterIuivEXT(int,int,int,[I,int)",
+        "glGetTextureParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetTextureParameterfvEXT(int,int,int,[F,int)",
+        "glGetTextureParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glGetTextureParameterivEXT(int,int,int,[I,int)",
+        "glGetTextureParameterivEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetTextureSamplerHandleNV(int,int)",
+        "glGetTransformFeedbackVarying(int,int,int,[I,int,[I,int,[I,int,[B,int)",
+        "glGetTransformFeedbackVarying(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+        "glGetUniformBlockIndex(int,java.lang.String)",
+        "glGetUniformBufferSizeEXT(int,int)",
+        "glGetUniformIndices(int,int,[Ljava.lang.String;,[I,int)",
+        "glGetUniformIndices(int,int,[Ljava.lang.String;,java.nio.IntBuffer)",
+        "glGetUniformLocation(int,java.lang.String)",
+        "glGetUniformLocationARB(int,java.lang.String)",
+        "glGetUniformOffsetEXT(int,int)",
+        "glGetUniformfv(int,int,[F,int)",
+        "glGetUniformfv(int,int,java.nio.FloatBuffer)",
+        "glGetUniformfvARB(int,int,[F,int)",
+        "glGetUniformfvARB(int,int,java.nio.FloatBuffer)",
+        "glGetUniformiv(int,int,[I,int)",
+        "glGetUniformiv(int,int,java.nio.IntBuffer)",
+        "glGetUniformivARB(int,int,[I,int)",
+        "glGetUniformivARB(int,int,java.nio.IntBuffer)",
+        "glGetUniformui64vNV(int,int,[J,int)",
+        "glGetUniformui64vNV(int,int,java.nio.LongBuffer)",
+        "glGetUniformuiv(int,int,[I,int)",
+        "glGetUniformuiv(int,int,java.nio.IntBuffer)",
+        "glGetVariantBooleanvEXT(int,int,[B,int)",
+        "glGetVariantBooleanvEXT(int,int,java.nio.ByteBuffer)",
+        "glGetVariantFloatvEXT(int,int,[F,int)",
+        "glGetVariantFloatvEXT(int,int,java.nio.FloatBuffer)",
+        "glGetVariantIntegervEXT(int,int,[I,int)",
+        "glGetVariantIntegervEXT(int,int,java.nio.IntBuffer)",
+        "glGetVertexArrayIntegeri_vEXT(int,int,int,[I,int)",
+        "glGetVertexArrayIntegeri_vEXT(int,int,int,java.nio.IntBuffer)",
+        "glGetVertexArrayIntegervEXT(int,int,[I,int)",
+        "glGetVertexArrayIntegervEXT(int,int,java.nio.IntBuffer)",
+        "glGetVertexArrayPointeri_vEXT(int,int,int,com.jogamp.common.nio.PointerBuffer)",
+        "glGetVertexArrayPointervEXT(int,int,com.jogamp.common.nio.PointerBuffer)",
+        "glGetVertexAttribIiv(int,int,[I,int)",
+        "glGetVertexAttribIiv(int,int,java.nio.IntBuffer)",
+        "glGetVertexAttribIivEXT(int,int,[I,int)",
+        "glGetVertexAttribIivEXT(int,int,java.nio.IntBuffer)",
+        "glGetVertexAttribIuiv(int,int,[I,int)",
+        "glGetVertexAttribIuiv(int,int,java.nio.IntBuffer)",
+        "glGetVertexAttribIuivEXT(int,int,[I,int)",
+        "glGetVertexAttribIuivEXT(int,int,java.nio.IntBuffer)",
+        "glGetVertexAttribLi64vNV(int,int,[J,int)",
+        "glGetVertexAttribLi64vNV(int,int,java.nio.LongBuffer)",
+        "glGetVertexAttribLui64vNV(int,int,[J,int)",
+        "glGetVertexAttribLui64vNV(int,int,java.nio.LongBuffer)",
+        "glGetVertexAttribdv(int,int,[D,int)",
+        "glGetVertexAttribdv(int,int,java.nio.DoubleBuffer)",
+        "glGetVertexAttribdvARB(int,int,[D,int)",
+        "glGetVertexAttribdvARB(int,int,java.nio.DoubleBuffer)",
+        "glGetVertexAttribfv(int,int,[F,int)",
+        "glGetVertexAttribfv(int,int,java.nio.FloatBuffer)",
+        "glGetVertexAttribfvARB(int,int,[F,int)",
+        "glGetVertexAttribfvARB(int,int,java.nio.FloatBuffer)",
+        "glGetVertexAttribiv(int,int,[I,int)",
+        "glGetVertexAttribiv(int,int,java.nio.IntBuffer)",
+        "glGetVertexAttribivARB(int,int,[I,int)",
+        "glGetVertexAttribivARB(int,int,java.nio.IntBuffer)",
+        "glGetVideoCaptureStreamdvNV(int,int,int,[D,int)",
+        "glGetVideoCaptureStreamdvNV(int,int,int,java.nio.DoubleBuffer)",
+        "glGetVideoCaptureStreamfvNV(int,int,int,[F,int)",
+        "glGetVideoCaptureStreamfvNV(int,int,int,java.nio.FloatBuffer)",
+        "glGetVideoCaptureStreamivNV(int,int,int,[I,int)",
+        "glGetVideoCaptureStreamivNV(int,int,int,java.nio.IntBuffer)",
+        "glGetVideoCaptureivNV(int,int,[I,int)",
+        "glGetVideoCaptureivNV(int,int,java.nio.IntBuffer)",
+        "glGetnColorTable(int,int,int,int,java.nio.Buffer)",
+        "glGetnCompressedTexImage(int,int,int,java.nio.Buffer)",
+        "glGetnConvolutionFilter(int,int,int,int,java.nio.Buffer)",
+        "glGetnHistogram(int,boolean,int,int,int,java.nio.Buffer)",
+        "glGetnMapdv(int,int,int,[D,int)",
+        "glGetnMapdv(int,int,int,java.nio.DoubleBuffer)",
+        "glGetnMapfv(int,int,int,[F,int)",
+        "glGetnMapfv(int,int,int,java.nio.FloatBuffer)",
+        "glGetnMapiv(int,int,int,[I,int)",
+        "glGetnMapiv(int,int,int,java.nio.IntBuffer)",
+        "glGetnMinmax(int,boolean,int,int,int,java.nio.Buffer)",
+        "glGetnPixelMapfv(int,int,[F,int)",
+        "glGetnPixelMapfv(int,int,java.nio.FloatBuffer)",
+        "glGetnPixelMapuiv(int,int,[I,int)",
+        "glGetnPixelMapuiv(int,int,java.nio.IntBuffer)",
+        "glGetnPixelMapusv(int,int,[S,int)",
+        "glGetnPixelMapusv(int,int,java.nio.ShortBuffer)",
+        "glGetnPolygonStipple(int,[B,int)",
+        "glGetnPolygonStipple(int,java.nio.ByteBuffer)",
+        "glGetnSeparableFilter(int,int,int,int,java.nio.Buffer,int,java.nio.Buffer,java.nio.Buffer)",
+        "glGetnTexImage(int,int,int,int,int,java.nio.Buffer)",
+        "glGetnUniformdv(int,int,int,[D,int)",
+        "glGetnUniformdv(int,int,int,java.nio.DoubleBuffer)",
+        "glGetnUniformfv(int,int,int,[F,int)",
+        "glGetnUniformfv(int,int,int,java.nio.FloatBuffer)",
+        "glGetnUniformiv(int,int,int,[I,int)",
+        "glGetnUniformiv(int,int,int,java.nio.IntBuffer)",
+        "glGetnUniformuiv(int,int,int,[I,int)",
+        "glGetnUniformuiv(int,int,int,java.nio.IntBuffer)",
+        "glHint(int,int)",
+        "glHintPGI(int,int)",
+        "glHistogram(int,int,int,boolean)",
+        "glImportSyncEXT(int,long,int)",
+        "glIndexFormatNV(int,int)",
+        "glIndexFuncEXT(int,float)",
+        "glIndexMask(int)",
+        "glIndexMaterialEXT(int,int)",
+        "glIndexPointer(int,int,java.nio.Buffer)",
+        "glIndexd(double)",
+        "glIndexdv([D,int)",
+        "glIndexdv(java.nio.DoubleBuffer)",
+        "glIndexf(float)",
+        "glIndexfv([F,int)",
+        "glIndexfv(java.nio.FloatBuffer)",
+        "glIndexi(int)",
+        "glIndexiv([I,int)",
+        "glIndexiv(java.nio.IntBuffer)",
+        "glIndexs(short)",
+        "glIndexsv([S,int)",
+        "glIndexsv(java.nio.ShortBuffer)",
+        "glIndexub(byte)",
+        "glIndexubv([B,int)",
+        "glIndexubv(java.nio.ByteBuffer)",
+        "glInitNames()",
+        "glInsertComponentEXT(int,int,int)",
+        "glInterleavedArrays(int,int,java.nio.Buffer)",
+        "glInterleavedArrays(int,int,long)",
+        "glInterpolatePathsNV(int,int,int,float)",
+        "glIsBuffer(int)",
+        "glIsBufferResidentNV(int)",
+        "glIsEnabled(int)",
+        "glIsEnabledIndexed(int,int)",
+        "glIsEnabledi(int,int)",
+        "glIsFenceAPPLE(int)",
+        "glIsFenceNV(int)",
+        "glIsFramebuffer(int)",
+        "glIsImageHandleResidentNV(long)",
+        "glIsList(int)",
+        "glIsNameAMD(int,int)",
+        "glIsNamedBufferResidentNV(int)",
+        "glIsNamedStringARB(int,java.lang.String)",
+        "glIsOcclusionQueryNV(int)",
+        "glIsPBOPackEnabled()",
+        "glIsPBOUnpackEnabled()",
+        "glIsPathNV(int)",
+        "glIsPointInFillPathNV(int,int,float,float)",
+        "glIsPointInStrokePathNV(int,float,float)",
+        "glIsProgram(int)",
+        "glIsProgramARB(int)",
+        "glIsQuery(int)",
+        "glIsRenderbuffer(int)",
+        "glIsShader(int)",
+        "glIsTexture(int)",
+        "glIsTextureHandleResidentNV(long)",
+        "glIsTransformFeedbackNV(int)",
+        "glIsVBOArrayEnabled()",
+        "glIsVBOElementArrayEnabled()",
+        "glIsVariantEnabledEXT(int,int)",
+        "glIsVertexArray(int)",
+        "glIsVertexAttribEnabledAPPLE(int,int)",
+        "glLightModelf(int,float)",
+        "glLightModelfv(int,[F,int)",
+        "glLightModelfv(int,java.nio.FloatBuffer)",
+        "glLightModeli(int,int)",
+        "glLightModeliv(int,[I,int)",
+        "glLightModeliv(int,java.nio.IntBuffer)",
+        "glLightf(int,int,float)",
+        "glLightfv(int,int,[F,int)",
+        "glLightfv(int,int,java.nio.FloatBuffer)",
+        "glLighti(int,int,int)",
+        "glLightiv(int,int,[I,int)",
+        "glLightiv(int,int,java.nio.IntBuffer)",
+        "glLineStipple(int,short)",
+        "glLineWidth(float)",
+        "glLinkProgram(int)",
+        "glLinkProgramARB(int)",
+        "glListBase(int)",
+        "glLoadIdentity()",
+        "glLoadMatrixd([D,int)",
+        "glLoadMatrixd(java.nio.DoubleBuffer)",
+        "glLoadMatrixf([F,int)",
+        "glLoadMatrixf(java.nio.FloatBuffer)",
+        "glLoadName(int)",
+        "glLoadTransposeMatrixd([D,int)",
+        "glLoadTransposeMatrixd(java.nio.DoubleBuffer)",
+        "glLoadTransposeMatrixf([F,int)",
+        "glLoadTransposeMatrixf(java.nio.FloatBuffer)",
+        "glLockArraysEXT(int,int)",
+        "glLogicOp(int)",
+        "glMakeBufferNonResidentNV(int)",
+        "glMakeBufferResidentNV(int,int)",
+        "glMakeImageHandleNonResidentNV(long)",
+        "glMakeImageHandleResidentNV(long,int)",
+        "glMakeNamedBufferNonResidentNV(int)",
+        "glMakeNamedBufferResidentNV(int,int)",
+        "glMakeTextureHandleNonResidentNV(long)",
+        "glMakeTextureHandleResidentNV(long)",
+        "glMap1d(int,double,double,int,int,[D,int)",
+        "glMap1d(int,double,double,int,int,java.nio.DoubleBuffer)",
+        "glMap1f(int,float,float,int,int,[F,int)",
+        "glMap1f(int,float,float,int,int,java.nio.FloatBuffer)",
+        "glMap2d(int,double,double,int,int,double,double,int,int,[D,int)",
+        "glMap2d(int,double,double,int,int,double,double,int,int,java.nio.DoubleBuffer)",
+        "glMap2f(int,float,float,int,int,float,float,int,int,[F,int)",
+        "glMap2f(int,float,float,int,int,float,float,int,int,java.nio.FloatBuffer)",
+        "glMapBuffer(int,int)",
+        "glMapBufferRange(int,long,long,int)",
+        "glMapControlPointsNV(int,int,int,int,int,int,int,boolean,java.nio.Buffer)",
+        "glMapGrid1d(int,double,double)",
+        "glMapGrid1f(int,float,float)",
+        "glMapGrid2d(int,double,double,int,double,double)",
+        "glMapGrid2f(int,float,float,int,float,float)",
+        "glMapNamedBufferEXT(int,int)",
+        "glMapNamedBufferRangeEXT(int,long,long,int)",
+        "glMapParameterfvNV(int,int,[F,int)",
+        "glMapParameterfvNV(int,int,java.nio.FloatBuffer)",
+        "glMapParameterivNV(int,int,[I,int)",
+        "glMapParameterivNV(int,int,java.nio.IntBuffer)",
+        "glMapTexture2DINTEL(int,int,int,[I,int,[I,int)",
+        "glMapTexture2DINTEL(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+        "glMapVertexAttrib1dAPPLE(int,int,double,double,int,int,[D,int)",
+        "glMapVertexAttrib1dAPPLE(int,int,double,double,int,int,java.nio.DoubleBuffer)",
+        "glMapVertexAttrib1fAPPLE(int,int,float,float,int,int,[F,int)",
+        "glMapVertexAttrib1fAPPLE(int,int,float,float,int,int,java.nio.FloatBuffer)",
+        "glMapVertexAttrib2dAPPLE(int,int,double,double,int,int,double,double,int,int,[D,int)",
+        "glMapVertexAttrib2dAPPLE(int,int,double,double,int,int,double,double,int,int,java.nio.DoubleBuffer)",
+        "glMapVertexAttrib2fAPPLE(int,int,float,float,int,int,float,float,int,int,[F,int)",
+        "glMapVertexAttrib2fAPPLE(int,int,float,float,int,int,float,float,int,int,java.nio.FloatBuffer)",
+        "glMaterialf(int,int,float)",
+        "glMaterialfv(int,int,[F,int)",
+        "glMaterialfv(int,int,java.nio.FloatBuffer)",
+        "glMateriali(int,int,int)",
+        "glMaterialiv(int,int,[I,int)",
+        "glMaterialiv(int,int,java.nio.IntBuffer)",
+        "glMatrixFrustumEXT(int,double,double,double,double,double,double)",
+        "glMatrixIndexPointer(int,int,int,java.nio.Buffer)",
+        "glMatrixIndexubvARB(int,[B,int)",
+        "glMatrixIndexubvARB(int,java.nio.ByteBuffer)",
+        "glMatrixIndexuivARB(int,[I,int)",
+        "glMatrixIndexuivARB(int,java.nio.IntBuffer)",
+        "glMatrixIndexusvARB(int,[S,int)",
+        "glMatrixIndexusvARB(int,java.nio.ShortBuffer)",
+        "glMatrixLoadIdentityEXT(int)",
+        "glMatrixLoadTransposedEXT(int,[D,int)",
+        "glMatrixLoadTransposedEXT(int,java.nio.DoubleBuffer)",
+        "glMatrixLoadTransposefEXT(int,[F,int)",
+        "glMatrixLoadTransposefEXT(int,java.nio.FloatBuffer)",
+        "glMatrixLoaddEXT(int,[D,int)",
+        "glMatrixLoaddEXT(int,java.nio.DoubleBuffer)",
+        "glMatrixLoadfEXT(int,[F,int)",
+        "glMatrixLoadfEXT(int,java.nio.FloatBuffer)",
+        "glMatrixMode(int)",
+        "glMatrixMultTransposedEXT(int,[D,int)",
+        "glMatrixMultTransposedEXT(int,java.nio.DoubleBuffer)",
+        "glMatrixMultTransposefEXT(int,[F,int)",
+        "glMatrixMultTransposefEXT(int,java.nio.FloatBuffer)",
+        "glMatrixMultdEXT(int,[D,int)",
+        "glMatrixMultdEXT(int,java.nio.DoubleBuffer)",
+        "glMatrixMultfEXT(int,[F,int)",
+        "glMatrixMultfEXT(int,java.nio.FloatBuffer)",
+        "glMatrixOrthoEXT(int,double,double,double,double,double,double)",
+        "glMatrixPopEXT(int)",
+        "glMatrixPushEXT(int)",
+        "glMatrixRotatedEXT(int,double,double,double,double)",
+        "glMatrixRotatefEXT(int,float,float,float,float)",
+        "glMatrixScaledEXT(int,double,double,double)",
+        "glMatrixScalefEXT(int,float,float,float)",
+        "glMatrixTranslatedEXT(int,double,double,double)",
+        "glMatrixTranslatefEXT(int,float,float,float)",
+        "glMinmax(int,int,boolean)",
+        "glMultMatrixd([D,int)",
+        "glMultMatrixd(java.nio.DoubleBuffer)",
+        "glMultMatrixf([F,int)",
+        "glMultMatrixf(java.nio.FloatBuffer)",
+        "glMultTransposeMatrixd([D,int)",
+        "glMultTransposeMatrixd(java.nio.DoubleBuffer)",
+        "glMultTransposeMatrixf([F,int)",
+        "glMultTransposeMatrixf(java.nio.FloatBuffer)",
+        "glMultiDrawArrays(int,[I,int,[I,int,int)",
+        "glMultiDrawArrays(int,java.nio.IntBuffer,java.nio.IntBuffer,int)",
+        "glMultiDrawArraysIndirectAMD(int,java.nio.Buffer,int,int)",
+        "glMultiDrawElements(int,java.nio.IntBuffer,int,com.jogamp.common.nio.PointerBuffer,int)",
+        "glMultiDrawElementsIndirectAMD(int,int,java.nio.Buffer,int,int)",
+        "glMultiTexBufferEXT(int,int,int,int)",
+        "glMultiTexCoord1bOES(int,byte)",
+        "glMultiTexCoord1bvOES(int,[B,int)",
+        "glMultiTexCoord1bvOES(int,java.nio.ByteBuffer)",
+        "glMultiTexCoord1d(int,double)",
+        "glMultiTexCoord1dv(int,[D,int)",
+        "glMultiTexCoord1dv(int,java.nio.DoubleBuffer)",
+        "glMultiTexCoord1f(int,float)",
+        "glMultiTexCoord1fv(int,[F,int)",
+        "glMultiTexCoord1fv(int,java.nio.FloatBuffer)",
+        "glMultiTexCoord1h(int,short)",
+        "glMultiTexCoord1hv(int,[S,int)",
+        "glMultiTexCoord1hv(int,java.nio.ShortBuffer)",
+        "glMultiTexCoord1i(int,int)",
+        "glMultiTexCoord1iv(int,[I,int)",
+        "glMultiTexCoord1iv(int,java.nio.IntBuffer)",
+        "glMultiTexCoord1s(int,short)",
+        "glMultiTexCoord1sv(int,[S,int)",
+        "glMultiTexCoord1sv(int,java.nio.ShortBuffer)",
+        "glMultiTexCoord2bOES(int,byte,byte)",
+        "glMultiTexCoord2bvOES(int,[B,int)",
+        "glMultiTexCoord2bvOES(int,java.nio.ByteBuffer)",
+        "glMultiTexCoord2d(int,double,double)",
+        "glMultiTexCoord2dv(int,[D,int)",
+        "glMultiTexCoord2dv(int,java.nio.DoubleBuffer)",
+        "glMultiTexCoord2f(int,float,float)",
+        "glMultiTexCoord2fv(int,[F,int)",
+        "glMultiTexCoord2fv(int,java.nio.FloatBuffer)",
+        "glMultiTexCoord2h(int,short,short)",
+        "glMultiTexCoord2hv(int,[S,int)",
+        "glMultiTexCoord2hv(int,java.nio.ShortBuffer)",
+        "glMultiTexCoord2i(int,int,int)",
+        "glMultiTexCoord2iv(int,[I,int)",
+        "glMultiTexCoord2iv(int,java.nio.IntBuffer)",
+        "glMultiTexCoord2s(int,short,short)",
+        "glMultiTexCoord2sv(int,[S,int)",
+        "glMultiTexCoord2sv(int,java.nio.ShortBuffer)",
+        "glMultiTexCoord3bOES(int,byte,byte,byte)",
+        "glMultiTexCoord3bvOES(int,[B,int)",
+        "glMultiTexCoord3bvOES(int,java.nio.ByteBuffer)",
+        "glMultiTexCoord3d(int,double,double,double)",
+        "glMultiTexCoord3dv(int,[D,int)",
+        "glMultiTexCoord3dv(int,java.nio.DoubleBuffer)",
+        "glMultiTexCoord3f(int,float,float,float)",
+        "glMultiTexCoord3fv(int,[F,int)",
+        "glMultiTexCoord3fv(int,java.nio.FloatBuffer)",
+        "glMultiTexCoord3h(int,short,short,short)",
+        "glMultiTexCoord3hv(int,[S,int)",
+        "glMultiTexCoord3hv(int,java.nio.ShortBuffer)",
+        "glMultiTexCoord3i(int,int,int,int)",
+        "glMultiTexCoord3iv(int,[I,int)",
+        "glMultiTexCoord3iv(int,java.nio.IntBuffer)",
+        "glMultiTexCoord3s(int,short,short,short)",
+        "glMultiTexCoord3sv(int,[S,int)",
+        "glMultiTexCoord3sv(int,java.nio.ShortBuffer)",
+        "glMultiTexCoord4bOES(int,byte,byte,byte,byte)",
+        "glMultiTexCoord4bvOES(int,[B,int)",
+        "glMultiTexCoord4bvOES(int,java.nio.ByteBuffer)",
+        "glMultiTexCoord4d(int,double,double,double,double)",
+        "glMultiTexCoord4dv(int,[D,int)",
+        "glMultiTexCoord4dv(int,java.nio.DoubleBuffer)",
+        "glMultiTexCoord4f(int,float,float,float,float)",
+        "glMultiTexCoord4fv(int,[F,int)",
+        "glMultiTexCoord4fv(int,java.nio.FloatBuffer)",
+        "glMultiTexCoord4h(int,short,short,short,short)",
+        "glMultiTexCoord4hv(int,[S,int)",
+        "glMultiTexCoord4hv(int,java.nio.ShortBuffer)",
+        "glMultiTexCoord4i(int,int,int,int,int)",
+        "glMultiTexCoord4iv(int,[I,int)",
+        "glMultiTexCoord4iv(int,java.nio.IntBuffer)",
+        "glMultiTexCoord4s(int,short,short,short,short)",
+        "glMultiTexCoord4sv(int,[S,int)",
+        "glMultiTexCoord4sv(int,java.nio.ShortBuffer)",
+        "glMultiTexCoordPointerEXT(int,int,int,int,java.nio.Buffer)",
+        "glMultiTexEnvfEXT(int,int,int,float)",
+        "glMultiTexEnvfvEXT(int,int,int,[F,int)",
+        "glMultiTexEnvfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glMultiTexEnviEXT(int,int,int,int)",
+        "glMultiTexEnvivEXT(int,int,int,[I,int)",
+        "glMultiTexEnvivEXT(int,int,int,java.nio.IntBuffer)",
+        "glMultiTexGendEXT(int,int,int,double)",
+        "glMultiTexGendvEXT(int,int,int,[D,int)",
+        "glMultiTexGendvEXT(int,int,int,java.nio.DoubleBuffer)",
+        "glMultiTexGenfEXT(int,int,int,float)",
+        "glMultiTexGenfvEXT(int,int,int,[F,int)",
+        "glMultiTexGenfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glMultiTexGeniEXT(int,int,int,int)",
+        "glMultiTexGenivEXT(int,int,int,[I,int)",
+        "glMultiTexGenivEXT(int,int,int,java.nio.IntBuffer)",
+        "glMultiTexImage1DEXT(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glMultiTexImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glMultiTexImage3DEXT(int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glMultiTexParameterIivEXT(int,int,int,[I,int)",
+        "glMultiTexParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+        "glMultiTexParameterIuivEXT(int,int,int,[I,int)",
+        "glMultiTexParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+        "glMultiTexParameterfEXT(int,int,int,float)",
+        "glMultiTexParameterfvEXT(int,int,int,[F,int)",
+        "glMultiTexParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glMultiTexParameteriEXT(int,int,int,int)",
+        "glMultiTexParameterivEXT(int,int,int,[I,int)",
+        "glMultiTexParameterivEXT(int,int,int,java.nio.IntBuffer)",
+        "glMultiTexRenderbufferEXT(int,int,int)",
+        "glMultiTexSubImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glMultiTexSubImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glMultiTexSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glNamedBufferDataEXT(int,long,java.nio.Buffer,int)",
+        "glNamedBufferSubDataEXT(int,long,long,java.nio.Buffer)",
+        "glNamedCopyBufferSubDataEXT(int,int,long,long,long)",
+        "glNamedFramebufferParameteriEXT(int,int,int)",
+        "glNamedFramebufferRenderbufferEXT(int,int,int,int)",
+        "glNamedFramebufferTexture1DEXT(int,int,int,int,int)",
+        "glNamedFramebufferTexture2DEXT(int,int,int,int,int)",
+        "glNamedFramebufferTexture3DEXT(int,int,int,int,int,int)",
+        "glNamedFramebufferTextureEXT(int,int,int,int)",
+        "glNamedFramebufferTextureFaceEXT(int,int,int,int,int)",
+        "glNamedFramebufferTextureLayerEXT(int,int,int,int,int)",
+        "glNamedProgramLocalParameter4dEXT(int,int,int,double,double,double,double)",
+        "glNamedProgramLocalParameter4dvEXT(int,int,int,[D,int)",
+        "glNamedProgramLocalParameter4dvEXT(int,int,int,java.nio.DoubleBuffer)",
+        "glNamedProgramLocalParameter4fEXT(int,int,int,float,float,float,float)",
+        "glNamedProgramLocalParameter4fvEXT(int,int,int,[F,int)",
+        "glNamedProgramLocalParameter4fvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glNamedProgramLocalParameterI4iEXT(int,int,int,int,int,int,int)",
+        "glNamedProgramLocalParameterI4ivEXT(int,int,int,[I,int)",
+        "glNamedProgramLocalParameterI4ivEXT(int,int,int,java.nio.IntBuffer)",
+        "glNamedProgramLocalParameterI4uiEXT(int,int,int,int,int,int,int)",
+        "glNamedProgramLocalParameterI4uivEXT(int,int,int,[I,int)",
+        "glNamedProgramLocalParameterI4uivEXT(int,int,int,java.nio.IntBuffer)",
+        "glNamedProgramLocalParameters4fvEXT(int,int,int,int,[F,int)",
+        "glNamedProgramLocalParameters4fvEXT(int,int,int,int,java.nio.FloatBuffer)",
+        "glNamedProgramLocalParametersI4ivEXT(int,int,int,int,[I,int)",
+        "glNamedProgramLocalParametersI4ivEXT(int,int,int,int,java.nio.IntBuffer)",
+        "glNamedProgramLocalParametersI4uivEXT(int,int,int,int,[I,int)",
+        "glNamedProgramLocalParametersI4uivEXT(int,int,int,int,java.nio.IntBuffer)",
+        "glNamedProgramStringEXT(int,int,int,int,java.nio.Buffer)",
+        "glNamedRenderbufferStorageEXT(int,int,int,int)",
+        "glNamedRenderbufferStorageMultisampleCoverageEXT(int,int,int,int,int,int)",
+        "glNamedRenderbufferStorageMultisampleEXT(int,int,int,int,int)",
+        "glNamedStringARB(int,int,java.lang.String,int,java.lang.String)",
+        "glNewList(int,int)",
+        "glNormal3b(byte,byte,byte)",
+        "glNormal3bv([B,int)",
+        "glNormal3bv(java.nio.ByteBuffer)",
+        "glNormal3d(double,double,double)",
+        "glNormal3dv([D,int)",
+        "glNormal3dv(java.nio.DoubleBuffer)",
+        "glNormal3f(float,float,float)",
+        "glNormal3fv([F,int)",
+        "glNormal3fv(java.nio.FloatBuffer)",
+        "glNormal3h(short,short,short)",
+        "glNormal3hv([S,int)",
+        "glNormal3hv(java.nio.ShortBuffer)",
+        "glNormal3i(int,int,int)",
+        "glNormal3iv([I,int)",
+        "glNormal3iv(java.nio.IntBuffer)",
+        "glNormal3s(short,short,short)",
+        "glNormal3sv([S,int)",
+        "glNormal3sv(java.nio.ShortBuffer)",
+        "glNormalFormatNV(int,int)",
+        "glNormalPointer(int,int,java.nio.Buffer)",
+        "glNormalPointer(int,int,long)",
+        "glNormalPointer(javax.media.opengl.GLArrayData)",
+        "glObjectLabel(int,int,int,[B,int)",
+        "glObjectLabel(int,int,int,java.nio.ByteBuffer)",
+        "glObjectPtrLabel(java.nio.Buffer,int,[B,int)",
+        "glObjectPtrLabel(java.nio.Buffer,int,java.nio.ByteBuffer)",
+        "glObjectPurgeableAPPLE(int,int,int)",
+        "glObjectUnpurgeableAPPLE(int,int,int)",
+        "glOrtho(double,double,double,double,double,double)",
+        "glOrthof(float,float,float,float,float,float)",
+        "glPNTrianglesfATI(int,float)",
+        "glPNTrianglesiATI(int,int)",
+        "glPassThrough(float)",
+        "glPathColorGenNV(int,int,int,[F,int)",
+        "glPathColorGenNV(int,int,int,java.nio.FloatBuffer)",
+        "glPathCommandsNV(int,int,[B,int,int,int,java.nio.Buffer)",
+        "glPathCommandsNV(int,int,java.nio.ByteBuffer,int,int,java.nio.Buffer)",
+        "glPathCoordsNV(int,int,int,java.nio.Buffer)",
+        "glPathCoverDepthFuncNV(int)",
+        "glPathDashArrayNV(int,int,[F,int)",
+        "glPathDashArrayNV(int,int,java.nio.FloatBuffer)",
+        "glPathFogGenNV(int)",
+        "glPathGlyphRangeNV(int,int,java.nio.Buffer,int,int,int,int,int,float)",
+        "glPathGlyphsNV(int,int,java.nio.Buffer,int,int,int,java.nio.Buffer,int,int,float)",
+        "glPathParameterfNV(int,int,float)",
+        "glPathParameterfvNV(int,int,[F,int)",
+        "glPathParameterfvNV(int,int,java.nio.FloatBuffer)",
+        "glPathParameteriNV(int,int,int)",
+        "glPathParameterivNV(int,int,[I,int)",
+        "glPathParameterivNV(int,int,java.nio.IntBuffer)",
+        "glPathStencilDepthOffsetNV(float,float)",
+        "glPathStencilFuncNV(int,int,int)",
+        "glPathStringNV(int,int,int,java.nio.Buffer)",
+        "glPathSubCommandsNV(int,int,int,int,[B,int,int,int,java.nio.Buffer)",
+        "glPathSubCommandsNV(int,int,int,int,java.nio.ByteBuffer,int,int,java.nio.Buffer)",
+        "glPathSubCoordsNV(int,int,int,int,java.nio.Buffer)",
+        "glPathTexGenNV(int,int,int,[F,int)",
+        "glPathTexGenNV(int,int,int,java.nio.FloatBuffer)",
+        "glPauseTransformFeedbackNV()",
+        "glPixelDataRangeNV(int,int,java.nio.Buffer)",
+        "glPixelMapfv(int,int,[F,int)",
+        "glPixelMapfv(int,int,java.nio.FloatBuffer)",
+        "glPixelMapfv(int,int,long)",
+        "glPixelMapuiv(int,int,[I,int)",
+        "glPixelMapuiv(int,int,java.nio.IntBuffer)",
+        "glPixelMapuiv(int,int,long)",
+        "glPixelMapusv(int,int,[S,int)",
+        "glPixelMapusv(int,int,java.nio.ShortBuffer)",
+        "glPixelMapusv(int,int,long)",
+        "glPixelStoref(int,float)",
+        "glPixelStorei(int,int)",
+        "glPixelTransferf(int,float)",
+        "glPixelTransferi(int,int)",
+        "glPixelTransformParameterfEXT(int,int,float)",
+        "glPixelTransformParameterfvEXT(int,int,[F,int)",
+        "glPixelTransformParameterfvEXT(int,int,java.nio.FloatBuffer)",
+        "glPixelTransformParameteriEXT(int,int,int)",
+        "glPixelTransformParameterivEXT(int,int,[I,int)",
+        "glPixelTransformParameterivEXT(int,int,java.nio.IntBuffer)",
+        "glPixelZoom(float,float)",
+        "glPointAlongPathNV(int,int,int,float,[F,int,[F,int,[F,int,[F,int)",
+        "glPointAlongPathNV(int,int,int,float,java.nio.FloatBuffer,java.nio.FloatBuffer,java.nio.FloatBuffer,java.nio.FloatBuffer)",
+        "glPointParameterf(int,float)",
+        "glPointParameterfv(int,[F,int)",
+        "glPointParameterfv(int,java.nio.FloatBuffer)",
+        "glPointParameteri(int,int)",
+        "glPointParameteriv(int,[I,int)",
+        "glPointParameteriv(int,java.nio.IntBuffer)",
+        "glPointSize(float)",
+        "glPolygonMode(int,int)",
+        "glPolygonOffset(float,float)",
+        "glPolygonStipple([B,int)",
+        "glPolygonStipple(java.nio.ByteBuffer)",
+        "glPolygonStipple(long)",
+        "glPopAttrib()",
+        "glPopClientAttrib()",
+        "glPopDebugGroup()",
+        "glPopMatrix()",
+        "glPopName()",
+        "glPrimitiveRestartIndex(int)",
+        "glPrimitiveRestartIndexNV(int)",
+        "glPrimitiveRestartNV()",
+        "glPrioritizeTextures(int,[I,int,[F,int)",
+        "glPrioritizeTextures(int,java.nio.IntBuffer,java.nio.FloatBuffer)",
+        "glProgramBinary(int,int,java.nio.Buffer,int)",
+        "glProgramBufferParametersIivNV(int,int,int,int,[I,int)",
+        "glProgramBufferParametersIivNV(int,int,int,int,java.nio.IntBuffer)",
+        "glProgramBufferParametersIuivNV(int,int,int,int,[I,int)",
+        "glProgramBufferParametersIuivNV(int,int,int,int,java.nio.IntBuffer)",
+        "glProgramBufferParametersfvNV(int,int,int,int,[F,int)",
+        "glProgramBufferParametersfvNV(int,int,int,int,java.nio.FloatBuffer)",
+        "glProgramEnvParameter4dARB(int,int,double,double,double,double)",
+        "glProgramEnvParameter4dvARB(int,int,[D,int)",
+        "glProgramEnvParameter4dvARB(int,int,java.nio.DoubleBuffer)",
+        "glProgramEnvParameter4fARB(int,int,float,float,float,float)",
+        "glProgramEnvParameter4fvARB(int,int,[F,int)",
+        "glProgramEnvParameter4fvARB(int,int,java.nio.FloatBuffer)",
+        "glProgramEnvParameterI4iNV(int,int,int,int,int,int)",
+        "glProgramEnvParameterI4ivNV(int,int,[I,int)",
+        "glProgramEnvParameterI4ivNV(int,int,java.nio.IntBuffer)",
+        "glProgramEnvParameterI4uiNV(int,int,int,int,int,int)",
+        "glProgramEnvParameterI4uivNV(int,int,[I,int)",
+        "glProgramEnvParameterI4uivNV(int,int,java.nio.IntBuffer)",
+        "glProgramEnvParameters4fvEXT(int,int,int,[F,int)",
+        "glProgramEnvParameters4fvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glProgramEnvParametersI4ivNV(int,int,int,[I,int)",
+        "glProgramEnvParametersI4ivNV(int,int,int,java.nio.IntBuffer)",
+        "glProgramEnvParametersI4uivNV(int,int,int,[I,int)",
+        "glProgramEnvParametersI4uivNV(int,int,int,java.nio.IntBuffer)",
+        "glProgramLocalParameter4dARB(int,int,double,double,double,double)",
+        "glProgramLocalParameter4dvARB(int,int,[D,int)",
+        "glProgramLocalParameter4dvARB(int,int,java.nio.DoubleBuffer)",
+        "glProgramLocalParameter4fARB(int,int,float,float,float,float)",
+        "glProgramLocalParameter4fvARB(int,int,[F,int)",
+        "glProgramLocalParameter4fvARB(int,int,java.nio.FloatBuffer)",
+        "glProgramLocalParameterI4iNV(int,int,int,int,int,int)",
+        "glProgramLocalParameterI4ivNV(int,int,[I,int)",
+        "glProgramLocalParameterI4ivNV(int,int,java.nio.IntBuffer)",
+        "glProgramLocalParameterI4uiNV(int,int,int,int,int,int)",
+        "glProgramLocalParameterI4uivNV(int,int,[I,int)",
+        "glProgramLocalParameterI4uivNV(int,int,java.nio.IntBuffer)",
+        "glProgramLocalParameters4fvEXT(int,int,int,[F,int)",
+        "glProgramLocalParameters4fvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glProgramLocalParametersI4ivNV(int,int,int,[I,int)",
+        "glProgramLocalParametersI4ivNV(int,int,int,java.nio.IntBuffer)",
+        "glProgramLocalParametersI4uivNV(int,int,int,[I,int)",
+        "glProgramLocalParametersI4uivNV(int,int,int,java.nio.IntBuffer)",
+        "glProgramParameteriARB(int,int,int)",
+        "glProgramStringARB(int,int,int,java.lang.String)",
+        "glProgramSubroutineParametersuivNV(int,int,[I,int)",
+        "glProgramSubroutineParametersuivNV(int,int,java.nio.IntBuffer)",
+        "glProgramUniform1uiEXT(int,int,int)",
+        "glProgramUniform1uivEXT(int,int,int,[I,int)",
+        "glProgramUniform1uivEXT(int,int,int,java.nio.IntBuffer)",
+        "glProgramUniform2uiEXT(int,int,int,int)",
+        "glProgramUniform2uivEXT(int,int,int,[I,int)",
+        "glProgramUniform2uivEXT(int,int,int,java.nio.IntBuffer)",
+        "glProgramUniform3uiEXT(int,int,int,int,int)",
+        "glProgramUniform3uivEXT(int,int,int,[I,int)",
+        "glProgramUniform3uivEXT(int,int,int,java.nio.IntBuffer)",
+        "glProgramUniform4uiEXT(int,int,int,int,int,int)",
+        "glProgramUniform4uivEXT(int,int,int,[I,int)",
+        "glProgramUniform4uivEXT(int,int,int,java.nio.IntBuffer)",
+        "glProgramUniformHandleui64NV(int,int,long)",
+        "glProgramUniformHandleui64vNV(int,int,int,[J,int)",
+        "glProgramUniformHandleui64vNV(int,int,int,java.nio.LongBuffer)",
+        "glProgramUniformMatrix2x3fvEXT(int,int,int,boolean,[F,int)",
+        "glProgramUniformMatrix2x3fvEXT(int,int,int,boolean,java.nio.FloatBuffer)",
+        "glProgramUniformMatrix2x4fvEXT(int,int,int,boolean,[F,int)",
+        "glProgramUniformMatrix2x4fvEXT(int,int,int,boolean,java.nio.FloatBuffer)",
+        "glProgramUniformMatrix3x2fvEXT(int,int,int,boolean,[F,int)",
+        "glProgramUniformMatrix3x2fvEXT(int,int,int,boolean,java.nio.FloatBuffer)",
+        "glProgramUniformMatrix3x4fvEXT(int,int,int,boolean,[F,int)",
+        "glProgramUniformMatrix3x4fvEXT(int,int,int,boolean,java.nio.FloatBuffer)",
+        "glProgramUniformMatrix4x2fvEXT(int,int,int,boolean,[F,int)",
+        "glProgramUniformMatrix4x2fvEXT(int,int,int,boolean,java.nio.FloatBuffer)",
+        "glProgramUniformMatrix4x3fvEXT(int,int,int,boolean,[F,int)",
+        "glProgramUniformMatrix4x3fvEXT(int,int,int,boolean,java.nio.FloatBuffer)",
+        "glProgramUniformui64NV(int,int,long)",
+        "glProgramUniformui64vNV(int,int,int,[J,int)",
+        "glProgramUniformui64vNV(int,int,int,java.nio.LongBuffer)",
+        "glProgramVertexLimitNV(int,int)",
+        "glProvokingVertexEXT(int)",
+        "glPushAttrib(int)",
+        "glPushClientAttrib(int)",
+        "glPushClientAttribDefaultEXT(int)",
+        "glPushDebugGroup(int,int,int,[B,int)",
+        "glPushDebugGroup(int,int,int,java.nio.ByteBuffer)",
+        "glPushMatrix()",
+        "glPushName(int)",
+        "glQueryMatrixxOES([I,int,[I,int)",
+        "glQueryMatrixxOES(java.nio.IntBuffer,java.nio.IntBuffer)",
+        "glRasterPos2d(double,double)",
+        "glRasterPos2dv([D,int)",
+        "glRasterPos2dv(java.nio.DoubleBuffer)",
+        "glRasterPos2f(float,float)",
+        "glRasterPos2fv([F,int)",
+        "glRasterPos2fv(java.nio.FloatBuffer)",
+        "glRasterPos2i(int,int)",
+        "glRasterPos2iv([I,int)",
+        "glRasterPos2iv(java.nio.IntBuffer)",
+        "glRasterPos2s(short,short)",
+        "glRasterPos2sv([S,int)",
+        "glRasterPos2sv(java.nio.ShortBuffer)",
+        "glRasterPos3d(double,double,double)",
+        "glRasterPos3dv([D,int)",
+        "glRasterPos3dv(java.nio.DoubleBuffer)",
+        "glRasterPos3f(float,float,float)",
+        "glRasterPos3fv([F,int)",
+        "glRasterPos3fv(java.nio.FloatBuffer)",
+        "glRasterPos3i(int,int,int)",
+        "glRasterPos3iv([I,int)",
+        "glRasterPos3iv(java.nio.IntBuffer)",
+        "glRasterPos3s(short,short,short)",
+        "glRasterPos3sv([S,int)",
+        "glRasterPos3sv(java.nio.ShortBuffer)",
+        "glRasterPos4d(double,double,double,double)",
+        "glRasterPos4dv([D,int)",
+        "glRasterPos4dv(java.nio.DoubleBuffer)",
+        "glRasterPos4f(float,float,float,float)",
+        "glRasterPos4fv([F,int)",
+        "glRasterPos4fv(java.nio.FloatBuffer)",
+        "glRasterPos4i(int,int,int,int)",
+        "glRasterPos4iv([I,int)",
+        "glRasterPos4iv(java.nio.IntBuffer)",
+        "glRasterPos4s(short,short,short,short)",
+        "glRasterPos4sv([S,int)",
+        "glRasterPos4sv(java.nio.ShortBuffer)",
+        "glReadBuffer(int)",
+        "glReadPixels(int,int,int,int,int,int,java.nio.Buffer)",
+        "glReadPixels(int,int,int,int,int,int,long)",
+        "glReadnPixels(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glRectd(double,double,double,double)",
+        "glRectdv([D,int,[D,int)",
+        "glRectdv(java.nio.DoubleBuffer,java.nio.DoubleBuffer)",
+        "glRectf(float,float,float,float)",
+        "glRectfv([F,int,[F,int)",
+        "glRectfv(java.nio.FloatBuffer,java.nio.FloatBuffer)",
+        "glRecti(int,int,int,int)",
+        "glRectiv([I,int,[I,int)",
+        "glRectiv(java.nio.IntBuffer,java.nio.IntBuffer)",
+        "glRects(short,short,short,short)",
+        "glRectsv([S,int,[S,int)",
+        "glRectsv(java.nio.ShortBuffer,java.nio.ShortBuffer)",
+        "glReleaseShaderCompiler()",
+        "glRenderMode(int)",
+        "glRenderbufferStorage(int,int,int,int)",
+        "glRenderbufferStorageMultisample(int,int,int,int,int)",
+        "glRenderbufferStorageMultisampleCoverageNV(int,int,int,int,int,int)",
+        "glResetHistogram(int)",
+        "glResetMinmax(int)",
+        "glResumeTransformFeedbackNV()",
+        "glRotated(double,double,double,double)",
+        "glRotatef(float,float,float,float)",
+        "glSampleCoverage(float,boolean)",
+        "glSampleMaskIndexedNV(int,int)",
+        "glScaled(double,double,double)",
+        "glScalef(float,float,float)",
+        "glScissor(int,int,int,int)",
+        "glSecondaryColor3b(byte,byte,byte)",
+        "glSecondaryColor3bv([B,int)",
+        "glSecondaryColor3bv(java.nio.ByteBuffer)",
+        "glSecondaryColor3d(double,double,double)",
+        "glSecondaryColor3dv([D,int)",
+        "glSecondaryColor3dv(java.nio.DoubleBuffer)",
+        "glSecondaryColor3f(float,float,float)",
+        "glSecondaryColor3fv([F,int)",
+        "glSecondaryColor3fv(java.nio.FloatBuffer)",
+        "glSecondaryColor3h(short,short,short)",
+        "glSecondaryColor3hv([S,int)",
+        "glSecondaryColor3hv(java.nio.ShortBuffer)",
+        "glSecondaryColor3i(int,int,int)",
+        "glSecondaryColor3iv([I,int)",
+        "glSecondaryColor3iv(java.nio.IntBuffer)",
+        "glSecondaryColor3s(short,short,short)",
+        "glSecondaryColor3sv([S,int)",
+        "glSecondaryColor3sv(java.nio.ShortBuffer)",
+        "glSecondaryColor3ub(byte,byte,byte)",
+        "glSecondaryColor3ubv([B,int)",
+        "glSecondaryColor3ubv(java.nio.ByteBuffer)",
+        "glSecondaryColor3ui(int,int,int)",
+        "glSecondaryColor3uiv([I,int)",
+        "glSecondaryColor3uiv(java.nio.IntBuffer)",
+        "glSecondaryColor3us(short,short,short)",
+        "glSecondaryColor3usv([S,int)",
+        "glSecondaryColor3usv(java.nio.ShortBuffer)",
+        "glSecondaryColorFormatNV(int,int,int)",
+        "glSecondaryColorPointer(int,int,int,java.nio.Buffer)",
+        "glSecondaryColorPointer(int,int,int,long)",
+        "glSelectBuffer(int,java.nio.IntBuffer)",
+        "glSelectPerfMonitorCountersAMD(int,boolean,int,int,[I,int)",
+        "glSelectPerfMonitorCountersAMD(int,boolean,int,int,java.nio.IntBuffer)",
+        "glSeparableFilter2D(int,int,int,int,int,int,java.nio.Buffer,java.nio.Buffer)",
+        "glSeparableFilter2D(int,int,int,int,int,int,long,long)",
+        "glSetFenceAPPLE(int)",
+        "glSetFenceNV(int,int)",
+        "glSetInvariantEXT(int,int,java.nio.Buffer)",
+        "glSetLocalConstantEXT(int,int,java.nio.Buffer)",
+        "glSetMultisamplefvAMD(int,int,[F,int)",
+        "glSetMultisamplefvAMD(int,int,java.nio.FloatBuffer)",
+        "glShadeModel(int)",
+        "glShaderBinary(int,[I,int,int,java.nio.Buffer,int)",
+        "glShaderBinary(int,java.nio.IntBuffer,int,java.nio.Buffer,int)",
+        "glShaderOp1EXT(int,int,int)",
+        "glShaderOp2EXT(int,int,int,int)",
+        "glShaderOp3EXT(int,int,int,int,int)",
+        "glShaderSource(int,int,[Ljava.lang.String;,[I,int)",
+        "glShaderSource(int,int,[Ljava.lang.String;,java.nio.IntBuffer)",
+        "glShaderSourceARB(int,int,[Ljava.lang.String;,[I,int)",
+        "glShaderSourceARB(int,int,[Ljava.lang.String;,java.nio.IntBuffer)",
+        "glStencilClearTagEXT(int,int)",
+        "glStencilFillPathInstancedNV(int,int,java.nio.Buffer,int,int,int,int,[F,int)",
+        "glStencilFillPathInstancedNV(int,int,java.nio.Buffer,int,int,int,int,java.nio.FloatBuffer)",
+        "glStencilFillPathNV(int,int,int)",
+        "glStencilFunc(int,int,int)",
+        "glStencilFuncSeparate(int,int,int,int)",
+        "glStencilMask(int)",
+        "glStencilMaskSeparate(int,int)",
+        "glStencilOp(int,int,int)",
+        "glStencilOpSeparate(int,int,int,int)",
+        "glStencilOpValueAMD(int,int)",
+        "glStencilStrokePathInstancedNV(int,int,java.nio.Buffer,int,int,int,int,[F,int)",
+        "glStencilStrokePathInstancedNV(int,int,java.nio.Buffer,int,int,int,int,java.nio.FloatBuffer)",
+        "glStencilStrokePathNV(int,int,int)",
+        "glStringMarkerGREMEDY(int,java.nio.Buffer)",
+        "glSwizzleEXT(int,int,int,int,int,int)",
+        "glSyncTextureINTEL(int)",
+        "glTessellationFactorAMD(float)",
+        "glTessellationModeAMD(int)",
+        "glTestFenceAPPLE(int)",
+        "glTestFenceNV(int)",
+        "glTestObjectAPPLE(int,int)",
+        "glTexBuffer(int,int,int)",
+        "glTexCoord1bOES(byte)",
+        "glTexCoord1bvOES([B,int)",
+        "glTexCoord1bvOES(java.nio.ByteBuffer)",
+        "glTexCoord1d(double)",
+        "glTexCoord1dv([D,int)",
+        "glTexCoord1dv(java.nio.DoubleBuffer)",
+        "glTexCoord1f(float)",
+        "glTexCoord1fv([F,int)",
+        "glTexCoord1fv(java.nio.FloatBuffer)",
+        "glTexCoord1h(short)",
+        "glTexCoord1hv([S,int)",
+        "glTexCoord1hv(java.nio.ShortBuffer)",
+        "glTexCoord1i(int)",
+        "glTexCoord1iv([I,int)",
+        "glTexCoord1iv(java.nio.IntBuffer)",
+        "glTexCoord1s(short)",
+        "glTexCoord1sv([S,int)",
+        "glTexCoord1sv(java.nio.ShortBuffer)",
+        "glTexCoord2bOES(byte,byte)",
+        "glTexCoord2bvOES([B,int)",
+        "glTexCoord2bvOES(java.nio.ByteBuffer)",
+        "glTexCoord2d(double,double)",
+        "glTexCoord2dv([D,int)",
+        "glTexCoord2dv(java.nio.DoubleBuffer)",
+        "glTexCoord2f(float,float)",
+        "glTexCoord2fv([F,int)",
+        "glTexCoord2fv(java.nio.FloatBuffer)",
+        "glTexCoord2h(short,short)",
+        "glTexCoord2hv([S,int)",
+        "glTexCoord2hv(java.nio.ShortBuffer)",
+        "glTexCoord2i(int,int)",
+        "glTexCoord2iv([I,int)",
+        "glTexCoord2iv(java.nio.IntBuffer)",
+        "glTexCoord2s(short,short)",
+        "glTexCoord2sv([S,int)",
+        "glTexCoord2sv(java.nio.ShortBuffer)",
+        "glTexCoord3bOES(byte,byte,byte)",
+        "glTexCoord3bvOES([B,int)",
+        "glTexCoord3bvOES(java.nio.ByteBuffer)",
+        "glTexCoord3d(double,double,double)",
+        "glTexCoord3dv([D,int)",
+        "glTexCoord3dv(java.nio.DoubleBuffer)",
+        "glTexCoord3f(float,float,float)",
+        "glTexCoord3fv([F,int)",
+        "glTexCoord3fv(java.nio.FloatBuffer)",
+        "glTexCoord3h(short,short,short)",
+        "glTexCoord3hv([S,int)",
+        "glTexCoord3hv(java.nio.ShortBuffer)",
+        "glTexCoord3i(int,int,int)",
+        "glTexCoord3iv([I,int)",
+        "glTexCoord3iv(java.nio.IntBuffer)",
+        "glTexCoord3s(short,short,short)",
+        "glTexCoord3sv([S,int)",
+        "glTexCoord3sv(java.nio.ShortBuffer)",
+        "glTexCoord4bOES(byte,byte,byte,byte)",
+        "glTexCoord4bvOES([B,int)",
+        "glTexCoord4bvOES(java.nio.ByteBuffer)",
+        "glTexCoord4d(double,double,double,double)",
+        "glTexCoord4dv([D,int)",
+        "glTexCoord4dv(java.nio.DoubleBuffer)",
+        "glTexCoord4f(float,float,float,float)",
+        "glTexCoord4fv([F,int)",
+        "glTexCoord4fv(java.nio.FloatBuffer)",
+        "glTexCoord4h(short,short,short,short)",
+        "glTexCoord4hv([S,int)",
+        "glTexCoord4hv(java.nio.ShortBuffer)",
+        "glTexCoord4i(int,int,int,int)",
+        "glTexCoord4iv([I,int)",
+        "glTexCoord4iv(java.nio.IntBuffer)",
+        "glTexCoord4s(short,short,short,short)",
+        "glTexCoord4sv([S,int)",
+        "glTexCoord4sv(java.nio.ShortBuffer)",
+        "glTexCoordFormatNV(int,int,int)",
+        "glTexCoordPointer(int,int,int,java.nio.Buffer)",
+        "glTexCoordPointer(int,int,int,long)",
+        "glTexCoordPointer(javax.media.opengl.GLArrayData)",
+        "glTexEnvf(int,int,float)",
+        "glTexEnvfv(int,int,[F,int)",
+        "glTexEnvfv(int,int,java.nio.FloatBuffer)",
+        "glTexEnvi(int,int,int)",
+        "glTexEnviv(int,int,[I,int)",
+        "glTexEnviv(int,int,java.nio.IntBuffer)",
+        "glTexGend(int,int,double)",
+        "glTexGendv(int,int,[D,int)",
+        "glTexGendv(int,int,java.nio.DoubleBuffer)",
+        "glTexGenf(int,int,float)",
+        "glTexGenfv(int,int,[F,int)",
+        "glTexGenfv(int,int,java.nio.FloatBuffer)",
+        "glTexGeni(int,int,int)",
+        "glTexGeniv(int,int,[I,int)",
+        "glTexGeniv(int,int,java.nio.IntBuffer)",
+        "glTexImage1D(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTexImage1D(int,int,int,int,int,int,int,long)",
+        "glTexImage2D(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTexImage2D(int,int,int,int,int,int,int,int,long)",
+        "glTexImage2DMultisampleCoverageNV(int,int,int,int,int,int,boolean)",
+        "glTexImage3D(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTexImage3D(int,int,int,int,int,int,int,int,int,long)",
+        "glTexImage3DMultisampleCoverageNV(int,int,int,int,int,int,int,boolean)",
+        "glTexParameterIiv(int,int,[I,int)",
+        "glTexParameterIiv(int,int,java.nio.IntBuffer)",
+        "glTexParameterIuiv(int,int,[I,int)",
+        "glTexParameterIuiv(int,int,java.nio.IntBuffer)",
+        "glTexParameterf(int,int,float)",
+        "glTexParameterfv(int,int,[F,int)",
+        "glTexParameterfv(int,int,java.nio.FloatBuffer)",
+        "glTexParameteri(int,int,int)",
+        "glTexParameteriv(int,int,[I,int)",
+        "glTexParameteriv(int,int,java.nio.IntBuffer)",
+        "glTexRenderbufferNV(int,int)",
+        "glTexStorage1D(int,int,int,int)",
+        "glTexStorage2D(int,int,int,int,int)",
+        "glTexStorage3D(int,int,int,int,int,int)",
+        "glTexStorageSparseAMD(int,int,int,int,int,int,int)",
+        "glTexSubImage1D(int,int,int,int,int,int,java.nio.Buffer)",
+        "glTexSubImage1D(int,int,int,int,int,int,long)",
+        "glTexSubImage2D(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTexSubImage2D(int,int,int,int,int,int,int,int,long)",
+        "glTexSubImage3D(int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTexSubImage3D(int,int,int,int,int,int,int,int,int,int,long)",
+        "glTextureBarrierNV()",
+        "glTextureBufferEXT(int,int,int,int)",
+        "glTextureBufferRangeEXT(int,int,int,int,long,long)",
+        "glTextureImage1DEXT(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTextureImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTextureImage2DMultisampleCoverageNV(int,int,int,int,int,int,int,boolean)",
+        "glTextureImage2DMultisampleNV(int,int,int,int,int,int,boolean)",
+        "glTextureImage3DEXT(int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTextureImage3DMultisampleCoverageNV(int,int,int,int,int,int,int,int,boolean)",
+        "glTextureImage3DMultisampleNV(int,int,int,int,int,int,int,boolean)",
+        "glTextureLightEXT(int)",
+        "glTextureMaterialEXT(int,int)",
+        "glTextureNormalEXT(int)",
+        "glTextureParameterIivEXT(int,int,int,[I,int)",
+        "glTextureParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+        "glTextureParameterIuivEXT(int,int,int,[I,int)",
+        "glTextureParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+        "glTextureParameterfEXT(int,int,int,float)",
+        "glTextureParameterfvEXT(int,int,int,[F,int)",
+        "glTextureParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+        "glTextureParameteriEXT(int,int,int,int)",
+        "glTextureParameterivEXT(int,int,int,[I,int)",
+        "glTextureParameterivEXT(int,int,int,java.nio.IntBuffer)",
+        "glTextureRangeAPPLE(int,int,java.nio.Buffer)",
+        "glTextureRenderbufferEXT(int,int,int)",
+        "glTextureStorage1D(int,int,int,int,int)",
+        "glTextureStorage2D(int,int,int,int,int,int)",
+        "glTextureStorage3D(int,int,int,int,int,int,int)",
+        "glTextureStorageSparseAMD(int,int,int,int,int,int,int,int)",
+        "glTextureSubImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTextureSubImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTextureSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+        "glTransformFeedbackVaryings(int,int,[Ljava.lang.String;,int)",
+        "glTransformPathNV(int,int,int,[F,int)",
+        "glTransformPathNV(int,int,int,java.nio.FloatBuffer)",
+        "glTranslated(double,double,double)",
+        "glTranslatef(float,float,float)",
+        "glUniform(javax.media.opengl.GLUniformData)",
+        "glUniform1f(int,float)",
+        "glUniform1fARB(int,float)",
+        "glUniform1fv(int,int,[F,int)",
+        "glUniform1fv(int,int,java.nio.FloatBuffer)",
+        "glUniform1fvARB(int,int,[F,int)",
+        "glUniform1fvARB(int,int,java.nio.FloatBuffer)",
+        "glUniform1i(int,int)",
+        "glUniform1iARB(int,int)",
+        "glUniform1iv(int,int,[I,int)",
+        "glUniform1iv(int,int,java.nio.IntBuffer)",
+        "glUniform1ivARB(int,int,[I,int)",
+        "glUniform1ivARB(int,int,java.nio.IntBuffer)",
+        "glUniform1ui(int,int)",
+        "glUniform1uiv(int,int,[I,int)",
+        "glUniform1uiv(int,int,java.nio.IntBuffer)",
+        "glUniform2f(int,float,float)",
+        "glUniform2fARB(int,float,float)",
+        "glUniform2fv(int,int,[F,int)",
+        "glUniform2fv(int,int,java.nio.FloatBuffer)",
+        "glUniform2fvARB(int,int,[F,int)",
+        "glUniform2fvARB(int,int,java.nio.FloatBuffer)",
+        "glUniform2i(int,int,int)",
+        "glUniform2iARB(int,int,int)",
+        "glUniform2iv(int,int,[I,int)",
+        "glUniform2iv(int,int,java.nio.IntBuffer)",
+        "glUniform2ivARB(int,int,[I,int)",
+        "glUniform2ivARB(int,int,java.nio.IntBuffer)",
+        "glUniform2ui(int,int,int)",
+        "glUniform2uiv(int,int,[I,int)",
+        "glUniform2uiv(int,int,java.nio.IntBuffer)",
+        "glUniform3f(int,float,float,float)",
+        "glUniform3fARB(int,float,float,float)",
+        "glUniform3fv(int,int,[F,int)",
+        "glUniform3fv(int,int,java.nio.FloatBuffer)",
+        "glUniform3fvARB(int,int,[F,int)",
+        "glUniform3fvARB(int,int,java.nio.FloatBuffer)",
+        "glUniform3i(int,int,int,int)",
+        "glUniform3iARB(int,int,int,int)",
+        "glUniform3iv(int,int,[I,int)",
+        "glUniform3iv(int,int,java.nio.IntBuffer)",
+        "glUniform3ivARB(int,int,[I,int)",
+        "glUniform3ivARB(int,int,java.nio.IntBuffer)",
+        "glUniform3ui(int,int,int,int)",
+        "glUniform3uiv(int,int,[I,int)",
+        "glUniform3uiv(int,int,java.nio.IntBuffer)",
+        "glUniform4f(int,float,float,float,float)",
+        "glUniform4fARB(int,float,float,float,float)",
+        "glUniform4fv(int,int,[F,int)",
+        "glUniform4fv(int,int,java.nio.FloatBuffer)",
+        "glUniform4fvARB(int,int,[F,int)",
+        "glUniform4fvARB(int,int,java.nio.FloatBuffer)",
+        "glUniform4i(int,int,int,int,int)",
+        "glUniform4iARB(int,int,int,int,int)",
+        "glUniform4iv(int,int,[I,int)",
+        "glUniform4iv(int,int,java.nio.IntBuffer)",
+        "glUniform4ivARB(int,int,[I,int)",
+        "glUniform4ivARB(int,int,java.nio.IntBuffer)",
+        "glUniform4ui(int,int,int,int,int)",
+        "glUniform4uiv(int,int,[I,int)",
+        "glUniform4uiv(int,int,java.nio.IntBuffer)",
+        "glUniformBlockBinding(int,int,int)",
+        "glUniformBufferEXT(int,int,int)",
+        "glUniformHandleui64NV(int,long)",
+        "glUniformHandleui64vNV(int,int,[J,int)",
+        "glUniformHandleui64vNV(int,int,java.nio.LongBuffer)",
+        "glUniformMatrix2fv(int,int,boolean,[F,int)",
+        "glUniformMatrix2fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix2fvARB(int,int,boolean,[F,int)",
+        "glUniformMatrix2fvARB(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix2x3fv(int,int,boolean,[F,int)",
+        "glUniformMatrix2x3fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix2x4fv(int,int,boolean,[F,int)",
+        "glUniformMatrix2x4fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix3fv(int,int,boolean,[F,int)",
+        "glUniformMatrix3fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix3fvARB(int,int,boolean,[F,int)",
+        "glUniformMatrix3fvARB(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix3x2fv(int,int,boolean,[F,int)",
+        "glUniformMatrix3x2fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix3x4fv(int,int,boolean,[F,int)",
+        "glUniformMatrix3x4fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix4fv(int,int,boolean,[F,int)",
+        "glUniformMatrix4fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix4fvARB(int,int,boolean,[F,int)",
+        "glUniformMatrix4fvARB(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix4x2fv(int,int,boolean,[F,int)",
+        "glUniformMatrix4x2fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformMatrix4x3fv(int,int,boolean,[F,int)",
+        "glUniformMatrix4x3fv(int,int,boolean,java.nio.FloatBuffer)",
+        "glUniformui64NV(int,long)",
+        "glUniformui64vNV(int,int,[J,int)",
+        "glUniformui64vNV(int,int,java.nio.LongBuffer)",
+        "glUnlockArraysEXT()",
+        "glUnmapBuffer(int)",
+        "glUnmapNamedBufferEXT(int)",
+        "glUnmapTexture2DINTEL(int,int)",
+        "glUseProgram(int)",
+        "glUseProgramObjectARB(int)",
+        "glVDPAUFiniNV()",
+        "glVDPAUGetSurfaceivNV(long,int,int,[I,int,[I,int)",
+        "glVDPAUGetSurfaceivNV(long,int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+        "glVDPAUInitNV(java.nio.Buffer,java.nio.Buffer)",
+        "glVDPAUIsSurfaceNV(long)",
+        "glVDPAUMapSurfacesNV(int,com.jogamp.common.nio.PointerBuffer)",
+        "glVDPAURegisterOutputSurfaceNV(java.nio.Buffer,int,int,[I,int)",
+        "glVDPAURegisterOutputSurfaceNV(java.nio.Buffer,int,int,java.nio.IntBuffer)",
+        "glVDPAURegisterVideoSurfaceNV(java.nio.Buffer,int,int,[I,int)",
+        "glVDPAURegisterVideoSurfaceNV(java.nio.Buffer,int,int,java.nio.IntBuffer)",
+        "glVDPAUSurfaceAccessNV(long,int)",
+        "glVDPAUUnmapSurfacesNV(int,com.jogamp.common.nio.PointerBuffer)",
+        "glVDPAUUnregisterSurfaceNV(long)",
+        "glValidateProgram(int)",
+        "glValidateProgramARB(int)",
+        "glVariantPointerEXT(int,int,int,java.nio.Buffer)",
+        "glVariantPointerEXT(int,int,int,long)",
+        "glVariantbvEXT(int,[B,int)",
+        "glVariantbvEXT(int,java.nio.ByteBuffer)",
+        "glVariantdvEXT(int,[D,int)",
+        "glVariantdvEXT(int,java.nio.DoubleBuffer)",
+        "glVariantfvEXT(int,[F,int)",
+        "glVariantfvEXT(int,java.nio.FloatBuffer)",
+        "glVariantivEXT(int,[I,int)",
+        "glVariantivEXT(int,java.nio.IntBuffer)",
+        "glVariantsvEXT(int,[S,int)",
+        "glVariantsvEXT(int,java.nio.ShortBuffer)",
+        "glVariantubvEXT(int,[B,int)",
+        "glVariantubvEXT(int,java.nio.ByteBuffer)",
+        "glVariantuivEXT(int,[I,int)",
+        "glVariantuivEXT(int,java.nio.IntBuffer)",
+        "glVariantusvEXT(int,[S,int)",
+        "glVariantusvEXT(int,java.nio.ShortBuffer)",
+        "glVertex2bOES(byte)",
+        "glVertex2bvOES([B,int)",
+        "glVertex2bvOES(java.nio.ByteBuffer)",
+        "glVertex2d(double,double)",
+        "glVertex2dv([D,int)",
+        "glVertex2dv(java.nio.DoubleBuffer)",
+        "glVertex2f(float,float)",
+        "glVertex2fv([F,int)",
+        "glVertex2fv(java.nio.FloatBuffer)",
+        "glVertex2h(short,short)",
+        "glVertex2hv([S,int)",
+        "glVertex2hv(java.nio.ShortBuffer)",
+        "glVertex2i(int,int)",
+        "glVertex2iv([I,int)",
+        "glVertex2iv(java.nio.IntBuffer)",
+        "glVertex2s(short,short)",
+        "glVertex2sv([S,int)",
+        "glVertex2sv(java.nio.ShortBuffer)",
+        "glVertex3bOES(byte,byte)",
+        "glVertex3bvOES([B,int)",
+        "glVertex3bvOES(java.nio.ByteBuffer)",
+        "glVertex3d(double,double,double)",
+        "glVertex3dv([D,int)",
+        "glVertex3dv(java.nio.DoubleBuffer)",
+        "glVertex3f(float,float,float)",
+        "glVertex3fv([F,int)",
+        "glVertex3fv(java.nio.FloatBuffer)",
+        "glVertex3h(short,short,short)",
+        "glVertex3hv([S,int)",
+        "glVertex3hv(java.nio.ShortBuffer)",
+        "glVertex3i(int,int,int)",
+        "glVertex3iv([I,int)",
+        "glVertex3iv(java.nio.IntBuffer)",
+        "glVertex3s(short,short,short)",
+        "glVertex3sv([S,int)",
+        "glVertex3sv(java.nio.ShortBuffer)",
+        "glVertex4bOES(byte,byte,byte)",
+        "glVertex4bvOES([B,int)",
+        "glVertex4bvOES(java.nio.ByteBuffer)",
+        "glVertex4d(double,double,double,double)",
+        "glVertex4dv([D,int)",
+        "glVertex4dv(java.nio.DoubleBuffer)",
+        "glVertex4f(float,float,float,float)",
+        "glVertex4fv([F,int)",
+        "glVertex4fv(java.nio.FloatBuffer)",
+        "glVertex4h(short,short,short,short)",
+        "glVertex4hv([S,int)",
+        "glVertex4hv(java.nio.ShortBuffer)",
+        "glVertex4i(int,int,int,int)",
+        "glVertex4iv([I,int)",
+        "glVertex4iv(java.nio.IntBuffer)",
+        "glVertex4s(short,short,short,short)",
+        "glVertex4sv([S,int)",
+        "glVertex4sv(java.nio.ShortBuffer)",
+        "glVertexArrayBindVertexBufferEXT(int,int,int,long,int)",
+        "glVertexArrayColorOffsetEXT(int,int,int,int,int,long)",
+        "glVertexArrayEdgeFlagOffsetEXT(int,int,int,long)",
+        "glVertexArrayFogCoordOffsetEXT(int,int,int,int,long)",
+        "glVertexArrayIndexOffsetEXT(int,int,int,int,long)",
+        "glVertexArrayMultiTexCoordOffsetEXT(int,int,int,int,int,int,long)",
+        "glVertexArrayNormalOffsetEXT(int,int,int,int,long)",
+        "glVertexArrayParameteriAPPLE(int,int)",
+        "glVertexArrayRangeAPPLE(int,java.nio.Buffer)",
+        "glVertexArrayRangeNV(int,java.nio.Buffer)",
+        "glVertexArraySecondaryColorOffsetEXT(int,int,int,int,int,long)",
+        "glVertexArrayTexCoordOffsetEXT(int,int,int,int,int,long)",
+        "glVertexArrayVertexAttribBindingEXT(int,int,int)",
+        "glVertexArrayVertexAttribFormatEXT(int,int,int,int,boolean,int)",
+        "glVertexArrayVertexAttribIFormatEXT(int,int,int,int,int)",
+        "glVertexArrayVertexAttribIOffsetEXT(int,int,int,int,int,int,long)",
+        "glVertexArrayVertexAttribLFormatEXT(int,int,int,int,int)",
+        "glVertexArrayVertexAttribOffsetEXT(int,int,int,int,int,boolean,int,long)",
+        "glVertexArrayVertexBindingDivisorEXT(int,int,int)",
+        "glVertexArrayVertexOffsetEXT(int,int,int,int,int,long)",
+        "glVertexAttrib1d(int,double)",
+        "glVertexAttrib1dARB(int,double)",
+        "glVertexAttrib1dv(int,[D,int)",
+        "glVertexAttrib1dv(int,java.nio.DoubleBuffer)",
+        "glVertexAttrib1dvARB(int,[D,int)",
+        "glVertexAttrib1dvARB(int,java.nio.DoubleBuffer)",
+        "glVertexAttrib1f(int,float)",
+        "glVertexAttrib1fARB(int,float)",
+        "glVertexAttrib1fv(int,[F,int)",
+        "glVertexAttrib1fv(int,java.nio.FloatBuffer)",
+        "glVertexAttrib1fvARB(int,[F,int)",
+        "glVertexAttrib1fvARB(int,java.nio.FloatBuffer)",
+        "glVertexAttrib1h(int,short)",
+        "glVertexAttrib1hv(int,[S,int)",
+        "glVertexAttrib1hv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib1s(int,short)",
+        "glVertexAttrib1sARB(int,short)",
+        "glVertexAttrib1sv(int,[S,int)",
+        "glVertexAttrib1sv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib1svARB(int,[S,int)",
+        "glVertexAttrib1svARB(int,java.nio.ShortBuffer)",
+        "glVertexAttrib2d(int,double,double)",
+        "glVertexAttrib2dARB(int,double,double)",
+        "glVertexAttrib2dv(int,[D,int)",
+        "glVertexAttrib2dv(int,java.nio.DoubleBuffer)",
+        "glVertexAttrib2dvARB(int,[D,int)",
+        "glVertexAttrib2dvARB(int,java.nio.DoubleBuffer)",
+        "glVertexAttrib2f(int,float,float)",
+        "glVertexAttrib2fARB(int,float,float)",
+        "glVertexAttrib2fv(int,[F,int)",
+        "glVertexAttrib2fv(int,java.nio.FloatBuffer)",
+        "glVertexAttrib2fvARB(int,[F,int)",
+        "glVertexAttrib2fvARB(int,java.nio.FloatBuffer)",
+        "glVertexAttrib2h(int,short,short)",
+        "glVertexAttrib2hv(int,[S,int)",
+        "glVertexAttrib2hv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib2s(int,short,short)",
+        "glVertexAttrib2sARB(int,short,short)",
+        "glVertexAttrib2sv(int,[S,int)",
+        "glVertexAttrib2sv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib2svARB(int,[S,int)",
+        "glVertexAttrib2svARB(int,java.nio.ShortBuffer)",
+        "glVertexAttrib3d(int,double,double,double)",
+        "glVertexAttrib3dARB(int,double,double,double)",
+        "glVertexAttrib3dv(int,[D,int)",
+        "glVertexAttrib3dv(int,java.nio.DoubleBuffer)",
+        "glVertexAttrib3dvARB(int,[D,int)",
+        "glVertexAttrib3dvARB(int,java.nio.DoubleBuffer)",
+        "glVertexAttrib3f(int,float,float,float)",
+        "glVertexAttrib3fARB(int,float,float,float)",
+        "glVertexAttrib3fv(int,[F,int)",
+        "glVertexAttrib3fv(int,java.nio.FloatBuffer)",
+        "glVertexAttrib3fvARB(int,[F,int)",
+        "glVertexAttrib3fvARB(int,java.nio.FloatBuffer)",
+        "glVertexAttrib3h(int,short,short,short)",
+        "glVertexAttrib3hv(int,[S,int)",
+        "glVertexAttrib3hv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib3s(int,short,short,short)",
+        "glVertexAttrib3sARB(int,short,short,short)",
+        "glVertexAttrib3sv(int,[S,int)",
+        "glVertexAttrib3sv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib3svARB(int,[S,int)",
+        "glVertexAttrib3svARB(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4Nbv(int,[B,int)",
+        "glVertexAttrib4Nbv(int,java.nio.ByteBuffer)",
+        "glVertexAttrib4NbvARB(int,[B,int)",
+        "glVertexAttrib4NbvARB(int,java.nio.ByteBuffer)",
+        "glVertexAttrib4Niv(int,[I,int)",
+        "glVertexAttrib4Niv(int,java.nio.IntBuffer)",
+        "glVertexAttrib4NivARB(int,[I,int)",
+        "glVertexAttrib4NivARB(int,java.nio.IntBuffer)",
+        "glVertexAttrib4Nsv(int,[S,int)",
+        "glVertexAttrib4Nsv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4NsvARB(int,[S,int)",
+        "glVertexAttrib4NsvARB(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4Nub(int,byte,byte,byte,byte)",
+        "glVertexAttrib4NubARB(int,byte,byte,byte,byte)",
+        "glVertexAttrib4Nubv(int,[B,int)",
+        "glVertexAttrib4Nubv(int,java.nio.ByteBuffer)",
+        "glVertexAttrib4NubvARB(int,[B,int)",
+        "glVertexAttrib4NubvARB(int,java.nio.ByteBuffer)",
+        "glVertexAttrib4Nuiv(int,[I,int)",
+        "glVertexAttrib4Nuiv(int,java.nio.IntBuffer)",
+        "glVertexAttrib4NuivARB(int,[I,int)",
+        "glVertexAttrib4NuivARB(int,java.nio.IntBuffer)",
+        "glVertexAttrib4Nusv(int,[S,int)",
+        "glVertexAttrib4Nusv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4NusvARB(int,[S,int)",
+        "glVertexAttrib4NusvARB(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4bv(int,[B,int)",
+        "glVertexAttrib4bv(int,java.nio.ByteBuffer)",
+        "glVertexAttrib4bvARB(int,[B,int)",
+        "glVertexAttrib4bvARB(int,java.nio.ByteBuffer)",
+        "glVertexAttrib4d(int,double,double,double,double)",
+        "glVertexAttrib4dARB(int,double,double,double,double)",
+        "glVertexAttrib4dv(int,[D,int)",
+        "glVertexAttrib4dv(int,java.nio.DoubleBuffer)",
+        "glVertexAttrib4dvARB(int,[D,int)",
+        "glVertexAttrib4dvARB(int,java.nio.DoubleBuffer)",
+        "glVertexAttrib4f(int,float,float,float,float)",
+        "glVertexAttrib4fARB(int,float,float,float,float)",
+        "glVertexAttrib4fv(int,[F,int)",
+        "glVertexAttrib4fv(int,java.nio.FloatBuffer)",
+        "glVertexAttrib4fvARB(int,[F,int)",
+        "glVertexAttrib4fvARB(int,java.nio.FloatBuffer)",
+        "glVertexAttrib4h(int,short,short,short,short)",
+        "glVertexAttrib4hv(int,[S,int)",
+        "glVertexAttrib4hv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4iv(int,[I,int)",
+        "glVertexAttrib4iv(int,java.nio.IntBuffer)",
+        "glVertexAttrib4ivARB(int,[I,int)",
+        "glVertexAttrib4ivARB(int,java.nio.IntBuffer)",
+        "glVertexAttrib4s(int,short,short,short,short)",
+        "glVertexAttrib4sARB(int,short,short,short,short)",
+        "glVertexAttrib4sv(int,[S,int)",
+        "glVertexAttrib4sv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4svARB(int,[S,int)",
+        "glVertexAttrib4svARB(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4ubv(int,[B,int)",
+        "glVertexAttrib4ubv(int,java.nio.ByteBuffer)",
+        "glVertexAttrib4ubvARB(int,[B,int)",
+        "glVertexAttrib4ubvARB(int,java.nio.ByteBuffer)",
+        "glVertexAttrib4uiv(int,[I,int)",
+        "glVertexAttrib4uiv(int,java.nio.IntBuffer)",
+        "glVertexAttrib4uivARB(int,[I,int)",
+        "glVertexAttrib4uivARB(int,java.nio.IntBuffer)",
+        "glVertexAttrib4usv(int,[S,int)",
+        "glVertexAttrib4usv(int,java.nio.ShortBuffer)",
+        "glVertexAttrib4usvARB(int,[S,int)",
+        "glVertexAttrib4usvARB(int,java.nio.ShortBuffer)",
+        "glVertexAttribFormatNV(int,int,int,boolean,int)",
+        "glVertexAttribI1i(int,int)",
+        "glVertexAttribI1iEXT(int,int)",
+        "glVertexAttribI1iv(int,[I,int)",
+        "glVertexAttribI1iv(int,java.nio.IntBuffer)",
+        "glVertexAttribI1ivEXT(int,[I,int)",
+        "glVertexAttribI1ivEXT(int,java.nio.IntBuffer)",
+        "glVertexAttribI1ui(int,int)",
+        "glVertexAttribI1uiEXT(int,int)",
+        "glVertexAttribI1uiv(int,[I,int)",
+        "glVertexAttribI1uiv(int,java.nio.IntBuffer)",
+        "glVertexAttribI1uivEXT(int,[I,int)",
+        "glVertexAttribI1uivEXT(int,java.nio.IntBuffer)",
+        "glVertexAttribI2i(int,int,int)",
+        "glVertexAttribI2iEXT(int,int,int)",
+        "glVertexAttribI2iv(int,[I,int)",
+        "glVertexAttribI2iv(int,java.nio.IntBuffer)",
+        "glVertexAttribI2ivEXT(int,[I,int)",
+        "glVertexAttribI2ivEXT(int,java.nio.IntBuffer)",
+        "glVertexAttribI2ui(int,int,int)",
+        "glVertexAttribI2uiEXT(int,int,int)",
+        "glVertexAttribI2uiv(int,[I,int)",
+        "glVertexAttribI2uiv(int,java.nio.IntBuffer)",
+        "glVertexAttribI2uivEXT(int,[I,int)",
+        "glVertexAttribI2uivEXT(int,java.nio.IntBuffer)",
+        "glVertexAttribI3i(int,int,int,int)",
+        "glVertexAttribI3iEXT(int,int,int,int)",
+        "glVertexAttribI3iv(int,[I,int)",
+        "glVertexAttribI3iv(int,java.nio.IntBuffer)",
+        "glVertexAttribI3ivEXT(int,[I,int)",
+        "glVertexAttribI3ivEXT(int,java.nio.IntBuffer)",
+        "glVertexAttribI3ui(int,int,int,int)",
+        "glVertexAttribI3uiEXT(int,int,int,int)",
+        "glVertexAttribI3uiv(int,[I,int)",
+        "glVertexAttribI3uiv(int,java.nio.IntBuffer)",
+        "glVertexAttribI3uivEXT(int,[I,int)",
+        "glVertexAttribI3uivEXT(int,java.nio.IntBuffer)",
+        "glVertexAttribI4bv(int,[B,int)",
+        "glVertexAttribI4bv(int,java.nio.ByteBuffer)",
+        "glVertexAttribI4bvEXT(int,[B,int)",
+        "glVertexAttribI4bvEXT(int,java.nio.ByteBuffer)",
+        "glVertexAttribI4i(int,int,int,int,int)",
+        "glVertexAttribI4iEXT(int,int,int,int,int)",
+        "glVertexAttribI4iv(int,[I,int)",
+        "glVertexAttribI4iv(int,java.nio.IntBuffer)",
+        "glVertexAttribI4ivEXT(int,[I,int)",
+        "glVertexAttribI4ivEXT(int,java.nio.IntBuffer)",
+        "glVertexAttribI4sv(int,[S,int)",
+        "glVertexAttribI4sv(int,java.nio.ShortBuffer)",
+        "glVertexAttribI4svEXT(int,[S,int)",
+        "glVertexAttribI4svEXT(int,java.nio.ShortBuffer)",
+        "glVertexAttribI4ubv(int,[B,int)",
+        "glVertexAttribI4ubv(int,java.nio.ByteBuffer)",
+        "glVertexAttribI4ubvEXT(int,[B,int)",
+        "glVertexAttribI4ubvEXT(int,java.nio.ByteBuffer)",
+        "glVertexAttribI4ui(int,int,int,int,int)",
+        "glVertexAttribI4uiEXT(int,int,int,int,int)",
+        "glVertexAttribI4uiv(int,[I,int)",
+        "glVertexAttribI4uiv(int,java.nio.IntBuffer)",
+        "glVertexAttribI4uivEXT(int,[I,int)",
+        "glVertexAttribI4uivEXT(int,java.nio.IntBuffer)",
+        "glVertexAttribI4usv(int,[S,int)",
+        "glVertexAttribI4usv(int,java.nio.ShortBuffer)",
+        "glVertexAttribI4usvEXT(int,[S,int)",
+        "glVertexAttribI4usvEXT(int,java.nio.ShortBuffer)",
+        "glVertexAttribIFormatNV(int,int,int,int)",
+        "glVertexAttribIPointer(int,int,int,int,java.nio.Buffer)",
+        "glVertexAttribIPointer(int,int,int,int,long)",
+        "glVertexAttribIPointerEXT(int,int,int,int,java.nio.Buffer)",
+        "glVertexAttribL1i64NV(int,long)",
+        "glVertexAttribL1i64vNV(int,[J,int)",
+        "glVertexAttribL1i64vNV(int,java.nio.LongBuffer)",
+        "glVertexAttribL1ui64NV(int,long)",
+        "glVertexAttribL1ui64vNV(int,[J,int)",
+        "glVertexAttribL1ui64vNV(int,java.nio.LongBuffer)",
+        "glVertexAttribL2i64NV(int,long,long)",
+        "glVertexAttribL2i64vNV(int,[J,int)",
+        "glVertexAttribL2i64vNV(int,java.nio.LongBuffer)",
+        "glVertexAttribL2ui64NV(int,long,long)",
+        "glVertexAttribL2ui64vNV(int,[J,int)",
+        "glVertexAttribL2ui64vNV(int,java.nio.LongBuffer)",
+        "glVertexAttribL3i64NV(int,long,long,long)",
+        "glVertexAttribL3i64vNV(int,[J,int)",
+        "glVertexAttribL3i64vNV(int,java.nio.LongBuffer)",
+        "glVertexAttribL3ui64NV(int,long,long,long)",
+        "glVertexAttribL3ui64vNV(int,[J,int)",
+        "glVertexAttribL3ui64vNV(int,java.nio.LongBuffer)",
+        "glVertexAttribL4i64NV(int,long,long,long,long)",
+        "glVertexAttribL4i64vNV(int,[J,int)",
+        "glVertexAttribL4i64vNV(int,java.nio.LongBuffer)",
+        "glVertexAttribL4ui64NV(int,long,long,long,long)",
+        "glVertexAttribL4ui64vNV(int,[J,int)",
+        "glVertexAttribL4ui64vNV(int,java.nio.LongBuffer)",
+        "glVertexAttribLFormatNV(int,int,int,int)",
+        "glVertexAttribParameteriAMD(int,int,int)",
+        "glVertexAttribPointer(int,int,int,boolean,int,java.nio.Buffer)",
+        "glVertexAttribPointer(int,int,int,boolean,int,long)",
+        "glVertexAttribPointer(javax.media.opengl.GLArrayData)",
+        "glVertexAttribPointerARB(int,int,int,boolean,int,java.nio.Buffer)",
+        "glVertexAttribPointerARB(int,int,int,boolean,int,long)",
+        "glVertexAttribs1hv(int,int,[S,int)",
+        "glVertexAttribs1hv(int,int,java.nio.ShortBuffer)",
+        "glVertexAttribs2hv(int,int,[S,int)",
+        "glVertexAttribs2hv(int,int,java.nio.ShortBuffer)",
+        "glVertexAttribs3hv(int,int,[S,int)",
+        "glVertexAttribs3hv(int,int,java.nio.ShortBuffer)",
+        "glVertexAttribs4hv(int,int,[S,int)",
+        "glVertexAttribs4hv(int,int,java.nio.ShortBuffer)",
+        "glVertexBlendARB(int)",
+        "glVertexFormatNV(int,int,int)",
+        "glVertexPointer(int,int,int,java.nio.Buffer)",
+        "glVertexPointer(int,int,int,long)",
+        "glVertexPointer(javax.media.opengl.GLArrayData)",
+        "glVertexWeightPointerEXT(int,int,int,java.nio.Buffer)",
+        "glVertexWeightPointerEXT(int,int,int,long)",
+        "glVertexWeightfEXT(float)",
+        "glVertexWeightfvEXT([F,int)",
+        "glVertexWeightfvEXT(java.nio.FloatBuffer)",
+        "glVertexWeighth(short)",
+        "glVertexWeighthv([S,int)",
+        "glVertexWeighthv(java.nio.ShortBuffer)",
+        "glVideoCaptureNV(int,[I,int,[J,int)",
+        "glVideoCaptureNV(int,java.nio.IntBuffer,java.nio.LongBuffer)",
+        "glVideoCaptureStreamParameterdvNV(int,int,int,[D,int)",
+        "glVideoCaptureStreamParameterdvNV(int,int,int,java.nio.DoubleBuffer)",
+        "glVideoCaptureStreamParameterfvNV(int,int,int,[F,int)",
+        "glVideoCaptureStreamParameterfvNV(int,int,int,java.nio.FloatBuffer)",
+        "glVideoCaptureStreamParameterivNV(int,int,int,[I,int)",
+        "glVideoCaptureStreamParameterivNV(int,int,int,java.nio.IntBuffer)",
+        "glViewport(int,int,int,int)",
+        "glWeightPathsNV(int,int,[I,int,[F,int)",
+        "glWeightPathsNV(int,int,java.nio.IntBuffer,java.nio.FloatBuffer)",
+        "glWeightPointer(int,int,int,java.nio.Buffer)",
+        "glWeightbvARB(int,[B,int)",
+        "glWeightbvARB(int,java.nio.ByteBuffer)",
+        "glWeightdvARB(int,[D,int)",
+        "glWeightdvARB(int,java.nio.DoubleBuffer)",
+        "glWeightfvARB(int,[F,int)",
+        "glWeightfvARB(int,java.nio.FloatBuffer)",
+        "glWeightivARB(int,[I,int)",
+        "glWeightivARB(int,java.nio.IntBuffer)",
+        "glWeightsvARB(int,[S,int)",
+        "glWeightsvARB(int,java.nio.ShortBuffer)",
+        "glWeightubvARB(int,[B,int)",
+        "glWeightubvARB(int,java.nio.ByteBuffer)",
+        "glWeightuivARB(int,[I,int)",
+        "glWeightuivARB(int,java.nio.IntBuffer)",
+        "glWeightusvARB(int,[S,int)",
+        "glWeightusvARB(int,java.nio.ShortBuffer)",
+        "glWindowPos2d(double,double)",
+        "glWindowPos2dv([D,int)",
+        "glWindowPos2dv(java.nio.DoubleBuffer)",
+        "glWindowPos2f(float,float)",
+        "glWindowPos2fv([F,int)",
+        "glWindowPos2fv(java.nio.FloatBuffer)",
+        "glWindowPos2i(int,int)",
+        "glWindowPos2iv([I,int)",
+        "glWindowPos2iv(java.nio.IntBuffer)",
+        "glWindowPos2s(short,short)",
+        "glWindowPos2sv([S,int)",
+        "glWindowPos2sv(java.nio.ShortBuffer)",
+        "glWindowPos3d(double,double,double)",
+        "glWindowPos3dv([D,int)",
+        "glWindowPos3dv(java.nio.DoubleBuffer)",
+        "glWindowPos3f(float,float,float)",
+        "glWindowPos3fv([F,int)",
+        "glWindowPos3fv(java.nio.FloatBuffer)",
+        "glWindowPos3i(int,int,int)",
+        "glWindowPos3iv([I,int)",
+        "glWindowPos3iv(java.nio.IntBuffer)",
+        "glWindowPos3s(short,short,short)",
+        "glWindowPos3sv([S,int)",
+        "glWindowPos3sv(java.nio.ShortBuffer)",
+        "glWriteMaskEXT(int,int,int,int,int,int)",
+        "hasBasicFBOSupport()",
+        "hasFullFBOSupport()",
+        "hasGLSL()",
+        "isExtensionAvailable(java.lang.String)",
+        "isFunctionAvailable(java.lang.String)",
+        "isGL()",
+        "isGL2()",
+        "isGL2ES1()",
+        "isGL2ES2()",
+        "isGL2GL3()",
+        "isGL3()",
+        "isGL3ES3()",
+        "isGL3bc()",
+        "isGL3core()",
+        "isGL4()",
+        "isGL4ES3()",
+        "isGL4bc()",
+        "isGL4core()",
+        "isGLES()",
+        "isGLES1()",
+        "isGLES2()",
+        "isGLES2Compatible()",
+        "isGLES3()",
+        "isGLES3Compatible()",
+        "isGLcore()",
+        "isNPOTTextureAvailable()",
+        "isTextureFormatBGRA8888Available()",
+        "setSwapInterval(int)"
+    };
+
+    private final JoglCommandRecorder r;
+
+    JoglRecordingGL2(JoglCommandRecorder r)
+    {
+        this.r = r;
+    }
+
+    public int getBoundFramebuffer(int a0) {
+        r.begin(0); r.arg(a0); return r.endInt();
+    }
+    public javax.media.opengl.GLContext getContext() {
+        r.begin(1); r.end(); return null;
+    }
+    public int getDefaultDrawFramebuffer() {
+        r.begin(2); return r.endInt();
+    }
+    public int getDefaultReadBuffer() {
+        r.begin(3); return r.endInt();
+    }
+    public int getDefaultReadFramebuffer() {
+        r.begin(4); return r.endInt();
+    }
+    public javax.media.opengl.GL getDownstreamGL() {
+        r.begin(5); r.end(); return null;
+    }
+    public java.lang.Object getExtension(java.lang.String a0) {
+        r.begin(6); r.arg(a0); r.end(); return this;
+    }
+    public javax.media.opengl.GL getGL() {
+        r.begin(7); r.end(); return this;
+    }
+    public javax.media.opengl.GL2 getGL2() {
+        r.begin(8); r.end(); return this;
+    }
+    public javax.media.opengl.GL2ES1 getGL2ES1() {
+        r.begin(9); r.end(); return this;
+    }
+    public javax.media.opengl.GL2ES2 getGL2ES2() {
+        r.begin(10); r.end(); return this;
+    }
+    public javax.media.opengl.GL2GL3 getGL2GL3() {
+        r.begin(11); r.end(); return this;
+    }
+    public javax.media.opengl.GL3 getGL3() {
+        r.begin(12); r.end(); return null;
+    }
+    public javax.media.opengl.GL3ES3 getGL3ES3() {
+        r.begin(13); r.end(); return null;
+    }
+    public javax.media.opengl.GL3bc getGL3bc() {
+        r.begin(14); r.end(); return null;
+    }
+    public javax.media.opengl.GL4 getGL4() {
+        r.begin(15); r.end(); return null;
+    }
+    public javax.media.opengl.GL4ES3 getGL4ES3() {
+        r.begin(16); r.end(); return null;
+    }
+    public javax.media.opengl.GL4bc getGL4bc() {
+        r.begin(17); r.end(); return null;
+    }
+    public javax.media.opengl.GLES1 getGLES1() {
+        r.begin(18); r.end(); return null;
+    }
+    public javax.media.opengl.GLES2 getGLES2() {
+        r.begin(19); r.end(); return null;
+    }
+    public javax.media.opengl.GLES3 getGLES3() {
+        r.begin(20); r.end(); return null;
+    }
+    public javax.media.opengl.GLProfile getGLProfile() {
+        r.begin(21); r.end(); return null;
+    }
+    public int getMaxRenderbufferSamples() {
+        r.begin(22); return r.endInt();
+    }
+    public java.lang.Object getPlatformGLExtensions() {
+        r.begin(23); r.end(); return this;
+    }
+    public javax.media.opengl.GL getRootGL() {
+        r.begin(24); r.end(); return this;
+    }
+    public int getSwapInterval() {
+        r.begin(25); return r.endInt();
+    }
+    public void glAccum(int a0, float a1) {
+        r.begin(26); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glActiveStencilFaceEXT(int a0) {
+        r.begin(27); r.arg(a0); r.end();
+    }
+    public void glActiveTexture(int a0) {
+        r.begin(28); r.arg(a0); r.end();
+    }
+    public java.nio.ByteBuffer glAllocateMemoryNV(int a0, float a1, float a2, float a3) {
+        r.begin(29); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end(); return null;
+    }
+    public void glAlphaFunc(int a0, float a1) {
+        r.begin(30); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glApplyTextureEXT(int a0) {
+        r.begin(31); r.arg(a0); r.end();
+    }
+    public boolean glAreTexturesResident(int a0, int[] a1, int a2, byte[] a3, int a4) {
+        r.begin(32); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); return r.endBoolean();
+    }
+    public boolean glAreTexturesResident(int a0, java.nio.IntBuffer a1, java.nio.ByteBuffer a2) {
+        r.begin(33); r.arg(a0); r.arg(a1); r.arg(a2); return r.endBoolean();
+    }
+    public void glArrayElement(int a0) {
+        r.begin(34); r.arg(a0); r.end();
+    }
+    public void glAttachObjectARB(int a0, int a1) {
+        r.begin(35); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glAttachShader(int a0, int a1) {
+        r.begin(36); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBegin(int a0) {
+        r.begin(37); r.arg(a0); r.end();
+    }
+    public void glBeginConditionalRender(int a0, int a1) {
+        r.begin(38); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBeginConditionalRenderNVX(int a0) {
+        r.begin(39); r.arg(a0); r.end();
+    }
+    public void glBeginOcclusionQueryNV(int a0) {
+        r.begin(40); r.arg(a0); r.end();
+    }
+    public void glBeginPerfMonitorAMD(int a0) {
+        r.begin(41); r.arg(a0); r.end();
+    }
+    public void glBeginQuery(int a0, int a1) {
+        r.begin(42); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBeginTransformFeedback(int a0) {
+        r.begin(43); r.arg(a0); r.end();
+    }
+    public void glBeginVertexShaderEXT() {
+        r.begin(44); r.end();
+    }
+    public void glBeginVideoCaptureNV(int a0) {
+        r.begin(45); r.arg(a0); r.end();
+    }
+    public void glBindAttribLocation(int a0, int a1, java.lang.String a2) {
+        r.begin(46); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glBindBuffer(int a0, int a1) {
+        r.begin(47); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBindBufferBase(int a0, int a1, int a2) {
+        r.begin(48); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glBindBufferRange(int a0, int a1, int a2, long a3, long a4) {
+        r.begin(49); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glBindFragDataLocation(int a0, int a1, java.lang.String a2) {
+        r.begin(50); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glBindFramebuffer(int a0, int a1) {
+        r.begin(51); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glBindLightParameterEXT(int a0, int a1) {
+        r.begin(52); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public int glBindMaterialParameterEXT(int a0, int a1) {
+        r.begin(53); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public void glBindMultiTextureEXT(int a0, int a1, int a2) {
+        r.begin(54); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public int glBindParameterEXT(int a0) {
+        r.begin(55); r.arg(a0); return r.endInt();
+    }
+    public void glBindProgramARB(int a0, int a1) {
+        r.begin(56); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBindRenderbuffer(int a0, int a1) {
+        r.begin(57); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glBindTexGenParameterEXT(int a0, int a1, int a2) {
+        r.begin(58); r.arg(a0); r.arg(a1); r.arg(a2); return r.endInt();
+    }
+    public void glBindTexture(int a0, int a1) {
+        r.begin(59); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glBindTextureUnitParameterEXT(int a0, int a1) {
+        r.begin(60); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public void glBindTransformFeedbackNV(int a0, int a1) {
+        r.begin(61); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBindVertexArray(int a0) {
+        r.begin(62); r.arg(a0); r.end();
+    }
+    public void glBindVertexShaderEXT(int a0) {
+        r.begin(63); r.arg(a0); r.end();
+    }
+    public void glBindVideoCaptureStreamBufferNV(int a0, int a1, int a2, long a3) {
+        r.begin(64); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glBindVideoCaptureStreamTextureNV(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(65); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glBitmap(int a0, int a1, float a2, float a3, float a4, float a5, byte[] a6, int a7) {
+        r.begin(66); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glBitmap(int a0, int a1, float a2, float a3, float a4, float a5, java.nio.ByteBuffer a6) {
+        r.begin(67); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glBitmap(int a0, int a1, float a2, float a3, float a4, float a5, long a6) {
+        r.begin(68); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glBlendColor(float a0, float a1, float a2, float a3) {
+        r.begin(69); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glBlendEquation(int a0) {
+        r.begin(70); r.arg(a0); r.end();
+    }
+    public void glBlendEquationIndexedAMD(int a0, int a1) {
+        r.begin(71); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBlendEquationSeparate(int a0, int a1) {
+        r.begin(72); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBlendEquationSeparateIndexedAMD(int a0, int a1, int a2) {
+        r.begin(73); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glBlendFunc(int a0, int a1) {
+        r.begin(74); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glBlendFuncIndexedAMD(int a0, int a1, int a2) {
+        r.begin(75); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glBlendFuncSeparate(int a0, int a1, int a2, int a3) {
+        r.begin(76); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glBlendFuncSeparateINGR(int a0, int a1, int a2, int a3) {
+        r.begin(77); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glBlendFuncSeparateIndexedAMD(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(78); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glBlitFramebuffer(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+        r.begin(79); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glBufferAddressRangeNV(int a0, int a1, long a2, long a3) {
+        r.begin(80); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glBufferData(int a0, long a1, java.nio.Buffer a2, int a3) {
+        r.begin(81); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glBufferParameteri(int a0, int a1, int a2) {
+        r.begin(82); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glBufferSubData(int a0, long a1, long a2, java.nio.Buffer a3) {
+        r.begin(83); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glCallList(int a0) {
+        r.begin(84); r.arg(a0); r.end();
+    }
+    public void glCallLists(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(85); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public int glCheckFramebufferStatus(int a0) {
+        r.begin(86); r.arg(a0); return r.endInt();
+    }
+    public int glCheckNamedFramebufferStatusEXT(int a0, int a1) {
+        r.begin(87); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public void glClampColor(int a0, int a1) {
+        r.begin(88); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glClear(int a0) {
+        r.begin(89); r.arg(a0); r.end();
+    }
+    public void glClearAccum(float a0, float a1, float a2, float a3) {
+        r.begin(90); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glClearBufferfi(int a0, int a1, float a2, int a3) {
+        r.begin(91); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glClearBufferfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(92); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glClearBufferfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(93); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glClearBufferiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(94); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glClearBufferiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(95); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glClearBufferuiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(96); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glClearBufferuiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(97); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glClearColor(float a0, float a1, float a2, float a3) {
+        r.begin(98); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glClearColorIi(int a0, int a1, int a2, int a3) {
+        r.begin(99); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glClearColorIui(int a0, int a1, int a2, int a3) {
+        r.begin(100); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glClearDepth(double a0) {
+        r.begin(101); r.arg(a0); r.end();
+    }
+    public void glClearDepthf(float a0) {
+        r.begin(102); r.arg(a0); r.end();
+    }
+    public void glClearIndex(float a0) {
+        r.begin(103); r.arg(a0); r.end();
+    }
+    public void glClearNamedBufferDataEXT(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(104); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glClearNamedBufferSubDataEXT(int a0, int a1, int a2, int a3, long a4, long a5, java.nio.Buffer a6) {
+        r.begin(105); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glClearStencil(int a0) {
+        r.begin(106); r.arg(a0); r.end();
+    }
+    public void glClientActiveTexture(int a0) {
+        r.begin(107); r.arg(a0); r.end();
+    }
+    public void glClientAttribDefaultEXT(int a0) {
+        r.begin(108); r.arg(a0); r.end();
+    }
+    public void glClipPlane(int a0, double[] a1, int a2) {
+        r.begin(109); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glClipPlane(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(110); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glClipPlanef(int a0, float[] a1, int a2) {
+        r.begin(111); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glClipPlanef(int a0, java.nio.FloatBuffer a1) {
+        r.begin(112); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3b(byte a0, byte a1, byte a2) {
+        r.begin(113); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3bv(byte[] a0, int a1) {
+        r.begin(114); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3bv(java.nio.ByteBuffer a0) {
+        r.begin(115); r.arg(a0); r.end();
+    }
+    public void glColor3d(double a0, double a1, double a2) {
+        r.begin(116); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3dv(double[] a0, int a1) {
+        r.begin(117); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3dv(java.nio.DoubleBuffer a0) {
+        r.begin(118); r.arg(a0); r.end();
+    }
+    public void glColor3f(float a0, float a1, float a2) {
+        r.begin(119); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3fv(float[] a0, int a1) {
+        r.begin(120); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3fv(java.nio.FloatBuffer a0) {
+        r.begin(121); r.arg(a0); r.end();
+    }
+    public void glColor3h(short a0, short a1, short a2) {
+        r.begin(122); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3hv(short[] a0, int a1) {
+        r.begin(123); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3hv(java.nio.ShortBuffer a0) {
+        r.begin(124); r.arg(a0); r.end();
+    }
+    public void glColor3i(int a0, int a1, int a2) {
+        r.begin(125); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3iv(int[] a0, int a1) {
+        r.begin(126); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3iv(java.nio.IntBuffer a0) {
+        r.begin(127); r.arg(a0); r.end();
+    }
+    public void glColor3s(short a0, short a1, short a2) {
+        r.begin(128); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3sv(short[] a0, int a1) {
+        r.begin(129); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3sv(java.nio.ShortBuffer a0) {
+        r.begin(130); r.arg(a0); r.end();
+    }
+    public void glColor3ub(byte a0, byte a1, byte a2) {
+        r.begin(131); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3ubv(byte[] a0, int a1) {
+        r.begin(132); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3ubv(java.nio.ByteBuffer a0) {
+        r.begin(133); r.arg(a0); r.end();
+    }
+    public void glColor3ui(int a0, int a1, int a2) {
+        r.begin(134); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3uiv(int[] a0, int a1) {
+        r.begin(135); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3uiv(java.nio.IntBuffer a0) {
+        r.begin(136); r.arg(a0); r.end();
+    }
+    public void glColor3us(short a0, short a1, short a2) {
+        r.begin(137); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColor3usv(short[] a0, int a1) {
+        r.begin(138); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor3usv(java.nio.ShortBuffer a0) {
+        r.begin(139); r.arg(a0); r.end();
+    }
+    public void glColor4b(byte a0, byte a1, byte a2, byte a3) {
+        r.begin(140); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4bv(byte[] a0, int a1) {
+        r.begin(141); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4bv(java.nio.ByteBuffer a0) {
+        r.begin(142); r.arg(a0); r.end();
+    }
+    public void glColor4d(double a0, double a1, double a2, double a3) {
+        r.begin(143); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4dv(double[] a0, int a1) {
+        r.begin(144); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4dv(java.nio.DoubleBuffer a0) {
+        r.begin(145); r.arg(a0); r.end();
+    }
+    public void glColor4f(float a0, float a1, float a2, float a3) {
+        r.begin(146); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4fv(float[] a0, int a1) {
+        r.begin(147); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4fv(java.nio.FloatBuffer a0) {
+        r.begin(148); r.arg(a0); r.end();
+    }
+    public void glColor4h(short a0, short a1, short a2, short a3) {
+        r.begin(149); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4hv(short[] a0, int a1) {
+        r.begin(150); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4hv(java.nio.ShortBuffer a0) {
+        r.begin(151); r.arg(a0); r.end();
+    }
+    public void glColor4i(int a0, int a1, int a2, int a3) {
+        r.begin(152); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4iv(int[] a0, int a1) {
+        r.begin(153); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4iv(java.nio.IntBuffer a0) {
+        r.begin(154); r.arg(a0); r.end();
+    }
+    public void glColor4s(short a0, short a1, short a2, short a3) {
+        r.begin(155); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4sv(short[] a0, int a1) {
+        r.begin(156); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4sv(java.nio.ShortBuffer a0) {
+        r.begin(157); r.arg(a0); r.end();
+    }
+    public void glColor4ub(byte a0, byte a1, byte a2, byte a3) {
+        r.begin(158); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4ubv(byte[] a0, int a1) {
+        r.begin(159); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4ubv(java.nio.ByteBuffer a0) {
+        r.begin(160); r.arg(a0); r.end();
+    }
+    public void glColor4ui(int a0, int a1, int a2, int a3) {
+        r.begin(161); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4uiv(int[] a0, int a1) {
+        r.begin(162); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4uiv(java.nio.IntBuffer a0) {
+        r.begin(163); r.arg(a0); r.end();
+    }
+    public void glColor4us(short a0, short a1, short a2, short a3) {
+        r.begin(164); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColor4usv(short[] a0, int a1) {
+        r.begin(165); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColor4usv(java.nio.ShortBuffer a0) {
+        r.begin(166); r.arg(a0); r.end();
+    }
+    public void glColorFormatNV(int a0, int a1, int a2) {
+        r.begin(167); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColorMask(boolean a0, boolean a1, boolean a2, boolean a3) {
+        r.begin(168); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColorMaskIndexed(int a0, boolean a1, boolean a2, boolean a3, boolean a4) {
+        r.begin(169); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glColorMaski(int a0, boolean a1, boolean a2, boolean a3, boolean a4) {
+        r.begin(170); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glColorMaterial(int a0, int a1) {
+        r.begin(171); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glColorPointer(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(172); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColorPointer(int a0, int a1, int a2, long a3) {
+        r.begin(173); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColorPointer(javax.media.opengl.GLArrayData a0) {
+        r.begin(174); r.arg(a0); r.end();
+    }
+    public void glColorSubTable(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(175); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glColorSubTable(int a0, int a1, int a2, int a3, int a4, long a5) {
+        r.begin(176); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glColorTable(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(177); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glColorTable(int a0, int a1, int a2, int a3, int a4, long a5) {
+        r.begin(178); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glColorTableParameterfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(179); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColorTableParameterfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(180); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glColorTableParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(181); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glColorTableParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(182); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glCompileShader(int a0) {
+        r.begin(183); r.arg(a0); r.end();
+    }
+    public void glCompileShaderARB(int a0) {
+        r.begin(184); r.arg(a0); r.end();
+    }
+    public void glCompileShaderIncludeARB(int a0, int a1, java.lang.String[] a2, int[] a3, int a4) {
+        r.begin(185); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glCompileShaderIncludeARB(int a0, int a1, java.lang.String[] a2, java.nio.IntBuffer a3) {
+        r.begin(186); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glCompressedMultiTexImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(187); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCompressedMultiTexImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(188); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCompressedMultiTexImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(189); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glCompressedMultiTexSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(190); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCompressedMultiTexSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(191); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glCompressedMultiTexSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, java.nio.Buffer a11) {
+        r.begin(192); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); r.end();
+    }
+    public void glCompressedTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6) {
+        r.begin(193); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCompressedTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, long a6) {
+        r.begin(194); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCompressedTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(195); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCompressedTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7) {
+        r.begin(196); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCompressedTexImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(197); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCompressedTexImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8) {
+        r.begin(198); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCompressedTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6) {
+        r.begin(199); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCompressedTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5, long a6) {
+        r.begin(200); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCompressedTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(201); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCompressedTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8) {
+        r.begin(202); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCompressedTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, java.nio.Buffer a10) {
+        r.begin(203); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glCompressedTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, long a10) {
+        r.begin(204); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glCompressedTextureImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(205); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCompressedTextureImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(206); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCompressedTextureImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(207); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glCompressedTextureSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(208); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCompressedTextureSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(209); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glCompressedTextureSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, java.nio.Buffer a11) {
+        r.begin(210); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); r.end();
+    }
+    public void glConvolutionFilter1D(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(211); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glConvolutionFilter1D(int a0, int a1, int a2, int a3, int a4, long a5) {
+        r.begin(212); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glConvolutionFilter2D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6) {
+        r.begin(213); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glConvolutionFilter2D(int a0, int a1, int a2, int a3, int a4, int a5, long a6) {
+        r.begin(214); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glConvolutionParameterf(int a0, int a1, float a2) {
+        r.begin(215); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glConvolutionParameterfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(216); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glConvolutionParameterfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(217); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glConvolutionParameteri(int a0, int a1, int a2) {
+        r.begin(218); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glConvolutionParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(219); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glConvolutionParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(220); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glCopyBufferSubData(int a0, int a1, long a2, long a3, long a4) {
+        r.begin(221); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glCopyColorSubTable(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(222); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glCopyColorTable(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(223); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glCopyConvolutionFilter1D(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(224); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glCopyConvolutionFilter2D(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(225); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glCopyImageSubDataNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, int a11, int a12, int a13, int a14) {
+        r.begin(226); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); r.arg(a12); r.arg(a13); r.arg(a14); r.end();
+    }
+    public void glCopyMultiTexImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) {
+        r.begin(227); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCopyMultiTexImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) {
+        r.begin(228); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCopyMultiTexSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6) {
+        r.begin(229); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCopyMultiTexSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) {
+        r.begin(230); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCopyMultiTexSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+        r.begin(231); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glCopyPathNV(int a0, int a1) {
+        r.begin(232); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glCopyPixels(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(233); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glCopyTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, int a6) {
+        r.begin(234); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCopyTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) {
+        r.begin(235); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCopyTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(236); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glCopyTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) {
+        r.begin(237); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCopyTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) {
+        r.begin(238); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCopyTextureImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) {
+        r.begin(239); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCopyTextureImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) {
+        r.begin(240); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCopyTextureSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6) {
+        r.begin(241); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCopyTextureSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8) {
+        r.begin(242); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glCopyTextureSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9) {
+        r.begin(243); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glCoverFillPathInstancedNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, float[] a6, int a7) {
+        r.begin(244); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCoverFillPathInstancedNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, java.nio.FloatBuffer a6) {
+        r.begin(245); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCoverFillPathNV(int a0, int a1) {
+        r.begin(246); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glCoverStrokePathInstancedNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, float[] a6, int a7) {
+        r.begin(247); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glCoverStrokePathInstancedNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, java.nio.FloatBuffer a6) {
+        r.begin(248); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glCoverStrokePathNV(int a0, int a1) {
+        r.begin(249); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glCreateProgram() {
+        r.begin(250); return r.endInt();
+    }
+    public int glCreateProgramObjectARB() {
+        r.begin(251); return r.endInt();
+    }
+    public int glCreateShader(int a0) {
+        r.begin(252); r.arg(a0); return r.endInt();
+    }
+    public int glCreateShaderObjectARB(int a0) {
+        r.begin(253); r.arg(a0); return r.endInt();
+    }
+    public long glCreateSyncFromCLeventARB(long a0, long a1, int a2) {
+        r.begin(254); r.arg(a0); r.arg(a1); r.arg(a2); r.end(); return 0;
+    }
+    public void glCullFace(int a0) {
+        r.begin(255); r.arg(a0); r.end();
+    }
+    public void glCullParameterdvEXT(int a0, double[] a1, int a2) {
+        r.begin(256); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glCullParameterdvEXT(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(257); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glCullParameterfvEXT(int a0, float[] a1, int a2) {
+        r.begin(258); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glCullParameterfvEXT(int a0, java.nio.FloatBuffer a1) {
+        r.begin(259); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glCurrentPaletteMatrix(int a0) {
+        r.begin(260); r.arg(a0); r.end();
+    }
+    public void glDebugMessageControl(int a0, int a1, int a2, int a3, int[] a4, int a5, boolean a6) {
+        r.begin(261); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glDebugMessageControl(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4, boolean a5) {
+        r.begin(262); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glDebugMessageEnableAMD(int a0, int a1, int a2, int[] a3, int a4, boolean a5) {
+        r.begin(263); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glDebugMessageEnableAMD(int a0, int a1, int a2, java.nio.IntBuffer a3, boolean a4) {
+        r.begin(264); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glDebugMessageInsert(int a0, int a1, int a2, int a3, int a4, java.lang.String a5) {
+        r.begin(265); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glDebugMessageInsertAMD(int a0, int a1, int a2, int a3, java.lang.String a4) {
+        r.begin(266); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glDeleteBuffers(int a0, int[] a1, int a2) {
+        r.begin(267); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteBuffers(int a0, java.nio.IntBuffer a1) {
+        r.begin(268); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteFencesAPPLE(int a0, int[] a1, int a2) {
+        r.begin(269); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteFencesAPPLE(int a0, java.nio.IntBuffer a1) {
+        r.begin(270); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteFencesNV(int a0, int[] a1, int a2) {
+        r.begin(271); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteFencesNV(int a0, java.nio.IntBuffer a1) {
+        r.begin(272); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteFramebuffers(int a0, int[] a1, int a2) {
+        r.begin(273); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteFramebuffers(int a0, java.nio.IntBuffer a1) {
+        r.begin(274); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteLists(int a0, int a1) {
+        r.begin(275); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteNamedStringARB(int a0, java.lang.String a1) {
+        r.begin(276); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteNamesAMD(int a0, int a1, int[] a2, int a3) {
+        r.begin(277); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glDeleteNamesAMD(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(278); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteObjectARB(int a0) {
+        r.begin(279); r.arg(a0); r.end();
+    }
+    public void glDeleteOcclusionQueriesNV(int a0, int[] a1, int a2) {
+        r.begin(280); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteOcclusionQueriesNV(int a0, java.nio.IntBuffer a1) {
+        r.begin(281); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeletePathsNV(int a0, int a1) {
+        r.begin(282); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeletePerfMonitorsAMD(int a0, int[] a1, int a2) {
+        r.begin(283); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeletePerfMonitorsAMD(int a0, java.nio.IntBuffer a1) {
+        r.begin(284); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteProgram(int a0) {
+        r.begin(285); r.arg(a0); r.end();
+    }
+    public void glDeleteProgramsARB(int a0, int[] a1, int a2) {
+        r.begin(286); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteProgramsARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(287); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteQueries(int a0, int[] a1, int a2) {
+        r.begin(288); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteQueries(int a0, java.nio.IntBuffer a1) {
+        r.begin(289); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteRenderbuffers(int a0, int[] a1, int a2) {
+        r.begin(290); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteRenderbuffers(int a0, java.nio.IntBuffer a1) {
+        r.begin(291); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteShader(int a0) {
+        r.begin(292); r.arg(a0); r.end();
+    }
+    public void glDeleteTextures(int a0, int[] a1, int a2) {
+        r.begin(293); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteTextures(int a0, java.nio.IntBuffer a1) {
+        r.begin(294); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteTransformFeedbacksNV(int a0, int[] a1, int a2) {
+        r.begin(295); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteTransformFeedbacksNV(int a0, java.nio.IntBuffer a1) {
+        r.begin(296); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteVertexArrays(int a0, int[] a1, int a2) {
+        r.begin(297); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDeleteVertexArrays(int a0, java.nio.IntBuffer a1) {
+        r.begin(298); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDeleteVertexShaderEXT(int a0) {
+        r.begin(299); r.arg(a0); r.end();
+    }
+    public void glDepthBoundsEXT(double a0, double a1) {
+        r.begin(300); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDepthFunc(int a0) {
+        r.begin(301); r.arg(a0); r.end();
+    }
+    public void glDepthMask(boolean a0) {
+        r.begin(302); r.arg(a0); r.end();
+    }
+    public void glDepthRange(double a0, double a1) {
+        r.begin(303); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDepthRangef(float a0, float a1) {
+        r.begin(304); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDetachObjectARB(int a0, int a1) {
+        r.begin(305); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDetachShader(int a0, int a1) {
+        r.begin(306); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDisable(int a0) {
+        r.begin(307); r.arg(a0); r.end();
+    }
+    public void glDisableClientState(int a0) {
+        r.begin(308); r.arg(a0); r.end();
+    }
+    public void glDisableClientStateIndexedEXT(int a0, int a1) {
+        r.begin(309); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDisableClientStateiEXT(int a0, int a1) {
+        r.begin(310); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDisableIndexed(int a0, int a1) {
+        r.begin(311); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDisableVariantClientStateEXT(int a0) {
+        r.begin(312); r.arg(a0); r.end();
+    }
+    public void glDisableVertexArrayAttribEXT(int a0, int a1) {
+        r.begin(313); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDisableVertexArrayEXT(int a0, int a1) {
+        r.begin(314); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDisableVertexAttribAPPLE(int a0, int a1) {
+        r.begin(315); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDisableVertexAttribArray(int a0) {
+        r.begin(316); r.arg(a0); r.end();
+    }
+    public void glDisableVertexAttribArrayARB(int a0) {
+        r.begin(317); r.arg(a0); r.end();
+    }
+    public void glDisablei(int a0, int a1) {
+        r.begin(318); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDrawArrays(int a0, int a1, int a2) {
+        r.begin(319); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDrawArraysInstanced(int a0, int a1, int a2, int a3) {
+        r.begin(320); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glDrawBuffer(int a0) {
+        r.begin(321); r.arg(a0); r.end();
+    }
+    public void glDrawBuffers(int a0, int[] a1, int a2) {
+        r.begin(322); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDrawBuffers(int a0, java.nio.IntBuffer a1) {
+        r.begin(323); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDrawBuffersATI(int a0, int[] a1, int a2) {
+        r.begin(324); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glDrawBuffersATI(int a0, java.nio.IntBuffer a1) {
+        r.begin(325); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glDrawElements(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(326); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glDrawElements(int a0, int a1, int a2, long a3) {
+        r.begin(327); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glDrawElementsInstanced(int a0, int a1, int a2, java.nio.Buffer a3, int a4) {
+        r.begin(328); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glDrawElementsInstanced(int a0, int a1, int a2, long a3, int a4) {
+        r.begin(329); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glDrawPixels(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(330); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glDrawPixels(int a0, int a1, int a2, int a3, long a4) {
+        r.begin(331); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glDrawRangeElements(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(332); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glDrawRangeElements(int a0, int a1, int a2, int a3, int a4, long a5) {
+        r.begin(333); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glDrawTextureNV(int a0, int a1, float a2, float a3, float a4, float a5, float a6, float a7, float a8, float a9, float a10) {
+        r.begin(334); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glDrawTransformFeedbackNV(int a0, int a1) {
+        r.begin(335); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEdgeFlag(boolean a0) {
+        r.begin(336); r.arg(a0); r.end();
+    }
+    public void glEdgeFlagFormatNV(int a0) {
+        r.begin(337); r.arg(a0); r.end();
+    }
+    public void glEdgeFlagPointer(int a0, java.nio.Buffer a1) {
+        r.begin(338); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEdgeFlagPointer(int a0, long a1) {
+        r.begin(339); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEdgeFlagv(byte[] a0, int a1) {
+        r.begin(340); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEdgeFlagv(java.nio.ByteBuffer a0) {
+        r.begin(341); r.arg(a0); r.end();
+    }
+    public void glEnable(int a0) {
+        r.begin(342); r.arg(a0); r.end();
+    }
+    public void glEnableClientState(int a0) {
+        r.begin(343); r.arg(a0); r.end();
+    }
+    public void glEnableClientStateIndexedEXT(int a0, int a1) {
+        r.begin(344); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEnableClientStateiEXT(int a0, int a1) {
+        r.begin(345); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEnableIndexed(int a0, int a1) {
+        r.begin(346); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEnableVariantClientStateEXT(int a0) {
+        r.begin(347); r.arg(a0); r.end();
+    }
+    public void glEnableVertexArrayAttribEXT(int a0, int a1) {
+        r.begin(348); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEnableVertexArrayEXT(int a0, int a1) {
+        r.begin(349); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEnableVertexAttribAPPLE(int a0, int a1) {
+        r.begin(350); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEnableVertexAttribArray(int a0) {
+        r.begin(351); r.arg(a0); r.end();
+    }
+    public void glEnableVertexAttribArrayARB(int a0) {
+        r.begin(352); r.arg(a0); r.end();
+    }
+    public void glEnablei(int a0, int a1) {
+        r.begin(353); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEnd() {
+        r.begin(354); r.end();
+    }
+    public void glEndConditionalRender() {
+        r.begin(355); r.end();
+    }
+    public void glEndConditionalRenderNVX() {
+        r.begin(356); r.end();
+    }
+    public void glEndList() {
+        r.begin(357); r.end();
+    }
+    public void glEndOcclusionQueryNV() {
+        r.begin(358); r.end();
+    }
+    public void glEndPerfMonitorAMD(int a0) {
+        r.begin(359); r.arg(a0); r.end();
+    }
+    public void glEndQuery(int a0) {
+        r.begin(360); r.arg(a0); r.end();
+    }
+    public void glEndTransformFeedback() {
+        r.begin(361); r.end();
+    }
+    public void glEndVertexShaderEXT() {
+        r.begin(362); r.end();
+    }
+    public void glEndVideoCaptureNV(int a0) {
+        r.begin(363); r.arg(a0); r.end();
+    }
+    public void glEvalCoord1d(double a0) {
+        r.begin(364); r.arg(a0); r.end();
+    }
+    public void glEvalCoord1dv(double[] a0, int a1) {
+        r.begin(365); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEvalCoord1dv(java.nio.DoubleBuffer a0) {
+        r.begin(366); r.arg(a0); r.end();
+    }
+    public void glEvalCoord1f(float a0) {
+        r.begin(367); r.arg(a0); r.end();
+    }
+    public void glEvalCoord1fv(float[] a0, int a1) {
+        r.begin(368); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEvalCoord1fv(java.nio.FloatBuffer a0) {
+        r.begin(369); r.arg(a0); r.end();
+    }
+    public void glEvalCoord2d(double a0, double a1) {
+        r.begin(370); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEvalCoord2dv(double[] a0, int a1) {
+        r.begin(371); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEvalCoord2dv(java.nio.DoubleBuffer a0) {
+        r.begin(372); r.arg(a0); r.end();
+    }
+    public void glEvalCoord2f(float a0, float a1) {
+        r.begin(373); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEvalCoord2fv(float[] a0, int a1) {
+        r.begin(374); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEvalCoord2fv(java.nio.FloatBuffer a0) {
+        r.begin(375); r.arg(a0); r.end();
+    }
+    public void glEvalMapsNV(int a0, int a1) {
+        r.begin(376); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glEvalMesh1(int a0, int a1, int a2) {
+        r.begin(377); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glEvalMesh2(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(378); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glEvalPoint1(int a0) {
+        r.begin(379); r.arg(a0); r.end();
+    }
+    public void glEvalPoint2(int a0, int a1) {
+        r.begin(380); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glExtractComponentEXT(int a0, int a1, int a2) {
+        r.begin(381); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFeedbackBuffer(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(382); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFinish() {
+        r.begin(383); r.end();
+    }
+    public void glFinishFenceAPPLE(int a0) {
+        r.begin(384); r.arg(a0); r.end();
+    }
+    public void glFinishFenceNV(int a0) {
+        r.begin(385); r.arg(a0); r.end();
+    }
+    public void glFinishObjectAPPLE(int a0, int a1) {
+        r.begin(386); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFinishTextureSUNX() {
+        r.begin(387); r.end();
+    }
+    public void glFlush() {
+        r.begin(388); r.end();
+    }
+    public void glFlushMappedBufferRange(int a0, long a1, long a2) {
+        r.begin(389); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFlushMappedNamedBufferRangeEXT(int a0, long a1, long a2) {
+        r.begin(390); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFlushPixelDataRangeNV(int a0) {
+        r.begin(391); r.arg(a0); r.end();
+    }
+    public void glFlushVertexArrayRangeAPPLE(int a0, java.nio.Buffer a1) {
+        r.begin(392); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFlushVertexArrayRangeNV() {
+        r.begin(393); r.end();
+    }
+    public void glFogCoordFormatNV(int a0, int a1) {
+        r.begin(394); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFogCoordPointer(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(395); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFogCoordPointer(int a0, int a1, long a2) {
+        r.begin(396); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFogCoordd(double a0) {
+        r.begin(397); r.arg(a0); r.end();
+    }
+    public void glFogCoorddv(double[] a0, int a1) {
+        r.begin(398); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFogCoorddv(java.nio.DoubleBuffer a0) {
+        r.begin(399); r.arg(a0); r.end();
+    }
+    public void glFogCoordf(float a0) {
+        r.begin(400); r.arg(a0); r.end();
+    }
+    public void glFogCoordfv(float[] a0, int a1) {
+        r.begin(401); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFogCoordfv(java.nio.FloatBuffer a0) {
+        r.begin(402); r.arg(a0); r.end();
+    }
+    public void glFogCoordh(short a0) {
+        r.begin(403); r.arg(a0); r.end();
+    }
+    public void glFogCoordhv(short[] a0, int a1) {
+        r.begin(404); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFogCoordhv(java.nio.ShortBuffer a0) {
+        r.begin(405); r.arg(a0); r.end();
+    }
+    public void glFogf(int a0, float a1) {
+        r.begin(406); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFogfv(int a0, float[] a1, int a2) {
+        r.begin(407); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFogfv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(408); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFogi(int a0, int a1) {
+        r.begin(409); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFogiv(int a0, int[] a1, int a2) {
+        r.begin(410); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFogiv(int a0, java.nio.IntBuffer a1) {
+        r.begin(411); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFrameTerminatorGREMEDY() {
+        r.begin(412); r.end();
+    }
+    public void glFramebufferDrawBufferEXT(int a0, int a1) {
+        r.begin(413); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFramebufferDrawBuffersEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(414); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glFramebufferDrawBuffersEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(415); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glFramebufferReadBufferEXT(int a0, int a1) {
+        r.begin(416); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glFramebufferRenderbuffer(int a0, int a1, int a2, int a3) {
+        r.begin(417); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glFramebufferTexture1D(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(418); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glFramebufferTexture2D(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(419); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glFramebufferTexture3D(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(420); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glFramebufferTextureARB(int a0, int a1, int a2, int a3) {
+        r.begin(421); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glFramebufferTextureEXT(int a0, int a1, int a2, int a3) {
+        r.begin(422); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glFramebufferTextureFaceARB(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(423); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glFramebufferTextureFaceEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(424); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glFramebufferTextureLayer(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(425); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glFramebufferTextureLayerARB(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(426); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glFramebufferTextureLayerEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(427); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glFreeMemoryNV(java.nio.ByteBuffer a0) {
+        r.begin(428); r.arg(a0); r.end();
+    }
+    public void glFrontFace(int a0) {
+        r.begin(429); r.arg(a0); r.end();
+    }
+    public void glFrustum(double a0, double a1, double a2, double a3, double a4, double a5) {
+        r.begin(430); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glFrustumf(float a0, float a1, float a2, float a3, float a4, float a5) {
+        r.begin(431); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGenBuffers(int a0, int[] a1, int a2) {
+        r.begin(432); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenBuffers(int a0, java.nio.IntBuffer a1) {
+        r.begin(433); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenFencesAPPLE(int a0, int[] a1, int a2) {
+        r.begin(434); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenFencesAPPLE(int a0, java.nio.IntBuffer a1) {
+        r.begin(435); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenFencesNV(int a0, int[] a1, int a2) {
+        r.begin(436); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenFencesNV(int a0, java.nio.IntBuffer a1) {
+        r.begin(437); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenFramebuffers(int a0, int[] a1, int a2) {
+        r.begin(438); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenFramebuffers(int a0, java.nio.IntBuffer a1) {
+        r.begin(439); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glGenLists(int a0) {
+        r.begin(440); r.arg(a0); return r.endInt();
+    }
+    public void glGenNamesAMD(int a0, int a1, int[] a2, int a3) {
+        r.begin(441); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGenNamesAMD(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(442); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenOcclusionQueriesNV(int a0, int[] a1, int a2) {
+        r.begin(443); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenOcclusionQueriesNV(int a0, java.nio.IntBuffer a1) {
+        r.begin(444); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glGenPathsNV(int a0) {
+        r.begin(445); r.arg(a0); return r.endInt();
+    }
+    public void glGenPerfMonitorsAMD(int a0, int[] a1, int a2) {
+        r.begin(446); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenPerfMonitorsAMD(int a0, java.nio.IntBuffer a1) {
+        r.begin(447); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenProgramsARB(int a0, int[] a1, int a2) {
+        r.begin(448); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenProgramsARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(449); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenQueries(int a0, int[] a1, int a2) {
+        r.begin(450); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenQueries(int a0, java.nio.IntBuffer a1) {
+        r.begin(451); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenRenderbuffers(int a0, int[] a1, int a2) {
+        r.begin(452); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenRenderbuffers(int a0, java.nio.IntBuffer a1) {
+        r.begin(453); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glGenSymbolsEXT(int a0, int a1, int a2, int a3) {
+        r.begin(454); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); return r.endInt();
+    }
+    public void glGenTextures(int a0, int[] a1, int a2) {
+        r.begin(455); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenTextures(int a0, java.nio.IntBuffer a1) {
+        r.begin(456); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenTransformFeedbacksNV(int a0, int[] a1, int a2) {
+        r.begin(457); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenTransformFeedbacksNV(int a0, java.nio.IntBuffer a1) {
+        r.begin(458); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenVertexArrays(int a0, int[] a1, int a2) {
+        r.begin(459); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGenVertexArrays(int a0, java.nio.IntBuffer a1) {
+        r.begin(460); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glGenVertexShadersEXT(int a0) {
+        r.begin(461); r.arg(a0); return r.endInt();
+    }
+    public void glGenerateMipmap(int a0) {
+        r.begin(462); r.arg(a0); r.end();
+    }
+    public void glGenerateMultiTexMipmapEXT(int a0, int a1) {
+        r.begin(463); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGenerateTextureMipmapEXT(int a0, int a1) {
+        r.begin(464); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetActiveAttrib(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, byte[] a9, int a10) {
+        r.begin(465); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glGetActiveAttrib(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6) {
+        r.begin(466); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetActiveUniform(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, byte[] a9, int a10) {
+        r.begin(467); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glGetActiveUniform(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6) {
+        r.begin(468); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetActiveUniformARB(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, byte[] a9, int a10) {
+        r.begin(469); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glGetActiveUniformARB(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6) {
+        r.begin(470); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetActiveUniformBlockName(int a0, int a1, int a2, int[] a3, int a4, byte[] a5, int a6) {
+        r.begin(471); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetActiveUniformBlockName(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4) {
+        r.begin(472); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetActiveUniformBlockiv(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(473); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetActiveUniformBlockiv(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(474); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetActiveUniformName(int a0, int a1, int a2, int[] a3, int a4, byte[] a5, int a6) {
+        r.begin(475); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetActiveUniformName(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4) {
+        r.begin(476); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetActiveUniformsiv(int a0, int a1, int[] a2, int a3, int a4, int[] a5, int a6) {
+        r.begin(477); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetActiveUniformsiv(int a0, int a1, java.nio.IntBuffer a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(478); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetAttachedObjectsARB(int a0, int a1, int[] a2, int a3, int[] a4, int a5) {
+        r.begin(479); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetAttachedObjectsARB(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3) {
+        r.begin(480); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetAttachedShaders(int a0, int a1, int[] a2, int a3, int[] a4, int a5) {
+        r.begin(481); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetAttachedShaders(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3) {
+        r.begin(482); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public int glGetAttribLocation(int a0, java.lang.String a1) {
+        r.begin(483); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public void glGetBooleanIndexedv(int a0, int a1, byte[] a2, int a3) {
+        r.begin(484); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetBooleanIndexedv(int a0, int a1, java.nio.ByteBuffer a2) {
+        r.begin(485); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetBooleani_v(int a0, int a1, byte[] a2, int a3) {
+        r.begin(486); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetBooleani_v(int a0, int a1, java.nio.ByteBuffer a2) {
+        r.begin(487); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetBooleanv(int a0, byte[] a1, int a2) {
+        r.begin(488); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetBooleanv(int a0, java.nio.ByteBuffer a1) {
+        r.begin(489); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glGetBoundBuffer(int a0) {
+        r.begin(490); r.arg(a0); return r.endInt();
+    }
+    public void glGetBufferParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(491); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetBufferParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(492); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetBufferParameterui64vNV(int a0, int a1, long[] a2, int a3) {
+        r.begin(493); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetBufferParameterui64vNV(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(494); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public long glGetBufferSize(int a0) {
+        r.begin(495); r.arg(a0); r.end(); return 0;
+    }
+    public void glGetBufferSubData(int a0, long a1, long a2, java.nio.Buffer a3) {
+        r.begin(496); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetClipPlane(int a0, double[] a1, int a2) {
+        r.begin(497); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetClipPlane(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(498); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetClipPlanef(int a0, float[] a1, int a2) {
+        r.begin(499); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetClipPlanef(int a0, java.nio.FloatBuffer a1) {
+        r.begin(500); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetColorTable(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(501); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetColorTable(int a0, int a1, int a2, long a3) {
+        r.begin(502); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetColorTableParameterfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(503); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetColorTableParameterfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(504); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetColorTableParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(505); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetColorTableParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(506); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetCompressedMultiTexImageEXT(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(507); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetCompressedTexImage(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(508); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetCompressedTexImage(int a0, int a1, long a2) {
+        r.begin(509); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetCompressedTextureImageEXT(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(510); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetConvolutionFilter(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(511); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetConvolutionFilter(int a0, int a1, int a2, long a3) {
+        r.begin(512); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetConvolutionParameterfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(513); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetConvolutionParameterfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(514); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetConvolutionParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(515); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetConvolutionParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(516); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public int glGetDebugMessageLog(int a0, int a1, int[] a2, int a3, int[] a4, int a5, int[] a6, int a7, int[] a8, int a9, int[] a10, int a11, byte[] a12, int a13) {
+        r.begin(517); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); r.arg(a12); r.arg(a13); return r.endInt();
+    }
+    public int glGetDebugMessageLog(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.IntBuffer a6, java.nio.ByteBuffer a7) {
+        r.begin(518); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); return r.endInt();
+    }
+    public int glGetDebugMessageLogAMD(int a0, int a1, int[] a2, int a3, int[] a4, int a5, int[] a6, int a7, int[] a8, int a9, byte[] a10, int a11) {
+        r.begin(519); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); return r.endInt();
+    }
+    public int glGetDebugMessageLogAMD(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6) {
+        r.begin(520); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); return r.endInt();
+    }
+    public void glGetDoubleIndexedvEXT(int a0, int a1, double[] a2, int a3) {
+        r.begin(521); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetDoubleIndexedvEXT(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(522); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetDoublei_vEXT(int a0, int a1, double[] a2, int a3) {
+        r.begin(523); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetDoublei_vEXT(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(524); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetDoublev(int a0, double[] a1, int a2) {
+        r.begin(525); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetDoublev(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(526); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glGetError() {
+        r.begin(527); return r.endInt();
+    }
+    public void glGetFenceivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(528); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetFenceivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(529); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetFloatIndexedvEXT(int a0, int a1, float[] a2, int a3) {
+        r.begin(530); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetFloatIndexedvEXT(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(531); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetFloati_vEXT(int a0, int a1, float[] a2, int a3) {
+        r.begin(532); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetFloati_vEXT(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(533); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetFloatv(int a0, float[] a1, int a2) {
+        r.begin(534); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetFloatv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(535); r.arg(a0); r.arg(a1); r.end();
+    }
+    public int glGetFragDataLocation(int a0, java.lang.String a1) {
+        r.begin(536); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public void glGetFramebufferAttachmentParameteriv(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(537); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetFramebufferAttachmentParameteriv(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(538); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetFramebufferParameterivEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(539); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetFramebufferParameterivEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(540); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public int glGetGraphicsResetStatus() {
+        r.begin(541); return r.endInt();
+    }
+    public int glGetHandleARB(int a0) {
+        r.begin(542); r.arg(a0); return r.endInt();
+    }
+    public void glGetHistogram(int a0, boolean a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(543); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetHistogram(int a0, boolean a1, int a2, int a3, long a4) {
+        r.begin(544); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetHistogramParameterfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(545); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetHistogramParameterfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(546); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetHistogramParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(547); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetHistogramParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(548); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public long glGetImageHandleNV(int a0, int a1, boolean a2, int a3, int a4) {
+        r.begin(549); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end(); return 0;
+    }
+    public void glGetInfoLogARB(int a0, int a1, int[] a2, int a3, byte[] a4, int a5) {
+        r.begin(550); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetInfoLogARB(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3) {
+        r.begin(551); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetIntegerIndexedv(int a0, int a1, int[] a2, int a3) {
+        r.begin(552); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetIntegerIndexedv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(553); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetIntegeri_v(int a0, int a1, int[] a2, int a3) {
+        r.begin(554); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetIntegeri_v(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(555); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetIntegerui64i_vNV(int a0, int a1, long[] a2, int a3) {
+        r.begin(556); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetIntegerui64i_vNV(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(557); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetIntegerui64vNV(int a0, long[] a1, int a2) {
+        r.begin(558); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetIntegerui64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(559); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetIntegerv(int a0, int[] a1, int a2) {
+        r.begin(560); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetIntegerv(int a0, java.nio.IntBuffer a1) {
+        r.begin(561); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetInternalformativ(int a0, int a1, int a2, int a3, int[] a4, int a5) {
+        r.begin(562); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetInternalformativ(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(563); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetInvariantBooleanvEXT(int a0, int a1, byte[] a2, int a3) {
+        r.begin(564); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetInvariantBooleanvEXT(int a0, int a1, java.nio.ByteBuffer a2) {
+        r.begin(565); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetInvariantFloatvEXT(int a0, int a1, float[] a2, int a3) {
+        r.begin(566); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetInvariantFloatvEXT(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(567); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetInvariantIntegervEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(568); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetInvariantIntegervEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(569); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetLightfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(570); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetLightfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(571); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetLightiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(572); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetLightiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(573); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetLocalConstantBooleanvEXT(int a0, int a1, byte[] a2, int a3) {
+        r.begin(574); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetLocalConstantBooleanvEXT(int a0, int a1, java.nio.ByteBuffer a2) {
+        r.begin(575); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetLocalConstantFloatvEXT(int a0, int a1, float[] a2, int a3) {
+        r.begin(576); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetLocalConstantFloatvEXT(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(577); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetLocalConstantIntegervEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(578); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetLocalConstantIntegervEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(579); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMapAttribParameterfvNV(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(580); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMapAttribParameterfvNV(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(581); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMapAttribParameterivNV(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(582); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMapAttribParameterivNV(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(583); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMapControlPointsNV(int a0, int a1, int a2, int a3, int a4, boolean a5, java.nio.Buffer a6) {
+        r.begin(584); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetMapParameterfvNV(int a0, int a1, float[] a2, int a3) {
+        r.begin(585); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMapParameterfvNV(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(586); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMapParameterivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(587); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMapParameterivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(588); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMapdv(int a0, int a1, double[] a2, int a3) {
+        r.begin(589); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMapdv(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(590); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMapfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(591); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMapfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(592); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMapiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(593); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMapiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(594); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMaterialfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(595); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMaterialfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(596); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMaterialiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(597); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMaterialiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(598); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMinmax(int a0, boolean a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(599); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMinmax(int a0, boolean a1, int a2, int a3, long a4) {
+        r.begin(600); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMinmaxParameterfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(601); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMinmaxParameterfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(602); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMinmaxParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(603); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMinmaxParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(604); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetMultiTexEnvfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(605); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexEnvfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(606); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultiTexEnvivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(607); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexEnvivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(608); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultiTexGendvEXT(int a0, int a1, int a2, double[] a3, int a4) {
+        r.begin(609); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexGendvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3) {
+        r.begin(610); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultiTexGenfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(611); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexGenfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(612); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultiTexGenivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(613); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexGenivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(614); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultiTexImageEXT(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(615); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetMultiTexLevelParameterfvEXT(int a0, int a1, int a2, int a3, float[] a4, int a5) {
+        r.begin(616); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetMultiTexLevelParameterfvEXT(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4) {
+        r.begin(617); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexLevelParameterivEXT(int a0, int a1, int a2, int a3, int[] a4, int a5) {
+        r.begin(618); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetMultiTexLevelParameterivEXT(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(619); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(620); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(621); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultiTexParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(622); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(623); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultiTexParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(624); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(625); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultiTexParameterivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(626); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetMultiTexParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(627); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultisamplefvNV(int a0, int a1, float[] a2, int a3) {
+        r.begin(628); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetMultisamplefvNV(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(629); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetNamedBufferParameterivEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(630); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedBufferParameterivEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(631); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetNamedBufferParameterui64vNV(int a0, int a1, long[] a2, int a3) {
+        r.begin(632); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedBufferParameterui64vNV(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(633); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetNamedBufferSubDataEXT(int a0, long a1, long a2, java.nio.Buffer a3) {
+        r.begin(634); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedFramebufferAttachmentParameterivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(635); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetNamedFramebufferAttachmentParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(636); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedFramebufferParameterivEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(637); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedFramebufferParameterivEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(638); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetNamedProgramLocalParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(639); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetNamedProgramLocalParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(640); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedProgramLocalParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(641); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetNamedProgramLocalParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(642); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedProgramLocalParameterdvEXT(int a0, int a1, int a2, double[] a3, int a4) {
+        r.begin(643); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetNamedProgramLocalParameterdvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3) {
+        r.begin(644); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedProgramLocalParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(645); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetNamedProgramLocalParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(646); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedProgramStringEXT(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(647); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedProgramivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(648); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetNamedProgramivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(649); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedRenderbufferParameterivEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(650); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetNamedRenderbufferParameterivEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(651); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetNamedStringARB(int a0, java.lang.String a1, int a2, int[] a3, int a4, byte[] a5, int a6) {
+        r.begin(652); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetNamedStringARB(int a0, java.lang.String a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4) {
+        r.begin(653); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetNamedStringivARB(int a0, java.lang.String a1, int a2, int[] a3, int a4) {
+        r.begin(654); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetNamedStringivARB(int a0, java.lang.String a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(655); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetObjectLabel(int a0, int a1, int a2, int[] a3, int a4, byte[] a5, int a6) {
+        r.begin(656); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetObjectLabel(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4) {
+        r.begin(657); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetObjectParameterfvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(658); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetObjectParameterfvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(659); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetObjectParameterivAPPLE(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(660); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetObjectParameterivAPPLE(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(661); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetObjectParameterivARB(int a0, int a1, int[] a2, int a3) {
+        r.begin(662); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetObjectParameterivARB(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(663); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetObjectPtrLabel(java.nio.Buffer a0, int a1, int[] a2, int a3, byte[] a4, int a5) {
+        r.begin(664); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetObjectPtrLabel(java.nio.Buffer a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3) {
+        r.begin(665); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetOcclusionQueryivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(666); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetOcclusionQueryivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(667); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetOcclusionQueryuivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(668); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetOcclusionQueryuivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(669); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathColorGenfvNV(int a0, int a1, float[] a2, int a3) {
+        r.begin(670); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPathColorGenfvNV(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(671); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathColorGenivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(672); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPathColorGenivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(673); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathCommandsNV(int a0, byte[] a1, int a2) {
+        r.begin(674); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathCommandsNV(int a0, java.nio.ByteBuffer a1) {
+        r.begin(675); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPathCoordsNV(int a0, float[] a1, int a2) {
+        r.begin(676); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathCoordsNV(int a0, java.nio.FloatBuffer a1) {
+        r.begin(677); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPathDashArrayNV(int a0, float[] a1, int a2) {
+        r.begin(678); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathDashArrayNV(int a0, java.nio.FloatBuffer a1) {
+        r.begin(679); r.arg(a0); r.arg(a1); r.end();
+    }
+    public float glGetPathLengthNV(int a0, int a1, int a2) {
+        r.begin(680); r.arg(a0); r.arg(a1); r.arg(a2); r.end(); return 0;
+    }
+    public void glGetPathMetricRangeNV(int a0, int a1, int a2, int a3, float[] a4, int a5) {
+        r.begin(681); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetPathMetricRangeNV(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4) {
+        r.begin(682); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetPathMetricsNV(int a0, int a1, int a2, java.nio.Buffer a3, int a4, int a5, float[] a6, int a7) {
+        r.begin(683); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glGetPathMetricsNV(int a0, int a1, int a2, java.nio.Buffer a3, int a4, int a5, java.nio.FloatBuffer a6) {
+        r.begin(684); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetPathParameterfvNV(int a0, int a1, float[] a2, int a3) {
+        r.begin(685); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPathParameterfvNV(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(686); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathParameterivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(687); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPathParameterivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(688); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathSpacingNV(int a0, int a1, int a2, java.nio.Buffer a3, int a4, float a5, float a6, int a7, float[] a8, int a9) {
+        r.begin(689); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glGetPathSpacingNV(int a0, int a1, int a2, java.nio.Buffer a3, int a4, float a5, float a6, int a7, java.nio.FloatBuffer a8) {
+        r.begin(690); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glGetPathTexGenfvNV(int a0, int a1, float[] a2, int a3) {
+        r.begin(691); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPathTexGenfvNV(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(692); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPathTexGenivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(693); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPathTexGenivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(694); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPerfMonitorCounterDataAMD(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6) {
+        r.begin(695); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetPerfMonitorCounterDataAMD(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4) {
+        r.begin(696); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetPerfMonitorCounterInfoAMD(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(697); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPerfMonitorCounterStringAMD(int a0, int a1, int a2, int[] a3, int a4, byte[] a5, int a6) {
+        r.begin(698); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetPerfMonitorCounterStringAMD(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4) {
+        r.begin(699); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetPerfMonitorCountersAMD(int a0, int[] a1, int a2, int[] a3, int a4, int a5, int[] a6, int a7) {
+        r.begin(700); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glGetPerfMonitorCountersAMD(int a0, java.nio.IntBuffer a1, java.nio.IntBuffer a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(701); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetPerfMonitorGroupStringAMD(int a0, int a1, int[] a2, int a3, byte[] a4, int a5) {
+        r.begin(702); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetPerfMonitorGroupStringAMD(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3) {
+        r.begin(703); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPerfMonitorGroupsAMD(int[] a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(704); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetPerfMonitorGroupsAMD(java.nio.IntBuffer a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(705); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPixelMapfv(int a0, float[] a1, int a2) {
+        r.begin(706); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPixelMapfv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(707); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPixelMapfv(int a0, long a1) {
+        r.begin(708); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPixelMapuiv(int a0, int[] a1, int a2) {
+        r.begin(709); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPixelMapuiv(int a0, java.nio.IntBuffer a1) {
+        r.begin(710); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPixelMapuiv(int a0, long a1) {
+        r.begin(711); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPixelMapusv(int a0, short[] a1, int a2) {
+        r.begin(712); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPixelMapusv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(713); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPixelMapusv(int a0, long a1) {
+        r.begin(714); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPixelTransformParameterfvEXT(int a0, int a1, float[] a2, int a3) {
+        r.begin(715); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPixelTransformParameterfvEXT(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(716); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPixelTransformParameterivEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(717); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetPixelTransformParameterivEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(718); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPointeri_vEXT(int a0, int a1, com.jogamp.common.nio.PointerBuffer a2) {
+        r.begin(719); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetPolygonStipple(byte[] a0, int a1) {
+        r.begin(720); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetPolygonStipple(java.nio.ByteBuffer a0) {
+        r.begin(721); r.arg(a0); r.end();
+    }
+    public void glGetPolygonStipple(long a0) {
+        r.begin(722); r.arg(a0); r.end();
+    }
+    public void glGetProgramBinary(int a0, int a1, int[] a2, int a3, int[] a4, int a5, java.nio.Buffer a6) {
+        r.begin(723); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glGetProgramBinary(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3, java.nio.Buffer a4) {
+        r.begin(724); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetProgramEnvParameterIivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(725); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramEnvParameterIivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(726); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramEnvParameterIuivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(727); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramEnvParameterIuivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(728); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramEnvParameterdvARB(int a0, int a1, double[] a2, int a3) {
+        r.begin(729); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramEnvParameterdvARB(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(730); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramEnvParameterfvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(731); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramEnvParameterfvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(732); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramInfoLog(int a0, int a1, int[] a2, int a3, byte[] a4, int a5) {
+        r.begin(733); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetProgramInfoLog(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3) {
+        r.begin(734); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramLocalParameterIivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(735); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramLocalParameterIivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(736); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramLocalParameterIuivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(737); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramLocalParameterIuivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(738); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramLocalParameterdvARB(int a0, int a1, double[] a2, int a3) {
+        r.begin(739); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramLocalParameterdvARB(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(740); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramLocalParameterfvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(741); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramLocalParameterfvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(742); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramStringARB(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(743); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramSubroutineParameteruivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(744); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramSubroutineParameteruivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(745); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(746); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(747); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetProgramivARB(int a0, int a1, int[] a2, int a3) {
+        r.begin(748); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetProgramivARB(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(749); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetQueryObjecti64vEXT(int a0, int a1, long[] a2, int a3) {
+        r.begin(750); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetQueryObjecti64vEXT(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(751); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetQueryObjectiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(752); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetQueryObjectiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(753); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetQueryObjectui64vEXT(int a0, int a1, long[] a2, int a3) {
+        r.begin(754); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetQueryObjectui64vEXT(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(755); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetQueryObjectuiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(756); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetQueryObjectuiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(757); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetQueryiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(758); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetQueryiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(759); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetRenderbufferParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(760); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetRenderbufferParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(761); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetSeparableFilter(int a0, int a1, int a2, java.nio.Buffer a3, java.nio.Buffer a4, java.nio.Buffer a5) {
+        r.begin(762); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetSeparableFilter(int a0, int a1, int a2, long a3, long a4, long a5) {
+        r.begin(763); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetShaderInfoLog(int a0, int a1, int[] a2, int a3, byte[] a4, int a5) {
+        r.begin(764); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetShaderInfoLog(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3) {
+        r.begin(765); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetShaderPrecisionFormat(int a0, int a1, int[] a2, int a3, int[] a4, int a5) {
+        r.begin(766); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetShaderPrecisionFormat(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3) {
+        r.begin(767); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetShaderSource(int a0, int a1, int[] a2, int a3, byte[] a4, int a5) {
+        r.begin(768); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetShaderSource(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3) {
+        r.begin(769); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetShaderSourceARB(int a0, int a1, int[] a2, int a3, byte[] a4, int a5) {
+        r.begin(770); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetShaderSourceARB(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3) {
+        r.begin(771); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetShaderiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(772); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetShaderiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(773); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public java.lang.String glGetString(int a0) {
+        r.begin(774); r.arg(a0); r.end(); return "";
+    }
+    public java.lang.String glGetStringi(int a0, int a1) {
+        r.begin(775); r.arg(a0); r.arg(a1); r.end(); return "";
+    }
+    public void glGetTexEnvfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(776); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexEnvfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(777); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetTexEnviv(int a0, int a1, int[] a2, int a3) {
+        r.begin(778); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexEnviv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(779); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetTexGendv(int a0, int a1, double[] a2, int a3) {
+        r.begin(780); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexGendv(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(781); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetTexGenfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(782); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexGenfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(783); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetTexGeniv(int a0, int a1, int[] a2, int a3) {
+        r.begin(784); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexGeniv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(785); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetTexImage(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(786); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTexImage(int a0, int a1, int a2, int a3, long a4) {
+        r.begin(787); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTexLevelParameterfv(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(788); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTexLevelParameterfv(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(789); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexLevelParameteriv(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(790); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTexLevelParameteriv(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(791); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexParameterIiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(792); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexParameterIiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(793); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetTexParameterIuiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(794); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexParameterIuiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(795); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetTexParameterfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(796); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexParameterfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(797); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetTexParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(798); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTexParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(799); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public long glGetTextureHandleNV(int a0) {
+        r.begin(800); r.arg(a0); r.end(); return 0;
+    }
+    public void glGetTextureImageEXT(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(801); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetTextureLevelParameterfvEXT(int a0, int a1, int a2, int a3, float[] a4, int a5) {
+        r.begin(802); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetTextureLevelParameterfvEXT(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4) {
+        r.begin(803); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTextureLevelParameterivEXT(int a0, int a1, int a2, int a3, int[] a4, int a5) {
+        r.begin(804); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetTextureLevelParameterivEXT(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(805); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTextureParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(806); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTextureParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(807); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTextureParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(808); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTextureParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(809); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTextureParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(810); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTextureParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(811); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetTextureParameterivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(812); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetTextureParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(813); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public long glGetTextureSamplerHandleNV(int a0, int a1) {
+        r.begin(814); r.arg(a0); r.arg(a1); r.end(); return 0;
+    }
+    public void glGetTransformFeedbackVarying(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, byte[] a9, int a10) {
+        r.begin(815); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glGetTransformFeedbackVarying(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6) {
+        r.begin(816); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public int glGetUniformBlockIndex(int a0, java.lang.String a1) {
+        r.begin(817); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public int glGetUniformBufferSizeEXT(int a0, int a1) {
+        r.begin(818); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public void glGetUniformIndices(int a0, int a1, java.lang.String[] a2, int[] a3, int a4) {
+        r.begin(819); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetUniformIndices(int a0, int a1, java.lang.String[] a2, java.nio.IntBuffer a3) {
+        r.begin(820); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public int glGetUniformLocation(int a0, java.lang.String a1) {
+        r.begin(821); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public int glGetUniformLocationARB(int a0, java.lang.String a1) {
+        r.begin(822); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public long glGetUniformOffsetEXT(int a0, int a1) {
+        r.begin(823); r.arg(a0); r.arg(a1); r.end(); return 0;
+    }
+    public void glGetUniformfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(824); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetUniformfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(825); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetUniformfvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(826); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetUniformfvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(827); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetUniformiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(828); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetUniformiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(829); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetUniformivARB(int a0, int a1, int[] a2, int a3) {
+        r.begin(830); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetUniformivARB(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(831); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetUniformui64vNV(int a0, int a1, long[] a2, int a3) {
+        r.begin(832); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetUniformui64vNV(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(833); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetUniformuiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(834); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetUniformuiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(835); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVariantBooleanvEXT(int a0, int a1, byte[] a2, int a3) {
+        r.begin(836); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVariantBooleanvEXT(int a0, int a1, java.nio.ByteBuffer a2) {
+        r.begin(837); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVariantFloatvEXT(int a0, int a1, float[] a2, int a3) {
+        r.begin(838); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVariantFloatvEXT(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(839); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVariantIntegervEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(840); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVariantIntegervEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(841); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexArrayIntegeri_vEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(842); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetVertexArrayIntegeri_vEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(843); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexArrayIntegervEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(844); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexArrayIntegervEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(845); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexArrayPointeri_vEXT(int a0, int a1, int a2, com.jogamp.common.nio.PointerBuffer a3) {
+        r.begin(846); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexArrayPointervEXT(int a0, int a1, com.jogamp.common.nio.PointerBuffer a2) {
+        r.begin(847); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribIiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(848); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribIiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(849); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribIivEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(850); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribIivEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(851); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribIuiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(852); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribIuiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(853); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribIuivEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(854); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribIuivEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(855); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribLi64vNV(int a0, int a1, long[] a2, int a3) {
+        r.begin(856); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribLi64vNV(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(857); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribLui64vNV(int a0, int a1, long[] a2, int a3) {
+        r.begin(858); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribLui64vNV(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(859); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribdv(int a0, int a1, double[] a2, int a3) {
+        r.begin(860); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribdv(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(861); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribdvARB(int a0, int a1, double[] a2, int a3) {
+        r.begin(862); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribdvARB(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(863); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(864); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(865); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribfvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(866); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribfvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(867); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(868); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(869); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVertexAttribivARB(int a0, int a1, int[] a2, int a3) {
+        r.begin(870); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVertexAttribivARB(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(871); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetVideoCaptureStreamdvNV(int a0, int a1, int a2, double[] a3, int a4) {
+        r.begin(872); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetVideoCaptureStreamdvNV(int a0, int a1, int a2, java.nio.DoubleBuffer a3) {
+        r.begin(873); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVideoCaptureStreamfvNV(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(874); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetVideoCaptureStreamfvNV(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(875); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVideoCaptureStreamivNV(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(876); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetVideoCaptureStreamivNV(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(877); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVideoCaptureivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(878); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetVideoCaptureivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(879); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetnColorTable(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(880); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnCompressedTexImage(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(881); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnConvolutionFilter(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(882); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnHistogram(int a0, boolean a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(883); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetnMapdv(int a0, int a1, int a2, double[] a3, int a4) {
+        r.begin(884); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnMapdv(int a0, int a1, int a2, java.nio.DoubleBuffer a3) {
+        r.begin(885); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnMapfv(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(886); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnMapfv(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(887); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnMapiv(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(888); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnMapiv(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(889); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnMinmax(int a0, boolean a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(890); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetnPixelMapfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(891); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnPixelMapfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(892); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetnPixelMapuiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(893); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnPixelMapuiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(894); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetnPixelMapusv(int a0, int a1, short[] a2, int a3) {
+        r.begin(895); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnPixelMapusv(int a0, int a1, java.nio.ShortBuffer a2) {
+        r.begin(896); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetnPolygonStipple(int a0, byte[] a1, int a2) {
+        r.begin(897); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glGetnPolygonStipple(int a0, java.nio.ByteBuffer a1) {
+        r.begin(898); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glGetnSeparableFilter(int a0, int a1, int a2, int a3, java.nio.Buffer a4, int a5, java.nio.Buffer a6, java.nio.Buffer a7) {
+        r.begin(899); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glGetnTexImage(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(900); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glGetnUniformdv(int a0, int a1, int a2, double[] a3, int a4) {
+        r.begin(901); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnUniformdv(int a0, int a1, int a2, java.nio.DoubleBuffer a3) {
+        r.begin(902); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnUniformfv(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(903); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnUniformfv(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(904); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnUniformiv(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(905); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnUniformiv(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(906); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glGetnUniformuiv(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(907); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glGetnUniformuiv(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(908); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glHint(int a0, int a1) {
+        r.begin(909); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glHintPGI(int a0, int a1) {
+        r.begin(910); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glHistogram(int a0, int a1, int a2, boolean a3) {
+        r.begin(911); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public long glImportSyncEXT(int a0, long a1, int a2) {
+        r.begin(912); r.arg(a0); r.arg(a1); r.arg(a2); r.end(); return 0;
+    }
+    public void glIndexFormatNV(int a0, int a1) {
+        r.begin(913); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glIndexFuncEXT(int a0, float a1) {
+        r.begin(914); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glIndexMask(int a0) {
+        r.begin(915); r.arg(a0); r.end();
+    }
+    public void glIndexMaterialEXT(int a0, int a1) {
+        r.begin(916); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glIndexPointer(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(917); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glIndexd(double a0) {
+        r.begin(918); r.arg(a0); r.end();
+    }
+    public void glIndexdv(double[] a0, int a1) {
+        r.begin(919); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glIndexdv(java.nio.DoubleBuffer a0) {
+        r.begin(920); r.arg(a0); r.end();
+    }
+    public void glIndexf(float a0) {
+        r.begin(921); r.arg(a0); r.end();
+    }
+    public void glIndexfv(float[] a0, int a1) {
+        r.begin(922); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glIndexfv(java.nio.FloatBuffer a0) {
+        r.begin(923); r.arg(a0); r.end();
+    }
+    public void glIndexi(int a0) {
+        r.begin(924); r.arg(a0); r.end();
+    }
+    public void glIndexiv(int[] a0, int a1) {
+        r.begin(925); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glIndexiv(java.nio.IntBuffer a0) {
+        r.begin(926); r.arg(a0); r.end();
+    }
+    public void glIndexs(short a0) {
+        r.begin(927); r.arg(a0); r.end();
+    }
+    public void glIndexsv(short[] a0, int a1) {
+        r.begin(928); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glIndexsv(java.nio.ShortBuffer a0) {
+        r.begin(929); r.arg(a0); r.end();
+    }
+    public void glIndexub(byte a0) {
+        r.begin(930); r.arg(a0); r.end();
+    }
+    public void glIndexubv(byte[] a0, int a1) {
+        r.begin(931); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glIndexubv(java.nio.ByteBuffer a0) {
+        r.begin(932); r.arg(a0); r.end();
+    }
+    public void glInitNames() {
+        r.begin(933); r.end();
+    }
+    public void glInsertComponentEXT(int a0, int a1, int a2) {
+        r.begin(934); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glInterleavedArrays(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(935); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glInterleavedArrays(int a0, int a1, long a2) {
+        r.begin(936); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glInterpolatePathsNV(int a0, int a1, int a2, float a3) {
+        r.begin(937); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public boolean glIsBuffer(int a0) {
+        r.begin(938); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsBufferResidentNV(int a0) {
+        r.begin(939); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsEnabled(int a0) {
+        r.begin(940); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsEnabledIndexed(int a0, int a1) {
+        r.begin(941); r.arg(a0); r.arg(a1); return r.endBoolean();
+    }
+    public boolean glIsEnabledi(int a0, int a1) {
+        r.begin(942); r.arg(a0); r.arg(a1); return r.endBoolean();
+    }
+    public boolean glIsFenceAPPLE(int a0) {
+        r.begin(943); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsFenceNV(int a0) {
+        r.begin(944); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsFramebuffer(int a0) {
+        r.begin(945); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsImageHandleResidentNV(long a0) {
+        r.begin(946); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsList(int a0) {
+        r.begin(947); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsNameAMD(int a0, int a1) {
+        r.begin(948); r.arg(a0); r.arg(a1); return r.endBoolean();
+    }
+    public boolean glIsNamedBufferResidentNV(int a0) {
+        r.begin(949); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsNamedStringARB(int a0, java.lang.String a1) {
+        r.begin(950); r.arg(a0); r.arg(a1); return r.endBoolean();
+    }
+    public boolean glIsOcclusionQueryNV(int a0) {
+        r.begin(951); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsPBOPackEnabled() {
+        r.begin(952); return r.endBoolean();
+    }
+    public boolean glIsPBOUnpackEnabled() {
+        r.begin(953); return r.endBoolean();
+    }
+    public boolean glIsPathNV(int a0) {
+        r.begin(954); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsPointInFillPathNV(int a0, int a1, float a2, float a3) {
+        r.begin(955); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); return r.endBoolean();
+    }
+    public boolean glIsPointInStrokePathNV(int a0, float a1, float a2) {
+        r.begin(956); r.arg(a0); r.arg(a1); r.arg(a2); return r.endBoolean();
+    }
+    public boolean glIsProgram(int a0) {
+        r.begin(957); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsProgramARB(int a0) {
+        r.begin(958); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsQuery(int a0) {
+        r.begin(959); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsRenderbuffer(int a0) {
+        r.begin(960); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsShader(int a0) {
+        r.begin(961); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsTexture(int a0) {
+        r.begin(962); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsTextureHandleResidentNV(long a0) {
+        r.begin(963); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsTransformFeedbackNV(int a0) {
+        r.begin(964); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsVBOArrayEnabled() {
+        r.begin(965); return r.endBoolean();
+    }
+    public boolean glIsVBOElementArrayEnabled() {
+        r.begin(966); return r.endBoolean();
+    }
+    public boolean glIsVariantEnabledEXT(int a0, int a1) {
+        r.begin(967); r.arg(a0); r.arg(a1); return r.endBoolean();
+    }
+    public boolean glIsVertexArray(int a0) {
+        r.begin(968); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glIsVertexAttribEnabledAPPLE(int a0, int a1) {
+        r.begin(969); r.arg(a0); r.arg(a1); return r.endBoolean();
+    }
+    public void glLightModelf(int a0, float a1) {
+        r.begin(970); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLightModelfv(int a0, float[] a1, int a2) {
+        r.begin(971); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glLightModelfv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(972); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLightModeli(int a0, int a1) {
+        r.begin(973); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLightModeliv(int a0, int[] a1, int a2) {
+        r.begin(974); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glLightModeliv(int a0, java.nio.IntBuffer a1) {
+        r.begin(975); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLightf(int a0, int a1, float a2) {
+        r.begin(976); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glLightfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(977); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glLightfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(978); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glLighti(int a0, int a1, int a2) {
+        r.begin(979); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glLightiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(980); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glLightiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(981); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glLineStipple(int a0, short a1) {
+        r.begin(982); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLineWidth(float a0) {
+        r.begin(983); r.arg(a0); r.end();
+    }
+    public void glLinkProgram(int a0) {
+        r.begin(984); r.arg(a0); r.end();
+    }
+    public void glLinkProgramARB(int a0) {
+        r.begin(985); r.arg(a0); r.end();
+    }
+    public void glListBase(int a0) {
+        r.begin(986); r.arg(a0); r.end();
+    }
+    public void glLoadIdentity() {
+        r.begin(987); r.end();
+    }
+    public void glLoadMatrixd(double[] a0, int a1) {
+        r.begin(988); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLoadMatrixd(java.nio.DoubleBuffer a0) {
+        r.begin(989); r.arg(a0); r.end();
+    }
+    public void glLoadMatrixf(float[] a0, int a1) {
+        r.begin(990); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLoadMatrixf(java.nio.FloatBuffer a0) {
+        r.begin(991); r.arg(a0); r.end();
+    }
+    public void glLoadName(int a0) {
+        r.begin(992); r.arg(a0); r.end();
+    }
+    public void glLoadTransposeMatrixd(double[] a0, int a1) {
+        r.begin(993); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLoadTransposeMatrixd(java.nio.DoubleBuffer a0) {
+        r.begin(994); r.arg(a0); r.end();
+    }
+    public void glLoadTransposeMatrixf(float[] a0, int a1) {
+        r.begin(995); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLoadTransposeMatrixf(java.nio.FloatBuffer a0) {
+        r.begin(996); r.arg(a0); r.end();
+    }
+    public void glLockArraysEXT(int a0, int a1) {
+        r.begin(997); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glLogicOp(int a0) {
+        r.begin(998); r.arg(a0); r.end();
+    }
+    public void glMakeBufferNonResidentNV(int a0) {
+        r.begin(999); r.arg(a0); r.end();
+    }
+    public void glMakeBufferResidentNV(int a0, int a1) {
+        r.begin(1000); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMakeImageHandleNonResidentNV(long a0) {
+        r.begin(1001); r.arg(a0); r.end();
+    }
+    public void glMakeImageHandleResidentNV(long a0, int a1) {
+        r.begin(1002); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMakeNamedBufferNonResidentNV(int a0) {
+        r.begin(1003); r.arg(a0); r.end();
+    }
+    public void glMakeNamedBufferResidentNV(int a0, int a1) {
+        r.begin(1004); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMakeTextureHandleNonResidentNV(long a0) {
+        r.begin(1005); r.arg(a0); r.end();
+    }
+    public void glMakeTextureHandleResidentNV(long a0) {
+        r.begin(1006); r.arg(a0); r.end();
+    }
+    public void glMap1d(int a0, double a1, double a2, int a3, int a4, double[] a5, int a6) {
+        r.begin(1007); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glMap1d(int a0, double a1, double a2, int a3, int a4, java.nio.DoubleBuffer a5) {
+        r.begin(1008); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glMap1f(int a0, float a1, float a2, int a3, int a4, float[] a5, int a6) {
+        r.begin(1009); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glMap1f(int a0, float a1, float a2, int a3, int a4, java.nio.FloatBuffer a5) {
+        r.begin(1010); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glMap2d(int a0, double a1, double a2, int a3, int a4, double a5, double a6, int a7, int a8, double[] a9, int a10) {
+        r.begin(1011); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glMap2d(int a0, double a1, double a2, int a3, int a4, double a5, double a6, int a7, int a8, java.nio.DoubleBuffer a9) {
+        r.begin(1012); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glMap2f(int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7, int a8, float[] a9, int a10) {
+        r.begin(1013); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glMap2f(int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7, int a8, java.nio.FloatBuffer a9) {
+        r.begin(1014); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public java.nio.ByteBuffer glMapBuffer(int a0, int a1) {
+        r.begin(1015); r.arg(a0); r.arg(a1); r.end(); return null;
+    }
+    public java.nio.ByteBuffer glMapBufferRange(int a0, long a1, long a2, int a3) {
+        r.begin(1016); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end(); return null;
+    }
+    public void glMapControlPointsNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7, java.nio.Buffer a8) {
+        r.begin(1017); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glMapGrid1d(int a0, double a1, double a2) {
+        r.begin(1018); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMapGrid1f(int a0, float a1, float a2) {
+        r.begin(1019); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMapGrid2d(int a0, double a1, double a2, int a3, double a4, double a5) {
+        r.begin(1020); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glMapGrid2f(int a0, float a1, float a2, int a3, float a4, float a5) {
+        r.begin(1021); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public java.nio.ByteBuffer glMapNamedBufferEXT(int a0, int a1) {
+        r.begin(1022); r.arg(a0); r.arg(a1); r.end(); return null;
+    }
+    public java.nio.ByteBuffer glMapNamedBufferRangeEXT(int a0, long a1, long a2, int a3) {
+        r.begin(1023); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end(); return null;
+    }
+    public void glMapParameterfvNV(int a0, int a1, float[] a2, int a3) {
+        r.begin(1024); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMapParameterfvNV(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1025); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMapParameterivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(1026); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMapParameterivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1027); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public java.nio.ByteBuffer glMapTexture2DINTEL(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6) {
+        r.begin(1028); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end(); return null;
+    }
+    public java.nio.ByteBuffer glMapTexture2DINTEL(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4) {
+        r.begin(1029); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end(); return null;
+    }
+    public void glMapVertexAttrib1dAPPLE(int a0, int a1, double a2, double a3, int a4, int a5, double[] a6, int a7) {
+        r.begin(1030); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glMapVertexAttrib1dAPPLE(int a0, int a1, double a2, double a3, int a4, int a5, java.nio.DoubleBuffer a6) {
+        r.begin(1031); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glMapVertexAttrib1fAPPLE(int a0, int a1, float a2, float a3, int a4, int a5, float[] a6, int a7) {
+        r.begin(1032); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glMapVertexAttrib1fAPPLE(int a0, int a1, float a2, float a3, int a4, int a5, java.nio.FloatBuffer a6) {
+        r.begin(1033); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glMapVertexAttrib2dAPPLE(int a0, int a1, double a2, double a3, int a4, int a5, double a6, double a7, int a8, int a9, double[] a10, int a11) {
+        r.begin(1034); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); r.end();
+    }
+    public void glMapVertexAttrib2dAPPLE(int a0, int a1, double a2, double a3, int a4, int a5, double a6, double a7, int a8, int a9, java.nio.DoubleBuffer a10) {
+        r.begin(1035); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glMapVertexAttrib2fAPPLE(int a0, int a1, float a2, float a3, int a4, int a5, float a6, float a7, int a8, int a9, float[] a10, int a11) {
+        r.begin(1036); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); r.end();
+    }
+    public void glMapVertexAttrib2fAPPLE(int a0, int a1, float a2, float a3, int a4, int a5, float a6, float a7, int a8, int a9, java.nio.FloatBuffer a10) {
+        r.begin(1037); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glMaterialf(int a0, int a1, float a2) {
+        r.begin(1038); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMaterialfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1039); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMaterialfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1040); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMateriali(int a0, int a1, int a2) {
+        r.begin(1041); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMaterialiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1042); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMaterialiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1043); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixFrustumEXT(int a0, double a1, double a2, double a3, double a4, double a5, double a6) {
+        r.begin(1044); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glMatrixIndexPointer(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(1045); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMatrixIndexubvARB(int a0, byte[] a1, int a2) {
+        r.begin(1046); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixIndexubvARB(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1047); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixIndexuivARB(int a0, int[] a1, int a2) {
+        r.begin(1048); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixIndexuivARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(1049); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixIndexusvARB(int a0, short[] a1, int a2) {
+        r.begin(1050); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixIndexusvARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1051); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixLoadIdentityEXT(int a0) {
+        r.begin(1052); r.arg(a0); r.end();
+    }
+    public void glMatrixLoadTransposedEXT(int a0, double[] a1, int a2) {
+        r.begin(1053); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixLoadTransposedEXT(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1054); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixLoadTransposefEXT(int a0, float[] a1, int a2) {
+        r.begin(1055); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixLoadTransposefEXT(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1056); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixLoaddEXT(int a0, double[] a1, int a2) {
+        r.begin(1057); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixLoaddEXT(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1058); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixLoadfEXT(int a0, float[] a1, int a2) {
+        r.begin(1059); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixLoadfEXT(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1060); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixMode(int a0) {
+        r.begin(1061); r.arg(a0); r.end();
+    }
+    public void glMatrixMultTransposedEXT(int a0, double[] a1, int a2) {
+        r.begin(1062); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixMultTransposedEXT(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1063); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixMultTransposefEXT(int a0, float[] a1, int a2) {
+        r.begin(1064); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixMultTransposefEXT(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1065); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixMultdEXT(int a0, double[] a1, int a2) {
+        r.begin(1066); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixMultdEXT(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1067); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixMultfEXT(int a0, float[] a1, int a2) {
+        r.begin(1068); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMatrixMultfEXT(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1069); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMatrixOrthoEXT(int a0, double a1, double a2, double a3, double a4, double a5, double a6) {
+        r.begin(1070); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glMatrixPopEXT(int a0) {
+        r.begin(1071); r.arg(a0); r.end();
+    }
+    public void glMatrixPushEXT(int a0) {
+        r.begin(1072); r.arg(a0); r.end();
+    }
+    public void glMatrixRotatedEXT(int a0, double a1, double a2, double a3, double a4) {
+        r.begin(1073); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMatrixRotatefEXT(int a0, float a1, float a2, float a3, float a4) {
+        r.begin(1074); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMatrixScaledEXT(int a0, double a1, double a2, double a3) {
+        r.begin(1075); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMatrixScalefEXT(int a0, float a1, float a2, float a3) {
+        r.begin(1076); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMatrixTranslatedEXT(int a0, double a1, double a2, double a3) {
+        r.begin(1077); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMatrixTranslatefEXT(int a0, float a1, float a2, float a3) {
+        r.begin(1078); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMinmax(int a0, int a1, boolean a2) {
+        r.begin(1079); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultMatrixd(double[] a0, int a1) {
+        r.begin(1080); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultMatrixd(java.nio.DoubleBuffer a0) {
+        r.begin(1081); r.arg(a0); r.end();
+    }
+    public void glMultMatrixf(float[] a0, int a1) {
+        r.begin(1082); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultMatrixf(java.nio.FloatBuffer a0) {
+        r.begin(1083); r.arg(a0); r.end();
+    }
+    public void glMultTransposeMatrixd(double[] a0, int a1) {
+        r.begin(1084); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultTransposeMatrixd(java.nio.DoubleBuffer a0) {
+        r.begin(1085); r.arg(a0); r.end();
+    }
+    public void glMultTransposeMatrixf(float[] a0, int a1) {
+        r.begin(1086); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultTransposeMatrixf(java.nio.FloatBuffer a0) {
+        r.begin(1087); r.arg(a0); r.end();
+    }
+    public void glMultiDrawArrays(int a0, int[] a1, int a2, int[] a3, int a4, int a5) {
+        r.begin(1088); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glMultiDrawArrays(int a0, java.nio.IntBuffer a1, java.nio.IntBuffer a2, int a3) {
+        r.begin(1089); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiDrawArraysIndirectAMD(int a0, java.nio.Buffer a1, int a2, int a3) {
+        r.begin(1090); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiDrawElements(int a0, java.nio.IntBuffer a1, int a2, com.jogamp.common.nio.PointerBuffer a3, int a4) {
+        r.begin(1091); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiDrawElementsIndirectAMD(int a0, int a1, java.nio.Buffer a2, int a3, int a4) {
+        r.begin(1092); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexBufferEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1093); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexCoord1bOES(int a0, byte a1) {
+        r.begin(1094); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1bvOES(int a0, byte[] a1, int a2) {
+        r.begin(1095); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord1bvOES(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1096); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1d(int a0, double a1) {
+        r.begin(1097); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1dv(int a0, double[] a1, int a2) {
+        r.begin(1098); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord1dv(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1099); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1f(int a0, float a1) {
+        r.begin(1100); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1fv(int a0, float[] a1, int a2) {
+        r.begin(1101); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord1fv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1102); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1h(int a0, short a1) {
+        r.begin(1103); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1hv(int a0, short[] a1, int a2) {
+        r.begin(1104); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord1hv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1105); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1i(int a0, int a1) {
+        r.begin(1106); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1iv(int a0, int[] a1, int a2) {
+        r.begin(1107); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord1iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(1108); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1s(int a0, short a1) {
+        r.begin(1109); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord1sv(int a0, short[] a1, int a2) {
+        r.begin(1110); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord1sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1111); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord2bOES(int a0, byte a1, byte a2) {
+        r.begin(1112); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2bvOES(int a0, byte[] a1, int a2) {
+        r.begin(1113); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2bvOES(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1114); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord2d(int a0, double a1, double a2) {
+        r.begin(1115); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2dv(int a0, double[] a1, int a2) {
+        r.begin(1116); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2dv(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1117); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord2f(int a0, float a1, float a2) {
+        r.begin(1118); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2fv(int a0, float[] a1, int a2) {
+        r.begin(1119); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2fv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1120); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord2h(int a0, short a1, short a2) {
+        r.begin(1121); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2hv(int a0, short[] a1, int a2) {
+        r.begin(1122); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2hv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1123); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord2i(int a0, int a1, int a2) {
+        r.begin(1124); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2iv(int a0, int[] a1, int a2) {
+        r.begin(1125); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(1126); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord2s(int a0, short a1, short a2) {
+        r.begin(1127); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2sv(int a0, short[] a1, int a2) {
+        r.begin(1128); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord2sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1129); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord3bOES(int a0, byte a1, byte a2, byte a3) {
+        r.begin(1130); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexCoord3bvOES(int a0, byte[] a1, int a2) {
+        r.begin(1131); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord3bvOES(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1132); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord3d(int a0, double a1, double a2, double a3) {
+        r.begin(1133); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexCoord3dv(int a0, double[] a1, int a2) {
+        r.begin(1134); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord3dv(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1135); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord3f(int a0, float a1, float a2, float a3) {
+        r.begin(1136); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexCoord3fv(int a0, float[] a1, int a2) {
+        r.begin(1137); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord3fv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1138); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord3h(int a0, short a1, short a2, short a3) {
+        r.begin(1139); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexCoord3hv(int a0, short[] a1, int a2) {
+        r.begin(1140); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord3hv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1141); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord3i(int a0, int a1, int a2, int a3) {
+        r.begin(1142); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexCoord3iv(int a0, int[] a1, int a2) {
+        r.begin(1143); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord3iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(1144); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord3s(int a0, short a1, short a2, short a3) {
+        r.begin(1145); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexCoord3sv(int a0, short[] a1, int a2) {
+        r.begin(1146); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord3sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1147); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord4bOES(int a0, byte a1, byte a2, byte a3, byte a4) {
+        r.begin(1148); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexCoord4bvOES(int a0, byte[] a1, int a2) {
+        r.begin(1149); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord4bvOES(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1150); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord4d(int a0, double a1, double a2, double a3, double a4) {
+        r.begin(1151); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexCoord4dv(int a0, double[] a1, int a2) {
+        r.begin(1152); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord4dv(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1153); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord4f(int a0, float a1, float a2, float a3, float a4) {
+        r.begin(1154); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexCoord4fv(int a0, float[] a1, int a2) {
+        r.begin(1155); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord4fv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1156); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord4h(int a0, short a1, short a2, short a3, short a4) {
+        r.begin(1157); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexCoord4hv(int a0, short[] a1, int a2) {
+        r.begin(1158); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord4hv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1159); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord4i(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1160); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexCoord4iv(int a0, int[] a1, int a2) {
+        r.begin(1161); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord4iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(1162); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoord4s(int a0, short a1, short a2, short a3, short a4) {
+        r.begin(1163); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexCoord4sv(int a0, short[] a1, int a2) {
+        r.begin(1164); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexCoord4sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1165); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glMultiTexCoordPointerEXT(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(1166); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexEnvfEXT(int a0, int a1, int a2, float a3) {
+        r.begin(1167); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexEnvfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1168); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexEnvfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1169); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexEnviEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1170); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexEnvivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1171); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexEnvivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1172); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexGendEXT(int a0, int a1, int a2, double a3) {
+        r.begin(1173); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexGendvEXT(int a0, int a1, int a2, double[] a3, int a4) {
+        r.begin(1174); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexGendvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3) {
+        r.begin(1175); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexGenfEXT(int a0, int a1, int a2, float a3) {
+        r.begin(1176); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexGenfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1177); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexGenfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1178); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexGeniEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1179); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexGenivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1180); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexGenivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1181); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(1182); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glMultiTexImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(1183); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glMultiTexImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, java.nio.Buffer a10) {
+        r.begin(1184); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glMultiTexParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1185); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1186); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1187); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1188); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexParameterfEXT(int a0, int a1, int a2, float a3) {
+        r.begin(1189); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1190); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1191); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexParameteriEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1192); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexParameterivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1193); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glMultiTexParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1194); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glMultiTexRenderbufferEXT(int a0, int a1, int a2) {
+        r.begin(1195); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glMultiTexSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(1196); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glMultiTexSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(1197); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glMultiTexSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, java.nio.Buffer a11) {
+        r.begin(1198); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); r.end();
+    }
+    public void glNamedBufferDataEXT(int a0, long a1, java.nio.Buffer a2, int a3) {
+        r.begin(1199); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedBufferSubDataEXT(int a0, long a1, long a2, java.nio.Buffer a3) {
+        r.begin(1200); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedCopyBufferSubDataEXT(int a0, int a1, long a2, long a3, long a4) {
+        r.begin(1201); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedFramebufferParameteriEXT(int a0, int a1, int a2) {
+        r.begin(1202); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNamedFramebufferRenderbufferEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1203); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedFramebufferTexture1DEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1204); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedFramebufferTexture2DEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1205); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedFramebufferTexture3DEXT(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1206); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glNamedFramebufferTextureEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1207); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedFramebufferTextureFaceEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1208); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedFramebufferTextureLayerEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1209); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedProgramLocalParameter4dEXT(int a0, int a1, int a2, double a3, double a4, double a5, double a6) {
+        r.begin(1210); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glNamedProgramLocalParameter4dvEXT(int a0, int a1, int a2, double[] a3, int a4) {
+        r.begin(1211); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedProgramLocalParameter4dvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3) {
+        r.begin(1212); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedProgramLocalParameter4fEXT(int a0, int a1, int a2, float a3, float a4, float a5, float a6) {
+        r.begin(1213); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glNamedProgramLocalParameter4fvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1214); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedProgramLocalParameter4fvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1215); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedProgramLocalParameterI4iEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6) {
+        r.begin(1216); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glNamedProgramLocalParameterI4ivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1217); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedProgramLocalParameterI4ivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1218); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedProgramLocalParameterI4uiEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6) {
+        r.begin(1219); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glNamedProgramLocalParameterI4uivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1220); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedProgramLocalParameterI4uivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1221); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedProgramLocalParameters4fvEXT(int a0, int a1, int a2, int a3, float[] a4, int a5) {
+        r.begin(1222); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glNamedProgramLocalParameters4fvEXT(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4) {
+        r.begin(1223); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedProgramLocalParametersI4ivEXT(int a0, int a1, int a2, int a3, int[] a4, int a5) {
+        r.begin(1224); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glNamedProgramLocalParametersI4ivEXT(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(1225); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedProgramLocalParametersI4uivEXT(int a0, int a1, int a2, int a3, int[] a4, int a5) {
+        r.begin(1226); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glNamedProgramLocalParametersI4uivEXT(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(1227); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedProgramStringEXT(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(1228); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedRenderbufferStorageEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1229); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glNamedRenderbufferStorageMultisampleCoverageEXT(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1230); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glNamedRenderbufferStorageMultisampleEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1231); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNamedStringARB(int a0, int a1, java.lang.String a2, int a3, java.lang.String a4) {
+        r.begin(1232); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glNewList(int a0, int a1) {
+        r.begin(1233); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glNormal3b(byte a0, byte a1, byte a2) {
+        r.begin(1234); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNormal3bv(byte[] a0, int a1) {
+        r.begin(1235); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glNormal3bv(java.nio.ByteBuffer a0) {
+        r.begin(1236); r.arg(a0); r.end();
+    }
+    public void glNormal3d(double a0, double a1, double a2) {
+        r.begin(1237); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNormal3dv(double[] a0, int a1) {
+        r.begin(1238); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glNormal3dv(java.nio.DoubleBuffer a0) {
+        r.begin(1239); r.arg(a0); r.end();
+    }
+    public void glNormal3f(float a0, float a1, float a2) {
+        r.begin(1240); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNormal3fv(float[] a0, int a1) {
+        r.begin(1241); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glNormal3fv(java.nio.FloatBuffer a0) {
+        r.begin(1242); r.arg(a0); r.end();
+    }
+    public void glNormal3h(short a0, short a1, short a2) {
+        r.begin(1243); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNormal3hv(short[] a0, int a1) {
+        r.begin(1244); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glNormal3hv(java.nio.ShortBuffer a0) {
+        r.begin(1245); r.arg(a0); r.end();
+    }
+    public void glNormal3i(int a0, int a1, int a2) {
+        r.begin(1246); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNormal3iv(int[] a0, int a1) {
+        r.begin(1247); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glNormal3iv(java.nio.IntBuffer a0) {
+        r.begin(1248); r.arg(a0); r.end();
+    }
+    public void glNormal3s(short a0, short a1, short a2) {
+        r.begin(1249); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNormal3sv(short[] a0, int a1) {
+        r.begin(1250); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glNormal3sv(java.nio.ShortBuffer a0) {
+        r.begin(1251); r.arg(a0); r.end();
+    }
+    public void glNormalFormatNV(int a0, int a1) {
+        r.begin(1252); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glNormalPointer(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(1253); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNormalPointer(int a0, int a1, long a2) {
+        r.begin(1254); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glNormalPointer(javax.media.opengl.GLArrayData a0) {
+        r.begin(1255); r.arg(a0); r.end();
+    }
+    public void glObjectLabel(int a0, int a1, int a2, byte[] a3, int a4) {
+        r.begin(1256); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glObjectLabel(int a0, int a1, int a2, java.nio.ByteBuffer a3) {
+        r.begin(1257); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glObjectPtrLabel(java.nio.Buffer a0, int a1, byte[] a2, int a3) {
+        r.begin(1258); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glObjectPtrLabel(java.nio.Buffer a0, int a1, java.nio.ByteBuffer a2) {
+        r.begin(1259); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public int glObjectPurgeableAPPLE(int a0, int a1, int a2) {
+        r.begin(1260); r.arg(a0); r.arg(a1); r.arg(a2); return r.endInt();
+    }
+    public int glObjectUnpurgeableAPPLE(int a0, int a1, int a2) {
+        r.begin(1261); r.arg(a0); r.arg(a1); r.arg(a2); return r.endInt();
+    }
+    public void glOrtho(double a0, double a1, double a2, double a3, double a4, double a5) {
+        r.begin(1262); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glOrthof(float a0, float a1, float a2, float a3, float a4, float a5) {
+        r.begin(1263); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glPNTrianglesfATI(int a0, float a1) {
+        r.begin(1264); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPNTrianglesiATI(int a0, int a1) {
+        r.begin(1265); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPassThrough(float a0) {
+        r.begin(1266); r.arg(a0); r.end();
+    }
+    public void glPathColorGenNV(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1267); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glPathColorGenNV(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1268); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPathCommandsNV(int a0, int a1, byte[] a2, int a3, int a4, int a5, java.nio.Buffer a6) {
+        r.begin(1269); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glPathCommandsNV(int a0, int a1, java.nio.ByteBuffer a2, int a3, int a4, java.nio.Buffer a5) {
+        r.begin(1270); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glPathCoordsNV(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(1271); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPathCoverDepthFuncNV(int a0) {
+        r.begin(1272); r.arg(a0); r.end();
+    }
+    public void glPathDashArrayNV(int a0, int a1, float[] a2, int a3) {
+        r.begin(1273); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPathDashArrayNV(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1274); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPathFogGenNV(int a0) {
+        r.begin(1275); r.arg(a0); r.end();
+    }
+    public void glPathGlyphRangeNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, int a6, int a7, float a8) {
+        r.begin(1276); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glPathGlyphsNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, java.nio.Buffer a6, int a7, int a8, float a9) {
+        r.begin(1277); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glPathParameterfNV(int a0, int a1, float a2) {
+        r.begin(1278); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPathParameterfvNV(int a0, int a1, float[] a2, int a3) {
+        r.begin(1279); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPathParameterfvNV(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1280); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPathParameteriNV(int a0, int a1, int a2) {
+        r.begin(1281); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPathParameterivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(1282); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPathParameterivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1283); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPathStencilDepthOffsetNV(float a0, float a1) {
+        r.begin(1284); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPathStencilFuncNV(int a0, int a1, int a2) {
+        r.begin(1285); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPathStringNV(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(1286); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPathSubCommandsNV(int a0, int a1, int a2, int a3, byte[] a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(1287); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glPathSubCommandsNV(int a0, int a1, int a2, int a3, java.nio.ByteBuffer a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(1288); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glPathSubCoordsNV(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(1289); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glPathTexGenNV(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1290); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glPathTexGenNV(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1291); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPauseTransformFeedbackNV() {
+        r.begin(1292); r.end();
+    }
+    public void glPixelDataRangeNV(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(1293); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelMapfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1294); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPixelMapfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1295); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelMapfv(int a0, int a1, long a2) {
+        r.begin(1296); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelMapuiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1297); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPixelMapuiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1298); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelMapuiv(int a0, int a1, long a2) {
+        r.begin(1299); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelMapusv(int a0, int a1, short[] a2, int a3) {
+        r.begin(1300); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPixelMapusv(int a0, int a1, java.nio.ShortBuffer a2) {
+        r.begin(1301); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelMapusv(int a0, int a1, long a2) {
+        r.begin(1302); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelStoref(int a0, float a1) {
+        r.begin(1303); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPixelStorei(int a0, int a1) {
+        r.begin(1304); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPixelTransferf(int a0, float a1) {
+        r.begin(1305); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPixelTransferi(int a0, int a1) {
+        r.begin(1306); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPixelTransformParameterfEXT(int a0, int a1, float a2) {
+        r.begin(1307); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelTransformParameterfvEXT(int a0, int a1, float[] a2, int a3) {
+        r.begin(1308); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPixelTransformParameterfvEXT(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1309); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelTransformParameteriEXT(int a0, int a1, int a2) {
+        r.begin(1310); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelTransformParameterivEXT(int a0, int a1, int[] a2, int a3) {
+        r.begin(1311); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPixelTransformParameterivEXT(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1312); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPixelZoom(float a0, float a1) {
+        r.begin(1313); r.arg(a0); r.arg(a1); r.end();
+    }
+    public boolean glPointAlongPathNV(int a0, int a1, int a2, float a3, float[] a4, int a5, float[] a6, int a7, float[] a8, int a9, float[] a10, int a11) {
+        r.begin(1314); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); return r.endBoolean();
+    }
+    public boolean glPointAlongPathNV(int a0, int a1, int a2, float a3, java.nio.FloatBuffer a4, java.nio.FloatBuffer a5, java.nio.FloatBuffer a6, java.nio.FloatBuffer a7) {
+        r.begin(1315); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); return r.endBoolean();
+    }
+    public void glPointParameterf(int a0, float a1) {
+        r.begin(1316); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPointParameterfv(int a0, float[] a1, int a2) {
+        r.begin(1317); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPointParameterfv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1318); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPointParameteri(int a0, int a1) {
+        r.begin(1319); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPointParameteriv(int a0, int[] a1, int a2) {
+        r.begin(1320); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glPointParameteriv(int a0, java.nio.IntBuffer a1) {
+        r.begin(1321); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPointSize(float a0) {
+        r.begin(1322); r.arg(a0); r.end();
+    }
+    public void glPolygonMode(int a0, int a1) {
+        r.begin(1323); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPolygonOffset(float a0, float a1) {
+        r.begin(1324); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPolygonStipple(byte[] a0, int a1) {
+        r.begin(1325); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glPolygonStipple(java.nio.ByteBuffer a0) {
+        r.begin(1326); r.arg(a0); r.end();
+    }
+    public void glPolygonStipple(long a0) {
+        r.begin(1327); r.arg(a0); r.end();
+    }
+    public void glPopAttrib() {
+        r.begin(1328); r.end();
+    }
+    public void glPopClientAttrib() {
+        r.begin(1329); r.end();
+    }
+    public void glPopDebugGroup() {
+        r.begin(1330); r.end();
+    }
+    public void glPopMatrix() {
+        r.begin(1331); r.end();
+    }
+    public void glPopName() {
+        r.begin(1332); r.end();
+    }
+    public void glPrimitiveRestartIndex(int a0) {
+        r.begin(1333); r.arg(a0); r.end();
+    }
+    public void glPrimitiveRestartIndexNV(int a0) {
+        r.begin(1334); r.arg(a0); r.end();
+    }
+    public void glPrimitiveRestartNV() {
+        r.begin(1335); r.end();
+    }
+    public void glPrioritizeTextures(int a0, int[] a1, int a2, float[] a3, int a4) {
+        r.begin(1336); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glPrioritizeTextures(int a0, java.nio.IntBuffer a1, java.nio.FloatBuffer a2) {
+        r.begin(1337); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramBinary(int a0, int a1, java.nio.Buffer a2, int a3) {
+        r.begin(1338); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramBufferParametersIivNV(int a0, int a1, int a2, int a3, int[] a4, int a5) {
+        r.begin(1339); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramBufferParametersIivNV(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(1340); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramBufferParametersIuivNV(int a0, int a1, int a2, int a3, int[] a4, int a5) {
+        r.begin(1341); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramBufferParametersIuivNV(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(1342); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramBufferParametersfvNV(int a0, int a1, int a2, int a3, float[] a4, int a5) {
+        r.begin(1343); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramBufferParametersfvNV(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4) {
+        r.begin(1344); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramEnvParameter4dARB(int a0, int a1, double a2, double a3, double a4, double a5) {
+        r.begin(1345); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramEnvParameter4dvARB(int a0, int a1, double[] a2, int a3) {
+        r.begin(1346); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramEnvParameter4dvARB(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(1347); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramEnvParameter4fARB(int a0, int a1, float a2, float a3, float a4, float a5) {
+        r.begin(1348); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramEnvParameter4fvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(1349); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramEnvParameter4fvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1350); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramEnvParameterI4iNV(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1351); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramEnvParameterI4ivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(1352); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramEnvParameterI4ivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1353); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramEnvParameterI4uiNV(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1354); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramEnvParameterI4uivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(1355); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramEnvParameterI4uivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1356); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramEnvParameters4fvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1357); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramEnvParameters4fvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1358); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramEnvParametersI4ivNV(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1359); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramEnvParametersI4ivNV(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1360); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramEnvParametersI4uivNV(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1361); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramEnvParametersI4uivNV(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1362); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramLocalParameter4dARB(int a0, int a1, double a2, double a3, double a4, double a5) {
+        r.begin(1363); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramLocalParameter4dvARB(int a0, int a1, double[] a2, int a3) {
+        r.begin(1364); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramLocalParameter4dvARB(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(1365); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramLocalParameter4fARB(int a0, int a1, float a2, float a3, float a4, float a5) {
+        r.begin(1366); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramLocalParameter4fvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(1367); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramLocalParameter4fvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1368); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramLocalParameterI4iNV(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1369); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramLocalParameterI4ivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(1370); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramLocalParameterI4ivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1371); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramLocalParameterI4uiNV(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1372); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramLocalParameterI4uivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(1373); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramLocalParameterI4uivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1374); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramLocalParameters4fvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1375); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramLocalParameters4fvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1376); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramLocalParametersI4ivNV(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1377); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramLocalParametersI4ivNV(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1378); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramLocalParametersI4uivNV(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1379); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramLocalParametersI4uivNV(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1380); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramParameteriARB(int a0, int a1, int a2) {
+        r.begin(1381); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramStringARB(int a0, int a1, int a2, java.lang.String a3) {
+        r.begin(1382); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramSubroutineParametersuivNV(int a0, int a1, int[] a2, int a3) {
+        r.begin(1383); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramSubroutineParametersuivNV(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1384); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramUniform1uiEXT(int a0, int a1, int a2) {
+        r.begin(1385); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramUniform1uivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1386); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniform1uivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1387); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramUniform2uiEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1388); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramUniform2uivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1389); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniform2uivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1390); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramUniform3uiEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1391); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniform3uivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1392); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniform3uivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1393); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramUniform4uiEXT(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1394); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramUniform4uivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1395); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniform4uivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1396); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramUniformHandleui64NV(int a0, int a1, long a2) {
+        r.begin(1397); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramUniformHandleui64vNV(int a0, int a1, int a2, long[] a3, int a4) {
+        r.begin(1398); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniformHandleui64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3) {
+        r.begin(1399); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramUniformMatrix2x3fvEXT(int a0, int a1, int a2, boolean a3, float[] a4, int a5) {
+        r.begin(1400); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramUniformMatrix2x3fvEXT(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4) {
+        r.begin(1401); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniformMatrix2x4fvEXT(int a0, int a1, int a2, boolean a3, float[] a4, int a5) {
+        r.begin(1402); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramUniformMatrix2x4fvEXT(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4) {
+        r.begin(1403); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniformMatrix3x2fvEXT(int a0, int a1, int a2, boolean a3, float[] a4, int a5) {
+        r.begin(1404); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramUniformMatrix3x2fvEXT(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4) {
+        r.begin(1405); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniformMatrix3x4fvEXT(int a0, int a1, int a2, boolean a3, float[] a4, int a5) {
+        r.begin(1406); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramUniformMatrix3x4fvEXT(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4) {
+        r.begin(1407); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniformMatrix4x2fvEXT(int a0, int a1, int a2, boolean a3, float[] a4, int a5) {
+        r.begin(1408); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramUniformMatrix4x2fvEXT(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4) {
+        r.begin(1409); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniformMatrix4x3fvEXT(int a0, int a1, int a2, boolean a3, float[] a4, int a5) {
+        r.begin(1410); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glProgramUniformMatrix4x3fvEXT(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4) {
+        r.begin(1411); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniformui64NV(int a0, int a1, long a2) {
+        r.begin(1412); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glProgramUniformui64vNV(int a0, int a1, int a2, long[] a3, int a4) {
+        r.begin(1413); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glProgramUniformui64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3) {
+        r.begin(1414); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glProgramVertexLimitNV(int a0, int a1) {
+        r.begin(1415); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glProvokingVertexEXT(int a0) {
+        r.begin(1416); r.arg(a0); r.end();
+    }
+    public void glPushAttrib(int a0) {
+        r.begin(1417); r.arg(a0); r.end();
+    }
+    public void glPushClientAttrib(int a0) {
+        r.begin(1418); r.arg(a0); r.end();
+    }
+    public void glPushClientAttribDefaultEXT(int a0) {
+        r.begin(1419); r.arg(a0); r.end();
+    }
+    public void glPushDebugGroup(int a0, int a1, int a2, byte[] a3, int a4) {
+        r.begin(1420); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glPushDebugGroup(int a0, int a1, int a2, java.nio.ByteBuffer a3) {
+        r.begin(1421); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glPushMatrix() {
+        r.begin(1422); r.end();
+    }
+    public void glPushName(int a0) {
+        r.begin(1423); r.arg(a0); r.end();
+    }
+    public int glQueryMatrixxOES(int[] a0, int a1, int[] a2, int a3) {
+        r.begin(1424); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); return r.endInt();
+    }
+    public int glQueryMatrixxOES(java.nio.IntBuffer a0, java.nio.IntBuffer a1) {
+        r.begin(1425); r.arg(a0); r.arg(a1); return r.endInt();
+    }
+    public void glRasterPos2d(double a0, double a1) {
+        r.begin(1426); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos2dv(double[] a0, int a1) {
+        r.begin(1427); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos2dv(java.nio.DoubleBuffer a0) {
+        r.begin(1428); r.arg(a0); r.end();
+    }
+    public void glRasterPos2f(float a0, float a1) {
+        r.begin(1429); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos2fv(float[] a0, int a1) {
+        r.begin(1430); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos2fv(java.nio.FloatBuffer a0) {
+        r.begin(1431); r.arg(a0); r.end();
+    }
+    public void glRasterPos2i(int a0, int a1) {
+        r.begin(1432); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos2iv(int[] a0, int a1) {
+        r.begin(1433); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos2iv(java.nio.IntBuffer a0) {
+        r.begin(1434); r.arg(a0); r.end();
+    }
+    public void glRasterPos2s(short a0, short a1) {
+        r.begin(1435); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos2sv(short[] a0, int a1) {
+        r.begin(1436); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos2sv(java.nio.ShortBuffer a0) {
+        r.begin(1437); r.arg(a0); r.end();
+    }
+    public void glRasterPos3d(double a0, double a1, double a2) {
+        r.begin(1438); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glRasterPos3dv(double[] a0, int a1) {
+        r.begin(1439); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos3dv(java.nio.DoubleBuffer a0) {
+        r.begin(1440); r.arg(a0); r.end();
+    }
+    public void glRasterPos3f(float a0, float a1, float a2) {
+        r.begin(1441); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glRasterPos3fv(float[] a0, int a1) {
+        r.begin(1442); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos3fv(java.nio.FloatBuffer a0) {
+        r.begin(1443); r.arg(a0); r.end();
+    }
+    public void glRasterPos3i(int a0, int a1, int a2) {
+        r.begin(1444); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glRasterPos3iv(int[] a0, int a1) {
+        r.begin(1445); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos3iv(java.nio.IntBuffer a0) {
+        r.begin(1446); r.arg(a0); r.end();
+    }
+    public void glRasterPos3s(short a0, short a1, short a2) {
+        r.begin(1447); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glRasterPos3sv(short[] a0, int a1) {
+        r.begin(1448); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos3sv(java.nio.ShortBuffer a0) {
+        r.begin(1449); r.arg(a0); r.end();
+    }
+    public void glRasterPos4d(double a0, double a1, double a2, double a3) {
+        r.begin(1450); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRasterPos4dv(double[] a0, int a1) {
+        r.begin(1451); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos4dv(java.nio.DoubleBuffer a0) {
+        r.begin(1452); r.arg(a0); r.end();
+    }
+    public void glRasterPos4f(float a0, float a1, float a2, float a3) {
+        r.begin(1453); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRasterPos4fv(float[] a0, int a1) {
+        r.begin(1454); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos4fv(java.nio.FloatBuffer a0) {
+        r.begin(1455); r.arg(a0); r.end();
+    }
+    public void glRasterPos4i(int a0, int a1, int a2, int a3) {
+        r.begin(1456); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRasterPos4iv(int[] a0, int a1) {
+        r.begin(1457); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos4iv(java.nio.IntBuffer a0) {
+        r.begin(1458); r.arg(a0); r.end();
+    }
+    public void glRasterPos4s(short a0, short a1, short a2, short a3) {
+        r.begin(1459); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRasterPos4sv(short[] a0, int a1) {
+        r.begin(1460); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRasterPos4sv(java.nio.ShortBuffer a0) {
+        r.begin(1461); r.arg(a0); r.end();
+    }
+    public void glReadBuffer(int a0) {
+        r.begin(1462); r.arg(a0); r.end();
+    }
+    public void glReadPixels(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6) {
+        r.begin(1463); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glReadPixels(int a0, int a1, int a2, int a3, int a4, int a5, long a6) {
+        r.begin(1464); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glReadnPixels(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(1465); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glRectd(double a0, double a1, double a2, double a3) {
+        r.begin(1466); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRectdv(double[] a0, int a1, double[] a2, int a3) {
+        r.begin(1467); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRectdv(java.nio.DoubleBuffer a0, java.nio.DoubleBuffer a1) {
+        r.begin(1468); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRectf(float a0, float a1, float a2, float a3) {
+        r.begin(1469); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRectfv(float[] a0, int a1, float[] a2, int a3) {
+        r.begin(1470); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRectfv(java.nio.FloatBuffer a0, java.nio.FloatBuffer a1) {
+        r.begin(1471); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRecti(int a0, int a1, int a2, int a3) {
+        r.begin(1472); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRectiv(int[] a0, int a1, int[] a2, int a3) {
+        r.begin(1473); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRectiv(java.nio.IntBuffer a0, java.nio.IntBuffer a1) {
+        r.begin(1474); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glRects(short a0, short a1, short a2, short a3) {
+        r.begin(1475); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRectsv(short[] a0, int a1, short[] a2, int a3) {
+        r.begin(1476); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRectsv(java.nio.ShortBuffer a0, java.nio.ShortBuffer a1) {
+        r.begin(1477); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glReleaseShaderCompiler() {
+        r.begin(1478); r.end();
+    }
+    public int glRenderMode(int a0) {
+        r.begin(1479); r.arg(a0); return r.endInt();
+    }
+    public void glRenderbufferStorage(int a0, int a1, int a2, int a3) {
+        r.begin(1480); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRenderbufferStorageMultisample(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1481); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glRenderbufferStorageMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1482); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glResetHistogram(int a0) {
+        r.begin(1483); r.arg(a0); r.end();
+    }
+    public void glResetMinmax(int a0) {
+        r.begin(1484); r.arg(a0); r.end();
+    }
+    public void glResumeTransformFeedbackNV() {
+        r.begin(1485); r.end();
+    }
+    public void glRotated(double a0, double a1, double a2, double a3) {
+        r.begin(1486); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glRotatef(float a0, float a1, float a2, float a3) {
+        r.begin(1487); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glSampleCoverage(float a0, boolean a1) {
+        r.begin(1488); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSampleMaskIndexedNV(int a0, int a1) {
+        r.begin(1489); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glScaled(double a0, double a1, double a2) {
+        r.begin(1490); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glScalef(float a0, float a1, float a2) {
+        r.begin(1491); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glScissor(int a0, int a1, int a2, int a3) {
+        r.begin(1492); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glSecondaryColor3b(byte a0, byte a1, byte a2) {
+        r.begin(1493); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3bv(byte[] a0, int a1) {
+        r.begin(1494); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3bv(java.nio.ByteBuffer a0) {
+        r.begin(1495); r.arg(a0); r.end();
+    }
+    public void glSecondaryColor3d(double a0, double a1, double a2) {
+        r.begin(1496); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3dv(double[] a0, int a1) {
+        r.begin(1497); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3dv(java.nio.DoubleBuffer a0) {
+        r.begin(1498); r.arg(a0); r.end();
+    }
+    public void glSecondaryColor3f(float a0, float a1, float a2) {
+        r.begin(1499); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3fv(float[] a0, int a1) {
+        r.begin(1500); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3fv(java.nio.FloatBuffer a0) {
+        r.begin(1501); r.arg(a0); r.end();
+    }
+    public void glSecondaryColor3h(short a0, short a1, short a2) {
+        r.begin(1502); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3hv(short[] a0, int a1) {
+        r.begin(1503); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3hv(java.nio.ShortBuffer a0) {
+        r.begin(1504); r.arg(a0); r.end();
+    }
+    public void glSecondaryColor3i(int a0, int a1, int a2) {
+        r.begin(1505); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3iv(int[] a0, int a1) {
+        r.begin(1506); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3iv(java.nio.IntBuffer a0) {
+        r.begin(1507); r.arg(a0); r.end();
+    }
+    public void glSecondaryColor3s(short a0, short a1, short a2) {
+        r.begin(1508); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3sv(short[] a0, int a1) {
+        r.begin(1509); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3sv(java.nio.ShortBuffer a0) {
+        r.begin(1510); r.arg(a0); r.end();
+    }
+    public void glSecondaryColor3ub(byte a0, byte a1, byte a2) {
+        r.begin(1511); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3ubv(byte[] a0, int a1) {
+        r.begin(1512); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3ubv(java.nio.ByteBuffer a0) {
+        r.begin(1513); r.arg(a0); r.end();
+    }
+    public void glSecondaryColor3ui(int a0, int a1, int a2) {
+        r.begin(1514); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3uiv(int[] a0, int a1) {
+        r.begin(1515); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3uiv(java.nio.IntBuffer a0) {
+        r.begin(1516); r.arg(a0); r.end();
+    }
+    public void glSecondaryColor3us(short a0, short a1, short a2) {
+        r.begin(1517); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColor3usv(short[] a0, int a1) {
+        r.begin(1518); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSecondaryColor3usv(java.nio.ShortBuffer a0) {
+        r.begin(1519); r.arg(a0); r.end();
+    }
+    public void glSecondaryColorFormatNV(int a0, int a1, int a2) {
+        r.begin(1520); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSecondaryColorPointer(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(1521); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glSecondaryColorPointer(int a0, int a1, int a2, long a3) {
+        r.begin(1522); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glSelectBuffer(int a0, java.nio.IntBuffer a1) {
+        r.begin(1523); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSelectPerfMonitorCountersAMD(int a0, boolean a1, int a2, int a3, int[] a4, int a5) {
+        r.begin(1524); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glSelectPerfMonitorCountersAMD(int a0, boolean a1, int a2, int a3, java.nio.IntBuffer a4) {
+        r.begin(1525); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glSeparableFilter2D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6, java.nio.Buffer a7) {
+        r.begin(1526); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glSeparableFilter2D(int a0, int a1, int a2, int a3, int a4, int a5, long a6, long a7) {
+        r.begin(1527); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glSetFenceAPPLE(int a0) {
+        r.begin(1528); r.arg(a0); r.end();
+    }
+    public void glSetFenceNV(int a0, int a1) {
+        r.begin(1529); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSetInvariantEXT(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(1530); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSetLocalConstantEXT(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(1531); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glSetMultisamplefvAMD(int a0, int a1, float[] a2, int a3) {
+        r.begin(1532); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glSetMultisamplefvAMD(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1533); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glShadeModel(int a0) {
+        r.begin(1534); r.arg(a0); r.end();
+    }
+    public void glShaderBinary(int a0, int[] a1, int a2, int a3, java.nio.Buffer a4, int a5) {
+        r.begin(1535); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glShaderBinary(int a0, java.nio.IntBuffer a1, int a2, java.nio.Buffer a3, int a4) {
+        r.begin(1536); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glShaderOp1EXT(int a0, int a1, int a2) {
+        r.begin(1537); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glShaderOp2EXT(int a0, int a1, int a2, int a3) {
+        r.begin(1538); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glShaderOp3EXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1539); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glShaderSource(int a0, int a1, java.lang.String[] a2, int[] a3, int a4) {
+        r.begin(1540); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glShaderSource(int a0, int a1, java.lang.String[] a2, java.nio.IntBuffer a3) {
+        r.begin(1541); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glShaderSourceARB(int a0, int a1, java.lang.String[] a2, int[] a3, int a4) {
+        r.begin(1542); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glShaderSourceARB(int a0, int a1, java.lang.String[] a2, java.nio.IntBuffer a3) {
+        r.begin(1543); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glStencilClearTagEXT(int a0, int a1) {
+        r.begin(1544); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glStencilFillPathInstancedNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, int a6, float[] a7, int a8) {
+        r.begin(1545); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glStencilFillPathInstancedNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, int a6, java.nio.FloatBuffer a7) {
+        r.begin(1546); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glStencilFillPathNV(int a0, int a1, int a2) {
+        r.begin(1547); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glStencilFunc(int a0, int a1, int a2) {
+        r.begin(1548); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glStencilFuncSeparate(int a0, int a1, int a2, int a3) {
+        r.begin(1549); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glStencilMask(int a0) {
+        r.begin(1550); r.arg(a0); r.end();
+    }
+    public void glStencilMaskSeparate(int a0, int a1) {
+        r.begin(1551); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glStencilOp(int a0, int a1, int a2) {
+        r.begin(1552); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glStencilOpSeparate(int a0, int a1, int a2, int a3) {
+        r.begin(1553); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glStencilOpValueAMD(int a0, int a1) {
+        r.begin(1554); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glStencilStrokePathInstancedNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, int a6, float[] a7, int a8) {
+        r.begin(1555); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glStencilStrokePathInstancedNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, int a6, java.nio.FloatBuffer a7) {
+        r.begin(1556); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glStencilStrokePathNV(int a0, int a1, int a2) {
+        r.begin(1557); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glStringMarkerGREMEDY(int a0, java.nio.Buffer a1) {
+        r.begin(1558); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glSwizzleEXT(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1559); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glSyncTextureINTEL(int a0) {
+        r.begin(1560); r.arg(a0); r.end();
+    }
+    public void glTessellationFactorAMD(float a0) {
+        r.begin(1561); r.arg(a0); r.end();
+    }
+    public void glTessellationModeAMD(int a0) {
+        r.begin(1562); r.arg(a0); r.end();
+    }
+    public boolean glTestFenceAPPLE(int a0) {
+        r.begin(1563); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glTestFenceNV(int a0) {
+        r.begin(1564); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glTestObjectAPPLE(int a0, int a1) {
+        r.begin(1565); r.arg(a0); r.arg(a1); return r.endBoolean();
+    }
+    public void glTexBuffer(int a0, int a1, int a2) {
+        r.begin(1566); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexCoord1bOES(byte a0) {
+        r.begin(1567); r.arg(a0); r.end();
+    }
+    public void glTexCoord1bvOES(byte[] a0, int a1) {
+        r.begin(1568); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord1bvOES(java.nio.ByteBuffer a0) {
+        r.begin(1569); r.arg(a0); r.end();
+    }
+    public void glTexCoord1d(double a0) {
+        r.begin(1570); r.arg(a0); r.end();
+    }
+    public void glTexCoord1dv(double[] a0, int a1) {
+        r.begin(1571); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord1dv(java.nio.DoubleBuffer a0) {
+        r.begin(1572); r.arg(a0); r.end();
+    }
+    public void glTexCoord1f(float a0) {
+        r.begin(1573); r.arg(a0); r.end();
+    }
+    public void glTexCoord1fv(float[] a0, int a1) {
+        r.begin(1574); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord1fv(java.nio.FloatBuffer a0) {
+        r.begin(1575); r.arg(a0); r.end();
+    }
+    public void glTexCoord1h(short a0) {
+        r.begin(1576); r.arg(a0); r.end();
+    }
+    public void glTexCoord1hv(short[] a0, int a1) {
+        r.begin(1577); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord1hv(java.nio.ShortBuffer a0) {
+        r.begin(1578); r.arg(a0); r.end();
+    }
+    public void glTexCoord1i(int a0) {
+        r.begin(1579); r.arg(a0); r.end();
+    }
+    public void glTexCoord1iv(int[] a0, int a1) {
+        r.begin(1580); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord1iv(java.nio.IntBuffer a0) {
+        r.begin(1581); r.arg(a0); r.end();
+    }
+    public void glTexCoord1s(short a0) {
+        r.begin(1582); r.arg(a0); r.end();
+    }
+    public void glTexCoord1sv(short[] a0, int a1) {
+        r.begin(1583); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord1sv(java.nio.ShortBuffer a0) {
+        r.begin(1584); r.arg(a0); r.end();
+    }
+    public void glTexCoord2bOES(byte a0, byte a1) {
+        r.begin(1585); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2bvOES(byte[] a0, int a1) {
+        r.begin(1586); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2bvOES(java.nio.ByteBuffer a0) {
+        r.begin(1587); r.arg(a0); r.end();
+    }
+    public void glTexCoord2d(double a0, double a1) {
+        r.begin(1588); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2dv(double[] a0, int a1) {
+        r.begin(1589); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2dv(java.nio.DoubleBuffer a0) {
+        r.begin(1590); r.arg(a0); r.end();
+    }
+    public void glTexCoord2f(float a0, float a1) {
+        r.begin(1591); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2fv(float[] a0, int a1) {
+        r.begin(1592); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2fv(java.nio.FloatBuffer a0) {
+        r.begin(1593); r.arg(a0); r.end();
+    }
+    public void glTexCoord2h(short a0, short a1) {
+        r.begin(1594); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2hv(short[] a0, int a1) {
+        r.begin(1595); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2hv(java.nio.ShortBuffer a0) {
+        r.begin(1596); r.arg(a0); r.end();
+    }
+    public void glTexCoord2i(int a0, int a1) {
+        r.begin(1597); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2iv(int[] a0, int a1) {
+        r.begin(1598); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2iv(java.nio.IntBuffer a0) {
+        r.begin(1599); r.arg(a0); r.end();
+    }
+    public void glTexCoord2s(short a0, short a1) {
+        r.begin(1600); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2sv(short[] a0, int a1) {
+        r.begin(1601); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord2sv(java.nio.ShortBuffer a0) {
+        r.begin(1602); r.arg(a0); r.end();
+    }
+    public void glTexCoord3bOES(byte a0, byte a1, byte a2) {
+        r.begin(1603); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexCoord3bvOES(byte[] a0, int a1) {
+        r.begin(1604); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord3bvOES(java.nio.ByteBuffer a0) {
+        r.begin(1605); r.arg(a0); r.end();
+    }
+    public void glTexCoord3d(double a0, double a1, double a2) {
+        r.begin(1606); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexCoord3dv(double[] a0, int a1) {
+        r.begin(1607); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord3dv(java.nio.DoubleBuffer a0) {
+        r.begin(1608); r.arg(a0); r.end();
+    }
+    public void glTexCoord3f(float a0, float a1, float a2) {
+        r.begin(1609); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexCoord3fv(float[] a0, int a1) {
+        r.begin(1610); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord3fv(java.nio.FloatBuffer a0) {
+        r.begin(1611); r.arg(a0); r.end();
+    }
+    public void glTexCoord3h(short a0, short a1, short a2) {
+        r.begin(1612); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexCoord3hv(short[] a0, int a1) {
+        r.begin(1613); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord3hv(java.nio.ShortBuffer a0) {
+        r.begin(1614); r.arg(a0); r.end();
+    }
+    public void glTexCoord3i(int a0, int a1, int a2) {
+        r.begin(1615); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexCoord3iv(int[] a0, int a1) {
+        r.begin(1616); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord3iv(java.nio.IntBuffer a0) {
+        r.begin(1617); r.arg(a0); r.end();
+    }
+    public void glTexCoord3s(short a0, short a1, short a2) {
+        r.begin(1618); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexCoord3sv(short[] a0, int a1) {
+        r.begin(1619); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord3sv(java.nio.ShortBuffer a0) {
+        r.begin(1620); r.arg(a0); r.end();
+    }
+    public void glTexCoord4bOES(byte a0, byte a1, byte a2, byte a3) {
+        r.begin(1621); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexCoord4bvOES(byte[] a0, int a1) {
+        r.begin(1622); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord4bvOES(java.nio.ByteBuffer a0) {
+        r.begin(1623); r.arg(a0); r.end();
+    }
+    public void glTexCoord4d(double a0, double a1, double a2, double a3) {
+        r.begin(1624); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexCoord4dv(double[] a0, int a1) {
+        r.begin(1625); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord4dv(java.nio.DoubleBuffer a0) {
+        r.begin(1626); r.arg(a0); r.end();
+    }
+    public void glTexCoord4f(float a0, float a1, float a2, float a3) {
+        r.begin(1627); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexCoord4fv(float[] a0, int a1) {
+        r.begin(1628); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord4fv(java.nio.FloatBuffer a0) {
+        r.begin(1629); r.arg(a0); r.end();
+    }
+    public void glTexCoord4h(short a0, short a1, short a2, short a3) {
+        r.begin(1630); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexCoord4hv(short[] a0, int a1) {
+        r.begin(1631); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord4hv(java.nio.ShortBuffer a0) {
+        r.begin(1632); r.arg(a0); r.end();
+    }
+    public void glTexCoord4i(int a0, int a1, int a2, int a3) {
+        r.begin(1633); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexCoord4iv(int[] a0, int a1) {
+        r.begin(1634); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord4iv(java.nio.IntBuffer a0) {
+        r.begin(1635); r.arg(a0); r.end();
+    }
+    public void glTexCoord4s(short a0, short a1, short a2, short a3) {
+        r.begin(1636); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexCoord4sv(short[] a0, int a1) {
+        r.begin(1637); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexCoord4sv(java.nio.ShortBuffer a0) {
+        r.begin(1638); r.arg(a0); r.end();
+    }
+    public void glTexCoordFormatNV(int a0, int a1, int a2) {
+        r.begin(1639); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexCoordPointer(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(1640); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexCoordPointer(int a0, int a1, int a2, long a3) {
+        r.begin(1641); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexCoordPointer(javax.media.opengl.GLArrayData a0) {
+        r.begin(1642); r.arg(a0); r.end();
+    }
+    public void glTexEnvf(int a0, int a1, float a2) {
+        r.begin(1643); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexEnvfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1644); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexEnvfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1645); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexEnvi(int a0, int a1, int a2) {
+        r.begin(1646); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexEnviv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1647); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexEnviv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1648); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexGend(int a0, int a1, double a2) {
+        r.begin(1649); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexGendv(int a0, int a1, double[] a2, int a3) {
+        r.begin(1650); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexGendv(int a0, int a1, java.nio.DoubleBuffer a2) {
+        r.begin(1651); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexGenf(int a0, int a1, float a2) {
+        r.begin(1652); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexGenfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1653); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexGenfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1654); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexGeni(int a0, int a1, int a2) {
+        r.begin(1655); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexGeniv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1656); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexGeniv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1657); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(1658); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7) {
+        r.begin(1659); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(1660); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8) {
+        r.begin(1661); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glTexImage2DMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5, boolean a6) {
+        r.begin(1662); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glTexImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(1663); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glTexImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, long a9) {
+        r.begin(1664); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glTexImage3DMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7) {
+        r.begin(1665); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glTexParameterIiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1666); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexParameterIiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1667); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexParameterIuiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1668); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexParameterIuiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1669); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexParameterf(int a0, int a1, float a2) {
+        r.begin(1670); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexParameterfv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1671); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexParameterfv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1672); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexParameteri(int a0, int a1, int a2) {
+        r.begin(1673); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexParameteriv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1674); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexParameteriv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1675); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTexRenderbufferNV(int a0, int a1) {
+        r.begin(1676); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTexStorage1D(int a0, int a1, int a2, int a3) {
+        r.begin(1677); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTexStorage2D(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1678); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glTexStorage3D(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1679); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glTexStorageSparseAMD(int a0, int a1, int a2, int a3, int a4, int a5, int a6) {
+        r.begin(1680); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6) {
+        r.begin(1681); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5, long a6) {
+        r.begin(1682); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(1683); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8) {
+        r.begin(1684); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, java.nio.Buffer a10) {
+        r.begin(1685); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, long a10) {
+        r.begin(1686); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glTextureBarrierNV() {
+        r.begin(1687); r.end();
+    }
+    public void glTextureBufferEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1688); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTextureBufferRangeEXT(int a0, int a1, int a2, int a3, long a4, long a5) {
+        r.begin(1689); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glTextureImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8) {
+        r.begin(1690); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glTextureImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(1691); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glTextureImage2DMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7) {
+        r.begin(1692); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glTextureImage2DMultisampleNV(int a0, int a1, int a2, int a3, int a4, int a5, boolean a6) {
+        r.begin(1693); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glTextureImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, java.nio.Buffer a10) {
+        r.begin(1694); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.end();
+    }
+    public void glTextureImage3DMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, boolean a8) {
+        r.begin(1695); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.end();
+    }
+    public void glTextureImage3DMultisampleNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7) {
+        r.begin(1696); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glTextureLightEXT(int a0) {
+        r.begin(1697); r.arg(a0); r.end();
+    }
+    public void glTextureMaterialEXT(int a0, int a1) {
+        r.begin(1698); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glTextureNormalEXT(int a0) {
+        r.begin(1699); r.arg(a0); r.end();
+    }
+    public void glTextureParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1700); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glTextureParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1701); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTextureParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1702); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glTextureParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1703); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTextureParameterfEXT(int a0, int a1, int a2, float a3) {
+        r.begin(1704); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTextureParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1705); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glTextureParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1706); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTextureParameteriEXT(int a0, int a1, int a2, int a3) {
+        r.begin(1707); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTextureParameterivEXT(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1708); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glTextureParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1709); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTextureRangeAPPLE(int a0, int a1, java.nio.Buffer a2) {
+        r.begin(1710); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTextureRenderbufferEXT(int a0, int a1, int a2) {
+        r.begin(1711); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTextureStorage1D(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1712); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glTextureStorage2D(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(1713); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glTextureStorage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6) {
+        r.begin(1714); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glTextureStorageSparseAMD(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7) {
+        r.begin(1715); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glTextureSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7) {
+        r.begin(1716); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glTextureSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9) {
+        r.begin(1717); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.end();
+    }
+    public void glTextureSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, java.nio.Buffer a11) {
+        r.begin(1718); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.arg(a8); r.arg(a9); r.arg(a10); r.arg(a11); r.end();
+    }
+    public void glTransformFeedbackVaryings(int a0, int a1, java.lang.String[] a2, int a3) {
+        r.begin(1719); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTransformPathNV(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(1720); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glTransformPathNV(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(1721); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glTranslated(double a0, double a1, double a2) {
+        r.begin(1722); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glTranslatef(float a0, float a1, float a2) {
+        r.begin(1723); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform(javax.media.opengl.GLUniformData a0) {
+        r.begin(1724); r.arg(a0); r.end();
+    }
+    public void glUniform1f(int a0, float a1) {
+        r.begin(1725); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glUniform1fARB(int a0, float a1) {
+        r.begin(1726); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glUniform1fv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1727); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform1fv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1728); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform1fvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(1729); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform1fvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1730); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform1i(int a0, int a1) {
+        r.begin(1731); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glUniform1iARB(int a0, int a1) {
+        r.begin(1732); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glUniform1iv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1733); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform1iv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1734); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform1ivARB(int a0, int a1, int[] a2, int a3) {
+        r.begin(1735); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform1ivARB(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1736); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform1ui(int a0, int a1) {
+        r.begin(1737); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glUniform1uiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1738); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform1uiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1739); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2f(int a0, float a1, float a2) {
+        r.begin(1740); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2fARB(int a0, float a1, float a2) {
+        r.begin(1741); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2fv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1742); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform2fv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1743); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2fvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(1744); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform2fvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1745); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2i(int a0, int a1, int a2) {
+        r.begin(1746); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2iARB(int a0, int a1, int a2) {
+        r.begin(1747); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2iv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1748); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform2iv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1749); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2ivARB(int a0, int a1, int[] a2, int a3) {
+        r.begin(1750); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform2ivARB(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1751); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2ui(int a0, int a1, int a2) {
+        r.begin(1752); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform2uiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1753); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform2uiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1754); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform3f(int a0, float a1, float a2, float a3) {
+        r.begin(1755); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3fARB(int a0, float a1, float a2, float a3) {
+        r.begin(1756); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3fv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1757); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3fv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1758); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform3fvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(1759); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3fvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1760); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform3i(int a0, int a1, int a2, int a3) {
+        r.begin(1761); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3iARB(int a0, int a1, int a2, int a3) {
+        r.begin(1762); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3iv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1763); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3iv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1764); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform3ivARB(int a0, int a1, int[] a2, int a3) {
+        r.begin(1765); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3ivARB(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1766); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform3ui(int a0, int a1, int a2, int a3) {
+        r.begin(1767); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3uiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1768); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform3uiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1769); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform4f(int a0, float a1, float a2, float a3, float a4) {
+        r.begin(1770); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniform4fARB(int a0, float a1, float a2, float a3, float a4) {
+        r.begin(1771); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniform4fv(int a0, int a1, float[] a2, int a3) {
+        r.begin(1772); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform4fv(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1773); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform4fvARB(int a0, int a1, float[] a2, int a3) {
+        r.begin(1774); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform4fvARB(int a0, int a1, java.nio.FloatBuffer a2) {
+        r.begin(1775); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform4i(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1776); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniform4iARB(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1777); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniform4iv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1778); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform4iv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1779); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform4ivARB(int a0, int a1, int[] a2, int a3) {
+        r.begin(1780); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform4ivARB(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1781); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniform4ui(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1782); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniform4uiv(int a0, int a1, int[] a2, int a3) {
+        r.begin(1783); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniform4uiv(int a0, int a1, java.nio.IntBuffer a2) {
+        r.begin(1784); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniformBlockBinding(int a0, int a1, int a2) {
+        r.begin(1785); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniformBufferEXT(int a0, int a1, int a2) {
+        r.begin(1786); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniformHandleui64NV(int a0, long a1) {
+        r.begin(1787); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glUniformHandleui64vNV(int a0, int a1, long[] a2, int a3) {
+        r.begin(1788); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformHandleui64vNV(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(1789); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUniformMatrix2fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1790); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix2fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1791); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix2fvARB(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1792); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix2fvARB(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1793); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix2x3fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1794); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix2x3fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1795); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix2x4fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1796); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix2x4fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1797); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix3fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1798); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix3fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1799); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix3fvARB(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1800); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix3fvARB(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1801); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix3x2fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1802); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix3x2fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1803); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix3x4fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1804); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix3x4fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1805); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix4fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1806); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix4fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1807); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix4fvARB(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1808); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix4fvARB(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1809); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix4x2fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1810); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix4x2fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1811); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformMatrix4x3fv(int a0, int a1, boolean a2, float[] a3, int a4) {
+        r.begin(1812); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glUniformMatrix4x3fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3) {
+        r.begin(1813); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformui64NV(int a0, long a1) {
+        r.begin(1814); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glUniformui64vNV(int a0, int a1, long[] a2, int a3) {
+        r.begin(1815); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glUniformui64vNV(int a0, int a1, java.nio.LongBuffer a2) {
+        r.begin(1816); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glUnlockArraysEXT() {
+        r.begin(1817); r.end();
+    }
+    public boolean glUnmapBuffer(int a0) {
+        r.begin(1818); r.arg(a0); return r.endBoolean();
+    }
+    public boolean glUnmapNamedBufferEXT(int a0) {
+        r.begin(1819); r.arg(a0); return r.endBoolean();
+    }
+    public void glUnmapTexture2DINTEL(int a0, int a1) {
+        r.begin(1820); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glUseProgram(int a0) {
+        r.begin(1821); r.arg(a0); r.end();
+    }
+    public void glUseProgramObjectARB(int a0) {
+        r.begin(1822); r.arg(a0); r.end();
+    }
+    public void glVDPAUFiniNV() {
+        r.begin(1823); r.end();
+    }
+    public void glVDPAUGetSurfaceivNV(long a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6) {
+        r.begin(1824); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glVDPAUGetSurfaceivNV(long a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4) {
+        r.begin(1825); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVDPAUInitNV(java.nio.Buffer a0, java.nio.Buffer a1) {
+        r.begin(1826); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVDPAUIsSurfaceNV(long a0) {
+        r.begin(1827); r.arg(a0); r.end();
+    }
+    public void glVDPAUMapSurfacesNV(int a0, com.jogamp.common.nio.PointerBuffer a1) {
+        r.begin(1828); r.arg(a0); r.arg(a1); r.end();
+    }
+    public long glVDPAURegisterOutputSurfaceNV(java.nio.Buffer a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1829); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end(); return 0;
+    }
+    public long glVDPAURegisterOutputSurfaceNV(java.nio.Buffer a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1830); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end(); return 0;
+    }
+    public long glVDPAURegisterVideoSurfaceNV(java.nio.Buffer a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(1831); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end(); return 0;
+    }
+    public long glVDPAURegisterVideoSurfaceNV(java.nio.Buffer a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(1832); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end(); return 0;
+    }
+    public void glVDPAUSurfaceAccessNV(long a0, int a1) {
+        r.begin(1833); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVDPAUUnmapSurfacesNV(int a0, com.jogamp.common.nio.PointerBuffer a1) {
+        r.begin(1834); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVDPAUUnregisterSurfaceNV(long a0) {
+        r.begin(1835); r.arg(a0); r.end();
+    }
+    public void glValidateProgram(int a0) {
+        r.begin(1836); r.arg(a0); r.end();
+    }
+    public void glValidateProgramARB(int a0) {
+        r.begin(1837); r.arg(a0); r.end();
+    }
+    public void glVariantPointerEXT(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(1838); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVariantPointerEXT(int a0, int a1, int a2, long a3) {
+        r.begin(1839); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVariantbvEXT(int a0, byte[] a1, int a2) {
+        r.begin(1840); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVariantbvEXT(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1841); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVariantdvEXT(int a0, double[] a1, int a2) {
+        r.begin(1842); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVariantdvEXT(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1843); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVariantfvEXT(int a0, float[] a1, int a2) {
+        r.begin(1844); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVariantfvEXT(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1845); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVariantivEXT(int a0, int[] a1, int a2) {
+        r.begin(1846); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVariantivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(1847); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVariantsvEXT(int a0, short[] a1, int a2) {
+        r.begin(1848); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVariantsvEXT(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1849); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVariantubvEXT(int a0, byte[] a1, int a2) {
+        r.begin(1850); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVariantubvEXT(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1851); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVariantuivEXT(int a0, int[] a1, int a2) {
+        r.begin(1852); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVariantuivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(1853); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVariantusvEXT(int a0, short[] a1, int a2) {
+        r.begin(1854); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVariantusvEXT(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1855); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2bOES(byte a0) {
+        r.begin(1856); r.arg(a0); r.end();
+    }
+    public void glVertex2bvOES(byte[] a0, int a1) {
+        r.begin(1857); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2bvOES(java.nio.ByteBuffer a0) {
+        r.begin(1858); r.arg(a0); r.end();
+    }
+    public void glVertex2d(double a0, double a1) {
+        r.begin(1859); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2dv(double[] a0, int a1) {
+        r.begin(1860); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2dv(java.nio.DoubleBuffer a0) {
+        r.begin(1861); r.arg(a0); r.end();
+    }
+    public void glVertex2f(float a0, float a1) {
+        r.begin(1862); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2fv(float[] a0, int a1) {
+        r.begin(1863); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2fv(java.nio.FloatBuffer a0) {
+        r.begin(1864); r.arg(a0); r.end();
+    }
+    public void glVertex2h(short a0, short a1) {
+        r.begin(1865); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2hv(short[] a0, int a1) {
+        r.begin(1866); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2hv(java.nio.ShortBuffer a0) {
+        r.begin(1867); r.arg(a0); r.end();
+    }
+    public void glVertex2i(int a0, int a1) {
+        r.begin(1868); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2iv(int[] a0, int a1) {
+        r.begin(1869); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2iv(java.nio.IntBuffer a0) {
+        r.begin(1870); r.arg(a0); r.end();
+    }
+    public void glVertex2s(short a0, short a1) {
+        r.begin(1871); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2sv(short[] a0, int a1) {
+        r.begin(1872); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex2sv(java.nio.ShortBuffer a0) {
+        r.begin(1873); r.arg(a0); r.end();
+    }
+    public void glVertex3bOES(byte a0, byte a1) {
+        r.begin(1874); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex3bvOES(byte[] a0, int a1) {
+        r.begin(1875); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex3bvOES(java.nio.ByteBuffer a0) {
+        r.begin(1876); r.arg(a0); r.end();
+    }
+    public void glVertex3d(double a0, double a1, double a2) {
+        r.begin(1877); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertex3dv(double[] a0, int a1) {
+        r.begin(1878); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex3dv(java.nio.DoubleBuffer a0) {
+        r.begin(1879); r.arg(a0); r.end();
+    }
+    public void glVertex3f(float a0, float a1, float a2) {
+        r.begin(1880); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertex3fv(float[] a0, int a1) {
+        r.begin(1881); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex3fv(java.nio.FloatBuffer a0) {
+        r.begin(1882); r.arg(a0); r.end();
+    }
+    public void glVertex3h(short a0, short a1, short a2) {
+        r.begin(1883); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertex3hv(short[] a0, int a1) {
+        r.begin(1884); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex3hv(java.nio.ShortBuffer a0) {
+        r.begin(1885); r.arg(a0); r.end();
+    }
+    public void glVertex3i(int a0, int a1, int a2) {
+        r.begin(1886); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertex3iv(int[] a0, int a1) {
+        r.begin(1887); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex3iv(java.nio.IntBuffer a0) {
+        r.begin(1888); r.arg(a0); r.end();
+    }
+    public void glVertex3s(short a0, short a1, short a2) {
+        r.begin(1889); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertex3sv(short[] a0, int a1) {
+        r.begin(1890); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex3sv(java.nio.ShortBuffer a0) {
+        r.begin(1891); r.arg(a0); r.end();
+    }
+    public void glVertex4bOES(byte a0, byte a1, byte a2) {
+        r.begin(1892); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertex4bvOES(byte[] a0, int a1) {
+        r.begin(1893); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex4bvOES(java.nio.ByteBuffer a0) {
+        r.begin(1894); r.arg(a0); r.end();
+    }
+    public void glVertex4d(double a0, double a1, double a2, double a3) {
+        r.begin(1895); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertex4dv(double[] a0, int a1) {
+        r.begin(1896); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex4dv(java.nio.DoubleBuffer a0) {
+        r.begin(1897); r.arg(a0); r.end();
+    }
+    public void glVertex4f(float a0, float a1, float a2, float a3) {
+        r.begin(1898); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertex4fv(float[] a0, int a1) {
+        r.begin(1899); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex4fv(java.nio.FloatBuffer a0) {
+        r.begin(1900); r.arg(a0); r.end();
+    }
+    public void glVertex4h(short a0, short a1, short a2, short a3) {
+        r.begin(1901); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertex4hv(short[] a0, int a1) {
+        r.begin(1902); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex4hv(java.nio.ShortBuffer a0) {
+        r.begin(1903); r.arg(a0); r.end();
+    }
+    public void glVertex4i(int a0, int a1, int a2, int a3) {
+        r.begin(1904); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertex4iv(int[] a0, int a1) {
+        r.begin(1905); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex4iv(java.nio.IntBuffer a0) {
+        r.begin(1906); r.arg(a0); r.end();
+    }
+    public void glVertex4s(short a0, short a1, short a2, short a3) {
+        r.begin(1907); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertex4sv(short[] a0, int a1) {
+        r.begin(1908); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertex4sv(java.nio.ShortBuffer a0) {
+        r.begin(1909); r.arg(a0); r.end();
+    }
+    public void glVertexArrayBindVertexBufferEXT(int a0, int a1, int a2, long a3, int a4) {
+        r.begin(1910); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexArrayColorOffsetEXT(int a0, int a1, int a2, int a3, int a4, long a5) {
+        r.begin(1911); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexArrayEdgeFlagOffsetEXT(int a0, int a1, int a2, long a3) {
+        r.begin(1912); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexArrayFogCoordOffsetEXT(int a0, int a1, int a2, int a3, long a4) {
+        r.begin(1913); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexArrayIndexOffsetEXT(int a0, int a1, int a2, int a3, long a4) {
+        r.begin(1914); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexArrayMultiTexCoordOffsetEXT(int a0, int a1, int a2, int a3, int a4, int a5, long a6) {
+        r.begin(1915); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glVertexArrayNormalOffsetEXT(int a0, int a1, int a2, int a3, long a4) {
+        r.begin(1916); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexArrayParameteriAPPLE(int a0, int a1) {
+        r.begin(1917); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexArrayRangeAPPLE(int a0, java.nio.Buffer a1) {
+        r.begin(1918); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexArrayRangeNV(int a0, java.nio.Buffer a1) {
+        r.begin(1919); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexArraySecondaryColorOffsetEXT(int a0, int a1, int a2, int a3, int a4, long a5) {
+        r.begin(1920); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexArrayTexCoordOffsetEXT(int a0, int a1, int a2, int a3, int a4, long a5) {
+        r.begin(1921); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexArrayVertexAttribBindingEXT(int a0, int a1, int a2) {
+        r.begin(1922); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexArrayVertexAttribFormatEXT(int a0, int a1, int a2, int a3, boolean a4, int a5) {
+        r.begin(1923); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexArrayVertexAttribIFormatEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1924); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexArrayVertexAttribIOffsetEXT(int a0, int a1, int a2, int a3, int a4, int a5, long a6) {
+        r.begin(1925); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.end();
+    }
+    public void glVertexArrayVertexAttribLFormatEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(1926); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexArrayVertexAttribOffsetEXT(int a0, int a1, int a2, int a3, int a4, boolean a5, int a6, long a7) {
+        r.begin(1927); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.arg(a6); r.arg(a7); r.end();
+    }
+    public void glVertexArrayVertexBindingDivisorEXT(int a0, int a1, int a2) {
+        r.begin(1928); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexArrayVertexOffsetEXT(int a0, int a1, int a2, int a3, int a4, long a5) {
+        r.begin(1929); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexAttrib1d(int a0, double a1) {
+        r.begin(1930); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1dARB(int a0, double a1) {
+        r.begin(1931); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1dv(int a0, double[] a1, int a2) {
+        r.begin(1932); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib1dv(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1933); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1dvARB(int a0, double[] a1, int a2) {
+        r.begin(1934); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib1dvARB(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1935); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1f(int a0, float a1) {
+        r.begin(1936); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1fARB(int a0, float a1) {
+        r.begin(1937); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1fv(int a0, float[] a1, int a2) {
+        r.begin(1938); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib1fv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1939); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1fvARB(int a0, float[] a1, int a2) {
+        r.begin(1940); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib1fvARB(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1941); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1h(int a0, short a1) {
+        r.begin(1942); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1hv(int a0, short[] a1, int a2) {
+        r.begin(1943); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib1hv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1944); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1s(int a0, short a1) {
+        r.begin(1945); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1sARB(int a0, short a1) {
+        r.begin(1946); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1sv(int a0, short[] a1, int a2) {
+        r.begin(1947); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib1sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1948); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib1svARB(int a0, short[] a1, int a2) {
+        r.begin(1949); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib1svARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1950); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib2d(int a0, double a1, double a2) {
+        r.begin(1951); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2dARB(int a0, double a1, double a2) {
+        r.begin(1952); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2dv(int a0, double[] a1, int a2) {
+        r.begin(1953); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2dv(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1954); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib2dvARB(int a0, double[] a1, int a2) {
+        r.begin(1955); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2dvARB(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1956); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib2f(int a0, float a1, float a2) {
+        r.begin(1957); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2fARB(int a0, float a1, float a2) {
+        r.begin(1958); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2fv(int a0, float[] a1, int a2) {
+        r.begin(1959); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2fv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1960); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib2fvARB(int a0, float[] a1, int a2) {
+        r.begin(1961); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2fvARB(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1962); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib2h(int a0, short a1, short a2) {
+        r.begin(1963); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2hv(int a0, short[] a1, int a2) {
+        r.begin(1964); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2hv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1965); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib2s(int a0, short a1, short a2) {
+        r.begin(1966); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2sARB(int a0, short a1, short a2) {
+        r.begin(1967); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2sv(int a0, short[] a1, int a2) {
+        r.begin(1968); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1969); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib2svARB(int a0, short[] a1, int a2) {
+        r.begin(1970); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib2svARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1971); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib3d(int a0, double a1, double a2, double a3) {
+        r.begin(1972); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttrib3dARB(int a0, double a1, double a2, double a3) {
+        r.begin(1973); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttrib3dv(int a0, double[] a1, int a2) {
+        r.begin(1974); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib3dv(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1975); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib3dvARB(int a0, double[] a1, int a2) {
+        r.begin(1976); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib3dvARB(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(1977); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib3f(int a0, float a1, float a2, float a3) {
+        r.begin(1978); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttrib3fARB(int a0, float a1, float a2, float a3) {
+        r.begin(1979); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttrib3fv(int a0, float[] a1, int a2) {
+        r.begin(1980); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib3fv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1981); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib3fvARB(int a0, float[] a1, int a2) {
+        r.begin(1982); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib3fvARB(int a0, java.nio.FloatBuffer a1) {
+        r.begin(1983); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib3h(int a0, short a1, short a2, short a3) {
+        r.begin(1984); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttrib3hv(int a0, short[] a1, int a2) {
+        r.begin(1985); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib3hv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1986); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib3s(int a0, short a1, short a2, short a3) {
+        r.begin(1987); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttrib3sARB(int a0, short a1, short a2, short a3) {
+        r.begin(1988); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttrib3sv(int a0, short[] a1, int a2) {
+        r.begin(1989); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib3sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1990); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib3svARB(int a0, short[] a1, int a2) {
+        r.begin(1991); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib3svARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(1992); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4Nbv(int a0, byte[] a1, int a2) {
+        r.begin(1993); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4Nbv(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1994); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4NbvARB(int a0, byte[] a1, int a2) {
+        r.begin(1995); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4NbvARB(int a0, java.nio.ByteBuffer a1) {
+        r.begin(1996); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4Niv(int a0, int[] a1, int a2) {
+        r.begin(1997); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4Niv(int a0, java.nio.IntBuffer a1) {
+        r.begin(1998); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4NivARB(int a0, int[] a1, int a2) {
+        r.begin(1999); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4NivARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(2000); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4Nsv(int a0, short[] a1, int a2) {
+        r.begin(2001); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4Nsv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2002); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4NsvARB(int a0, short[] a1, int a2) {
+        r.begin(2003); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4NsvARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2004); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4Nub(int a0, byte a1, byte a2, byte a3, byte a4) {
+        r.begin(2005); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4NubARB(int a0, byte a1, byte a2, byte a3, byte a4) {
+        r.begin(2006); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4Nubv(int a0, byte[] a1, int a2) {
+        r.begin(2007); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4Nubv(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2008); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4NubvARB(int a0, byte[] a1, int a2) {
+        r.begin(2009); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4NubvARB(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2010); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4Nuiv(int a0, int[] a1, int a2) {
+        r.begin(2011); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4Nuiv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2012); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4NuivARB(int a0, int[] a1, int a2) {
+        r.begin(2013); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4NuivARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(2014); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4Nusv(int a0, short[] a1, int a2) {
+        r.begin(2015); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4Nusv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2016); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4NusvARB(int a0, short[] a1, int a2) {
+        r.begin(2017); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4NusvARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2018); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4bv(int a0, byte[] a1, int a2) {
+        r.begin(2019); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4bv(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2020); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4bvARB(int a0, byte[] a1, int a2) {
+        r.begin(2021); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4bvARB(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2022); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4d(int a0, double a1, double a2, double a3, double a4) {
+        r.begin(2023); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4dARB(int a0, double a1, double a2, double a3, double a4) {
+        r.begin(2024); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4dv(int a0, double[] a1, int a2) {
+        r.begin(2025); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4dv(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(2026); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4dvARB(int a0, double[] a1, int a2) {
+        r.begin(2027); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4dvARB(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(2028); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4f(int a0, float a1, float a2, float a3, float a4) {
+        r.begin(2029); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4fARB(int a0, float a1, float a2, float a3, float a4) {
+        r.begin(2030); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4fv(int a0, float[] a1, int a2) {
+        r.begin(2031); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4fv(int a0, java.nio.FloatBuffer a1) {
+        r.begin(2032); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4fvARB(int a0, float[] a1, int a2) {
+        r.begin(2033); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4fvARB(int a0, java.nio.FloatBuffer a1) {
+        r.begin(2034); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4h(int a0, short a1, short a2, short a3, short a4) {
+        r.begin(2035); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4hv(int a0, short[] a1, int a2) {
+        r.begin(2036); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4hv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2037); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4iv(int a0, int[] a1, int a2) {
+        r.begin(2038); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2039); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4ivARB(int a0, int[] a1, int a2) {
+        r.begin(2040); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4ivARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(2041); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4s(int a0, short a1, short a2, short a3, short a4) {
+        r.begin(2042); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4sARB(int a0, short a1, short a2, short a3, short a4) {
+        r.begin(2043); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttrib4sv(int a0, short[] a1, int a2) {
+        r.begin(2044); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2045); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4svARB(int a0, short[] a1, int a2) {
+        r.begin(2046); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4svARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2047); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4ubv(int a0, byte[] a1, int a2) {
+        r.begin(2048); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4ubv(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2049); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4ubvARB(int a0, byte[] a1, int a2) {
+        r.begin(2050); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4ubvARB(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2051); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4uiv(int a0, int[] a1, int a2) {
+        r.begin(2052); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4uiv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2053); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4uivARB(int a0, int[] a1, int a2) {
+        r.begin(2054); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4uivARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(2055); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4usv(int a0, short[] a1, int a2) {
+        r.begin(2056); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4usv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2057); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttrib4usvARB(int a0, short[] a1, int a2) {
+        r.begin(2058); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttrib4usvARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2059); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribFormatNV(int a0, int a1, int a2, boolean a3, int a4) {
+        r.begin(2060); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribI1i(int a0, int a1) {
+        r.begin(2061); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI1iEXT(int a0, int a1) {
+        r.begin(2062); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI1iv(int a0, int[] a1, int a2) {
+        r.begin(2063); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI1iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2064); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI1ivEXT(int a0, int[] a1, int a2) {
+        r.begin(2065); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI1ivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(2066); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI1ui(int a0, int a1) {
+        r.begin(2067); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI1uiEXT(int a0, int a1) {
+        r.begin(2068); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI1uiv(int a0, int[] a1, int a2) {
+        r.begin(2069); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI1uiv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2070); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI1uivEXT(int a0, int[] a1, int a2) {
+        r.begin(2071); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI1uivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(2072); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI2i(int a0, int a1, int a2) {
+        r.begin(2073); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI2iEXT(int a0, int a1, int a2) {
+        r.begin(2074); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI2iv(int a0, int[] a1, int a2) {
+        r.begin(2075); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI2iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2076); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI2ivEXT(int a0, int[] a1, int a2) {
+        r.begin(2077); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI2ivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(2078); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI2ui(int a0, int a1, int a2) {
+        r.begin(2079); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI2uiEXT(int a0, int a1, int a2) {
+        r.begin(2080); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI2uiv(int a0, int[] a1, int a2) {
+        r.begin(2081); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI2uiv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2082); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI2uivEXT(int a0, int[] a1, int a2) {
+        r.begin(2083); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI2uivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(2084); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI3i(int a0, int a1, int a2, int a3) {
+        r.begin(2085); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribI3iEXT(int a0, int a1, int a2, int a3) {
+        r.begin(2086); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribI3iv(int a0, int[] a1, int a2) {
+        r.begin(2087); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI3iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2088); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI3ivEXT(int a0, int[] a1, int a2) {
+        r.begin(2089); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI3ivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(2090); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI3ui(int a0, int a1, int a2, int a3) {
+        r.begin(2091); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribI3uiEXT(int a0, int a1, int a2, int a3) {
+        r.begin(2092); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribI3uiv(int a0, int[] a1, int a2) {
+        r.begin(2093); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI3uiv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2094); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI3uivEXT(int a0, int[] a1, int a2) {
+        r.begin(2095); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI3uivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(2096); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4bv(int a0, byte[] a1, int a2) {
+        r.begin(2097); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4bv(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2098); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4bvEXT(int a0, byte[] a1, int a2) {
+        r.begin(2099); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4bvEXT(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2100); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4i(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(2101); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribI4iEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(2102); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribI4iv(int a0, int[] a1, int a2) {
+        r.begin(2103); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4iv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2104); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4ivEXT(int a0, int[] a1, int a2) {
+        r.begin(2105); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4ivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(2106); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4sv(int a0, short[] a1, int a2) {
+        r.begin(2107); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4sv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2108); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4svEXT(int a0, short[] a1, int a2) {
+        r.begin(2109); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4svEXT(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2110); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4ubv(int a0, byte[] a1, int a2) {
+        r.begin(2111); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4ubv(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2112); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4ubvEXT(int a0, byte[] a1, int a2) {
+        r.begin(2113); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4ubvEXT(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2114); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4ui(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(2115); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribI4uiEXT(int a0, int a1, int a2, int a3, int a4) {
+        r.begin(2116); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribI4uiv(int a0, int[] a1, int a2) {
+        r.begin(2117); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4uiv(int a0, java.nio.IntBuffer a1) {
+        r.begin(2118); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4uivEXT(int a0, int[] a1, int a2) {
+        r.begin(2119); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4uivEXT(int a0, java.nio.IntBuffer a1) {
+        r.begin(2120); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4usv(int a0, short[] a1, int a2) {
+        r.begin(2121); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4usv(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2122); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribI4usvEXT(int a0, short[] a1, int a2) {
+        r.begin(2123); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribI4usvEXT(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2124); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribIFormatNV(int a0, int a1, int a2, int a3) {
+        r.begin(2125); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribIPointer(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(2126); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribIPointer(int a0, int a1, int a2, int a3, long a4) {
+        r.begin(2127); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribIPointerEXT(int a0, int a1, int a2, int a3, java.nio.Buffer a4) {
+        r.begin(2128); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribL1i64NV(int a0, long a1) {
+        r.begin(2129); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL1i64vNV(int a0, long[] a1, int a2) {
+        r.begin(2130); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL1i64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(2131); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL1ui64NV(int a0, long a1) {
+        r.begin(2132); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL1ui64vNV(int a0, long[] a1, int a2) {
+        r.begin(2133); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL1ui64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(2134); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL2i64NV(int a0, long a1, long a2) {
+        r.begin(2135); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL2i64vNV(int a0, long[] a1, int a2) {
+        r.begin(2136); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL2i64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(2137); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL2ui64NV(int a0, long a1, long a2) {
+        r.begin(2138); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL2ui64vNV(int a0, long[] a1, int a2) {
+        r.begin(2139); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL2ui64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(2140); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL3i64NV(int a0, long a1, long a2, long a3) {
+        r.begin(2141); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribL3i64vNV(int a0, long[] a1, int a2) {
+        r.begin(2142); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL3i64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(2143); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL3ui64NV(int a0, long a1, long a2, long a3) {
+        r.begin(2144); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribL3ui64vNV(int a0, long[] a1, int a2) {
+        r.begin(2145); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL3ui64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(2146); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL4i64NV(int a0, long a1, long a2, long a3, long a4) {
+        r.begin(2147); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribL4i64vNV(int a0, long[] a1, int a2) {
+        r.begin(2148); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL4i64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(2149); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribL4ui64NV(int a0, long a1, long a2, long a3, long a4) {
+        r.begin(2150); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVertexAttribL4ui64vNV(int a0, long[] a1, int a2) {
+        r.begin(2151); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribL4ui64vNV(int a0, java.nio.LongBuffer a1) {
+        r.begin(2152); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexAttribLFormatNV(int a0, int a1, int a2, int a3) {
+        r.begin(2153); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribParameteriAMD(int a0, int a1, int a2) {
+        r.begin(2154); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribPointer(int a0, int a1, int a2, boolean a3, int a4, java.nio.Buffer a5) {
+        r.begin(2155); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexAttribPointer(int a0, int a1, int a2, boolean a3, int a4, long a5) {
+        r.begin(2156); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexAttribPointer(javax.media.opengl.GLArrayData a0) {
+        r.begin(2157); r.arg(a0); r.end();
+    }
+    public void glVertexAttribPointerARB(int a0, int a1, int a2, boolean a3, int a4, java.nio.Buffer a5) {
+        r.begin(2158); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexAttribPointerARB(int a0, int a1, int a2, boolean a3, int a4, long a5) {
+        r.begin(2159); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glVertexAttribs1hv(int a0, int a1, short[] a2, int a3) {
+        r.begin(2160); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribs1hv(int a0, int a1, java.nio.ShortBuffer a2) {
+        r.begin(2161); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribs2hv(int a0, int a1, short[] a2, int a3) {
+        r.begin(2162); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribs2hv(int a0, int a1, java.nio.ShortBuffer a2) {
+        r.begin(2163); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribs3hv(int a0, int a1, short[] a2, int a3) {
+        r.begin(2164); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribs3hv(int a0, int a1, java.nio.ShortBuffer a2) {
+        r.begin(2165); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexAttribs4hv(int a0, int a1, short[] a2, int a3) {
+        r.begin(2166); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexAttribs4hv(int a0, int a1, java.nio.ShortBuffer a2) {
+        r.begin(2167); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexBlendARB(int a0) {
+        r.begin(2168); r.arg(a0); r.end();
+    }
+    public void glVertexFormatNV(int a0, int a1, int a2) {
+        r.begin(2169); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glVertexPointer(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(2170); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexPointer(int a0, int a1, int a2, long a3) {
+        r.begin(2171); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexPointer(javax.media.opengl.GLArrayData a0) {
+        r.begin(2172); r.arg(a0); r.end();
+    }
+    public void glVertexWeightPointerEXT(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(2173); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexWeightPointerEXT(int a0, int a1, int a2, long a3) {
+        r.begin(2174); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVertexWeightfEXT(float a0) {
+        r.begin(2175); r.arg(a0); r.end();
+    }
+    public void glVertexWeightfvEXT(float[] a0, int a1) {
+        r.begin(2176); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexWeightfvEXT(java.nio.FloatBuffer a0) {
+        r.begin(2177); r.arg(a0); r.end();
+    }
+    public void glVertexWeighth(short a0) {
+        r.begin(2178); r.arg(a0); r.end();
+    }
+    public void glVertexWeighthv(short[] a0, int a1) {
+        r.begin(2179); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glVertexWeighthv(java.nio.ShortBuffer a0) {
+        r.begin(2180); r.arg(a0); r.end();
+    }
+    public int glVideoCaptureNV(int a0, int[] a1, int a2, long[] a3, int a4) {
+        r.begin(2181); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); return r.endInt();
+    }
+    public int glVideoCaptureNV(int a0, java.nio.IntBuffer a1, java.nio.LongBuffer a2) {
+        r.begin(2182); r.arg(a0); r.arg(a1); r.arg(a2); return r.endInt();
+    }
+    public void glVideoCaptureStreamParameterdvNV(int a0, int a1, int a2, double[] a3, int a4) {
+        r.begin(2183); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVideoCaptureStreamParameterdvNV(int a0, int a1, int a2, java.nio.DoubleBuffer a3) {
+        r.begin(2184); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVideoCaptureStreamParameterfvNV(int a0, int a1, int a2, float[] a3, int a4) {
+        r.begin(2185); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVideoCaptureStreamParameterfvNV(int a0, int a1, int a2, java.nio.FloatBuffer a3) {
+        r.begin(2186); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glVideoCaptureStreamParameterivNV(int a0, int a1, int a2, int[] a3, int a4) {
+        r.begin(2187); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.end();
+    }
+    public void glVideoCaptureStreamParameterivNV(int a0, int a1, int a2, java.nio.IntBuffer a3) {
+        r.begin(2188); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glViewport(int a0, int a1, int a2, int a3) {
+        r.begin(2189); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glWeightPathsNV(int a0, int a1, int[] a2, int a3, float[] a4, int a5) {
+        r.begin(2190); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public void glWeightPathsNV(int a0, int a1, java.nio.IntBuffer a2, java.nio.FloatBuffer a3) {
+        r.begin(2191); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glWeightPointer(int a0, int a1, int a2, java.nio.Buffer a3) {
+        r.begin(2192); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.end();
+    }
+    public void glWeightbvARB(int a0, byte[] a1, int a2) {
+        r.begin(2193); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWeightbvARB(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2194); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWeightdvARB(int a0, double[] a1, int a2) {
+        r.begin(2195); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWeightdvARB(int a0, java.nio.DoubleBuffer a1) {
+        r.begin(2196); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWeightfvARB(int a0, float[] a1, int a2) {
+        r.begin(2197); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWeightfvARB(int a0, java.nio.FloatBuffer a1) {
+        r.begin(2198); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWeightivARB(int a0, int[] a1, int a2) {
+        r.begin(2199); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWeightivARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(2200); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWeightsvARB(int a0, short[] a1, int a2) {
+        r.begin(2201); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWeightsvARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2202); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWeightubvARB(int a0, byte[] a1, int a2) {
+        r.begin(2203); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWeightubvARB(int a0, java.nio.ByteBuffer a1) {
+        r.begin(2204); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWeightuivARB(int a0, int[] a1, int a2) {
+        r.begin(2205); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWeightuivARB(int a0, java.nio.IntBuffer a1) {
+        r.begin(2206); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWeightusvARB(int a0, short[] a1, int a2) {
+        r.begin(2207); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWeightusvARB(int a0, java.nio.ShortBuffer a1) {
+        r.begin(2208); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2d(double a0, double a1) {
+        r.begin(2209); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2dv(double[] a0, int a1) {
+        r.begin(2210); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2dv(java.nio.DoubleBuffer a0) {
+        r.begin(2211); r.arg(a0); r.end();
+    }
+    public void glWindowPos2f(float a0, float a1) {
+        r.begin(2212); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2fv(float[] a0, int a1) {
+        r.begin(2213); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2fv(java.nio.FloatBuffer a0) {
+        r.begin(2214); r.arg(a0); r.end();
+    }
+    public void glWindowPos2i(int a0, int a1) {
+        r.begin(2215); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2iv(int[] a0, int a1) {
+        r.begin(2216); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2iv(java.nio.IntBuffer a0) {
+        r.begin(2217); r.arg(a0); r.end();
+    }
+    public void glWindowPos2s(short a0, short a1) {
+        r.begin(2218); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2sv(short[] a0, int a1) {
+        r.begin(2219); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos2sv(java.nio.ShortBuffer a0) {
+        r.begin(2220); r.arg(a0); r.end();
+    }
+    public void glWindowPos3d(double a0, double a1, double a2) {
+        r.begin(2221); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWindowPos3dv(double[] a0, int a1) {
+        r.begin(2222); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos3dv(java.nio.DoubleBuffer a0) {
+        r.begin(2223); r.arg(a0); r.end();
+    }
+    public void glWindowPos3f(float a0, float a1, float a2) {
+        r.begin(2224); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWindowPos3fv(float[] a0, int a1) {
+        r.begin(2225); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos3fv(java.nio.FloatBuffer a0) {
+        r.begin(2226); r.arg(a0); r.end();
+    }
+    public void glWindowPos3i(int a0, int a1, int a2) {
+        r.begin(2227); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWindowPos3iv(int[] a0, int a1) {
+        r.begin(2228); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos3iv(java.nio.IntBuffer a0) {
+        r.begin(2229); r.arg(a0); r.end();
+    }
+    public void glWindowPos3s(short a0, short a1, short a2) {
+        r.begin(2230); r.arg(a0); r.arg(a1); r.arg(a2); r.end();
+    }
+    public void glWindowPos3sv(short[] a0, int a1) {
+        r.begin(2231); r.arg(a0); r.arg(a1); r.end();
+    }
+    public void glWindowPos3sv(java.nio.ShortBuffer a0) {
+        r.begin(2232); r.arg(a0); r.end();
+    }
+    public void glWriteMaskEXT(int a0, int a1, int a2, int a3, int a4, int a5) {
+        r.begin(2233); r.arg(a0); r.arg(a1); r.arg(a2); r.arg(a3); r.arg(a4); r.arg(a5); r.end();
+    }
+    public boolean hasBasicFBOSupport() {
+        r.begin(2234); return r.endBoolean();
+    }
+    public boolean hasFullFBOSupport() {
+        r.begin(2235); return r.endBoolean();
+    }
+    public boolean hasGLSL() {
+        r.begin(2236); return r.endBoolean();
+    }
+    public boolean isExtensionAvailable(java.lang.String a0) {
+        r.begin(2237); r.arg(a0); return r.endBoolean();
+    }
+    public boolean isFunctionAvailable(java.lang.String a0) {
+        r.begin(2238); r.arg(a0); return r.endBoolean();
+    }
+    public boolean isGL() {
+        r.begin(2239); return r.endBoolean();
+    }
+    public boolean isGL2() {
+        r.begin(2240); return r.endBoolean();
+    }
+    public boolean isGL2ES1() {
+        r.begin(2241); return r.endBoolean();
+    }
+    public boolean isGL2ES2() {
+        r.begin(2242); return r.endBoolean();
+    }
+    public boolean isGL2GL3() {
+        r.begin(2243); return r.endBoolean();
+    }
+    public boolean isGL3() {
+        r.begin(2244); return r.endBoolean();
+    }
+    public boolean isGL3ES3() {
+        r.begin(2245); return r.endBoolean();
+    }
+    public boolean isGL3bc() {
+        r.begin(2246); return r.endBoolean();
+    }
+    public boolean isGL3core() {
+        r.begin(2247); return r.endBoolean();
+    }
+    public boolean isGL4() {
+        r.begin(2248); return r.endBoolean();
+    }
+    public boolean isGL4ES3() {
+        r.begin(2249); return r.endBoolean();
+    }
+    public boolean isGL4bc() {
+        r.begin(2250); return r.endBoolean();
+    }
+    public boolean isGL4core() {
+        r.begin(2251); return r.endBoolean();
+    }
+    public boolean isGLES() {
+        r.begin(2252); return r.endBoolean();
+    }
+    public boolean isGLES1() {
+        r.begin(2253); return r.endBoolean();
+    }
+    public boolean isGLES2() {
+        r.begin(2254); return r.endBoolean();
+    }
+    public boolean isGLES2Compatible() {
+        r.begin(2255); return r.endBoolean();
+    }
+    public boolean isGLES3() {
+        r.begin(2256); return r.endBoolean();
+    }
+    public boolean isGLES3Compatible() {
+        r.begin(2257); return r.endBoolean();
+    }
+    public boolean isGLcore() {
+        r.begin(2258); return r.endBoolean();
+    }
+    public boolean isNPOTTextureAvailable() {
+        r.begin(2259); return r.endBoolean();
+    }
+    public boolean isTextureFormatBGRA8888Available() {
+        r.begin(2260); return r.endBoolean();
+    }
+    public void setSwapInterval(int a0) {
+        r.begin(2261); r.arg(a0); r.end();
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,200 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render.jogl;
+
+// Java base classes
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// JOGL clases
+import javax.media.opengl.GL2;
+
+// VitralSDK classes
+import vsdk.toolkit.common.RendererConfiguration;
+import vsdk.toolkit.common.linealAlgebra.Matrix4x4;
+import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.environment.Material;
+import vsdk.toolkit.environment.geometry.Box;
+import vsdk.toolkit.environment.geometry.Geometry;
+
+/**
+This class collects geometries to draw, each one with its material,
+transformation and renderer configuration, and draws them sorted so that
+items sharing render configuration and material are drawn together. State
+changes go through a <code>JoglStateCache</code>, when one is given, so a
+run of items with the same state sets it only once.
+
+Items keep references to the geometries and materials, which must not change
+until <code>draw</code> is called. Transformations and renderer
+configurations are copied. Memory is kept between frames, so a queue filled
+with the same number of items each frame does not allocate.
+*/
+public class JoglRenderQueue extends JoglRenderer
+{
+    private static final int INDEX_BITS = 20;
+    private static final int MATERIAL_BITS = 20;
+
+    private ArrayList<Geometry> geometries;
+    private ArrayList<Material> materials;
+    private ArrayList<RendererConfiguration> configurations;
+    private double transforms[];
+    private long keys[];
+    private int size;
+
+    // Materials seen since last clear, numbered by order of appearance
+    private ArrayList<Material> distinctMaterials;
+
+    public JoglRenderQueue()
+    {
+        geometries = new ArrayList<Geometry>();
+        materials = new ArrayList<Material>();
+        configurations = new ArrayList<RendererConfiguration>();
+        transforms = new double[16 * 64];
+        keys = new long[64];
+        distinctMaterials = new ArrayList<Material>();
+        size = 0;
+    }
+
+    public void clear()
+    {
+        int i;
+        for ( i = 0; i < size; i++ ) {
+            geometries.set(i, null);
+            materials.set(i, null);
+        }
+        distinctMaterials.clear();
+        size = 0;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+    Adds a geometry placed by a translation.
+    @param m material to activate before drawing, or null to keep the
+    current one
+    */
+    public void add(Geometry g, Material m, double x, double y, double z,
+                    RendererConfiguration q)
+    {
+        int base = reserve(g, m, q);
+        int i;
+        for ( i = 0; i < 16; i++ ) {
+            transforms[base + i] = (i % 5 == 0) ? 1 : 0;
+        }
+        transforms[base + 12] = x;
+        transforms[base + 13] = y;
+        transforms[base + 14] = z;
+    }
+
+    /**
+    Adds a geometry placed by a general transformation.
+    @param m material to activate before drawing, or null to keep the
+    current one
+    */
+    public void add(Geometry g, Material m, Matrix4x4 transform,
+                    RendererConfiguration q)
+    {
+        int base = reserve(g, m, q);
+        int row, column;
+        for ( column = 0; column < 4; column++ ) {
+            for ( row = 0; row < 4; row++ ) {
+                transforms[base + 4*column + row] = transform.M[row][column];
+            }
+        }
+    }
+
+    /**
+    Stores an item without its transformation.
+    @return position of the item transformation in <code>transforms</code>
+    */
+    private int reserve(Geometry g, Material m, RendererConfiguration q)
+    {
+        if ( size == keys.length ) {
+            keys = Arrays.copyOf(keys, size * 2);
+            transforms = Arrays.copyOf(transforms, size * 2 * 16);
+        }
+        if ( size == 1 << INDEX_BITS ) {
+            throw new IllegalStateException("Render queue is full");
+        }
+
+        if ( size == geometries.size() ) {
+            geometries.add(g);
+            materials.add(m);
+            configurations.add(q.clone());
+        }
+        else {
+            geometries.set(size, g);
+            materials.set(size, m);
+            configurations.get(size).clone(q);
+        }
+
+        int material = 0;
+        if ( m != null ) {
+            material = distinctMaterials.indexOf(m) + 1;
+            if ( material == 0 ) {
+                distinctMaterials.add(m);
+                material = distinctMaterials.size();
+            }
+        }
+        keys[size] = (configurationKey(q) << (MATERIAL_BITS + INDEX_BITS)) |
+                     ((long)material << INDEX_BITS) | size;
+        return 16 * size++;
+    }
+
+    private static long configurationKey(RendererConfiguration q)
+    {
+        long key = q.getShadingType();
+        key = key * 2 + (q.isSurfacesSet() ? 1 : 0);
+        key = key * 2 + (q.isWiresSet() ? 1 : 0);
+        key = key * 2 + (q.isBoundingVolumeSet() ? 1 : 0);
+        key = key * 2 + (q.isSelectionCornersSet() ? 1 : 0);
+        return key;
+    }
+
+    /**
+    Draws all the items added since last <code>clear</code>, sorted by
+    renderer configuration and material, and then in the order they were
+    added. The state changes are filtered by <code>state</code> when it is
+    not null.
+    */
+    public void draw(GL2 gl, Camera c, JoglStateCache state)
+    {
+        int i;
+
+        Arrays.sort(keys, 0, size);
+        for ( i = 0; i < size; i++ ) {
+            int item = (int)(keys[i] & ((1 << INDEX_BITS) - 1));
+            Geometry g = geometries.get(item);
+            Material m = materials.get(item);
+            RendererConfiguration q = configurations.get(item);
+
+            if ( m != null && state == null ) {
+                JoglMaterialRenderer.activate(gl, m);
+            }
+            else if ( m != null ) {
+                state.activateMaterial(gl, m);
+            }
+            gl.glPushMatrix();
+            gl.glMultMatrixd(transforms, 16 * item);
+            if ( g instanceof Box ) {
+                JoglBoxRenderer.draw(gl, (Box)g, c, q, state);
+            }
+            else {
+                JoglGeometryRenderer.draw(gl, g, c, q);
+                if ( state != null ) state.invalidate();
+            }
+            gl.glPopMatrix();
+        }
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,429 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render.jogl;
+
+// Java base classes
+import java.util.Arrays;
+
+// JOGL clases
+import javax.media.opengl.GL2;
+
+// VitralSDK classes
+import vsdk.toolkit.common.ColorRgb;
+import vsdk.toolkit.common.linealAlgebra.Vector3D;
+import vsdk.toolkit.environment.Light;
+import vsdk.toolkit.environment.Material;
+
+/**
+This class keeps a shadow copy of part of the OpenGL state (enabled
+capabilities, polygon mode, line width, shade model, blending function,
+color material mode, current material, light model and lights), so that state changes asking for the value already set
+are not sent to OpenGL. It also counts requested, issued and redundant
+changes, to measure how much state traffic a frame generates.
+
+The shadow copy only knows about changes made through this class. After
+calling code that changes OpenGL state directly, <code>invalidate</code>
+must be called so that the next changes are issued again. With filtering
+turned off, every change is issued but redundant ones are still counted,
+which allows to measure the cost of rendering code without the cache.
+
+Renderers taking a <code>JoglStateCache</code> accept a null one, meaning
+that their state changes are sent directly to OpenGL.
+*/
+public class JoglStateCache extends JoglRenderer
+{
+    private static final int UNKNOWN = -1;
+    private static final int CAP_ON = 1;
+    private static final int CAP_OFF = 0;
+
+    // Light model set by JoglLightRenderer
+    private static final float GLOBAL_AMBIENT[] = {0, 0, 0, 1};
+    private static final float GLOBAL_TWO_SIDE[] = {GL2.GL_TRUE};
+
+    private boolean filtering;
+
+    // Enabled capabilities, as parallel arrays of ids and states
+    private int capIds[];
+    private int capStates[];
+    private int capCount;
+
+    private int polygonModeFront;
+    private int polygonModeBack;
+    private float lineWidth;
+    private int shadeModel;
+    private int cullFaceMode;
+    private int blendSource;
+    private int blendDestination;
+    private int colorMaterialFace;
+    private int colorMaterialMode;
+
+    // Current material values
+    private boolean materialKnown;
+    private double materialValues[];
+    private boolean materialDoubleSided;
+    private boolean disablingTransparency;
+    private float ambient[];
+    private float diffuse[];
+    private float specular[];
+
+    // Light model and, per light, position, ambient, diffuse and specular
+    private boolean lightModelKnown;
+    private boolean lightKnown[];
+    private float lightValues[][];
+    private float newLightValues[];
+
+    private long requestedChanges;
+    private long issuedChanges;
+    private long redundantChanges;
+
+    public JoglStateCache()
+    {
+        filtering = true;
+        capIds = new int[16];
+        capStates = new int[16];
+        capCount = 0;
+        materialValues = new double[11];
+        ambient = new float[4];
+        diffuse = new float[4];
+        specular = new float[4];
+        lightKnown = new boolean[JoglLightRenderer.supportedLightsInOpenGL];
+        lightValues = new float[lightKnown.length][16];
+        newLightValues = new float[16];
+        disablingTransparency = false;
+        invalidate();
+        resetCounters();
+    }
+
+    /**
+    When false, every change is sent to OpenGL. Defaults to true.
+    */
+    public void setFiltering(boolean filtering)
+    {
+        this.filtering = filtering;
+    }
+
+    public boolean isFilteringSet()
+    {
+        return filtering;
+    }
+
+    /**
+    Forgets the shadow copy: the next change of each state is issued.
+    */
+    public void invalidate()
+    {
+        int i;
+
+        for ( i = 0; i < capCount; i++ ) {
+            capStates[i] = UNKNOWN;
+        }
+        polygonModeFront = UNKNOWN;
+        polygonModeBack = UNKNOWN;
+        lineWidth = Float.NaN;
+        shadeModel = UNKNOWN;
+        cullFaceMode = UNKNOWN;
+        blendSource = UNKNOWN;
+        blendDestination = UNKNOWN;
+        colorMaterialFace = UNKNOWN;
+        colorMaterialMode = UNKNOWN;
+        materialKnown = false;
+        lightModelKnown = false;
+        Arrays.fill(lightKnown, false);
+    }
+
+    public void resetCounters()
+    {
+        requestedChanges = 0;
+        issuedChanges = 0;
+        redundantChanges = 0;
+    }
+
+    public long getRequestedChanges()
+    {
+        return requestedChanges;
+    }
+
+    public long getIssuedChanges()
+    {
+        return issuedChanges;
+    }
+
+    /**
+    @return number of requested changes that asked for the value already
+    set, whether they were issued or not
+    */
+    public long getRedundantChanges()
+    {
+        return redundantChanges;
+    }
+
+    /**
+    Counts a requested change.
+    @return true if the change must be sent to OpenGL
+    */
+    private boolean change(boolean redundant)
+    {
+        requestedChanges++;
+        if ( redundant ) {
+            redundantChanges++;
+            if ( filtering ) {
+                return false;
+            }
+        }
+        issuedChanges++;
+        return true;
+    }
+
+    private int capIndex(int cap)
+    {
+        int i;
+
+        for ( i = 0; i < capCount; i++ ) {
+            if ( capIds[i] == cap ) {
+                return i;
+            }
+        }
+        if ( capCount == capIds.length ) {
+            int ids[] = new int[capCount * 2];
+            int states[] = new int[capCount * 2];
+            System.arraycopy(capIds, 0, ids, 0, capCount);
+            System.arraycopy(capStates, 0, states, 0, capCount);
+            capIds = ids;
+            capStates = states;
+        }
+        capIds[capCount] = cap;
+        capStates[capCount] = UNKNOWN;
+        return capCount++;
+    }
+
+    /**
+    Enabling or disabling <code>GL_COLOR_MATERIAL</code> makes the current
+    material unknown, as the color has replaced part of it.
+    */
+    public void enable(GL2 gl, int cap)
+    {
+        int i = capIndex(cap);
+        if ( change(capStates[i] == CAP_ON) ) {
+            gl.glEnable(cap);
+            capStates[i] = CAP_ON;
+            if ( cap == gl.GL_COLOR_MATERIAL ) {
+                materialKnown = false;
+            }
+        }
+    }
+
+    public void disable(GL2 gl, int cap)
+    {
+        int i = capIndex(cap);
+        if ( change(capStates[i] == CAP_OFF) ) {
+            gl.glDisable(cap);
+            capStates[i] = CAP_OFF;
+            if ( cap == gl.GL_COLOR_MATERIAL ) {
+                materialKnown = false;
+            }
+        }
+    }
+
+    public void polygonMode(GL2 gl, int face, int mode)
+    {
+        boolean front = face != gl.GL_BACK;
+        boolean back = face != gl.GL_FRONT;
+        boolean redundant = (!front || polygonModeFront == mode) &&
+                            (!back || polygonModeBack == mode);
+        if ( change(redundant) ) {
+            gl.glPolygonMode(face, mode);
+            if ( front ) polygonModeFront = mode;
+            if ( back ) polygonModeBack = mode;
+        }
+    }
+
+    public void lineWidth(GL2 gl, float width)
+    {
+        if ( change(lineWidth == width) ) {
+            gl.glLineWidth(width);
+            lineWidth = width;
+        }
+    }
+
+    public void shadeModel(GL2 gl, int model)
+    {
+        if ( change(shadeModel == model) ) {
+            gl.glShadeModel(model);
+            shadeModel = model;
+        }
+    }
+
+    public void cullFace(GL2 gl, int mode)
+    {
+        if ( change(cullFaceMode == mode) ) {
+            gl.glCullFace(mode);
+            cullFaceMode = mode;
+        }
+    }
+
+    public void blendFunc(GL2 gl, int source, int destination)
+    {
+        if ( change(blendSource == source &&
+                    blendDestination == destination) ) {
+            gl.glBlendFunc(source, destination);
+            blendSource = source;
+            blendDestination = destination;
+        }
+    }
+
+    public void colorMaterial(GL2 gl, int face, int mode)
+    {
+        if ( change(colorMaterialFace == face && colorMaterialMode == mode) ) {
+            gl.glColorMaterial(face, mode);
+            colorMaterialFace = face;
+            colorMaterialMode = mode;
+        }
+    }
+
+    /**
+    Same as <code>JoglMaterialRenderer.activate</code>, but the material
+    values are only sent when they differ from the ones of the last
+    activated material, and the blending and face culling changes go through
+    the cache.
+    */
+    public void activateMaterial(GL2 gl, Material m)
+    {
+        if ( m == null ) {
+            JoglMaterialRenderer.activate(gl, m);
+            return;
+        }
+
+        double opacity = m.getOpacity();
+        if ( opacity > 1.0 ) opacity = 1.0;
+        if ( opacity < 0.0 ) opacity = 0.0;
+        if ( opacity < 1.0 - Float.MIN_VALUE ) {
+            enable(gl, gl.GL_BLEND);
+            blendFunc(gl, gl.GL_SRC_ALPHA, gl.GL_ONE_MINUS_SRC_ALPHA);
+            disablingTransparency = true;
+        }
+        else if ( disablingTransparency ) {
+            disable(gl, gl.GL_BLEND);
+        }
+
+        if ( m.isDoubleSided() ) {
+            disable(gl, gl.GL_CULL_FACE);
+        }
+        else {
+            enable(gl, gl.GL_CULL_FACE);
+            cullFace(gl, gl.GL_BACK);
+        }
+
+        boolean redundant = materialKnown &&
+            materialDoubleSided == m.isDoubleSided() &&
+            sameColor(0, m.getAmbient()) &&
+            sameColor(3, m.getDiffuse()) &&
+            sameColor(6, m.getSpecular()) &&
+            materialValues[9] == m.getPhongExponent() &&
+            materialValues[10] == opacity;
+        if ( !change(redundant) ) {
+            return;
+        }
+
+        storeColor(0, m.getAmbient(), opacity, ambient);
+        storeColor(3, m.getDiffuse(), opacity, diffuse);
+        storeColor(6, m.getSpecular(), opacity, specular);
+        materialValues[9] = m.getPhongExponent();
+        materialValues[10] = opacity;
+        materialDoubleSided = m.isDoubleSided();
+        materialKnown = true;
+
+        gl.glMaterialfv(gl.GL_FRONT_AND_BACK, gl.GL_AMBIENT, ambient, 0);
+        gl.glMaterialfv(gl.GL_FRONT_AND_BACK, gl.GL_DIFFUSE, diffuse, 0);
+        gl.glMaterialfv(gl.GL_FRONT_AND_BACK, gl.GL_SPECULAR, specular, 0);
+        gl.glMaterialf(gl.GL_FRONT_AND_BACK, gl.GL_SHININESS,
+                       (float)m.getPhongExponent());
+    }
+
+    /**
+    Same as <code>JoglLightRenderer.activate</code>, but the light model and
+    the light values are only sent when they differ from the ones last sent,
+    and the enabling of lighting and of the light goes through the cache. As
+    there, the light position is taken in eye coordinates.
+    */
+    public void activateLight(GL2 gl, Light l)
+    {
+        int n = l.getId();
+
+        if ( n >= lightKnown.length || n < 0 ) {
+            return;
+        }
+
+        if ( change(lightModelKnown) ) {
+            gl.glLightModelfv(gl.GL_LIGHT_MODEL_AMBIENT, GLOBAL_AMBIENT, 0);
+            gl.glLightModelfv(gl.GL_LIGHT_MODEL_TWO_SIDE, GLOBAL_TWO_SIDE, 0);
+            gl.glLightModeli(gl.GL_LIGHT_MODEL_LOCAL_VIEWER, gl.GL_TRUE);
+            lightModelKnown = true;
+        }
+        enable(gl, gl.GL_LIGHTING);
+        enable(gl, gl.GL_LIGHT0 + n);
+
+        Vector3D p = l.getPosition();
+        newLightValues[0] = (float)p.x;
+        newLightValues[1] = (float)p.y;
+        newLightValues[2] = (float)p.z;
+        newLightValues[3] = 1;
+        storeLightColor(4, l.getAmbient());
+        storeLightColor(8, l.getDiffuse());
+        storeLightColor(12, l.getSpecular());
+        if ( !change(lightKnown[n] &&
+                     Arrays.equals(lightValues[n], newLightValues)) ) {
+            return;
+        }
+        System.arraycopy(newLightValues, 0, lightValues[n], 0, 16);
+        lightKnown[n] = true;
+
+        gl.glPushMatrix();
+        gl.glLoadIdentity();
+        gl.glLightfv(gl.GL_LIGHT0 + n, gl.GL_POSITION, lightValues[n], 0);
+        gl.glLightfv(gl.GL_LIGHT0 + n, gl.GL_AMBIENT, lightValues[n], 4);
+        gl.glLightfv(gl.GL_LIGHT0 + n, gl.GL_DIFFUSE, lightValues[n], 8);
+        gl.glLightfv(gl.GL_LIGHT0 + n, gl.GL_SPECULAR, lightValues[n], 12);
+        gl.glPopMatrix();
+    }
+
+    private void storeLightColor(int offset, ColorRgb c)
+    {
+        newLightValues[offset] = (float)c.r;
+        newLightValues[offset + 1] = (float)c.g;
+        newLightValues[offset + 2] = (float)c.b;
+        newLightValues[offset + 3] = 1;
+    }
+
+    private boolean sameColor(int offset, ColorRgb c)
+    {
+        return materialValues[offset] == c.r &&
+               materialValues[offset + 1] == c.g &&
+               materialValues[offset + 2] == c.b;
+    }
+
+    private void storeColor(int offset, ColorRgb c, double opacity,
+                            float out[])
+    {
+        materialValues[offset] = c.r;
+        materialValues[offset + 1] = c.g;
+        materialValues[offset + 2] = c.b;
+        out[0] = (float)c.r;
+        out[1] = (float)c.g;
+        out[2] = (float)c.b;
+        out[3] = (float)opacity;
+    }
+
+    public String toString()
+    {
+        return "JoglStateCache: " + requestedChanges + " changes requested, " +
+            issuedChanges + " issued, " + redundantChanges + " redundant";
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -2,6 +2,7 @@
 //=-------------------------------------------------------------------------=
 //= Module history:                                                         =
 //= - February 22 2006 - Oscar Chavarro: Original base version              =
+//= - October 18 2026: Binary cubes drawn from a culled and merged surface  =
 //===========================================================================
 
 package vsdk.toolkit.render.jogl;
@@ -11,13 +12,15 @@ import javax.media.opengl.GL2;
 
 // VitralSDK classes
 import vsdk.toolkit.environment.geometry.VoxelVolume;
-import vsdk.toolkit.environment.geometry.Box;
 import vsdk.toolkit.common.RendererConfiguration;
 import vsdk.toolkit.environment.Camera;
+import vsdk.toolkit.processing.VoxelMesher;
 
 public class JoglVoxelVolumeRenderer extends JoglRenderer
 {
-    private static Box geometryInstance = null;
+    private static VoxelMesher mesher = null;
+    private static byte voxels[] = new byte[0];
+    private static float corners[] = new float[12];
 
     private static int threshold = 127;
 
@@ -31,15 +34,16 @@ public class JoglVoxelVolumeRenderer extends JoglRenderer
         return threshold;
     }
 
+    /**
+    Draws the voxels over current threshold as cubes. Only the cube faces
+    not shared with another drawn voxel are generated, merged in larger
+    quads by a VoxelMesher.
+    */
     public static void drawBinaryCubes(GL2 gl, VoxelVolume v,
         Camera c, RendererConfiguration q)
     {
         int xSize, ySize, zSize, x, y, z;
         double dx, dy, dz;
-        RendererConfiguration qsub = q.clone();
-
-        qsub.setBoundingVolume(false);
-        qsub.setSelectionCorners(false);
 
         xSize = v.getXSize();
         ySize = v.getYSize();
@@ -48,27 +52,41 @@ public class JoglVoxelVolumeRenderer extends JoglRenderer
         dy = 2 / ((double)ySize);
         dz = 2 / ((double)zSize);
 
-        if ( geometryInstance == null ) {
-            geometryInstance = new Box(dx, dy, dz);
+        if ( mesher == null ) {
+            mesher = new VoxelMesher();
+        }
+        if ( voxels.length < xSize*ySize*zSize ) {
+            voxels = new byte[xSize*ySize*zSize];
         }
 
         //-----------------------------------------------------------------
-        gl.glPushMatrix();
         int voxelValue;
         for ( z = 0; z < zSize; z++ ) {
             for ( y = 0; y < ySize; y++ ) {
                 for ( x = 0; x < xSize; x++ ) {
                     voxelValue = v.getVoxel(x, y, z);
-                    if ( voxelValue >= threshold ) {
-                        gl.glPushMatrix();
-                        gl.glTranslated(dx/2+x*dx-1, dy/2+y*dy-1, dz/2+z*dz-1);
-                        JoglGeometryRenderer.draw(gl, geometryInstance, c, qsub);
-                        gl.glPopMatrix();
-                    }
+                    voxels[x + xSize*(y + ySize*z)] =
+                        (byte)((voxelValue >= threshold) ? 1 : 0);
                 }
             }
         }
-        gl.glPopMatrix();
+        int n = mesher.mesh(voxels, xSize, ySize, zSize);
+
+        double origin[] = {-1, -1, -1};
+        double pitch[] = {dx, dy, dz};
+
+        gl.glPushAttrib(gl.GL_POLYGON_BIT | gl.GL_LINE_BIT);
+        if ( q.isSurfacesSet() ) {
+            JoglGeometryRenderer.prepareSurfaceQuality(gl, q);
+            gl.glPolygonMode(gl.GL_FRONT_AND_BACK, gl.GL_FILL);
+            drawQuads(gl, n, origin, pitch);
+        }
+        if ( q.isWiresSet() ) {
+            gl.glLineWidth(1);
+            gl.glPolygonMode(gl.GL_FRONT_AND_BACK, gl.GL_LINE);
+            drawQuads(gl, n, origin, pitch);
+        }
+        gl.glPopAttrib();
 
         //-----------------------------------------------------------------
 
@@ -80,6 +98,25 @@ public class JoglVoxelVolumeRenderer extends JoglRenderer
         }
 
     }
+
+    private static void drawQuads(GL2 gl, int n, double origin[],
+        double pitch[])
+    {
+        int i, j, face;
+
+        gl.glBegin(gl.GL_QUADS);
+        for ( i = 0; i < n; i++ ) {
+            face = mesher.getFace(i);
+            mesher.getCorners(i, origin, pitch, pitch, corners, 0);
+            gl.glNormal3d(VoxelMesher.getNormal(face, 0),
+                          VoxelMesher.getNormal(face, 1),
+                          VoxelMesher.getNormal(face, 2));
+            for ( j = 0; j < 4; j++ ) {
+                gl.glVertex3f(corners[3*j], corners[3*j+1], corners[3*j+2]);
+            }
+        }
+        gl.glEnd();
+    }
 }
 
 //===========================================================================
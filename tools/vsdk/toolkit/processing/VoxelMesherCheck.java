@@ -0,0 +1,171 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.processing;
+
+/**
+This program checks the quads built by <code>VoxelMesher</code> on small
+grids, without OpenGL: the number of quads with each combination of face
+merging and interior faces, and the position and winding of the corners of
+a single voxel. It prints every failed check and exits with status 1 when
+there is one. The <code>check</code> Ant target runs it.
+*/
+public class VoxelMesherCheck
+{
+    private static int failures = 0;
+
+    public static void main(String args[])
+    {
+        checkCounts();
+        checkMaterials();
+        checkCorners();
+        if ( failures > 0 ) {
+            System.out.println(failures + " VoxelMesher checks failed");
+            System.exit(1);
+        }
+        System.out.println("VoxelMesher checks passed");
+    }
+
+    private static void check(boolean condition, String message)
+    {
+        if ( !condition ) {
+            System.out.println("FAILED: " + message);
+            failures++;
+        }
+    }
+
+    /**
+    @return quads built for a grid with given options
+    */
+    private static int count(VoxelMesher mesher, boolean grid[][][],
+                             boolean merge, boolean interior)
+    {
+        mesher.setMergeFaces(merge);
+        mesher.setInteriorFaces(interior);
+        return mesher.mesh(grid);
+    }
+
+    private static boolean[][][] solid(int xSize, int ySize, int zSize)
+    {
+        boolean grid[][][] = new boolean[xSize][ySize][zSize];
+        int x, y, z;
+
+        for ( x = 0; x < xSize; x++ ) {
+            for ( y = 0; y < ySize; y++ ) {
+                for ( z = 0; z < zSize; z++ ) {
+                    grid[x][y][z] = true;
+                }
+            }
+        }
+        return grid;
+    }
+
+    private static void checkCounts()
+    {
+        VoxelMesher mesher = new VoxelMesher();
+        boolean one[][][] = solid(1, 1, 1);
+        boolean bar[][][] = solid(2, 1, 1);
+        boolean cube[][][] = solid(3, 3, 3);
+        // Two voxels touching only along an edge
+        boolean edge[][][] = new boolean[2][2][1];
+
+        edge[0][0][0] = true;
+        edge[1][1][0] = true;
+
+        check(count(mesher, one, true, false) == 6, "voxel, merged");
+        check(count(mesher, one, false, true) == 6, "voxel, interior");
+        check(count(mesher, bar, true, false) == 6, "bar, merged");
+        check(count(mesher, bar, false, false) == 10, "bar, not merged");
+        check(count(mesher, bar, true, true) == 8, "bar, merged, interior");
+        check(count(mesher, bar, false, true) == 12, "bar, interior");
+        check(count(mesher, cube, true, false) == 6, "cube, merged");
+        check(count(mesher, cube, false, false) == 54, "cube, not merged");
+        check(count(mesher, cube, false, true) == 27*6, "cube, interior");
+        check(count(mesher, edge, true, false) == 12, "edge, merged");
+
+        mesher.setBoundaryFaces(false);
+        check(count(mesher, one, true, false) == 0, "voxel, no boundary");
+        check(count(mesher, bar, false, true) == 2, "bar, no boundary, interior");
+    }
+
+    /**
+    Faces of different materials are not merged, but still hide each other.
+    */
+    private static void checkMaterials()
+    {
+        VoxelMesher mesher = new VoxelMesher();
+        byte voxels[] = {1, 2};
+        int quads = mesher.mesh(voxels, 2, 1, 1);
+        int q;
+
+        check(quads == 10, "two materials, merged");
+        for ( q = 0; q < quads; q++ ) {
+            int x = mesher.getMin(q, 0);
+            check(mesher.getExtent(q, 0) == 1, "two materials, extent of " + q);
+            check(mesher.getMaterial(q) == x + 1,
+                  "two materials, material of " + q);
+            check(mesher.getFace(q) != (x == 0 ? VoxelMesher.POSITIVE_X :
+                                                 VoxelMesher.NEGATIVE_X),
+                  "two materials, hidden face " + q);
+        }
+    }
+
+    /**
+    On a voxel of a grid spaced apart, every quad lies on its face plane
+    and is counterclockwise seen from outside.
+    */
+    private static void checkCorners()
+    {
+        VoxelMesher mesher = new VoxelMesher();
+        boolean grid[][][] = new boolean[2][1][1];
+        double origin[] = {0.5, 0, -1};
+        double pitch[] = {2, 2, 2};
+        double size[] = {1, 1, 1};
+        float corners[] = new float[12];
+        boolean faces[] = new boolean[6];
+        int quads, q, axis, c;
+
+        grid[1][0][0] = true;
+        quads = mesher.mesh(grid);
+        check(quads == 6, "spaced voxel, quads");
+        for ( q = 0; q < quads; q++ ) {
+            int face = mesher.getFace(q);
+            faces[face] = true;
+            mesher.getCorners(q, origin, pitch, size, corners, 0);
+            for ( axis = 0; axis < 3; axis++ ) {
+                double low = origin[axis] + (axis == 0 ? pitch[0] : 0);
+                for ( c = 0; c < 4; c++ ) {
+                    double value = corners[3*c + axis];
+                    check(value == low || value == low + size[axis],
+                          "face " + face + ", corner " + c + " off the voxel");
+                    if ( VoxelMesher.getNormal(face, axis) != 0 ) {
+                        check(value == ((face % 2 == 1) ? low + size[axis] : low),
+                              "face " + face + ", corner " + c + " off its plane");
+                    }
+                }
+            }
+            // Normal of the corners, by the cross product of two edges
+            double ux = corners[3] - corners[0];
+            double uy = corners[4] - corners[1];
+            double uz = corners[5] - corners[2];
+            double vx = corners[6] - corners[0];
+            double vy = corners[7] - corners[1];
+            double vz = corners[8] - corners[2];
+            double n[] = {uy*vz - uz*vy, uz*vx - ux*vz, ux*vy - uy*vx};
+            for ( axis = 0; axis < 3; axis++ ) {
+                check(Math.signum(n[axis]) == VoxelMesher.getNormal(face, axis),
+                      "face " + face + " winding");
+            }
+        }
+        for ( q = 0; q < 6; q++ ) {
+            check(faces[q], "spaced voxel, face " + q + " missing");
+        }
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================
@@ -0,0 +1,223 @@
+//===========================================================================
+//=-------------------------------------------------------------------------=
+//= Module history:                                                         =
+//= - October 18 2026: Original base version                                =
+//===========================================================================
+
+package vsdk.toolkit.render.jogl;
+
+// Java base classes
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+// JOGL clases
+import javax.media.opengl.GL2;
+
+/**
+This program writes the source of <code>JoglRecordingGL2</code>, the GL2
+implementation used by <code>JoglCommandRecorder</code>, from the GL2
+interface of the JOGL version in the classpath. It is kept apart from the
+project sources because, after a JOGL upgrade, the recording GL2 no longer
+compiles until it is generated again.
+
+Usage: <code>JoglRecordingGL2Generator [output.java]</code>, writing to the
+standard output when no file is given. The <code>generate-recording-gl</code>
+Ant target runs it over the project sources.
+*/
+public class JoglRecordingGL2Generator
+{
+    private static final String LINE =
+        "//===========================================================================";
+
+    public static void main(String args[]) throws IOException
+    {
+        PrintWriter out;
+
+        if ( args.length > 0 ) {
+            out = new PrintWriter(new OutputStreamWriter(
+                new FileOutputStream(new File(args[0])), "UTF-8"));
+        }
+        else {
+            out = new PrintWriter(System.out);
+        }
+        generate(out);
+        out.close();
+        if ( out.checkError() ) {
+            throw new IOException("Error writing recording GL2");
+        }
+    }
+
+    /**
+    @return name and parameter types of a method, as
+    <code>name(type,type)</code> with <code>Class.getName</code> type names
+    */
+    private static String signature(Method m)
+    {
+        StringBuilder s = new StringBuilder(m.getName());
+        Class<?> types[] = m.getParameterTypes();
+        int i;
+
+        s.append('(');
+        for ( i = 0; i < types.length; i++ ) {
+            if ( i > 0 ) {
+                s.append(',');
+            }
+            s.append(types[i].getName());
+        }
+        s.append(')');
+        return s.toString();
+    }
+
+    /**
+    @return the methods of the GL2 interface, including inherited ones,
+    one per distinct signature, sorted by signature. When interfaces
+    declare the same signature with different return types, the most
+    specific one is kept.
+    */
+    private static ArrayList<Method> methods()
+    {
+        TreeMap<String, Method> bySignature = new TreeMap<String, Method>();
+
+        for ( Method m : GL2.class.getMethods() ) {
+            if ( Modifier.isStatic(m.getModifiers()) ) {
+                continue;
+            }
+            String key = signature(m);
+            Method old = bySignature.get(key);
+            if ( old == null ||
+                 old.getReturnType().isAssignableFrom(m.getReturnType()) ) {
+                bySignature.put(key, m);
+            }
+        }
+        ArrayList<Method> list = new ArrayList<Method>(bySignature.values());
+        return list;
+    }
+
+    /**
+    @return the value returned by a method that the recorder can not
+    answer: the recording GL itself when it has the right type (except for
+    the GL it would forward to, as there is none), a neutral value
+    otherwise
+    */
+    private static String neutralValue(Method m)
+    {
+        Class<?> type = m.getReturnType();
+
+        if ( type.isPrimitive() ) {
+            return "0";
+        }
+        if ( type == String.class ) {
+            return "\"\"";
+        }
+        if ( type.isAssignableFrom(GL2.class) &&
+             !m.getName().equals("getDownstreamGL") ) {
+            return "this";
+        }
+        return "null";
+    }
+
+    private static void generateMethod(PrintWriter out, Method m, int index)
+    {
+        Class<?> types[] = m.getParameterTypes();
+        Class<?> type = m.getReturnType();
+        StringBuilder s = new StringBuilder();
+        int i;
+
+        s.append("    public ").append(type.getCanonicalName()).append(' ');
+        s.append(m.getName()).append('(');
+        for ( i = 0; i < types.length; i++ ) {
+            if ( i > 0 ) {
+                s.append(", ");
+            }
+            s.append(types[i].getCanonicalName()).append(" a").append(i);
+        }
+        s.append(") {");
+        out.println(s);
+
+        s.setLength(0);
+        s.append("        r.begin(").append(index).append(");");
+        for ( i = 0; i < types.length; i++ ) {
+            s.append(" r.arg(a").append(i).append(");");
+        }
+        if ( type == void.class ) {
+            s.append(" r.end();");
+        }
+        else if ( type == boolean.class ) {
+            s.append(" return r.endBoolean();");
+        }
+        else if ( type == int.class ) {
+            s.append(" return r.endInt();");
+        }
+        else {
+            s.append(" r.end(); return ").append(neutralValue(m)).append(";");
+        }
+        out.println(s);
+        out.println("    }");
+    }
+
+    private static void generate(PrintWriter out)
+    {
+        ArrayList<Method> methods = methods();
+        Package jogl = GL2.class.getPackage();
+        String version = (jogl != null && jogl.getImplementationVersion() != null) ?
+            jogl.getImplementationVersion() : "unknown version";
+        int i;
+
+        out.println(LINE);
+        out.println("//=-------------------------------------------------------------------------=");
+        out.println("//= Module history:                                                         =");
+        out.println("//= - October 18 2026: Original base version                                =");
+        out.println(LINE);
+        out.println();
+        out.println("package vsdk.toolkit.render.jogl;");
+        out.println();
+        out.println("/**");
+        out.println("GL2 implementation forwarding every call to a JoglCommandRecorder, as a");
+        out.println("method index followed by its arguments. Methods returning a value ask the");
+        out.println("recorder for it, or return a neutral value.");
+        out.println();
+        out.println("This class is generated by JoglRecordingGL2Generator from the GL2");
+        out.println("interface of JOGL " + version + ", one method per distinct signature, sorted");
+        out.println("by name and parameter types. Do not edit it: run the");
+        out.println("generate-recording-gl Ant target when JOGL is upgraded.");
+        out.println("*/");
+        out.println("class JoglRecordingGL2 implements javax.media.opengl.GL2");
+        out.println("{");
+        out.println("    /**");
+        out.println("    Name and parameter types of each method, by method index");
+        out.println("    */");
+        out.println("    static final String SIGNATURES[] = {");
+        for ( i = 0; i < methods.size(); i++ ) {
+            out.println("        \"" + signature(methods.get(i)) + "\"" +
+                        ((i < methods.size() - 1) ? "," : ""));
+        }
+        out.println("    };");
+        out.println();
+        out.println("    private final JoglCommandRecorder r;");
+        out.println();
+        out.println("    JoglRecordingGL2(JoglCommandRecorder r)");
+        out.println("    {");
+        out.println("        this.r = r;");
+        out.println("    }");
+        out.println();
+        for ( i = 0; i < methods.size(); i++ ) {
+            generateMethod(out, methods.get(i), i);
+        }
+        out.println("}");
+        out.println();
+        out.println(LINE);
+        out.println("//= EOF                                                                     =");
+        out.println(LINE);
+    }
+}
+
+//===========================================================================
+//= EOF                                                                     =
+//===========================================================================